@@ -20,14 +20,16 @@ interface ActionProps {
 
 export const Actions: React.FunctionComponent<ActionProps> = ({ player, game }) => {
     const actionButtons = [];
-    const [raiseValue, setRaiseValue] = useState(game.bigBlind);
+    const [raiseValue, setRaiseValue] = useState(player.minRaise);
     const [opened, setOpened] = useState(false);
     const services = useServices();
+    // keep the raise within the bounds of the server, they change with every action
+    const raiseAmount = Math.min(Math.max(raiseValue, player.minRaise), player.maxRaise);
 
     const performAction = (action: string) => {
         console.log("performing action: " + action)
         if (action == 'raise' && opened) {
-            services.webSocketService.sendMessage('/app/poker-action', {gameId: game.id, action: action, amount: raiseValue});
+            services.webSocketService.sendMessage('/app/poker-action', {gameId: game.id, action: action, amount: raiseAmount});
         } else if(action != 'raise') {
             services.webSocketService.sendMessage('/app/poker-action', {gameId: game.id, action: action});
         }
@@ -42,11 +44,9 @@ export const Actions: React.FunctionComponent<ActionProps> = ({ player, game })
             actionButtons.push(<Button onClick={() => performAction('check')} key={"check"} size="sm" color="cyan">{actionButtonText["check"]}</Button>)
         }
         if (player.allowedActions.includes("call")) {
-            actionButtons.push(<Button onClick={() => performAction('call')} key={"call"} size="sm" color="cyan">{actionButtonText["call"]} ({game.currentBet - player.bet})</Button>)
+            actionButtons.push(<Button onClick={() => performAction('call')} key={"call"} size="sm" color="cyan">{actionButtonText["call"]} ({player.callAmount})</Button>)
         }
         if (player.allowedActions.includes("raise")) {
-            // Calculate the maximum value for the slider
-            const maxSliderValue = player.chips % game.bigBlind === 0 ? player.chips : Math.floor(player.chips / game.bigBlind) * game.bigBlind;
             const el = (
                 <Popover opened={opened} onChange={() => {setOpened((o) => !o);}} key={"raise-popup"} width={250} position="top" withArrow shadow="md" >
                     <Popover.Target>
@@ -54,10 +54,10 @@ export const Actions: React.FunctionComponent<ActionProps> = ({ player, game })
                     </Popover.Target>
                     <Popover.Dropdown>
                         <Slider
-                            min={game.bigBlind}
+                            min={player.minRaise}
                             step={game.bigBlind}
-                            max={maxSliderValue}
-                            value={raiseValue}
+                            max={player.maxRaise}
+                            value={raiseAmount}
                             onChange={(newValue) => setRaiseValue(newValue)}
                         />
                     </Popover.Dropdown>
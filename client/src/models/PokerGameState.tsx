@@ -2,6 +2,7 @@ import {CardDto} from "./CardDto";
 import {PokerPlayerDto} from "./PokerPlayerDto";
 
 export interface PokerGameState {
+    seq: number;
     id: string;
     name: string;
     flopCards: CardDto[];
@@ -13,7 +14,18 @@ export interface PokerGameState {
     bettingRound: string;
     maxPlayers: number;
     bigBlind: number;
+    blindLevel: number;
+    timeToNextBlindLevel: number;
     pots: number[];
     currentBet: number;
     showdownOrder: PokerPlayerDto[];
-}
\ No newline at end of file
+}
+/**
+ * The changes of a game state, only the fields that changed are set.
+ * The changed players are sent by their index in the player list.
+ */
+export interface PokerGameStateDelta extends Partial<Omit<PokerGameState, 'players'>> {
+    delta: true;
+    seq: number;
+    players?: { [index: number]: PokerPlayerDto };
+}
@@ -23,5 +23,8 @@ export interface PokerPlayerDto {
     isSmallBlind: boolean;
     isActor: boolean;
     allowedActions: PokerPlayerAction[];
+    callAmount: number;
+    minRaise: number;
+    maxRaise: number;
     mustShowCards: boolean;
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
-import React, {useEffect, useState} from "react";
+import React, {useEffect, useRef, useState} from "react";
 
 import {Button, Container, Flex, Paper} from "@mantine/core";
 import {useNavigate, useParams} from "react-router-dom";
 import {useServices} from "../../hooks/service-provider/ServiceProvider";
-import {PokerGameState} from "../../models/PokerGameState";
+import {PokerGameState, PokerGameStateDelta} from "../../models/PokerGameState";
 import {ContentLoader} from "../../components/loader/ContentLoader";
 import {useUser} from "../../hooks/user-provider/UserProvider";
 import {ActionModal} from "../../components/action-modal/ActionModal";
@@ -17,6 +17,10 @@ export const PokerGame: React.FunctionComponent = () => {
     const navigate = useNavigate();
     const [gameState, setGameState] = useState<PokerGameState | null>(null);
     const [playerState, setPlayerState] = useState<PokerPlayerDto | null>(null);
+    // the sequence number of the last applied state, a delta is only applied if it directly follows it
+    const seq = useRef(0);
+    // set while a snapshot is requested, the deltas that arrive until then are dropped
+    const resyncing = useRef(false);
     const user = useUser().user;
     const [opened, { open, close }] = useDisclosure(false);
     const view = useViewportSize();
@@ -25,9 +29,16 @@ export const PokerGame: React.FunctionComponent = () => {
     const fetchGameState = async () => {
         try {
             const response: PokerGameState = await services.pokerService.getPokerGameState(id!);
+            if (response.seq < seq.current) {
+                // a newer snapshot was broadcast in the meantime
+                return;
+            }
+            seq.current = response.seq;
             setGameState(response);
         } catch (error) {
             navigate('/lobby');
+        } finally {
+            resyncing.current = false;
         }
     };
 
@@ -41,6 +52,36 @@ export const PokerGame: React.FunctionComponent = () => {
         });
     }
 
+    const applyDelta = (delta: PokerGameStateDelta) => {
+        if (resyncing.current) {
+            return;
+        }
+        if (delta.seq <= seq.current) {
+            // the state is already part of a snapshot
+            return;
+        }
+        if (delta.seq !== seq.current + 1) {
+            // a state was missed, request a new snapshot
+            resyncing.current = true;
+            fetchGameState();
+            return;
+        }
+        seq.current = delta.seq;
+        const { players, delta: isDelta, ...changes } = delta;
+        setGameState((prevState) => {
+            if (prevState == null) {
+                return prevState;
+            }
+            const updatedPlayers = [...prevState.players];
+            if (players) {
+                Object.entries(players).forEach(([index, player]) => {
+                    updatedPlayers[Number(index)] = player;
+                });
+            }
+            return { ...prevState, ...changes, players: updatedPlayers };
+        });
+    }
+
     const updatePlayerState = (playerState: PokerPlayerDto) => {
         setPlayerState((prevState) => {
             return { ...prevState, ...playerState };
@@ -94,6 +135,12 @@ export const PokerGame: React.FunctionComponent = () => {
     useEffect(() => {
         services.webSocketService.subscribe(`/topic/game/${id}`, (message) => {
             console.log('game state', message)
+            if (message.delta) {
+                applyDelta(message);
+                return;
+            }
+            seq.current = message.seq;
+            resyncing.current = false;
             if (message.operation && message.operation === 'SHOWDOWN') {
                 console.log('handle showdown')
                 handleShowdown(message);
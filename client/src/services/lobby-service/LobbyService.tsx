@@ -17,7 +17,11 @@ class LobbyService {
     }
 
 
-    updateGameList(game: PokerGameLobbyDto, gameList: PokerGameLobbyDto[]): PokerGameLobbyDto[] {
+    updateGameList(game: PokerGameLobbyDto | PokerGameLobbyDto[], gameList: PokerGameLobbyDto[]): PokerGameLobbyDto[] {
+        // several removed games are sent in one message
+        if (Array.isArray(game)) {
+            return game.reduce((list, update) => this.updateGameList(update, list), gameList);
+        }
         if (game.operation === 'CREATE') {
             console.log('Adding game to list:', game);
             console.log([...gameList, game]);
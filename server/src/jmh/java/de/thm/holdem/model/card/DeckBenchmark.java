@@ -0,0 +1,59 @@
+package de.thm.holdem.model.card;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link Deck}.
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    @Param({"SPLITTABLE", "XOSHIRO", "DRBG"})
+    public RandomSource randomSource;
+
+    private Deck deck;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        deck = new Deck(randomSource.create(42));
+    }
+
+    @Benchmark
+    public Deck construct() {
+        return new Deck();
+    }
+
+    @Benchmark
+    public Deck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /** Shuffles the deck and deals a full 9 player hand, hole cards, burn cards and board. */
+    @Benchmark
+    public void shuffleAndDraw(Blackhole blackhole) {
+        deck.shuffle();
+        for (int i = 0; i < 18; i++) {
+            blackhole.consume(deck.drawCard());
+        }
+        deck.burnCard();
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(deck.drawCard());
+        }
+        for (int i = 0; i < 2; i++) {
+            deck.burnCard();
+            blackhole.consume(deck.drawCard());
+        }
+    }
+}
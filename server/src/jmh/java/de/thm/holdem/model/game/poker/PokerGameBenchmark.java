@@ -0,0 +1,65 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.settings.PokerGameSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of one full hand of a {@link PokerGame}, from the deal to the showdown.
+ *
+ * <p>
+ *     Each invocation creates a new table, which deals the hand as soon as it is full. Every player then checks or
+ *     calls until the river is played out and the pot is awarded at the showdown.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokerGameBenchmark {
+
+    private static final long BUY_IN = 1000;
+
+    @Param({"2", "6", "9"})
+    public int playerCount;
+
+    private PokerGameSettings settings;
+
+    @Setup
+    public void setUp() {
+        settings = new PokerGameSettings();
+        settings.setTimePerPlayerMove(3);
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+    }
+
+    private PokerPlayer createPlayer(int seat) {
+        PokerPlayer player = new PokerPlayer("player" + seat, "player" + seat, "avatar", BUY_IN);
+        player.joinGame(BUY_IN);
+        return player;
+    }
+
+    @Benchmark
+    public PokerGame playHand() throws Exception {
+        PokerGame game = new PokerGame(createPlayer(0), BUY_IN, settings, TableType.NO_LIMIT, playerCount, "benchmark");
+        for (int seat = 1; seat < playerCount; seat++) {
+            game.addPlayer(createPlayer(seat));
+        }
+        while (game.getBettingRound() != BettingRound.END) {
+            PokerPlayer actor = game.getActor();
+            if (actor.canDoAction(PokerPlayerAction.CHECK)) {
+                game.check(actor);
+            } else {
+                game.call(actor);
+            }
+        }
+        return game;
+    }
+}
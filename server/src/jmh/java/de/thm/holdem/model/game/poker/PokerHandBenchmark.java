@@ -0,0 +1,77 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.Deck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the evaluation of a {@link PokerHand} with 5, 6 and 7 cards.
+ *
+ * <p>
+ *     Each invocation evaluates the next of a fixed set of random hands, so the branches of the evaluator are not
+ *     trained on a single hand.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokerHandBenchmark {
+
+    private static final int HANDS = 1024;
+
+    @Param({"5", "6", "7"})
+    public int cardCount;
+
+    private List<List<Card>> hands;
+
+    private PokerHand hand;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        hands = new ArrayList<>(HANDS);
+        for (int i = 0; i < HANDS; i++) {
+            Deck deck = new Deck();
+            deck.shuffle();
+            List<Card> cards = new ArrayList<>(cardCount);
+            for (int j = 0; j < cardCount; j++) {
+                cards.add(deck.drawCard());
+            }
+            hands.add(cards);
+        }
+        hand = new PokerHand();
+    }
+
+    private List<Card> nextCards() {
+        List<Card> cards = hands.get(next);
+        next = (next + 1) % HANDS;
+        return cards;
+    }
+
+    /** Adds the cards to a reused hand and evaluates the strength, as a game does at the showdown. */
+    @Benchmark
+    public int addCardsAndGetStrength() {
+        hand.reset();
+        hand.addCards(nextCards());
+        return hand.getStrength();
+    }
+
+    /** Adds the cards and builds the full result with the best 5 cards, as needed to show the hand to the players. */
+    @Benchmark
+    public PokerHandResult addCardsAndGetHandResult() {
+        hand.reset();
+        hand.addCards(nextCards());
+        return hand.getHandResult();
+    }
+}
@@ -0,0 +1,71 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.Deck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the construction and comparison of {@link PokerHandResult}s.
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokerHandResultBenchmark {
+
+    private static final int HANDS = 1024;
+
+    private List<List<Card>> hands;
+
+    private PokerHandResult[] results;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        hands = new ArrayList<>(HANDS);
+        results = new PokerHandResult[HANDS];
+        for (int i = 0; i < HANDS; i++) {
+            Deck deck = new Deck();
+            deck.shuffle();
+            List<Card> cards = new ArrayList<>(5);
+            for (int j = 0; j < 5; j++) {
+                cards.add(deck.drawCard());
+            }
+            hands.add(cards);
+            results[i] = PokerHandResult.of(cards);
+        }
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = (next + 1) % HANDS;
+        return index;
+    }
+
+    @Benchmark
+    public PokerHandResult construct() {
+        return PokerHandResult.of(hands.get(nextIndex()));
+    }
+
+    /** Builds the result and the sorted cards that are sent to the players at the showdown. */
+    @Benchmark
+    public List<Card> constructWithCards() {
+        return PokerHandResult.of(hands.get(nextIndex())).getHandCards();
+    }
+
+    @Benchmark
+    public int compare() {
+        int index = nextIndex();
+        return results[index].compareTo(results[(index + 1) % HANDS]);
+    }
+}
@@ -0,0 +1,100 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.exception.GameActionException;
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.Deck;
+import de.thm.holdem.model.player.PokerPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building the side pots of a {@link Pot} and awarding them with 2 to 5 all-in players.
+ *
+ * <p>
+ *     Every player is all-in with a different stack, so each of them except the biggest stack opens a side pot.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PotBenchmark {
+
+    @Param({"2", "3", "4", "5"})
+    public int allInPlayers;
+
+    private List<PokerPlayer> players;
+
+    private List<Pot> pots;
+
+    @Setup
+    public void setUp() throws GameActionException {
+        Deck deck = new Deck();
+        deck.shuffle();
+        List<Card> board = new ArrayList<>(5);
+        for (int i = 0; i < 5; i++) {
+            board.add(deck.drawCard());
+        }
+        players = new ArrayList<>(allInPlayers);
+        for (int i = 0; i < allInPlayers; i++) {
+            // a player without chips but with hole cards is all-in
+            PokerPlayer player = new PokerPlayer("player" + i, "player" + i, "avatar", 0L);
+            player.setSeat(i);
+            player.dealCard(deck.drawCard());
+            player.dealCard(deck.drawCard());
+            player.getHand().addCards(player.getHoleCards());
+            player.getHand().addCards(board);
+            players.add(player);
+        }
+        pots = new ArrayList<>();
+        pots.add(createPot());
+        SidePotBuilder.build(pots);
+    }
+
+    private Pot createPot() {
+        Pot pot = new Pot();
+        for (int i = 0; i < players.size(); i++) {
+            pot.contribute(players.get(i), 100L * (i + 1));
+        }
+        return pot;
+    }
+
+    /** Ranks the players and awards the pots. */
+    @Benchmark
+    public Showdown awardPots() throws GameActionException {
+        Showdown showdown = new Showdown(players);
+        showdown.awardPots(pots, 0);
+        returnWinnings();
+        return showdown;
+    }
+
+    /** Builds the side pots of a new pot like a game does before the showdown and awards all of them. */
+    @Benchmark
+    public Showdown splitAndAwardPots() throws GameActionException {
+        List<Pot> pots = new ArrayList<>(allInPlayers);
+        pots.add(createPot());
+        SidePotBuilder.build(pots);
+        Showdown showdown = new Showdown(players);
+        showdown.awardPots(pots, 0);
+        returnWinnings();
+        return showdown;
+    }
+
+    /** Bets the winnings again, so every player stays all-in for the next invocation. */
+    private void returnWinnings() throws GameActionException {
+        for (PokerPlayer player : players) {
+            if (player.getChips() > 0) {
+                player.bet(player.getChips());
+                player.setCurrentBet(0L);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.thm.holdem.config;
+
+import com.mongodb.client.result.UpdateResult;
+import de.thm.holdem.model.user.UserExtra;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migration of the bankroll of stored {@link UserExtra}s to 64-bit integers.
+ *
+ * <p>
+ *     The bankroll used to be a {@link java.math.BigInteger}, which is stored as string. On startup all bankrolls
+ *     that are still strings are converted in place by the database with a single update, so the migration can run
+ *     on every start and does nothing once all documents are converted.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BankrollMigration implements ApplicationRunner {
+
+    /** The name of the bankroll field in the documents. */
+    private static final String BANKROLL = "bankroll";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Converts all bankrolls that are stored as string.
+     *
+     * @param args the arguments of the application.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        Query query = Query.query(Criteria.where(BANKROLL).type(JsonSchemaObject.Type.stringType()));
+        AggregationUpdate update = AggregationUpdate.update()
+                .set(BANKROLL).toValue(ConvertOperators.valueOf(BANKROLL).convertToLong());
+        UpdateResult result = mongoTemplate.updateMulti(query, update, UserExtra.class);
+        if (result.getModifiedCount() > 0) {
+            log.info("Converted the bankroll of {} users to long", result.getModifiedCount());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package de.thm.holdem.config;
+
+import de.thm.holdem.service.CompactPayloadEncoder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+
+/**
+ * Message converter for the {@link CompactPayloadEncoder compact encoding} of the game messages.
+ *
+ * <p>
+ *     It converts the game messages that are sent with the compact content type, e.g. by a message handler, so they
+ *     reach the session in the same form as the messages of the websocket service. Incoming messages are always
+ *     JSON, so it does not read any.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public class CompactMessageConverter extends AbstractMessageConverter {
+
+    private final CompactPayloadEncoder encoder;
+
+    /**
+     * Constructor to create the converter.
+     *
+     * @param encoder the encoder of the compact form.
+     */
+    public CompactMessageConverter(CompactPayloadEncoder encoder) {
+        super(CompactPayloadEncoder.CONTENT_TYPE);
+        this.encoder = encoder;
+        // without the header the other converters handle the payload as JSON
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return encoder.supports(clazz);
+    }
+
+    @Override
+    protected boolean canConvertFrom(Message<?> message, Class<?> targetClass) {
+        return false;
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        return encoder.encode(payload);
+    }
+}
@@ -0,0 +1,68 @@
+package de.thm.holdem.config;
+
+import de.thm.holdem.model.game.poker.PreflopEquityTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Configuration for the equity calculation.
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Slf4j
+@Configuration
+public class EquityConfig {
+
+    /**
+     * Maps the precomputed preflop equity table into memory.
+     *
+     * <p>
+     *     The table is shipped as resource and created with the {@code generatePreflopEquities} gradle task. A
+     *     resource inside the jar can not be mapped, so it is extracted to a temporary file once. If the table is
+     *     missing or invalid, an empty table is used and the equities are calculated instead.
+     * </p>
+     *
+     * @param resource the table, on the classpath or a file.
+     * @return the preflop equity table, shared by all games.
+     */
+    @Bean
+    public PreflopEquityTable preflopEquityTable(
+            @Value("${equity.preflop-table:classpath:preflop-equity.bin}") Resource resource) {
+        try {
+            Path path = resource.isFile() ? resource.getFile().toPath() : extract(resource);
+            PreflopEquityTable table = PreflopEquityTable.load(path);
+            log.info("Mapped preflop equity table from {}", resource.getDescription());
+            return table;
+        } catch (IOException e) {
+            log.warn("No preflop equity table loaded from {}, preflop equities will be calculated: {}",
+                    resource.getDescription(), e.getMessage());
+            return PreflopEquityTable.EMPTY;
+        }
+    }
+
+    /**
+     * Method to copy a resource to a temporary file that is deleted when the application stops.
+     *
+     * @param resource the resource.
+     * @return the path of the file.
+     * @throws IOException if the resource can not be read or the file can not be written.
+     */
+    private Path extract(Resource resource) throws IOException {
+        Path path = Files.createTempFile("preflop-equity", ".bin");
+        path.toFile().deleteOnExit();
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,20 @@
+package de.thm.holdem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration to enable scheduled tasks.
+ *
+ * <p>
+ *     All scheduled tasks share the task scheduler of Spring Boot, its pool size is set with
+ *     {@code spring.task.scheduling.pool.size}.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
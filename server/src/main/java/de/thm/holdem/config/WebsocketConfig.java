@@ -1,20 +1,26 @@
 package de.thm.holdem.config;
 
 import de.thm.holdem.security.JwsAuthenticationToken;
+import de.thm.holdem.service.CompactPayloadEncoder;
 import de.thm.holdem.service.ConnectionRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.socket.config.annotation.*;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -23,20 +29,25 @@ import java.util.Optional;
 @Slf4j
 public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /** The header of the connect frame with the content type a session wants to receive its payloads in. */
+    public static final String ACCEPT_CONTENT_TYPE_HEADER = "accept-content-type";
+
     private final CorsProperties corsProperties;
 
     private final ConnectionRegistry registry;
 
+    private final CompactPayloadEncoder compactPayloadEncoder;
 
 
     @Qualifier("websocket")
     private final AuthenticationManager authenticationManager;
 
     WebsocketConfig(CorsProperties corsProperties, AuthenticationManager authenticationManager,
-                    ConnectionRegistry registry) {
+                    ConnectionRegistry registry, CompactPayloadEncoder compactPayloadEncoder) {
         this.corsProperties = corsProperties;
         this.authenticationManager = authenticationManager;
         this.registry = registry;
+        this.compactPayloadEncoder = compactPayloadEncoder;
     }
 
     @Override
@@ -52,11 +63,24 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS();
     }
 
+    /**
+     * Adds the converter of the compact encoding to the default converters.
+     *
+     * @param messageConverters the converters to add to
+     * @return true to keep the default converters
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new CompactMessageConverter(compactPayloadEncoder));
+        return true;
+    }
+
 
     /**
      * Intercepts an incoming connect request and authenticates the user.
      *
-     * <p>adds the user to the connection registry
+     * <p>adds the user to the connection registry, with the content type of the session if it chose the compact
+     * encoding with the accept-content-type header
      *
      * @param registration the channel registration
      */
@@ -77,7 +101,8 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
                        // add user to connection registry
                         String userId = token.getName();
                         String sessionId = accessor.getSessionId();
-                        registry.connect(userId, sessionId);
+                        registry.connect(userId, sessionId,
+                                acceptedContentType(accessor.getFirstNativeHeader(ACCEPT_CONTENT_TYPE_HEADER)));
                     });
                 }
                 return message;
@@ -85,4 +110,25 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
         });
     }
 
+    /**
+     * Gets the content type a session accepts other than JSON.
+     *
+     * @param header the value of the accept-content-type header, may be null
+     * @return the compact content type if the session accepts it, null for JSON
+     */
+    static MimeType acceptedContentType(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            for (MimeType mimeType : MimeTypeUtils.parseMimeTypes(header)) {
+                if (CompactPayloadEncoder.CONTENT_TYPE.equalsTypeAndSubtype(mimeType)) {
+                    return CompactPayloadEncoder.CONTENT_TYPE;
+                }
+            }
+        } catch (InvalidMimeTypeException e) {
+            log.debug("Ignoring invalid accept-content-type header {}.", header);
+        }
+        return null;
+    }
 }
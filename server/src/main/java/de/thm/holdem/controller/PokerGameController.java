@@ -31,6 +31,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static de.thm.holdem.config.SwaggerConfig.BEARER_KEY_SECURITY_SCHEME;
 
@@ -63,10 +64,9 @@ public class PokerGameController {
      */
     @Operation(security = {@SecurityRequirement(name = BEARER_KEY_SECURITY_SCHEME)})
     @PostMapping(value ="/join/{gameId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<PokerGameStateDto> join(@PathVariable String gameId, @AuthenticationPrincipal Jwt jwt) throws Exception {
+    public CompletableFuture<ResponseEntity<PokerGameStateDto>> join(@PathVariable String gameId, @AuthenticationPrincipal Jwt jwt) throws Exception {
         String playerId = jwt.getClaim("sub");
-        PokerGame game = pokerGameService.joinGame(gameId, playerId);
-        return ResponseEntity.ok().body(PokerGameStateDto.from(game));
+        return pokerGameService.joinGame(gameId, playerId).thenApply(state -> ResponseEntity.ok().body(state));
     }
 
     /**
@@ -79,13 +79,11 @@ public class PokerGameController {
      */
     @Operation(security = {@SecurityRequirement(name = BEARER_KEY_SECURITY_SCHEME)})
     @GetMapping(value = "/state/{gameId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<PokerGameStateDto> get(@AuthenticationPrincipal Jwt jwt, @PathVariable String gameId) throws Exception {
+    public CompletableFuture<ResponseEntity<PokerGameStateDto>> get(@AuthenticationPrincipal Jwt jwt, @PathVariable String gameId) throws Exception {
         String playerId = jwt.getClaim("sub");
-        PokerGame game = pokerGameService.getGame(gameId);
-        if (pokerGameService.isPlayerInGame(game, playerId)) {
-            return ResponseEntity.ok().body(pokerGameService.mergePrivateInfo(game, playerId));
-        }
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        return pokerGameService.getGameState(gameId, playerId).thenApply(state -> state != null
+                ? ResponseEntity.ok().body(state)
+                : ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
     /**
@@ -117,10 +115,9 @@ public class PokerGameController {
      */
     @Operation(security = {@SecurityRequirement(name = BEARER_KEY_SECURITY_SCHEME)})
     @PostMapping("/leave/{gameId}")
-    public ResponseEntity<Void> leave(@PathVariable String gameId, @AuthenticationPrincipal Jwt jwt) throws Exception {
+    public CompletableFuture<ResponseEntity<Void>> leave(@PathVariable String gameId, @AuthenticationPrincipal Jwt jwt) throws Exception {
         String playerId = jwt.getClaim("sub");
-        pokerGameService.leaveGame(gameId, playerId);
-        return ResponseEntity.noContent().build();
+        return pokerGameService.leaveGame(gameId, playerId).thenApply(done -> ResponseEntity.noContent().build());
     }
 
     /**
@@ -133,10 +130,9 @@ public class PokerGameController {
      */
     @Operation(security = {@SecurityRequirement(name = BEARER_KEY_SECURITY_SCHEME)})
     @PostMapping("/start/{gameId}")
-    public ResponseEntity<Void> start(@PathVariable String gameId, @AuthenticationPrincipal Jwt jwt) throws Exception {
+    public CompletableFuture<ResponseEntity<Void>> start(@PathVariable String gameId, @AuthenticationPrincipal Jwt jwt) throws Exception {
         String playerId = jwt.getClaim("sub");
-        pokerGameService.startGame(gameId, playerId);
-        return ResponseEntity.noContent().build();
+        return pokerGameService.startGame(gameId, playerId).thenApply(done -> ResponseEntity.noContent().build());
     }
 
     /**
@@ -1,6 +1,8 @@
 package de.thm.holdem.dto;
 
 import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameListing;
+import de.thm.holdem.utils.Chips;
 import lombok.Builder;
 import lombok.Data;
 
@@ -38,7 +40,7 @@ public class PokerGameLobbyDto {
                 .playerCount(game.getPlayerList().size())
                 .maxPlayerCount(game.getMaxPlayerCount())
                 .tableType(game.getTableType().getPrettyName())
-                .buyIn(game.getBuyIn().intValue())
+                .buyIn(Chips.toInt(game.getBuyIn()))
                 .gameStatus(game.getGameStatus().getPrettyName())
                 .operation(operation)
                 .build();
@@ -54,4 +56,34 @@ public class PokerGameLobbyDto {
         return from(game, ClientOperation.NONE);
     }
 
+    /**
+     * Creates a PokerGameLobbyDto from the listing of a game with no {@link ClientOperation}
+     *
+     * @param listing The listing to create the DTO from
+     * @return The created DTO
+     */
+    public static PokerGameLobbyDto from(PokerGameListing listing) {
+        return from(listing, ClientOperation.NONE);
+    }
+
+    /**
+     * Creates a PokerGameLobbyDto from the listing of a game with a {@link ClientOperation}
+     *
+     * @param listing The listing to create the DTO from
+     * @param operation The operation to be performed on the game
+     * @return The created DTO
+     */
+    public static PokerGameLobbyDto from(PokerGameListing listing, ClientOperation operation) {
+        return PokerGameLobbyDto.builder()
+                .gameId(listing.gameId())
+                .name(listing.name())
+                .playerCount(listing.playerCount())
+                .maxPlayerCount(listing.maxPlayerCount())
+                .tableType(listing.tableType().getPrettyName())
+                .buyIn(Chips.toInt(listing.buyIn()))
+                .gameStatus(listing.gameStatus().getPrettyName())
+                .operation(operation)
+                .build();
+    }
+
 }
@@ -0,0 +1,132 @@
+package de.thm.holdem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The changes of a game state since the previous state of the same table.
+ *
+ * <p>
+ *     Only the fields that changed are set, all others are left out of the message. The seats are sent by their
+ *     index in the player list. A client applies a delta only if its sequence number directly follows the one of its
+ *     current state, otherwise it has missed a message and requests a new snapshot.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PokerGameStateDeltaDto {
+
+    private final boolean delta = true;
+
+    private long seq;
+
+    private String id;
+
+    private ClientOperation operation;
+
+    private String gameStatus;
+
+    private Map<Integer, PokerPlayerStateDto> players;
+
+    private List<CardDto> flopCards;
+
+    private CardDto turnCard;
+
+    private CardDto riverCard;
+
+    private String bettingRound;
+
+    private Integer bigBlind;
+
+    private Integer blindLevel;
+
+    private Long timeToNextBlindLevel;
+
+    private List<Integer> pots;
+
+    private Integer currentBet;
+
+    /**
+     * Method to check whether a state can be sent as delta of a previous state.
+     *
+     * <p>
+     *     A left out field means that it did not change, so a delta can not clear a field, and the seats are sent by
+     *     their index, so the same players have to sit on them. The showdown order is not part of a delta, so a state
+     *     that sets or clears it is sent as snapshot.
+     * </p>
+     *
+     * @param previous the state the client has.
+     * @param next the new state.
+     * @return true if the changes can be sent as delta, false if a snapshot has to be sent.
+     */
+    public static boolean isPossible(PokerGameStateDto previous, PokerGameStateDto next) {
+        if (previous.getPlayers().size() != next.getPlayers().size()) {
+            return false;
+        }
+        for (int i = 0; i < next.getPlayers().size(); i++) {
+            if (!Objects.equals(previous.getPlayers().get(i).getId(), next.getPlayers().get(i).getId())) {
+                return false;
+            }
+        }
+        if (!Objects.equals(previous.getShowdownOrder(), next.getShowdownOrder())) {
+            return false;
+        }
+        return !(cleared(previous.getFlopCards(), next.getFlopCards())
+                || cleared(previous.getTurnCard(), next.getTurnCard())
+                || cleared(previous.getRiverCard(), next.getRiverCard()));
+    }
+
+    /**
+     * Method to compute the changes between two states of a table with the same players.
+     *
+     * @param previous the state the client has.
+     * @param next the new state.
+     * @return the delta with the sequence number and operation of the new state.
+     */
+    public static PokerGameStateDeltaDto between(PokerGameStateDto previous, PokerGameStateDto next) {
+        PokerGameStateDeltaDto dto = new PokerGameStateDeltaDto();
+        dto.setSeq(next.getSeq());
+        dto.setId(next.getId());
+        dto.setOperation(next.getOperation());
+        dto.setGameStatus(changed(previous.getGameStatus(), next.getGameStatus()));
+        dto.setFlopCards(changed(previous.getFlopCards(), next.getFlopCards()));
+        dto.setTurnCard(changed(previous.getTurnCard(), next.getTurnCard()));
+        dto.setRiverCard(changed(previous.getRiverCard(), next.getRiverCard()));
+        dto.setBettingRound(changed(previous.getBettingRound(), next.getBettingRound()));
+        dto.setBigBlind(changed(previous.getBigBlind(), next.getBigBlind()));
+        dto.setBlindLevel(changed(previous.getBlindLevel(), next.getBlindLevel()));
+        dto.setPots(changed(previous.getPots(), next.getPots()));
+        dto.setCurrentBet(changed(previous.getCurrentBet(), next.getCurrentBet()));
+        // the time to the next level changes with every message, the client counts it down between snapshots
+        if (previous.getBlindLevel() != next.getBlindLevel()) {
+            dto.setTimeToNextBlindLevel(next.getTimeToNextBlindLevel());
+        }
+
+        Map<Integer, PokerPlayerStateDto> players = new LinkedHashMap<>();
+        for (int i = 0; i < next.getPlayers().size(); i++) {
+            if (!next.getPlayers().get(i).equals(previous.getPlayers().get(i))) {
+                players.put(i, next.getPlayers().get(i));
+            }
+        }
+        if (!players.isEmpty()) {
+            dto.setPlayers(players);
+        }
+        return dto;
+    }
+
+    private static boolean cleared(Object previous, Object next) {
+        return previous != null && next == null;
+    }
+
+    private static <T> T changed(T previous, T next) {
+        return Objects.equals(previous, next) ? null : next;
+    }
+}
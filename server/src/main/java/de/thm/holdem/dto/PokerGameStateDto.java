@@ -3,14 +3,17 @@ package de.thm.holdem.dto;
 import de.thm.holdem.model.game.poker.BettingRound;
 import de.thm.holdem.model.game.poker.PokerGame;
 import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.utils.Chips;
 import lombok.Data;
 
-import java.math.BigInteger;
 import java.util.List;
 
 @Data
 public class PokerGameStateDto {
 
+    /** The sequence number of the state, it increases with every state that is sent for the table. */
+    private long seq;
+
     private String id;
 
     private String name;
@@ -33,6 +36,11 @@ public class PokerGameStateDto {
 
     private int bigBlind;
 
+    private int blindLevel;
+
+    /** The milliseconds until the blinds are raised, 0 if they are not raised anymore. */
+    private long timeToNextBlindLevel;
+
     private List<Integer> pots;
 
     private int currentBet;
@@ -47,14 +55,18 @@ public class PokerGameStateDto {
         dto.setName(game.getName());
         dto.setGameStatus(game.getGameStatus().getPrettyName());
         dto.setOperation(operation);
-        dto.setCurrentBet(game.getCurrentBet() != null ? game.getCurrentBet().intValue() : 0);
+        dto.setCurrentBet(Chips.toInt(game.getCurrentBet()));
         dto.setPlayers(game.getPlayerList().stream().map(player ->
                 PokerPlayerStateDto.from((PokerPlayer) player, game, false)).toList());
         dto.setBettingRound(game.getBettingRound().toString());
-        dto.setPots(game.getPots().stream().map(pot -> pot.getPotSize().intValue()).toList());
+        dto.setPots(game.getPots().stream().map(pot -> Chips.toInt(pot.getPotSize())).toList());
+        dto.setBlindLevel(game.getCurrentBlindLevel() + 1);
+        if (game.getNextBlindLevelAt() > 0) {
+            dto.setTimeToNextBlindLevel(Math.max(0L, game.getNextBlindLevelAt() - System.currentTimeMillis()));
+        }
 
         if (game.getBettingRound().isAfter(BettingRound.NONE)) {
-            dto.setBigBlind(game.getSmallBlindLevels().get(game.getCurrentBlindLevel()).multiply(BigInteger.TWO).intValue());
+            dto.setBigBlind(Chips.toInt(game.getBigBlind()));
             dto.setTurnCard(game.getTurnCard() != null ? CardDto.from(game.getTurnCard(), true) : CardDto.hidden());
             dto.setRiverCard(game.getRiverCard() != null ? CardDto.from(game.getRiverCard(), true) : CardDto.hidden());
             if (game.getFlopCards() == null || game.getFlopCards().size() == 0) {
@@ -1,9 +1,12 @@
 package de.thm.holdem.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import de.thm.holdem.model.game.poker.AllowedActions;
 import de.thm.holdem.model.game.poker.PokerGame;
 import de.thm.holdem.model.game.poker.PokerPlayerAction;
 import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.utils.Chips;
 import lombok.Data;
 
 import java.util.List;
@@ -11,6 +14,10 @@ import java.util.List;
 @Data
 public class PokerPlayerStateDto {
 
+    /** The id of the player, it is only used on the server to match the seats of two states. */
+    @JsonIgnore
+    private String id;
+
     private String name;
 
     private String avatar;
@@ -39,25 +46,44 @@ public class PokerPlayerStateDto {
 
     private List<String> allowedActions;
 
+    private int callAmount;
+
+    private int minRaise;
+
+    private int maxRaise;
+
     private boolean mustShowCards;
 
     private PokerHandResultDto handResult;
 
+    private Double winPercentage;
+
+    private Double tiePercentage;
+
     public static PokerPlayerStateDto from(PokerPlayer player, PokerGame game, boolean isPrivate) {
         PokerPlayerStateDto dto = new PokerPlayerStateDto();
+        dto.setId(player.getId());
         dto.setName(player.getAlias());
         dto.setAvatar(player.getAvatar());
-        dto.setChips(player.getChips().intValue());
-        dto.setBet(player.getCurrentBet().intValue());
+        dto.setChips(Chips.toInt(player.getChips()));
+        dto.setBet(Chips.toInt(player.getCurrentBet()));
         dto.setLastAction(player.getLastAction() != null ? player.getLastAction().getStringValue() : null);
         dto.setDealer(game.getDealer() != null && game.getDealer().equals(player));
         dto.setSmallBlind(game.getSmallBlindPlayer() != null && game.getSmallBlindPlayer().equals(player));
         dto.setBigBlind(game.getBigBlindPlayer() != null && game.getBigBlindPlayer().equals(player));
         dto.setActor(game.getActor() != null && game.getActor().equals(player));
-        dto.setPotShare(player.getPotShare().intValue());
+        dto.setPotShare(Chips.toInt(player.getPotShare()));
+        if (player.getEquity() != null) {
+            dto.setWinPercentage(player.getEquity().win() * 100);
+            dto.setTiePercentage(player.getEquity().tie() * 100);
+        }
 
         if (isPrivate) {
-            dto.setAllowedActions(player.getAllowedActions().stream().map(PokerPlayerAction::getStringValue).toList());
+            AllowedActions allowedActions = player.getAllowedActions();
+            dto.setAllowedActions(allowedActions.toList().stream().map(PokerPlayerAction::getStringValue).toList());
+            dto.setCallAmount(Chips.toInt(allowedActions.getCall()));
+            dto.setMinRaise(Chips.toInt(allowedActions.getMinRaise()));
+            dto.setMaxRaise(Chips.toInt(allowedActions.getMaxRaise()));
             dto.setMustShowCards(player.mustShowCards());
             dto.setHandResult(PokerHandResultDto.from(player, true));
         }
@@ -4,6 +4,12 @@ package de.thm.holdem.model.card;
  * Class to represent a card.
  * A card consists of a rank and a suit.
  *
+ * <p>
+ *     Each of the 52 cards also has a unique index from 0 to 51 (see {@link #index()}), which is used by the
+ *     engine to work with primitive {@link CardSet} masks. {@link #of(int)} maps an index back to a shared
+ *     card instance, so converting between both representations does not allocate.
+ * </p>
+ *
  * @param rank the rank of the card.
  * @param suit the suit of the card.
  *
@@ -12,6 +18,71 @@ package de.thm.holdem.model.card;
  */
 public record Card(Rank rank, Suit suit) implements Comparable<Card> {
 
+    /** Number of different cards. */
+    public static final int COUNT = 52;
+
+    /** All 52 cards, ordered by their index. */
+    private static final Card[] CARDS = new Card[COUNT];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(rank, suit);
+                CARDS[card.index()] = card;
+            }
+        }
+    }
+
+    /**
+     * Method to get the card with the given index.
+     *
+     * @param index the index of the card, from 0 to 51.
+     * @return the card with the given index.
+     */
+    public static Card of(int index) {
+        return CARDS[index];
+    }
+
+    /**
+     * Method to get the index of a rank and a suit.
+     *
+     * @param rankIndex the index of the rank, 0 for a two up to 12 for an ace.
+     * @param suitIndex the index of the suit.
+     * @return the index of the card.
+     */
+    public static int indexOf(int rankIndex, int suitIndex) {
+        return suitIndex * Rank.COUNT + rankIndex;
+    }
+
+    /**
+     * Method to get the index of the rank of a card index.
+     *
+     * @param index the index of the card.
+     * @return the index of the rank, 0 for a two up to 12 for an ace.
+     */
+    public static int rankIndex(int index) {
+        return index % Rank.COUNT;
+    }
+
+    /**
+     * Method to get the index of the suit of a card index.
+     *
+     * @param index the index of the card.
+     * @return the index of the suit.
+     */
+    public static int suitIndex(int index) {
+        return index / Rank.COUNT;
+    }
+
+    /**
+     * Method to get the unique index of the card.
+     *
+     * @return the index of the card, from 0 to 51.
+     */
+    public int index() {
+        return indexOf(rank.index(), suit.index());
+    }
+
     @Override
     public int compareTo(Card card) {
         return Integer.compare(this.rank.getValue(), card.rank.getValue());
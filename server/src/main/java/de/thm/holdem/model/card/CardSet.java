@@ -0,0 +1,153 @@
+package de.thm.holdem.model.card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class to work with sets of cards stored in a primitive 64-bit mask.
+ *
+ * <p>
+ *     Bit {@code i} of the mask is set if the card with the index {@code i} (see {@link Card#index()}) is part of
+ *     the set. The 13 cards of a suit occupy consecutive bits ordered by rank, so a suit can be read as a 13-bit
+ *     rank mask, with bit 0 standing for a two and bit 12 for an ace.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class CardSet {
+
+    /** The empty set. */
+    public static final long EMPTY = 0L;
+
+    /** The set of all 52 cards. */
+    public static final long FULL_DECK = (1L << Card.COUNT) - 1;
+
+    /** Mask with one bit set for each rank of a suit. */
+    public static final int RANK_MASK = (1 << Rank.COUNT) - 1;
+
+    private CardSet() {
+    }
+
+    /**
+     * Method to get the set that only contains the card with the given index.
+     *
+     * @param index the index of the card.
+     * @return the set with only the given card.
+     */
+    public static long of(int index) {
+        return 1L << index;
+    }
+
+    /**
+     * Method to get the set of a single card.
+     *
+     * @param card the card.
+     * @return the set with only the given card.
+     */
+    public static long of(Card card) {
+        return of(card.index());
+    }
+
+    /**
+     * Method to get the set of a list of cards.
+     *
+     * @param cards the cards.
+     * @return the set of the given cards.
+     */
+    public static long of(List<Card> cards) {
+        long set = EMPTY;
+        for (int i = 0; i < cards.size(); i++) {
+            set |= of(cards.get(i));
+        }
+        return set;
+    }
+
+    /**
+     * Method to add a card to a set.
+     *
+     * @param set the set.
+     * @param index the index of the card to add.
+     * @return the set including the card.
+     */
+    public static long add(long set, int index) {
+        return set | of(index);
+    }
+
+    /**
+     * Method to check whether a set contains a card.
+     *
+     * @param set the set.
+     * @param index the index of the card.
+     * @return true if the card is part of the set, false otherwise.
+     */
+    public static boolean contains(long set, int index) {
+        return (set & of(index)) != 0;
+    }
+
+    /**
+     * Method to get the number of cards in a set.
+     *
+     * @param set the set.
+     * @return the number of cards in the set.
+     */
+    public static int size(long set) {
+        return Long.bitCount(set);
+    }
+
+    /**
+     * Method to get the ranks of all cards of a suit in a set.
+     *
+     * @param set the set.
+     * @param suitIndex the index of the suit.
+     * @return the 13-bit rank mask of the suit.
+     */
+    public static int suitMask(long set, int suitIndex) {
+        return (int) (set >>> suitIndex * Rank.COUNT) & RANK_MASK;
+    }
+
+    /**
+     * Method to get the ranks of all cards of a suit in a set.
+     *
+     * @param set the set.
+     * @param suit the suit.
+     * @return the 13-bit rank mask of the suit.
+     */
+    public static int suitMask(long set, Suit suit) {
+        return suitMask(set, suit.index());
+    }
+
+    /**
+     * Method to get the ranks that occur in a set, regardless of their suit.
+     *
+     * @param set the set.
+     * @return the 13-bit rank mask of the set.
+     */
+    public static int rankMask(long set) {
+        return suitMask(set, 0) | suitMask(set, 1) | suitMask(set, 2) | suitMask(set, 3);
+    }
+
+    /**
+     * Method to get the index of the lowest card in a set.
+     *
+     * @param set a set with at least one card.
+     * @return the lowest index in the set.
+     */
+    public static int first(long set) {
+        return Long.numberOfTrailingZeros(set);
+    }
+
+    /**
+     * Method to convert a set into a list of cards.
+     *
+     * @param set the set.
+     * @return the cards of the set, ordered by their index.
+     */
+    public static List<Card> toCards(long set) {
+        List<Card> cards = new ArrayList<>(size(set));
+        for (long remaining = set; remaining != 0; remaining &= remaining - 1) {
+            cards.add(Card.of(first(remaining)));
+        }
+        return cards;
+    }
+}
@@ -1,40 +1,85 @@
 package de.thm.holdem.model.card;
 
-import java.util.Collections;
-
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Class to represent a deck of cards.
  *
+ * <p>
+ *     The deck stores the indices of its cards (see {@link Card#index()}) in a byte array.
+ *     Drawing a card moves a pointer to the next card, so no objects are created while dealing.
+ *     The deck is shuffled with its own random generator (see {@link RandomSource}), so a seeded deck deals the
+ *     same hands again.
+ * </p>
+ *
  * @author Valentin Laucht
  * @version 1.0
  */
 public class Deck {
 
-    /** A Stack used to store the collection of cards in the deck */
-    private final Stack<Card> deck;
+    /** The indices of the cards in the deck, the next card to draw is at {@link #next}. */
+    private final byte[] cards;
+
+    /** The random generator the deck is shuffled with. */
+    private final RandomGenerator random;
+
+    /** The position of the next card to draw. */
+    private int next;
 
     /**
-     * Constructor to create a new deck.
+     * Constructor to create a new deck with a random generator of its own.
      * The deck is filled with all 52 card variations.
      */
     public Deck() {
-        deck = new Stack<>();
-        /* Stream to go through all 4 suits */
-        Arrays.stream(Suit.values()).flatMap(suit ->
-                        /* Stream to go through all 14 ranks */
-                        Arrays.stream(Rank.values())
-                                .map(rank -> new Card(rank, suit)))
-                /* pushes for all 52 card variations a card to the stack */
-                .forEach(deck::push);
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor to create a new deck.
+     * The deck is filled with all 52 card variations.
+     *
+     * @param random the random generator the deck is shuffled with, only used by this deck.
+     */
+    public Deck(RandomGenerator random) {
+        this.random = random;
+        cards = new byte[Card.COUNT];
+        for (int i = 0; i < Card.COUNT; i++) {
+            cards[i] = (byte) i;
+        }
+        next = 0;
     }
 
     /**
-     * Method to shuffle the deck.
+     * Method to put all cards back into the deck and shuffle it.
+     *
+     * <p>
+     *     The cards are shuffled in place with the Fisher-Yates algorithm.
+     * </p>
      */
     public void shuffle() {
-        Collections.shuffle(deck);
+        next = 0;
+        for (int i = Card.COUNT - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    /**
+     * Method to draw the index of a card from the deck.
+     *
+     * @return the index of the card that was drawn
+     */
+    public int draw() {
+        if (next >= Card.COUNT) {
+            throw new NoSuchElementException("The deck is empty.");
+        }
+        return cards[next++];
     }
 
     /**
@@ -43,33 +88,33 @@ public class Deck {
      * @return the card that was drawn
      */
     public Card drawCard() {
-        if (deck.isEmpty()) {
-            throw new NoSuchElementException("The deck is empty.");
-        }
-        return deck.pop();
+        return Card.of(draw());
     }
 
     /**
      * Method to burn the first card of the deck.
      */
     public void burnCard() {
-        if (deck.isEmpty()) {
-            throw new NoSuchElementException("The deck is empty.");
-        }
-        deck.pop();
+        draw();
     }
 
     /**
-     * Method to get all cards from the deck.
+     * Method to get all cards that are left in the deck.
      *
-     * @return the stack of cards
+     * @return the cards in the order they will be drawn
      */
-    public Stack<Card> getDeck() { return deck; }
+    public List<Card> getDeck() {
+        List<Card> deck = new ArrayList<>(size());
+        for (int i = next; i < Card.COUNT; i++) {
+            deck.add(Card.of(cards[i]));
+        }
+        return deck;
+    }
 
     /**
      * Method to get the size of the deck.
      *
      * @return the size of the deck
      */
-    public int size() { return deck.size(); }
+    public int size() { return Card.COUNT - next; }
 }
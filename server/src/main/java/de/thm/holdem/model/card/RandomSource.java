@@ -0,0 +1,106 @@
+package de.thm.holdem.model.card;
+
+import java.nio.ByteBuffer;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The random generators a {@link Deck} can be shuffled with.
+ *
+ * <p>
+ *     Every table creates its own generator from a seed, so tables never share or lock a generator. The fast
+ *     generators replay the same hands for the same seed, which is used for simulations, load tests and replays.
+ *     The DRBG is meant for tables where the cards must not be predictable.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public enum RandomSource {
+
+    /** {@link SplittableRandom}, fast and reproducible. */
+    SPLITTABLE {
+        @Override
+        public RandomGenerator create(long seed) {
+            return new SplittableRandom(seed);
+        }
+    },
+
+    /** Xoshiro256++, fast and reproducible with a larger state than {@link #SPLITTABLE}. */
+    XOSHIRO {
+        @Override
+        public RandomGenerator create(long seed) {
+            return RandomGeneratorFactory.of("Xoshiro256PlusPlus").create(seed);
+        }
+    },
+
+    /**
+     * NIST SP 800-90A deterministic random bit generator, seeded with entropy of the system.
+     * The seed is only used as personalization string, so the hands can not be replayed.
+     *
+     * <p>
+     *     With prediction resistance every request to the DRBG reseeds it with fresh entropy, which is expensive.
+     *     So the bytes are requested in blocks of {@link BufferedRandom#BUFFER_SIZE}, which covers a shuffle, and
+     *     the DRBG is reseeded about once per shuffle instead of once per card.
+     * </p>
+     */
+    DRBG {
+        @Override
+        public RandomGenerator create(long seed) {
+            byte[] personalization = ByteBuffer.allocate(Long.BYTES).putLong(seed).array();
+            try {
+                return new BufferedRandom(SecureRandom.getInstance("DRBG",
+                        DrbgParameters.instantiation(256, DrbgParameters.Capability.PR_AND_RESEED, personalization)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("No DRBG available.", e);
+            }
+        }
+    },
+
+    ;
+
+    /**
+     * A generator that reads the bytes of a secure random generator in blocks.
+     */
+    static final class BufferedRandom implements RandomGenerator {
+
+        /** The number of bytes read at once, enough for the 51 draws of a shuffle. */
+        static final int BUFFER_SIZE = 512;
+
+        private final SecureRandom random;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        /**
+         * Constructor to create the generator.
+         *
+         * @param random the secure random generator the bytes are read from.
+         */
+        BufferedRandom(SecureRandom random) {
+            this.random = random;
+            // the first value fills the buffer
+            buffer.position(BUFFER_SIZE);
+        }
+
+        @Override
+        public long nextLong() {
+            if (buffer.remaining() < Long.BYTES) {
+                random.nextBytes(buffer.array());
+                buffer.clear();
+            }
+            return buffer.getLong();
+        }
+    }
+
+    /**
+     * Method to create a new generator.
+     *
+     * @param seed the seed of the generator.
+     * @return the random generator.
+     */
+    public abstract RandomGenerator create(long seed);
+}
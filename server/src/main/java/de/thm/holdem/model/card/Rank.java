@@ -12,6 +12,12 @@ public enum Rank {
     TEN("10", 10), JACK("J", 11), QUEEN("Q", 12), KING("K", 13),
     ACE("A", 14);
 
+    /** Number of different ranks. */
+    public static final int COUNT = 13;
+
+    /** All ranks, ordered by their index. */
+    private static final Rank[] RANKS = values();
+
     /** The symbol that is shown on the card */
     private final String symbol;
 
@@ -46,4 +52,23 @@ public enum Rank {
     public int getValue() {
         return value;
     }
-}
\ No newline at end of file
+
+    /**
+     * Getter for the index of the rank.
+     *
+     * @return the index of the rank, 0 for a two up to 12 for an ace.
+     */
+    public int index() {
+        return value - 2;
+    }
+
+    /**
+     * Method to get the rank with the given index.
+     *
+     * @param index the index of the rank, 0 for a two up to 12 for an ace.
+     * @return the rank with the given index.
+     */
+    public static Rank of(int index) {
+        return RANKS[index];
+    }
+}
@@ -13,6 +13,12 @@ public enum Suit{
     SPADES("&#9824;", "black"),
     ;
 
+    /** Number of different suits. */
+    public static final int COUNT = 4;
+
+    /** All suits, ordered by their index. */
+    private static final Suit[] SUITS = values();
+
     /** The symbol that is shown on the card */
     private final String symbol;
 
@@ -43,4 +49,19 @@ public enum Suit{
      * @return the color of the suit.
      */
     public String getColor() { return color; }
-}
\ No newline at end of file
+
+    /**
+     * Getter for the index of the suit.
+     *
+     * @return the index of the suit, from 0 to 3.
+     */
+    public int index() { return ordinal(); }
+
+    /**
+     * Method to get the suit with the given index.
+     *
+     * @param index the index of the suit, from 0 to 3.
+     * @return the suit with the given index.
+     */
+    public static Suit of(int index) { return SUITS[index]; }
+}
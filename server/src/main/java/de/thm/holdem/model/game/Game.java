@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 @Getter
 public abstract class Game {
@@ -81,6 +82,17 @@ public abstract class Game {
         listeners.remove(listener);
     }
 
+    /**
+     * Publish an event to all listeners.
+     *
+     * @param event the event to publish.
+     */
+    protected void publish(GameEvent event) {
+        for (GameListener listener : listeners) {
+            listener.onGameEvent(this, event);
+        }
+    }
+
     /**
      * Notify all listeners about a change and send private notifications to all players.
      *
@@ -108,11 +120,20 @@ public abstract class Game {
      * @return a random player.
      */
     public Player getRandomPlayer() {
+        return getRandomPlayer(new Random());
+    }
+
+    /**
+     * Method to get a random player from the player list.
+     *
+     * @param random the random generator to choose the player with.
+     * @return a random player.
+     */
+    public Player getRandomPlayer(RandomGenerator random) {
         if (playerList == null || playerList.isEmpty()) {
             return null;
         }
 
-        Random random = new Random();
         int randomIndex = random.nextInt(playerList.size());
         return playerList.get(randomIndex);
     }
@@ -0,0 +1,22 @@
+package de.thm.holdem.model.game;
+
+/**
+ * Marker interface for the events a game publishes to its {@link GameListener}s.
+ *
+ * <p>
+ *     Events are immutable and describe what happened, so listeners can broadcast, record and count them without
+ *     reading the state of the game again.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public interface GameEvent {
+
+    /**
+     * Getter for the id of the game that published the event.
+     *
+     * @return the id of the game.
+     */
+    String gameId();
+}
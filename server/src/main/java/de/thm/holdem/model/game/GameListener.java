@@ -37,4 +37,17 @@ public interface GameListener {
      * @param operation instruction for the client what to do with the change.
      */
     void onNotifyGameState(Game game, ClientOperation operation);
+
+    /**
+     * Notify the listener about an event of the game.
+     *
+     * <p>
+     *     Events are published in the order they happen, before the game state is broadcast.
+     * </p>
+     *
+     * @param game the game that published the event.
+     * @param event the event.
+     */
+    default void onGameEvent(Game game, GameEvent event) {
+    }
 }
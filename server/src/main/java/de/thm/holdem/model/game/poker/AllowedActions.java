@@ -0,0 +1,153 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.utils.Chips;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The actions a player is allowed to perform and the amounts he can bet.
+ *
+ * <p>
+ *     The actions are stored as bitmask with one bit per {@link PokerPlayerAction}, so checking an action is a
+ *     single bit test. The amounts are calculated together with the actions, so they can be sent to the client and
+ *     a raise is validated with a few comparisons.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class AllowedActions {
+
+    /** No action is allowed. */
+    public static final AllowedActions NONE = new AllowedActions(0, Chips.ZERO, Chips.ZERO, Chips.ZERO);
+
+    /** The allowed actions, one bit per {@link PokerPlayerAction#ordinal()}. */
+    private final int actions;
+
+    /** The chips needed to call. */
+    private final long call;
+
+    /** The fewest chips the player has to put in to raise, 0 if he can not raise. */
+    private final long minRaise;
+
+    /** The most chips the player can put in to raise, 0 if he can not raise. */
+    private final long maxRaise;
+
+    private AllowedActions(int actions, long call, long minRaise, long maxRaise) {
+        this.actions = actions;
+        this.call = call;
+        this.minRaise = minRaise;
+        this.maxRaise = maxRaise;
+    }
+
+    /**
+     * Method to calculate the allowed actions of a player.
+     *
+     * <p>
+     *     A player can always fold. If he can not match the current bet, he can only go all-in. Otherwise, he can
+     *     check or call, and he can raise if he has more chips than the call plus the minimum raise and the raise
+     *     limit of the table is not reached. A raise has to be at least as high as the big blind and the last raise
+     *     of the betting round. All-in is always possible with chips left.
+     * </p>
+     *
+     * @param chips the chips of the player.
+     * @param playerBet the current bet of the player.
+     * @param currentBet the current bet of the table.
+     * @param bigBlind the big blind.
+     * @param lastRaise the size of the last raise in the betting round.
+     * @param raiseLimitReached true if the table does not allow any more raises in this betting round.
+     * @return the allowed actions.
+     */
+    public static AllowedActions of(long chips, long playerBet, long currentBet, long bigBlind, long lastRaise,
+                                    boolean raiseLimitReached) {
+        long chipsNeededToCall = Math.max(Chips.ZERO, Chips.subtract(currentBet, playerBet));
+        // player can always fold
+        int actions = PokerPlayerAction.FOLD.mask();
+
+        // player can only do all-in when he has fewer chips than the current bet
+        if (chips < chipsNeededToCall) {
+            return new AllowedActions(actions | PokerPlayerAction.ALL_IN.mask(), chipsNeededToCall, Chips.ZERO,
+                    Chips.ZERO);
+        }
+
+        if (chipsNeededToCall == 0) {
+            actions |= PokerPlayerAction.CHECK.mask();
+            // player can only all-in if he has fewer chips than big blind left
+            if (chips < bigBlind && chips > 0) {
+                return new AllowedActions(actions | PokerPlayerAction.ALL_IN.mask(), Chips.ZERO, Chips.ZERO,
+                        Chips.ZERO);
+            }
+        } else {
+            actions |= PokerPlayerAction.CALL.mask();
+        }
+
+        long minRaise = Chips.ZERO;
+        long maxRaise = Chips.ZERO;
+        long raiseNeeded = Chips.add(chipsNeededToCall, Math.max(bigBlind, lastRaise));
+        if (chips > raiseNeeded && !raiseLimitReached) {
+            actions |= PokerPlayerAction.RAISE.mask();
+            minRaise = raiseNeeded;
+            maxRaise = chips;
+        }
+        if (chips > 0) {
+            actions |= PokerPlayerAction.ALL_IN.mask();
+        }
+        return new AllowedActions(actions, chipsNeededToCall, minRaise, maxRaise);
+    }
+
+    /**
+     * Method to check if an action is allowed.
+     *
+     * @param action the action to check.
+     * @return true if the action is allowed, false otherwise.
+     */
+    public boolean contains(PokerPlayerAction action) {
+        return (actions & action.mask()) != 0;
+    }
+
+    /**
+     * Returns the allowed actions as bitmask.
+     *
+     * @return one bit per {@link PokerPlayerAction#ordinal()}.
+     */
+    public int getActions() {
+        return actions;
+    }
+
+    public long getCall() {
+        return call;
+    }
+
+    public long getMinRaise() {
+        return minRaise;
+    }
+
+    public long getMaxRaise() {
+        return maxRaise;
+    }
+
+    /**
+     * Returns the number of allowed actions.
+     *
+     * @return the number of allowed actions.
+     */
+    public int size() {
+        return Integer.bitCount(actions);
+    }
+
+    /**
+     * Method to list the allowed actions, for example to send them to a client.
+     *
+     * @return the allowed actions in the order of {@link PokerPlayerAction}.
+     */
+    public List<PokerPlayerAction> toList() {
+        List<PokerPlayerAction> list = new ArrayList<>(size());
+        for (PokerPlayerAction action : PokerPlayerAction.values()) {
+            if (contains(action)) {
+                list.add(action);
+            }
+        }
+        return list;
+    }
+}
@@ -1,5 +1,10 @@
 package de.thm.holdem.model.game.poker;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Enum which returns all possible states the game can be in
  *
@@ -10,22 +15,80 @@ package de.thm.holdem.model.game.poker;
  *      RIVER: 5th card on the table will be flipped
  *      END: Hands of the players will be evaluated and round ends
  * </p>
+ *
+ * <p>
+ *      The rounds form the state machine of a hand. A hand goes from NONE to PRE_FLOP and street by street to the
+ *      RIVER, every betting round can end the hand early if only one player is left, and after END the table goes
+ *      back to NONE to deal the next hand.
+ * </p>
  */
 public enum BettingRound {
 
 
-    NONE(0), PRE_FLOP(1), FLOP(2), TURN(3), RIVER(4), END(5);
+    NONE(0, 0), PRE_FLOP(1, 0), FLOP(2, 3), TURN(3, 1), RIVER(4, 1), END(5, 0);
+
+    /** The rounds each round can change to. */
+    private static final Map<BettingRound, Set<BettingRound>> TRANSITIONS = new EnumMap<>(BettingRound.class);
+
+    static {
+        TRANSITIONS.put(NONE, EnumSet.of(PRE_FLOP));
+        TRANSITIONS.put(PRE_FLOP, EnumSet.of(FLOP, END));
+        TRANSITIONS.put(FLOP, EnumSet.of(TURN, END));
+        TRANSITIONS.put(TURN, EnumSet.of(RIVER, END));
+        TRANSITIONS.put(RIVER, EnumSet.of(END));
+        TRANSITIONS.put(END, EnumSet.of(NONE));
+    }
 
     /** The order of the betting round, used to make rounds comparable. */
     private final int order;
 
+    /** The number of community cards dealt at the start of the round. */
+    private final int communityCards;
+
     /**
      * Constructor to create a new betting round.
      *
      * @param order the order of the betting round.
+     * @param communityCards the number of community cards dealt at the start of the round.
      */
-    BettingRound(int order) {
+    BettingRound(int order, int communityCards) {
         this.order = order;
+        this.communityCards = communityCards;
+    }
+
+    /**
+     * Getter for the number of community cards dealt at the start of the round.
+     *
+     * @return the number of cards, 0 if no cards are dealt.
+     */
+    public int getCommunityCards() {
+        return communityCards;
+    }
+
+    /**
+     * Method to get the round that follows when the betting of this round is complete.
+     *
+     * @return the next street, END after the river and NONE after the end of a hand.
+     */
+    public BettingRound next() {
+        return switch (this) {
+            case NONE -> PRE_FLOP;
+            case PRE_FLOP -> FLOP;
+            case FLOP -> TURN;
+            case TURN -> RIVER;
+            case RIVER -> END;
+            case END -> NONE;
+        };
+    }
+
+    /**
+     * Method to determine if the game can change from this round to the target round.
+     *
+     * @param targetRound the target betting round.
+     * @return true if the transition is allowed, false otherwise.
+     */
+    public boolean canTransitionTo(BettingRound targetRound) {
+        return TRANSITIONS.get(this).contains(targetRound);
     }
 
     /**
@@ -1,6 +1,7 @@
 package de.thm.holdem.model.game.poker;
 
-import java.math.BigInteger;
+import de.thm.holdem.utils.Chips;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,17 +18,15 @@ public class BlindHelper {
      * @param timeToRaiseBlinds the time between each blind increase
      * @return list of small blind values, big blinds will be double the small blind
      */
-    public static List<BigInteger> calculateBlindLevels(int numOfPlayers, BigInteger buyIn, int totalTournamentTime, int timeToRaiseBlinds) {
-        int calculatedBuyIn = buyIn.intValue();
-        List<BigInteger> blindLevels = new ArrayList<>();
-        int finalBigBlind = (numOfPlayers * calculatedBuyIn) / 10;
+    public static List<Long> calculateBlindLevels(int numOfPlayers, long buyIn, int totalTournamentTime, int timeToRaiseBlinds) {
+        List<Long> blindLevels = new ArrayList<>();
+        long finalBigBlind = Chips.multiply(numOfPlayers, buyIn) / 10;
         int numOfBlindIncreases = numberOfLevels(timeToRaiseBlinds, totalTournamentTime);
 
         double growthFactor = calculateGrowthFactor(finalBigBlind, numOfBlindIncreases);
 
         for (int i = 0; i < numOfBlindIncreases; i++) {
-            int blindLevel = calculateBlindLevel(growthFactor, i);
-            blindLevels.add(BigInteger.valueOf(blindLevel));
+            blindLevels.add(calculateBlindLevel(growthFactor, i));
         }
         return blindLevels;
     }
@@ -39,7 +38,7 @@ public class BlindHelper {
      * @param numberOfLevels the number of blind increases
      * @return the growth factor
      */
-    private static double calculateGrowthFactor(int finalBigBlind, int numberOfLevels) {
+    private static double calculateGrowthFactor(long finalBigBlind, int numberOfLevels) {
         return (double) finalBigBlind / Math.pow(1.5, numberOfLevels - 1);
     }
 
@@ -67,18 +66,18 @@ public class BlindHelper {
      * @param level the level at which the blind should be calculated
      * @return the blind at the given level
      */
-    private static int calculateBlindLevel(double growthFactor, int level) {
+    private static long calculateBlindLevel(double growthFactor, int level) {
         double blindLevel = growthFactor * Math.pow(1.5, level);
-        int roundedValue = (int) Math.round(blindLevel);
+        long roundedValue = Math.round(blindLevel);
 
-        int nextMultipleOf50 = (roundedValue / 50 + 1) * 50;
-        int differenceToNextMultiple50 = nextMultipleOf50 - roundedValue;
+        long nextMultipleOf50 = (roundedValue / 50 + 1) * 50;
+        long differenceToNextMultiple50 = nextMultipleOf50 - roundedValue;
 
         if (differenceToNextMultiple50 <= 6) {
             roundedValue = nextMultipleOf50;
         } else {
-            int nextMultipleOf25 = (roundedValue / 25 + 1) * 25;
-            int differenceToNextMultiple25 = nextMultipleOf25 - roundedValue;
+            long nextMultipleOf25 = (roundedValue / 25 + 1) * 25;
+            long differenceToNextMultiple25 = nextMultipleOf25 - roundedValue;
             if (differenceToNextMultiple25 <= 5) {
                 roundedValue = nextMultipleOf25;
             } else {
@@ -87,7 +86,7 @@ public class BlindHelper {
         }
 
         // Ensure that the minimum small blind is 5
-        return Math.max(roundedValue, 5);
+        return Math.max(roundedValue, 5L);
     }
 
     /**
@@ -96,7 +95,7 @@ public class BlindHelper {
      * @param value the value to round
      * @return the rounded value
      */
-    private static int roundToNearestMultipleOf5(int value) {
-        return (int) (5 * (Math.round((double) value / 5)));
+    private static long roundToNearestMultipleOf5(long value) {
+        return 5 * Math.round((double) value / 5);
     }
 }
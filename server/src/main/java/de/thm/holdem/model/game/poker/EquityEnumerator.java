@@ -0,0 +1,288 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.Suit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Class to calculate the exact equities of the players of a hand by evaluating every possible run-out of the board.
+ *
+ * <p>
+ *     Two suits are interchangeable if every player and the board hold the same ranks in both of them, like the
+ *     suit isomorphism of the {@link HandIndexer}, e.g. the spades and hearts of A♠A♥ against K♠K♥, or suits that
+ *     are not dealt at all. Swapping them turns a run-out into another one with exactly the same outcome. Of each
+ *     group of such run-outs only the one whose interchangeable suits are ordered by their rank masks is evaluated,
+ *     weighted with the size of the group.
+ *     The remaining run-outs are partitioned by their first card and evaluated in parallel on the common
+ *     fork/join pool.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class EquityEnumerator {
+
+    /** The number of cards on a complete board. */
+    private static final int BOARD_SIZE = 5;
+
+    /** Number of permutations of 0 to 4 interchangeable suits. */
+    private static final int[] FACTORIAL = {1, 1, 2, 6, 24};
+
+    private EquityEnumerator() {
+    }
+
+    /**
+     * Method to calculate the exact equities of the players.
+     *
+     * @param holeCards the hole cards of each player.
+     * @param board the community cards that are already dealt, up to 5.
+     * @return the exact equity of each player, in the order of the hole cards.
+     * @throws IllegalArgumentException if the board holds more than 5 cards or a card is used twice.
+     */
+    public static EquityResult enumerate(List<List<Card>> holeCards, List<Card> board) {
+        long[] hands = new long[holeCards.size()];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = CardSet.of(holeCards.get(i));
+        }
+        return enumerate(hands, CardSet.of(board));
+    }
+
+    /**
+     * Method to calculate the exact equities of the players.
+     *
+     * @param holeCards the {@link CardSet} of the hole cards of each player.
+     * @param board the {@link CardSet} of the community cards that are already dealt, up to 5.
+     * @return the exact equity of each player, in the order of the hole cards.
+     * @throws IllegalArgumentException if the board holds more than 5 cards or a card is used twice.
+     */
+    public static EquityResult enumerate(long[] holeCards, long board) {
+        long usedCards = board;
+        for (long hand : holeCards) {
+            if ((usedCards & hand) != 0) {
+                throw new IllegalArgumentException("A card can not be used twice.");
+            }
+            usedCards |= hand;
+        }
+        int missing = BOARD_SIZE - CardSet.size(board);
+        if (missing < 0) {
+            throw new IllegalArgumentException("The board can not hold more than " + BOARD_SIZE + " cards.");
+        }
+
+        int[] deck = remainingDeck(usedCards);
+        Enumeration enumeration = new Enumeration(holeCards, board, deck, missing,
+                interchangeableSuits(holeCards, board));
+        Tally tally;
+        if (missing == 0) {
+            tally = new Tally(holeCards.length);
+            enumeration.evaluate(board, tally);
+        } else {
+            tally = IntStream.rangeClosed(0, deck.length - missing).parallel()
+                    .mapToObj(enumeration::enumerateFrom)
+                    .reduce(Tally::add)
+                    .orElseGet(() -> new Tally(holeCards.length));
+        }
+
+        List<EquityResult.Equity> equities = new ArrayList<>(holeCards.length);
+        double runOuts = tally.runOuts;
+        for (int i = 0; i < holeCards.length; i++) {
+            equities.add(new EquityResult.Equity(tally.wins[i] / runOuts, tally.ties[i] / runOuts,
+                    tally.shares[i] / runOuts, 0));
+        }
+        return new EquityResult(tally.runOuts, true, equities);
+    }
+
+    /**
+     * Method to get the cards that are left in the deck.
+     *
+     * @param usedCards the {@link CardSet} of all used cards.
+     * @return the indices of the remaining cards in ascending order.
+     */
+    private static int[] remainingDeck(long usedCards) {
+        long remaining = CardSet.FULL_DECK & ~usedCards;
+        int[] deck = new int[CardSet.size(remaining)];
+        for (int i = 0; remaining != 0; remaining &= remaining - 1) {
+            deck[i++] = CardSet.first(remaining);
+        }
+        return deck;
+    }
+
+    /**
+     * Method to group the suits that every player and the board hold the same ranks of.
+     *
+     * @param holeCards the {@link CardSet} of the hole cards of each player.
+     * @param board the {@link CardSet} of the community cards.
+     * @return the groups of at least 2 interchangeable suits, each in ascending order.
+     */
+    private static int[][] interchangeableSuits(long[] holeCards, long board) {
+        List<int[]> groups = new ArrayList<>();
+        int grouped = 0;
+        for (int suit = 0; suit < Suit.COUNT; suit++) {
+            if ((grouped & (1 << suit)) != 0) {
+                continue;
+            }
+            int[] group = new int[Suit.COUNT];
+            int size = 0;
+            group[size++] = suit;
+            for (int other = suit + 1; other < Suit.COUNT; other++) {
+                if (isInterchangeable(holeCards, board, suit, other)) {
+                    group[size++] = other;
+                    grouped |= 1 << other;
+                }
+            }
+            if (size > 1) {
+                groups.add(Arrays.copyOf(group, size));
+            }
+        }
+        return groups.toArray(int[][]::new);
+    }
+
+    private static boolean isInterchangeable(long[] holeCards, long board, int suit, int other) {
+        if (CardSet.suitMask(board, suit) != CardSet.suitMask(board, other)) {
+            return false;
+        }
+        for (long hand : holeCards) {
+            if (CardSet.suitMask(hand, suit) != CardSet.suitMask(hand, other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Class to walk through the run-outs of one hand.
+     */
+    private record Enumeration(long[] holeCards, long board, int[] deck, int missing, int[][] suitGroups) {
+
+        /**
+         * Method to evaluate all run-outs whose lowest new card is the card at the given position of the deck.
+         *
+         * @param first the position of the lowest new card in the deck.
+         * @return the outcomes of the run-outs.
+         */
+        private Tally enumerateFrom(int first) {
+            Tally tally = new Tally(holeCards.length);
+            enumerate(first + 1, missing - 1, board | CardSet.of(deck[first]), tally);
+            return tally;
+        }
+
+        /**
+         * Method to recursively add the missing cards in ascending order, so every run-out is visited once.
+         *
+         * @param start the position in the deck of the lowest card that may be added next.
+         * @param left the number of cards that are still missing.
+         * @param runOut the board so far.
+         * @param tally the tally to add the outcomes to.
+         */
+        private void enumerate(int start, int left, long runOut, Tally tally) {
+            if (left == 0) {
+                evaluate(runOut, tally);
+                return;
+            }
+            for (int i = start; i <= deck.length - left; i++) {
+                enumerate(i + 1, left - 1, runOut | CardSet.of(deck[i]), tally);
+            }
+        }
+
+        /**
+         * Method to evaluate a complete board.
+         *
+         * @param runOut the complete board.
+         * @param tally the tally to add the outcome to.
+         */
+        private void evaluate(long runOut, Tally tally) {
+            int weight = weight(runOut);
+            if (weight == 0) {
+                return;
+            }
+            int[] strengths = tally.strengths;
+            int best = 0;
+            int winners = 0;
+            for (int p = 0; p < holeCards.length; p++) {
+                int strength = HandEvaluator.evaluate(holeCards[p] | runOut);
+                strengths[p] = strength;
+                if (strength > best) {
+                    best = strength;
+                    winners = 1;
+                } else if (strength == best) {
+                    winners++;
+                }
+            }
+            double share = (double) weight / winners;
+            for (int p = 0; p < holeCards.length; p++) {
+                if (strengths[p] == best) {
+                    if (winners == 1) {
+                        tally.wins[p] += weight;
+                    } else {
+                        tally.ties[p] += weight;
+                    }
+                    tally.shares[p] += share;
+                }
+            }
+            tally.runOuts += weight;
+        }
+
+        /**
+         * Method to get the number of run-outs a run-out stands for.
+         *
+         * @param runOut the complete board.
+         * @return the number of run-outs that only differ from the given one by swapping interchangeable suits,
+         *         0 if the interchangeable suits of the run-out are not in canonical order.
+         */
+        private int weight(long runOut) {
+            int weight = 1;
+            for (int[] suits : suitGroups) {
+                int previous = Integer.MAX_VALUE;
+                int equalRun = 1;
+                int duplicates = 1;
+                for (int suit : suits) {
+                    int mask = CardSet.suitMask(runOut, suit);
+                    if (mask > previous) {
+                        return 0;
+                    }
+                    // equal masks can be swapped without creating a new run-out
+                    equalRun = mask == previous ? equalRun + 1 : 1;
+                    duplicates *= equalRun;
+                    previous = mask;
+                }
+                weight *= FACTORIAL[suits.length] / duplicates;
+            }
+            return weight;
+        }
+    }
+
+    /**
+     * Class to sum up the weighted outcomes of the run-outs.
+     */
+    private static final class Tally {
+
+        private final long[] wins;
+        private final long[] ties;
+        private final double[] shares;
+        private long runOuts;
+
+        /** Scratch space for the strengths of the hands of one run-out. */
+        private final int[] strengths;
+
+        private Tally(int players) {
+            wins = new long[players];
+            ties = new long[players];
+            shares = new double[players];
+            strengths = new int[players];
+        }
+
+        private Tally add(Tally other) {
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+                ties[i] += other.ties[i];
+                shares[i] += other.shares[i];
+            }
+            runOuts += other.runOuts;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package de.thm.holdem.model.game.poker;
+
+import java.util.List;
+
+/**
+ * Record to store the equities of the players of a hand.
+ *
+ * @param runOuts the number of board run-outs the equities are based on.
+ * @param exact true if every possible run-out was evaluated, false if the run-outs were sampled.
+ * @param equities the equity of each player, in the order the hole cards were given.
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public record EquityResult(long runOuts, boolean exact, List<Equity> equities) {
+
+    /**
+     * Record to store the equity of a single player.
+     *
+     * @param win the share of run-outs the player wins alone.
+     * @param tie the share of run-outs the player splits with others.
+     * @param equity the share of the pot the player wins on average, ties counted as the fraction of the pot.
+     * @param margin the half width of the 95% confidence interval of the equity, 0 for exact results.
+     */
+    public record Equity(double win, double tie, double equity, double margin) {
+    }
+
+    /**
+     * Method to get the equity of a player.
+     *
+     * @param player the position of the player in the given hole cards.
+     * @return the equity of the player.
+     */
+    public Equity get(int player) {
+        return equities.get(player);
+    }
+}
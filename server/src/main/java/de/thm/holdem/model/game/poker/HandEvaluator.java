@@ -0,0 +1,205 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.Rank;
+
+import java.util.List;
+
+/**
+ * Table driven evaluator for poker hands of up to 7 cards.
+ *
+ * <p>
+ *     The cards are evaluated in one pass over 13-bit rank masks (one bit per rank, bit 0 is a two and bit 12 an ace).
+ *     Straights and kickers are read from lookup tables that are computed once when the class is loaded, so an
+ *     evaluation neither sorts nor allocates.
+ *     The result is a {@link HandStrength}, a higher strength always beats a lower one and equal strengths split
+ *     the pot.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class HandEvaluator {
+
+    /** Number of different rank masks. */
+    private static final int TABLE_SIZE = 1 << Rank.COUNT;
+
+    /** Maps a rank mask to the value of the highest card of the best straight in it, 0 if it contains no straight. */
+    private static final byte[] STRAIGHT_HIGH = new byte[TABLE_SIZE];
+
+    /** Maps a rank mask to the values of its 5 highest ranks, packed in nibbles with the highest rank first. */
+    private static final int[] TOP_RANKS = new int[TABLE_SIZE];
+
+    static {
+        for (int mask = 0; mask < TABLE_SIZE; mask++) {
+            STRAIGHT_HIGH[mask] = (byte) findStraightHigh(mask);
+            TOP_RANKS[mask] = packTopRanks(mask);
+        }
+    }
+
+    private HandEvaluator() {
+    }
+
+    /**
+     * Method to evaluate a list of up to 7 cards.
+     *
+     * @param cards the cards to evaluate.
+     * @return the strength of the best 5-card-combination of the cards.
+     */
+    public static int evaluate(List<Card> cards) {
+        return evaluate(CardSet.of(cards));
+    }
+
+    /**
+     * Method to evaluate up to 7 cards given as a {@link CardSet}.
+     *
+     * @param cards the set of cards to evaluate.
+     * @return the strength of the best 5-card-combination of the cards.
+     */
+    public static int evaluate(long cards) {
+        int s0 = CardSet.suitMask(cards, 0);
+        int s1 = CardSet.suitMask(cards, 1);
+        int s2 = CardSet.suitMask(cards, 2);
+        int s3 = CardSet.suitMask(cards, 3);
+
+        // with at most 7 cards a flush rules out four of a kind and full house, so it can be returned right away
+        if (Integer.bitCount(s0) >= 5) return evaluateFlush(s0);
+        if (Integer.bitCount(s1) >= 5) return evaluateFlush(s1);
+        if (Integer.bitCount(s2) >= 5) return evaluateFlush(s2);
+        if (Integer.bitCount(s3) >= 5) return evaluateFlush(s3);
+
+        int ranks = s0 | s1 | s2 | s3;
+        int pairs = (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+        int trips = (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+        int quads = s0 & s1 & s2 & s3;
+        return evaluateRanks(ranks, pairs, trips, quads);
+    }
+
+    /**
+     * Method to evaluate the ranks of a hand that does not contain a flush.
+     *
+     * @param ranks mask of all ranks in the hand.
+     * @param pairs mask of all ranks that occur at least twice.
+     * @param trips mask of all ranks that occur at least three times.
+     * @param quads mask of all ranks that occur four times.
+     * @return the strength of the hand.
+     */
+    static int evaluateRanks(int ranks, int pairs, int trips, int quads) {
+        if (quads != 0) {
+            int quad = Integer.highestOneBit(quads);
+            return HandStrength.of(PokerHandType.FOUR_OF_A_KIND,
+                    rank(quad, 0) | kickers(ranks & ~quad, 1) << 3 * HandStrength.RANK_BITS);
+        }
+        int trip = Integer.highestOneBit(trips);
+        if (trip != 0) {
+            int pair = Integer.highestOneBit(pairs & ~trip);
+            if (pair != 0) {
+                return HandStrength.of(PokerHandType.FULL_HOUSE, rank(trip, 0) | rank(pair, 1));
+            }
+        }
+        int straightHigh = STRAIGHT_HIGH[ranks];
+        if (straightHigh != 0) {
+            return HandStrength.of(PokerHandType.STRAIGHT, straightHigh << 4 * HandStrength.RANK_BITS);
+        }
+        if (trip != 0) {
+            return HandStrength.of(PokerHandType.THREE_OF_A_KIND,
+                    rank(trip, 0) | kickers(ranks & ~trip, 2) << 2 * HandStrength.RANK_BITS);
+        }
+        if (pairs != 0) {
+            int highPair = Integer.highestOneBit(pairs);
+            int lowPair = Integer.highestOneBit(pairs & ~highPair);
+            if (lowPair != 0) {
+                return HandStrength.of(PokerHandType.TWO_PAIRS, rank(highPair, 0) | rank(lowPair, 1)
+                        | kickers(ranks & ~highPair & ~lowPair, 1) << 2 * HandStrength.RANK_BITS);
+            }
+            return HandStrength.of(PokerHandType.ONE_PAIR,
+                    rank(highPair, 0) | kickers(ranks & ~highPair, 3) << HandStrength.RANK_BITS);
+        }
+        return HandStrength.of(PokerHandType.HIGH_CARD, TOP_RANKS[ranks]);
+    }
+
+    /**
+     * Method to evaluate the cards of a suit that contains at least 5 cards.
+     *
+     * @param suit mask of the ranks of the suited cards.
+     * @return the strength of the flush, straight flush or royal flush.
+     */
+    static int evaluateFlush(int suit) {
+        int straightHigh = STRAIGHT_HIGH[suit];
+        if (straightHigh == 14) {
+            return PokerHandType.ROYAL_FLUSH.getBaseValue();
+        }
+        if (straightHigh != 0) {
+            return HandStrength.of(PokerHandType.STRAIGHT_FLUSH, straightHigh << 4 * HandStrength.RANK_BITS);
+        }
+        return HandStrength.of(PokerHandType.FLUSH, TOP_RANKS[suit]);
+    }
+
+    /**
+     * Method to place the value of a single rank bit at a position of a strength.
+     *
+     * @param rankBit mask with exactly one bit set.
+     * @param position the position of the rank, 0 is the most significant rank.
+     * @return the value of the rank shifted to its position.
+     */
+    private static int rank(int rankBit, int position) {
+        return value(rankBit) << (HandStrength.RANK_COUNT - 1 - position) * HandStrength.RANK_BITS;
+    }
+
+    /**
+     * Method to get the values of the highest kickers in a rank mask.
+     *
+     * @param mask the rank mask.
+     * @param count the number of kickers that count.
+     * @return the values of the kickers packed in the lowest {@code count} nibbles, highest kicker first.
+     */
+    private static int kickers(int mask, int count) {
+        return TOP_RANKS[mask] >>> (HandStrength.RANK_COUNT - count) * HandStrength.RANK_BITS;
+    }
+
+    /**
+     * Method to get the value of a single rank bit.
+     *
+     * @param rankBit mask with exactly one bit set.
+     * @return the value of the rank, 2 for a two up to 14 for an ace.
+     */
+    private static int value(int rankBit) {
+        return Integer.numberOfTrailingZeros(rankBit) + 2;
+    }
+
+    /**
+     * Method to find the best straight in a rank mask, used to fill the straight table.
+     *
+     * @param mask the rank mask.
+     * @return the value of the highest card of the straight, 5 for a wheel (A-2-3-4-5) and 0 if there is no straight.
+     */
+    private static int findStraightHigh(int mask) {
+        for (int high = Rank.COUNT - 1; high >= 4; high--) {
+            int straight = 0b11111 << (high - 4);
+            if ((mask & straight) == straight) {
+                return high + 2;
+            }
+        }
+        int wheel = 0b1000000001111;
+        return (mask & wheel) == wheel ? 5 : 0;
+    }
+
+    /**
+     * Method to pack the 5 highest ranks of a rank mask, used to fill the rank table.
+     *
+     * @param mask the rank mask.
+     * @return the values of the ranks packed in nibbles, the highest rank in the highest nibble and 0 for missing ranks.
+     */
+    private static int packTopRanks(int mask) {
+        int packed = 0;
+        int count = 0;
+        for (int bit = Rank.COUNT - 1; bit >= 0 && count < HandStrength.RANK_COUNT; bit--) {
+            if ((mask & (1 << bit)) != 0) {
+                packed |= (bit + 2) << (HandStrength.RANK_COUNT - 1 - count) * HandStrength.RANK_BITS;
+                count++;
+            }
+        }
+        return packed;
+    }
+}
@@ -0,0 +1,387 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utility class to map hole cards and a board to a dense index that is the same for all suit isomorphic hands.
+ *
+ * <p>
+ *     Two hands are isomorphic if one becomes the other by relabeling the suits, e.g. A♠K♠ on Q♠7♥2♦ and A♥K♥ on
+ *     Q♥7♣2♠. They have the same strength and the same equities, so results only have to be calculated once per
+ *     class. The classes of every street are numbered from 0 to {@link #size(int)} - 1 without gaps, which makes the
+ *     index usable as a cache key or as the position in a table.
+ * </p>
+ *
+ * <p>
+ *     Every suit is described by the number of hole and board cards of that suit (its configuration) and by the
+ *     ranks of these cards (a number below the count of possible rank combinations). The suits are sorted by
+ *     configuration and number, which removes the labels. The index is the offset of the sorted configurations
+ *     plus the combination of the numbers of each group of suits with the same configuration, where the order
+ *     inside the group does not matter. The algorithm follows Waugh, "A Fast and Optimal Hand Isomorphism Algorithm".
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class HandIndexer {
+
+    /** The number of hole cards of a player. */
+    private static final int HOLE_CARDS = 2;
+
+    /** The number of cards on a complete board. */
+    private static final int BOARD_SIZE = 5;
+
+    /** The number of bits a suit configuration is stored in. */
+    private static final int CONFIGURATION_BITS = 6;
+
+    /** The sorted keys of all suit configurations, per board size. */
+    private static final int[][] CONFIGURATIONS = new int[BOARD_SIZE + 1][];
+
+    /** The first index of every configuration, in the order of {@link #CONFIGURATIONS}, per board size. */
+    private static final long[][] OFFSETS = new long[BOARD_SIZE + 1][];
+
+    /** The number of classes per board size, 0 for board sizes that are no street. */
+    private static final long[] SIZES = new long[BOARD_SIZE + 1];
+
+    static {
+        for (int boardSize : new int[]{0, 3, 4, 5}) {
+            List<Integer> keys = new ArrayList<>();
+            collectConfigurations(boardSize, 0, 0, 0, Integer.MAX_VALUE, 0, keys);
+            CONFIGURATIONS[boardSize] = keys.stream().mapToInt(Integer::intValue).sorted().toArray();
+            OFFSETS[boardSize] = new long[keys.size()];
+            long offset = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                OFFSETS[boardSize][i] = offset;
+                offset += configurationSize(CONFIGURATIONS[boardSize][i]);
+            }
+            SIZES[boardSize] = offset;
+        }
+    }
+
+    private HandIndexer() {
+    }
+
+    /**
+     * Method to get the number of classes of a street.
+     *
+     * @param boardSize the number of board cards: 0 (preflop), 3 (flop), 4 (turn) or 5 (river).
+     * @return the number of classes, the indices of the street are below it.
+     * @throws IllegalArgumentException if the board size is no street.
+     */
+    public static long size(int boardSize) {
+        checkBoardSize(boardSize);
+        return SIZES[boardSize];
+    }
+
+    /**
+     * Method to get the index of hole cards and a board.
+     *
+     * @param holeCards the 2 hole cards.
+     * @param board the community cards, 0, 3, 4 or 5.
+     * @return the index of the class of the hand on its street.
+     * @throws IllegalArgumentException if the cards are invalid or a card is used twice.
+     */
+    public static long indexOf(List<Card> holeCards, List<Card> board) {
+        long holeSet = CardSet.of(holeCards);
+        long boardSet = CardSet.of(board);
+        if (CardSet.size(holeSet) != holeCards.size() || CardSet.size(boardSet) != board.size()) {
+            throw new IllegalArgumentException("A card can only be used once.");
+        }
+        return indexOf(holeSet, boardSet);
+    }
+
+    /**
+     * Method to get the index of hole cards and a board.
+     *
+     * @param holeCards the {@link CardSet} of the 2 hole cards.
+     * @param board the {@link CardSet} of the community cards, 0, 3, 4 or 5.
+     * @return the index of the class of the hand on its street.
+     * @throws IllegalArgumentException if the cards are invalid or a card is used twice.
+     */
+    public static long indexOf(long holeCards, long board) {
+        if (CardSet.size(holeCards) != HOLE_CARDS) {
+            throw new IllegalArgumentException("A hand needs exactly 2 hole cards.");
+        }
+        if ((holeCards & board) != 0) {
+            throw new IllegalArgumentException("A card can only be used once.");
+        }
+        int boardSize = CardSet.size(board);
+        checkBoardSize(boardSize);
+
+        int[] configurations = new int[Suit.COUNT];
+        long[] numbers = new long[Suit.COUNT];
+        for (int suit = 0; suit < Suit.COUNT; suit++) {
+            int holeMask = CardSet.suitMask(holeCards, suit);
+            int boardMask = compress(CardSet.suitMask(board, suit), holeMask);
+            int holeCount = Integer.bitCount(holeMask);
+            int boardCount = Integer.bitCount(boardMask);
+            configurations[suit] = configuration(holeCount, boardCount);
+            numbers[suit] = colex(holeMask) * binomial(Rank.COUNT - holeCount, boardCount) + colex(boardMask);
+        }
+        sortDescending(configurations, numbers);
+
+        int key = 0;
+        for (int configuration : configurations) {
+            key = key << CONFIGURATION_BITS | configuration;
+        }
+        long index = 0;
+        for (int start = 0, end; start < Suit.COUNT; start = end) {
+            end = groupEnd(configurations, start);
+            int count = end - start;
+            long group = 0;
+            for (int i = 0; i < count; i++) {
+                group += binomial(numbers[start + i] + count - 1 - i, count - i);
+            }
+            index = index * multisets(suitSize(configurations[start]), count) + group;
+        }
+        return OFFSETS[boardSize][Arrays.binarySearch(CONFIGURATIONS[boardSize], key)] + index;
+    }
+
+    /**
+     * Method to get a representative hand of a class.
+     *
+     * @param boardSize the number of board cards: 0 (preflop), 3 (flop), 4 (turn) or 5 (river).
+     * @param index the index of the class.
+     * @return the {@link CardSet}s of the hole cards (first) and the board (second) of a hand of the class.
+     * @throws IllegalArgumentException if the board size is no street or the index is out of range.
+     */
+    public static long[] canonicalHand(int boardSize, long index) {
+        if (index < 0 || index >= size(boardSize)) {
+            throw new IllegalArgumentException("Index " + index + " is out of range for " + boardSize + " board cards.");
+        }
+        long[] offsets = OFFSETS[boardSize];
+        int position = Arrays.binarySearch(offsets, index);
+        if (position < 0) {
+            position = -position - 2;
+        }
+        int key = CONFIGURATIONS[boardSize][position];
+        long rest = index - offsets[position];
+
+        int[] configurations = new int[Suit.COUNT];
+        for (int suit = 0; suit < Suit.COUNT; suit++) {
+            configurations[suit] = key >>> (Suit.COUNT - 1 - suit) * CONFIGURATION_BITS & (1 << CONFIGURATION_BITS) - 1;
+        }
+        // the groups are decoded from the last one, as the first group is the most significant digit
+        long[] numbers = new long[Suit.COUNT];
+        List<int[]> groups = new ArrayList<>();
+        for (int start = 0, end; start < Suit.COUNT; start = end) {
+            end = groupEnd(configurations, start);
+            groups.add(new int[]{start, end});
+        }
+        for (int g = groups.size() - 1; g >= 0; g--) {
+            int start = groups.get(g)[0];
+            int count = groups.get(g)[1] - start;
+            long radix = multisets(suitSize(configurations[start]), count);
+            long group = rest % radix;
+            rest /= radix;
+            for (int i = 0; i < count; i++) {
+                long value = largestBelow(group, count - i);
+                group -= binomial(value, count - i);
+                numbers[start + i] = value - (count - 1 - i);
+            }
+        }
+
+        long holeCards = CardSet.EMPTY;
+        long board = CardSet.EMPTY;
+        for (int suit = 0; suit < Suit.COUNT; suit++) {
+            int holeCount = configurations[suit] >>> 3;
+            int boardCount = configurations[suit] & 7;
+            long boardCombinations = binomial(Rank.COUNT - holeCount, boardCount);
+            int holeMask = colexMask(numbers[suit] / boardCombinations, holeCount);
+            int boardMask = expand(colexMask(numbers[suit] % boardCombinations, boardCount), holeMask);
+            holeCards |= (long) holeMask << suit * Rank.COUNT;
+            board |= (long) boardMask << suit * Rank.COUNT;
+        }
+        return new long[]{holeCards, board};
+    }
+
+    private static void checkBoardSize(int boardSize) {
+        if (boardSize < 0 || boardSize > BOARD_SIZE || CONFIGURATIONS[boardSize] == null) {
+            throw new IllegalArgumentException("A board has 0, 3, 4 or 5 cards.");
+        }
+    }
+
+    /**
+     * Method to collect the keys of all sorted suit configurations of a street.
+     *
+     * @param boardSize the number of board cards.
+     * @param suit the suit to choose the configuration for.
+     * @param holeCards the number of hole cards of the suits before.
+     * @param boardCards the number of board cards of the suits before.
+     * @param previous the configuration of the suit before, the configurations do not increase.
+     * @param key the key of the configurations of the suits before.
+     * @param keys the list to add the keys to.
+     */
+    private static void collectConfigurations(int boardSize, int suit, int holeCards, int boardCards, int previous,
+                                              int key, List<Integer> keys) {
+        if (suit == Suit.COUNT) {
+            if (holeCards == HOLE_CARDS && boardCards == boardSize) {
+                keys.add(key);
+            }
+            return;
+        }
+        for (int holeCount = 0; holeCount <= HOLE_CARDS - holeCards; holeCount++) {
+            for (int boardCount = 0; boardCount <= boardSize - boardCards; boardCount++) {
+                int configuration = configuration(holeCount, boardCount);
+                if (configuration <= previous) {
+                    collectConfigurations(boardSize, suit + 1, holeCards + holeCount, boardCards + boardCount,
+                            configuration, key << CONFIGURATION_BITS | configuration, keys);
+                }
+            }
+        }
+    }
+
+    private static int configuration(int holeCount, int boardCount) {
+        return holeCount << 3 | boardCount;
+    }
+
+    private static long configurationSize(int key) {
+        int[] configurations = new int[Suit.COUNT];
+        for (int suit = 0; suit < Suit.COUNT; suit++) {
+            configurations[suit] = key >>> (Suit.COUNT - 1 - suit) * CONFIGURATION_BITS & (1 << CONFIGURATION_BITS) - 1;
+        }
+        long size = 1;
+        for (int start = 0, end; start < Suit.COUNT; start = end) {
+            end = groupEnd(configurations, start);
+            size *= multisets(suitSize(configurations[start]), end - start);
+        }
+        return size;
+    }
+
+    /**
+     * Method to get the number of rank combinations of a suit.
+     *
+     * @param configuration the configuration of the suit.
+     * @return the number of ways to choose the ranks of the hole cards and then of the board cards.
+     */
+    private static long suitSize(int configuration) {
+        int holeCount = configuration >>> 3;
+        return binomial(Rank.COUNT, holeCount) * binomial(Rank.COUNT - holeCount, configuration & 7);
+    }
+
+    private static int groupEnd(int[] configurations, int start) {
+        int end = start + 1;
+        while (end < configurations.length && configurations[end] == configurations[start]) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Method to sort the suits descending by configuration and then by number.
+     */
+    private static void sortDescending(int[] configurations, long[] numbers) {
+        for (int i = 1; i < configurations.length; i++) {
+            int configuration = configurations[i];
+            long number = numbers[i];
+            int j = i - 1;
+            while (j >= 0 && (configurations[j] < configuration
+                    || configurations[j] == configuration && numbers[j] < number)) {
+                configurations[j + 1] = configurations[j];
+                numbers[j + 1] = numbers[j];
+                j--;
+            }
+            configurations[j + 1] = configuration;
+            numbers[j + 1] = number;
+        }
+    }
+
+    /**
+     * Method to remove the ranks of the hole cards from the ranks of the board cards of a suit, so the board ranks
+     * are numbered among the 13 - n ranks that are left.
+     */
+    private static int compress(int boardMask, int holeMask) {
+        int compressed = 0;
+        for (int rank = 0, position = 0; rank < Rank.COUNT; rank++) {
+            if ((holeMask & 1 << rank) != 0) {
+                continue;
+            }
+            if ((boardMask & 1 << rank) != 0) {
+                compressed |= 1 << position;
+            }
+            position++;
+        }
+        return compressed;
+    }
+
+    private static int expand(int compressed, int holeMask) {
+        int boardMask = 0;
+        for (int rank = 0, position = 0; rank < Rank.COUNT; rank++) {
+            if ((holeMask & 1 << rank) != 0) {
+                continue;
+            }
+            if ((compressed & 1 << position) != 0) {
+                boardMask |= 1 << rank;
+            }
+            position++;
+        }
+        return boardMask;
+    }
+
+    /**
+     * Method to get the position of a set of ranks in the colexicographic order of all sets of the same size.
+     */
+    private static long colex(int mask) {
+        long index = 0;
+        for (int i = 1; mask != 0; i++) {
+            index += binomial(Integer.numberOfTrailingZeros(mask), i);
+            mask &= mask - 1;
+        }
+        return index;
+    }
+
+    private static int colexMask(long index, int size) {
+        int mask = 0;
+        for (int i = size; i > 0; i--) {
+            int rank = (int) largestBelow(index, i);
+            mask |= 1 << rank;
+            index -= binomial(rank, i);
+        }
+        return mask;
+    }
+
+    /**
+     * Method to find the largest n with n over k not greater than the value.
+     */
+    private static long largestBelow(long value, int k) {
+        long low = k - 1;
+        long high = k;
+        while (binomial(high, k) <= value) {
+            high *= 2;
+        }
+        while (high - low > 1) {
+            long middle = (low + high) >>> 1;
+            if (binomial(middle, k) <= value) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Method to get the number of multisets of a size from a number of elements.
+     */
+    private static long multisets(long elements, int size) {
+        return binomial(elements + size - 1, size);
+    }
+
+    private static long binomial(long n, int k) {
+        if (k < 0 || n < k) {
+            return 0;
+        }
+        long result = 1;
+        for (int i = 0; i < k; i++) {
+            result = result * (n - i) / (i + 1);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+package de.thm.holdem.model.game.poker;
+
+/**
+ * Utility class to work with hand strengths encoded in a single int.
+ *
+ * <p>
+ *     The ordinal of the {@link PokerHandType} is stored above bit {@link #TYPE_SHIFT}, the five ranks that decide
+ *     the hand follow in 4-bit nibbles, most significant rank first (e.g. the rank of the pair, then the three
+ *     kickers of a one pair hand). Ranks are stored with their value from 2 to 14, unused nibbles are 0 and a
+ *     royal flush has no ranks at all.
+ *     Comparing two strengths as ints therefore compares the hands, equal strengths are exactly tied hands.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class HandStrength {
+
+    /** The number of bits used to store one rank. */
+    public static final int RANK_BITS = 4;
+
+    /** The number of ranks stored in a strength. */
+    public static final int RANK_COUNT = 5;
+
+    /** The position of the hand type in a strength. */
+    public static final int TYPE_SHIFT = RANK_BITS * RANK_COUNT;
+
+    /** The mask to read the ranks from a strength. */
+    public static final int RANKS_MASK = (1 << TYPE_SHIFT) - 1;
+
+    private HandStrength() {
+    }
+
+    /**
+     * Method to create a strength.
+     *
+     * @param type the type of the hand.
+     * @param ranks the ranks of the hand, packed in nibbles with the most significant rank in the highest nibble.
+     * @return the strength.
+     */
+    public static int of(PokerHandType type, int ranks) {
+        return type.getBaseValue() | ranks;
+    }
+
+    /**
+     * Method to get the type of the hand a strength stands for.
+     *
+     * @param strength the strength.
+     * @return the type of the hand.
+     */
+    public static PokerHandType typeOf(int strength) {
+        return PokerHandType.of(strength >>> TYPE_SHIFT);
+    }
+
+    /**
+     * Method to read one rank of a strength.
+     *
+     * @param strength the strength.
+     * @param position the position of the rank, 0 is the most significant rank.
+     * @return the value of the rank from 2 to 14, 0 if the position is unused.
+     */
+    public static int rankAt(int strength, int position) {
+        return strength >>> (RANK_COUNT - 1 - position) * RANK_BITS & 0xF;
+    }
+}
@@ -3,20 +3,23 @@ package de.thm.holdem.model.game.poker;
 import de.thm.holdem.dto.ClientOperation;
 import de.thm.holdem.exception.GameActionException;
 import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
 import de.thm.holdem.model.card.Deck;
+import de.thm.holdem.model.card.RandomSource;
 import de.thm.holdem.model.game.Game;
 import de.thm.holdem.model.game.GameListener;
 import de.thm.holdem.model.game.GameStatus;
 import de.thm.holdem.model.player.Player;
 import de.thm.holdem.model.player.PokerPlayer;
 import de.thm.holdem.settings.PokerGameSettings;
-import de.thm.holdem.utils.TurnManager;
+import de.thm.holdem.utils.Chips;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.math.BigInteger;
+import java.security.SecureRandom;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
-// TODO convert BigInteger to long for memory and performance reasons
 @Getter
 public class PokerGame extends Game {
 
@@ -25,6 +28,11 @@ public class PokerGame extends Game {
      */
     private static final int MAX_RAISES = 3;
 
+    /**
+     * Generates the seeds of tables that are not created with a fixed seed.
+     */
+    private static final SecureRandom SEEDS = new SecureRandom();
+
     /**
      * Number of raises in the current betting round.
      */
@@ -35,6 +43,23 @@ public class PokerGame extends Game {
      */
     protected Deck deck;
 
+    /**
+     * The seed of the random generator the deck is shuffled with
+     */
+    private final long seed;
+
+    /**
+     * The random generator of the table, used to shuffle the deck and to choose the first dealer
+     */
+    @Getter(AccessLevel.NONE)
+    private final RandomGenerator random;
+
+    /**
+     * The seats of the players and the state of every seat
+     */
+    @Getter(AccessLevel.NONE)
+    protected final SeatRing seats;
+
     /**
      * Settings of the game
      */
@@ -48,7 +73,7 @@ public class PokerGame extends Game {
     /**
      * amount of money a player has to pay when joining the game to buy chips for the game.
      */
-    private final BigInteger buyIn;
+    private final long buyIn;
 
     /**
      * The type of the table
@@ -63,7 +88,17 @@ public class PokerGame extends Game {
     /**
      * A list of all small blind levels
      */
-    protected List<BigInteger> smallBlindLevels;
+    protected List<Long> smallBlindLevels;
+
+    /**
+     * The number of blind levels that have expired, the blinds are raised at the start of the next hand
+     */
+    protected int blindRaisesDue;
+
+    /**
+     * The time the next blind level starts in milliseconds since the epoch, 0 if there is no next level
+     */
+    protected long nextBlindLevelAt;
 
     /**
      * Stores the 3 flop cards (first 3 cards dealt on the table)
@@ -80,10 +115,20 @@ public class PokerGame extends Game {
      */
     protected Card riverCard;
 
+    /**
+     * Stores all community cards on the table as a {@link CardSet}
+     */
+    protected long communityCards;
+
     /**
      * The bet each betting players has to match to stay in the round
      */
-    protected BigInteger currentBet;
+    protected long currentBet;
+
+    /**
+     * The size of the last raise in the current betting round, the next raise has to be at least as high
+     */
+    protected long lastRaise;
 
     /**
      * All pots in the current hand (main pot and any side pots).
@@ -95,6 +140,16 @@ public class PokerGame extends Game {
      */
     protected BettingRound bettingRound;
 
+    /**
+     * The number of the current hand, starting with 1 for the first hand of the game
+     */
+    protected int handNumber;
+
+    /**
+     * The number of turns since the start of the game, a timeout only acts on the turn it was set for
+     */
+    protected int turn;
+
     /**
      * The player with the dealer position
      */
@@ -128,6 +183,11 @@ public class PokerGame extends Game {
 
     private List<PokerPlayer> showdownOrder;
 
+    /**
+     * True while the board of a hand whose players are all all-in is dealt street by street
+     */
+    private boolean runningOut;
+
 
     /**
      * Constructor for the poker game
@@ -136,19 +196,41 @@ public class PokerGame extends Game {
      * @param buyIn    sets the required buy in for the game
      * @param settings sets the settings for the game
      */
-    public PokerGame(PokerPlayer creator, BigInteger buyIn, PokerGameSettings settings, TableType tableType,
+    public PokerGame(PokerPlayer creator, long buyIn, PokerGameSettings settings, TableType tableType,
                      int maxPlayerCount, String name) {
+        this(creator, buyIn, settings, tableType, maxPlayerCount, name, SEEDS.nextLong());
+    }
+
+    /**
+     * Constructor for a poker game with a fixed seed
+     *
+     * <p>
+     * With a reproducible {@link RandomSource} the same seed deals the same cards, which is used to replay hands
+     * and for load tests.
+     * </p>
+     *
+     * @param creator  initializes the creator variable with the player which created the game
+     * @param buyIn    sets the required buy in for the game
+     * @param settings sets the settings for the game
+     * @param seed     the seed of the random generator the deck is shuffled with
+     */
+    public PokerGame(PokerPlayer creator, long buyIn, PokerGameSettings settings, TableType tableType,
+                     int maxPlayerCount, String name, long seed) {
         super(name, creator.getId());
         this.raises = 0;
         this.pots = new ArrayList<>();
+        this.flopCards = new ArrayList<>(3);
         this.tableType = tableType;
         this.maxPlayerCount = maxPlayerCount;
         this.buyIn = buyIn;
         this.bettingRound = BettingRound.NONE;
         this.settings = settings;
         this.playerList = new ArrayList<>(maxPlayerCount);
-        this.playerList.add(creator);
-        this.deck = new Deck();
+        this.seats = new SeatRing(maxPlayerCount);
+        seat(creator);
+        this.seed = seed;
+        this.random = settings.getRandomSource().create(seed);
+        this.deck = new Deck(random);
     }
 
     /**
@@ -158,7 +240,7 @@ public class PokerGame extends Game {
      * @return the player with the given id or null if no player with the given id exists.
      */
     public Player getPlayerById(String playerId) {
-        return playerList.stream().filter(s -> s.getId().equals(playerId)).findFirst().orElse(null);
+        return seats.get(playerId);
     }
 
     /**
@@ -167,6 +249,7 @@ public class PokerGame extends Game {
     @Override
     public void removePlayer(Player player) {
         playerList.remove(player);
+        seats.leave((PokerPlayer) player);
         if (activePlayers > 0) {
             activePlayers--;
         }
@@ -209,13 +292,23 @@ public class PokerGame extends Game {
         if (playerList.contains(player) || playerList.size() >= maxPlayerCount) {
             throw new GameActionException("Player can not join this game.");
         }
-        playerList.add(player);
+        seat((PokerPlayer) player);
         if (playerList.size() == maxPlayerCount) {
             startGame();
         }
     }
 
 
+    /**
+     * Method to seat a player on the lowest free seat and add him to the playerList.
+     *
+     * @param player the player to seat.
+     */
+    void seat(PokerPlayer player) {
+        seats.sit(player);
+        playerList.add(player);
+    }
+
     /**
      * Method to start the game
      *
@@ -236,10 +329,14 @@ public class PokerGame extends Game {
 
         activePlayers = playerList.size();
         gameStatus = GameStatus.IN_PROGRESS;
+        long timeBank = (long) (settings.getTimeBank() * 1000);
+        for (Player player : playerList) {
+            ((PokerPlayer) player).setTimeBank(timeBank);
+        }
         // a random player becomes the first dealer
-        dealer = (PokerPlayer) getRandomPlayer();
+        dealer = (PokerPlayer) getRandomPlayer(random);
         actor = dealer;
-        currentBet = BigInteger.ZERO;
+        currentBet = Chips.ZERO;
         calculateSmallBlindLevels();
         deal();
     }
@@ -258,7 +355,8 @@ public class PokerGame extends Game {
         if (!getGameStatus().equals(GameStatus.IN_PROGRESS)) {
             throw new GameActionException("Game has not started yet.");
         }
-        bettingRound = BettingRound.PRE_FLOP;
+        transition(BettingRound.PRE_FLOP);
+        handNumber++;
         deck.shuffle();
 
         playerList.forEach(player -> {
@@ -275,6 +373,8 @@ public class PokerGame extends Game {
             }
         });
 
+        seats.startHand(currentBet);
+        publish(new PokerGameEvent.HandStarted(id, handNumber, dealer.getId()));
         postSmallBlind();
         postBigBlind();
         notifyPlayers(ClientOperation.DEAL);
@@ -287,10 +387,11 @@ public class PokerGame extends Game {
     void postSmallBlind() throws GameActionException {
         rotateActor(false);
         smallBlindPlayer = actor;
-        BigInteger smallBlind = smallBlindLevels.get(currentBlindLevel);
+        long smallBlind = smallBlindLevels.get(currentBlindLevel);
         smallBlindPlayer.paySmallBlind(smallBlind);
         contributePot(smallBlind);
         currentBet = smallBlind;
+        seats.update(smallBlindPlayer, currentBet);
     }
 
     /**
@@ -299,29 +400,52 @@ public class PokerGame extends Game {
     void postBigBlind() throws GameActionException {
         rotateActor(false);
         bigBlindPlayer = actor;
-        BigInteger bigBlind = smallBlindLevels.get(currentBlindLevel).multiply(BigInteger.TWO);
+        long bigBlind = getBigBlind();
         bigBlindPlayer.payBigBlind(bigBlind);
         contributePot(bigBlind);
         currentBet = bigBlind;
+        lastRaise = bigBlind;
+        seats.update(bigBlindPlayer, currentBet);
+        // the blinds are published before the turn of the first actor starts
+        publish(new PokerGameEvent.BlindsPosted(id, handNumber, smallBlindPlayer.getId(),
+                smallBlindPlayer.getCurrentBet(), bigBlindPlayer.getId(), bigBlindPlayer.getCurrentBet()));
         rotateActor(true);
     }
 
-    void contributePot(BigInteger amount) {
+    void contributePot(long amount) {
         if (pots.isEmpty()) {
             pots.add(new Pot());
         }
         pots.get(pots.size() - 1).contribute(actor, amount);
     }
 
+    /**
+     * Method to get the big blind of the current blind level.
+     *
+     * @return the big blind, twice the small blind, or 0 if the game has not started yet.
+     */
+    public long getBigBlind() {
+        if (smallBlindLevels == null) {
+            return Chips.ZERO;
+        }
+        return Chips.multiply(smallBlindLevels.get(currentBlindLevel), 2);
+    }
+
     void checkForSplitPots() {
-        Pot currentPot = pots.get(pots.size() - 1);
-        PokerPlayer allInPlayerWithSmallestStack = currentPot.getAllInPlayerWithSmallestStack();
-        while (allInPlayerWithSmallestStack != null) {
-            Pot sidePot = currentPot.split(allInPlayerWithSmallestStack);
-            pots.add(sidePot);
-            currentPot = sidePot;
-            allInPlayerWithSmallestStack = currentPot.getAllInPlayerWithSmallestStack();
+        SidePotBuilder.build(pots);
+    }
+
+    /**
+     * Method to change the betting round.
+     *
+     * @param targetRound the round to change to.
+     * @throws IllegalStateException if the current round can not change to the target round.
+     */
+    void transition(BettingRound targetRound) {
+        if (!bettingRound.canTransitionTo(targetRound)) {
+            throw new IllegalStateException("Can not change from " + bettingRound + " to " + targetRound + ".");
         }
+        bettingRound = targetRound;
     }
 
 
@@ -341,6 +465,38 @@ public class PokerGame extends Game {
     }
 
 
+    /**
+     * Method to raise the blinds at the start of the next hand, so a running hand is played with the same blinds.
+     *
+     * @param nextBlindLevelAt the time the level after the raised one ends in milliseconds since the epoch,
+     *                         0 if there is no level after it.
+     */
+    public void scheduleBlindRaise(long nextBlindLevelAt) {
+        this.blindRaisesDue++;
+        this.nextBlindLevelAt = nextBlindLevelAt;
+    }
+
+    /**
+     * Method to start the clock of the first blind level.
+     *
+     * @param nextBlindLevelAt the time the first level ends in milliseconds since the epoch.
+     */
+    public void startBlindClock(long nextBlindLevelAt) {
+        this.nextBlindLevelAt = nextBlindLevelAt;
+    }
+
+    /**
+     * Method to get the number of blind levels that follow the current one, including a raise that is due.
+     *
+     * @return the number of remaining blind levels.
+     */
+    public int getRemainingBlindLevels() {
+        if (smallBlindLevels == null) {
+            return 0;
+        }
+        return Math.max(0, smallBlindLevels.size() - 1 - currentBlindLevel - blindRaisesDue);
+    }
+
     /**
      * Method to set actor to the next player on the table. It will ignore all folded players or
      * players who are all in or spectators.
@@ -350,9 +506,9 @@ public class PokerGame extends Game {
     void rotateActor(boolean getAllowedActions) throws GameActionException {
         if (bettingRound == BettingRound.END) return;
         actor.clearAllowedActions();
-        actor = (PokerPlayer) TurnManager.getNext(playerList, actor, true);
-        while (actor.isFolded() || actor.isAllIn() || actor.isSpectator()) {
-            actor = (PokerPlayer) TurnManager.getNext(playerList, actor, true);
+        PokerPlayer next = seats.next(actor.getSeat(), seats.getActing());
+        if (next != null) {
+            actor = next;
         }
 
         if (getAllowedActions) {
@@ -377,50 +533,54 @@ public class PokerGame extends Game {
             return;
         }
 
-        BigInteger currentChips = actor.getChips();
-        BigInteger chipsNeededToCall = currentBet.subtract(actor.getCurrentBet());
-        BigInteger bigBlind = smallBlindLevels.get(currentBlindLevel).multiply(BigInteger.TWO);
-
-        // player can always fold
-        actor.addAllowedAction(PokerPlayerAction.FOLD);
-
-        // player can only do all-in when he has fewer chips than the current bet
-        if (currentChips.compareTo(chipsNeededToCall) < 0) {
-            actor.addAllowedAction(PokerPlayerAction.ALL_IN);
-            return;
-        }
+        actor.setAllowedActions(getAllowedActions(actor));
+        turn++;
+        publish(new PokerGameEvent.TurnStarted(id, handNumber, turn, actor.getId()));
+    }
 
-        // player can check if he has already matched the current bet
-        if (chipsNeededToCall.equals(BigInteger.ZERO)) {
-            actor.addAllowedAction(PokerPlayerAction.CHECK);
-            //player can only all-in if he has fewer chips than big blind left
-            if (currentChips.compareTo(bigBlind) < 0 && currentChips.compareTo(BigInteger.ZERO) > 0) {
-                actor.addAllowedAction(PokerPlayerAction.ALL_IN);
-                return;
-            }
-        }
-        // player can call, if his bet is smaller than the current bet
-        if (chipsNeededToCall.compareTo(BigInteger.ZERO) > 0) {
-            actor.addAllowedAction(PokerPlayerAction.CALL);
-        }
-        // if player has more chips than he needs to call plus the big blind, he can raise
-        if (currentChips.compareTo(chipsNeededToCall.add(bigBlind)) > 0 && (getTableType().equals(TableType.NO_LIMIT) || getRaises() < MAX_RAISES)) {
-            actor.addAllowedAction(PokerPlayerAction.RAISE);
+    /**
+     * Method to act for the actor when his time for a turn is up.
+     *
+     * <p>
+     * The actor checks if he is allowed to, otherwise he folds. The action is performed like an action of the
+     * player, so the game continues as usual.
+     * </p>
+     *
+     * @param turn the turn the timeout was set for.
+     * @return true if the actor was forced to act, false if the turn is already over.
+     * @throws GameActionException if the action can not be performed.
+     */
+    public boolean actOnTimeout(int turn) throws GameActionException {
+        if (turn != this.turn || !actor.canDoAction(PokerPlayerAction.FOLD)) {
+            return false;
         }
-        // player can always all-in if he has chips left
-        if (currentChips.compareTo(BigInteger.ZERO) > 0) {
-            actor.addAllowedAction(PokerPlayerAction.ALL_IN);
+        if (actor.canDoAction(PokerPlayerAction.CHECK)) {
+            check(actor);
+        } else {
+            fold(actor);
         }
+        return true;
+    }
 
+    /**
+     * Method to calculate the actions a player is allowed to perform in the current game state.
+     *
+     * @param player the player.
+     * @return the allowed actions and the amounts the player can bet.
+     */
+    AllowedActions getAllowedActions(PokerPlayer player) {
+        boolean raiseLimitReached = getTableType().equals(TableType.FIXED_LIMIT) && getRaises() >= MAX_RAISES;
+        return AllowedActions.of(player.getChips(), player.getCurrentBet(), currentBet, getBigBlind(), lastRaise,
+                raiseLimitReached);
     }
 
     /**
      * Method to move the dealer to the next player if the round has ended
      */
     void setNextDealer() {
-        dealer = (PokerPlayer) TurnManager.getNext(playerList, dealer, true);
-        while (dealer.isSpectator()) {
-            dealer = (PokerPlayer) TurnManager.getNext(playerList, dealer, true);
+        PokerPlayer next = seats.next(dealer.getSeat(), seats.getPlaying());
+        if (next != null) {
+            dealer = next;
         }
         actor = dealer;
     }
@@ -466,9 +626,11 @@ public class PokerGame extends Game {
             return;
         }
 
-        BigInteger bet = currentBet.subtract(player.getCurrentBet());
+        long bet = Chips.subtract(currentBet, player.getCurrentBet());
         player.call(bet);
         contributePot(bet);
+        seats.update(player, currentBet);
+        publishAction(player, PokerPlayerAction.CALL, bet);
 
         manageBettingRound();
     }
@@ -485,27 +647,21 @@ public class PokerGame extends Game {
         actor.clearAllowedActions();
         // if only one player is left, the round ends and the remaining cards stay hidden
         if (activePlayers == 1) {
-            bettingRound = BettingRound.END;
+            transition(BettingRound.END);
             checkForSplitPots();
-            distributePot();
+            distributePot(new Showdown(getLivePlayers()));
+            publish(new PokerGameEvent.HandEnded(id, handNumber, false));
             // TODO add the winner to the showown order list but he doesnt have to show cards
             notifyPlayers(ClientOperation.PLAYER_WINS);
             notifyGameState(ClientOperation.PLAYER_WINS);
             return;
         }
 
-        // if all players are all-in, the round ends and the remaining cards are dealt
-        if (countPlayersThatAreAllIn() == activePlayers) {
-            if (flopCards == null || flopCards.isEmpty()) {
-                dealCommunityCards("flop");
-            }
-            if (turnCard == null) {
-                dealCommunityCards("turn");
-            }
-            if (riverCard == null) {
-                dealCommunityCards("river");
-            }
-            finishRound();
+        // if all players are all-in, the betting ends and the remaining streets are dealt once the equities are known
+        if (activePlayers > 1 && seats.countAllIn() == activePlayers) {
+            runningOut = true;
+            checkForSplitPots();
+            publishAllIn();
             return;
         }
 
@@ -534,6 +690,8 @@ public class PokerGame extends Game {
         }
 
         player.check();
+        seats.update(player, currentBet);
+        publishAction(player, PokerPlayerAction.CHECK, Chips.ZERO);
 
         manageBettingRound();
     }
@@ -554,6 +712,8 @@ public class PokerGame extends Game {
         }
 
         player.fold();
+        seats.update(player, currentBet);
+        publishAction(player, PokerPlayerAction.FOLD, Chips.ZERO);
         this.activePlayers--;
         manageBettingRound();
     }
@@ -562,23 +722,34 @@ public class PokerGame extends Game {
      * Method to perform a raise action.
      *
      * <p>
-     * The player will only be allowed to raise if he has enough chips to match the current bet plus the big blind.
+     * The raise is validated against the allowed actions of the player, which were calculated at the start of his
+     * turn with the raise limit of the table and the bounds of the raise.
      * </p>
      *
      * @param player the player who is raising
      * @param raise  the amount the player wants to raise
      */
-    public void raise(PokerPlayer player, BigInteger raise) throws GameActionException {
+    public void raise(PokerPlayer player, long raise) throws GameActionException {
         if (isIllegalAction(player, PokerPlayerAction.RAISE)) {
             return;
         }
+        AllowedActions allowedActions = player.getAllowedActions();
+        if (raise < allowedActions.getMinRaise()) {
+            throw new GameActionException("Raise is not high enough.");
+        }
+        if (raise > allowedActions.getMaxRaise()) {
+            throw new GameActionException("You do not have enough chips to raise.");
+        }
 
         raises++;
         lastBettor = player;
         player.bet(raise);
         contributePot(raise);
+        lastRaise = Chips.subtract(player.getCurrentBet(), currentBet);
         currentBet = player.getCurrentBet();
         player.setLastAction(PokerPlayerAction.RAISE);
+        seats.update(player, currentBet);
+        publishAction(player, PokerPlayerAction.RAISE, raise);
 
         manageBettingRound();
     }
@@ -592,17 +763,25 @@ public class PokerGame extends Game {
         if (isIllegalAction(player, PokerPlayerAction.ALL_IN)) {
             return;
         }
-        BigInteger allIn = player.getChips();
+        long allIn = player.getChips();
         player.bet(allIn);
         contributePot(allIn);
         raises++;
         lastBettor = player;
-        currentBet = currentBet.max(player.getCurrentBet());
+        // an all-in that raises by less than the last raise does not change the minimum raise
+        lastRaise = Math.max(lastRaise, Chips.subtract(player.getCurrentBet(), currentBet));
+        currentBet = Math.max(currentBet, player.getCurrentBet());
         player.setLastAction(PokerPlayerAction.ALL_IN);
+        seats.update(player, currentBet);
+        publishAction(player, PokerPlayerAction.ALL_IN, allIn);
 
         manageBettingRound();
     }
 
+    private void publishAction(PokerPlayer player, PokerPlayerAction action, long amount) {
+        publish(new PokerGameEvent.ActionTaken(id, handNumber, bettingRound, player.getId(), action, amount));
+    }
+
     /**
      * Method to determine whether it is the players turn.
      *
@@ -623,28 +802,23 @@ public class PokerGame extends Game {
      */
     boolean canStartNextBettingRound() {
         if (bettingRound == BettingRound.PRE_FLOP && actor == bigBlindPlayer) {
-            return countPlayersThatCalledAndNotFolded() == activePlayers;
+            return seats.countCalled() == activePlayers;
         } else if (bettingRound != BettingRound.PRE_FLOP && actor == dealer) {
-            return countPlayersThatCalledAndNotFolded() == activePlayers;
+            return seats.countCalled() == activePlayers;
         }
         return false;
     }
 
     /**
-     * Method do count all players that have called the current bet and have not folded.
+     * Method to start the next hand after the pots of the current hand were awarded.
      *
-     * @return the number of players that have called the current bet and have not folded.
+     * @throws GameActionException if the current hand has not ended yet.
      */
-    private int countPlayersThatCalledAndNotFolded() {
-        return (int) playerList.stream()
-                .map(player -> (PokerPlayer) player)
-                .filter(player -> (player.getCurrentBet().compareTo(currentBet) == 0 || player.isAllIn()) && !player.isFolded() && !player.isSpectator()).count();
-    }
-
-    private int countPlayersThatAreAllIn() {
-        return (int) playerList.stream()
-                .map(player -> (PokerPlayer) player)
-                .filter(player -> player.isAllIn() && !player.isSpectator() && !player.isFolded()).count();
+    public void startNextHand() throws Exception {
+        if (bettingRound != BettingRound.END) {
+            throw new GameActionException("The hand has not ended yet.");
+        }
+        finishHand();
     }
 
     /**
@@ -656,51 +830,56 @@ public class PokerGame extends Game {
      */
     void finishHand() throws Exception {
         playerList.forEach(Player::reset);
-        activePlayers = (int) playerList.stream()
-                .filter(player -> player.getChips().compareTo(BigInteger.ZERO) > 0).count();
+        // after the reset, players without chips are spectators
+        seats.startHand(Chips.ZERO);
+        activePlayers = seats.countPlaying();
 
         if (activePlayers < 2) {
             endGame();
+            publish(new PokerGameEvent.GameEnded(id, handNumber));
             return;
         }
         cleanupHand();
     }
 
     private void cleanupHand() throws Exception {
-        bettingRound = BettingRound.NONE;
+        transition(BettingRound.NONE);
+        // a hand that lasted longer than a level skips that level
+        for (; blindRaisesDue > 0; blindRaisesDue--) {
+            raiseBlinds();
+        }
         raises = 0;
         flopCards.clear();
         riverCard = null;
         lastBettor = null;
         turnCard = null;
-        currentBet = BigInteger.ZERO;
+        communityCards = CardSet.EMPTY;
+        currentBet = Chips.ZERO;
+        lastRaise = Chips.ZERO;
         pots.clear();
         setNextDealer();
 
         deal();
     }
 
-    private void dealCommunityCards(String type) {
-        switch (type) {
-            case "flop" -> {
-                flopCards = new ArrayList<>(3);
-                deck.burnCard();
-                flopCards.add(deck.drawCard());
-                flopCards.add(deck.drawCard());
-                flopCards.add(deck.drawCard());
-                addCardsToPlayerHands(flopCards);
-            }
-            case "turn" -> {
-                deck.burnCard();
-                turnCard = deck.drawCard();
-                addCardsToPlayerHands(List.of(turnCard));
-            }
-            case "river" -> {
-                deck.burnCard();
-                riverCard = deck.drawCard();
-                addCardsToPlayerHands(List.of(riverCard));
+    /**
+     * Method to burn a card and deal the community cards of the current betting round.
+     */
+    private void dealStreet() {
+        deck.burnCard();
+        long street = CardSet.EMPTY;
+        for (int i = 0; i < bettingRound.getCommunityCards(); i++) {
+            int card = deck.draw();
+            street = CardSet.add(street, card);
+            switch (bettingRound) {
+                case FLOP -> flopCards.add(Card.of(card));
+                case TURN -> turnCard = Card.of(card);
+                case RIVER -> riverCard = Card.of(card);
+                default -> throw new IllegalStateException("No community cards are dealt in " + bettingRound + ".");
             }
         }
+        addCardsToPlayerHands(street);
+        publish(new PokerGameEvent.StreetDealt(id, handNumber, bettingRound, street));
     }
 
     public void endGame() {
@@ -708,9 +887,10 @@ public class PokerGame extends Game {
     }
 
     void finishRound() throws GameActionException {
-        bettingRound = BettingRound.END;
+        transition(BettingRound.END);
         checkForSplitPots();
         doShowdown();
+        publish(new PokerGameEvent.HandEnded(id, handNumber, true));
         notifyGameState(ClientOperation.SHOWDOWN);
         notifyPlayers(ClientOperation.SHOWDOWN);
     }
@@ -726,31 +906,21 @@ public class PokerGame extends Game {
      * </p>
      */
     void startNextBettingRound() throws GameActionException {
-        switch (bettingRound) {
-            case PRE_FLOP -> {
-                bettingRound = BettingRound.FLOP;
-                dealCommunityCards("flop");
-                changeBettingRound();
-            }
-            case FLOP -> {
-                bettingRound = BettingRound.TURN;
-                dealCommunityCards("turn");
-                changeBettingRound();
-            }
-            case TURN -> {
-                bettingRound = BettingRound.RIVER;
-                dealCommunityCards("river");
-                changeBettingRound();
-            }
-            case RIVER -> {
-               finishRound();
-            }
+        BettingRound next = bettingRound.next();
+        if (next == BettingRound.END) {
+            finishRound();
+            return;
         }
+        transition(next);
+        dealStreet();
+        changeBettingRound();
     }
 
 
     private void changeBettingRound() throws GameActionException {
         actor = dealer;
+        raises = 0;
+        lastRaise = Chips.ZERO;
         checkForSplitPots();
         rotateActor(true);
         notifyGameState(ClientOperation.ROUND_CHANGE);
@@ -758,105 +928,156 @@ public class PokerGame extends Game {
     }
 
 
-    private void addCardsToPlayerHands(List<Card> cards) {
+    private void addCardsToPlayerHands(long cards) {
+        communityCards |= cards;
         for (Player player : playerList) {
             PokerPlayer pokerPlayer = (PokerPlayer) player;
             if (pokerPlayer.isFolded() || pokerPlayer.isSpectator()) {
                 continue;
             }
-            pokerPlayer.getHand().addCards(cards);
+            pokerPlayer.getHand().addCardSet(cards);
+        }
+    }
+
+    /**
+     * Method to announce that all players that are still in the hand are all-in.
+     *
+     * <p>
+     *     Called on every street of the run-out. The equities are calculated outside of the game and set with
+     *     {@link #setAllInEquities(int, List, EquityResult)}, the next street is dealt with
+     *     {@link #runOutNextStreet(int)}.
+     * </p>
+     */
+    private void publishAllIn() {
+        List<String> playerIds = new ArrayList<>();
+        List<Long> holeCards = new ArrayList<>();
+        for (Player player : playerList) {
+            PokerPlayer pokerPlayer = (PokerPlayer) player;
+            if (!pokerPlayer.isFolded() && !pokerPlayer.isSpectator() && pokerPlayer.hasHoleCards()) {
+                playerIds.add(pokerPlayer.getId());
+                holeCards.add(CardSet.of(pokerPlayer.getHoleCards()));
+            }
+        }
+        publish(new PokerGameEvent.AllIn(id, handNumber, playerIds,
+                holeCards.stream().mapToLong(Long::longValue).toArray(), communityCards));
+    }
+
+    /**
+     * Method to set the equities of the players of an all-in and show them with the current street.
+     *
+     * @param hand the number of the hand the equities were calculated for.
+     * @param playerIds the ids of the players, in the order of the equities.
+     * @param result the equities of the players.
+     * @return true if the equities were set, false if the hand is not run out anymore.
+     */
+    public boolean setAllInEquities(int hand, List<String> playerIds, EquityResult result) {
+        if (hand != handNumber || !runningOut) {
+            return false;
+        }
+        for (int i = 0; i < playerIds.size(); i++) {
+            PokerPlayer player = (PokerPlayer) getPlayerById(playerIds.get(i));
+            if (player != null) {
+                player.setEquity(result.get(i));
+            }
+        }
+        notifyGameState(ClientOperation.ROUND_CHANGE);
+        notifyPlayers(ClientOperation.ROUND_CHANGE);
+        return true;
+    }
+
+    /**
+     * Method to deal the next street of an all-in, or to go to the showdown once the river was dealt.
+     *
+     * @param hand the number of the hand that is run out.
+     * @throws GameActionException if the pots can not be awarded.
+     */
+    public void runOutNextStreet(int hand) throws GameActionException {
+        if (hand != handNumber || !runningOut) {
+            return;
+        }
+        if (bettingRound == BettingRound.RIVER) {
+            runningOut = false;
+            finishRound();
+            return;
         }
+        transition(bettingRound.next());
+        dealStreet();
+        publishAllIn();
     }
 
-    private BigInteger getTotalPot() {
-        BigInteger totalPot = BigInteger.ZERO;
+    private long getTotalPot() {
+        long totalPot = Chips.ZERO;
         for (Pot pot : pots) {
-            totalPot = totalPot.add(pot.getPotSize());
+            totalPot = Chips.add(totalPot, pot.getPotSize());
         }
         return totalPot;
     }
 
 
-    private List<PokerPlayer> determineShowdownOrder() throws GameActionException {
+    private List<PokerPlayer> determineShowdownOrder() {
         // Determine show order; start with all-in players...
         List<PokerPlayer> showingPlayers = new ArrayList<>();
-        for (Player player : playerList) {
-            PokerPlayer pokerPlayer = (PokerPlayer) player;
-            if (pokerPlayer.isAllIn()) {
-                showingPlayers.add(pokerPlayer);
-            }
+        long allIn = seats.getAllIn();
+        long shownSeats = allIn;
+        while (allIn != 0) {
+            showingPlayers.add(seats.at(Long.numberOfTrailingZeros(allIn)));
+            allIn &= allIn - 1;
         }
         // ...then last player to bet or raise (aggressor)...
-        if (lastBettor != null) {
-            if (!showingPlayers.contains(lastBettor)) {
-                showingPlayers.add(lastBettor);
-            }
+        long live = seats.getLive();
+        if (lastBettor != null && (live & ~shownSeats & 1L << lastBettor.getSeat()) != 0) {
+            showingPlayers.add(lastBettor);
+            shownSeats |= 1L << lastBettor.getSeat();
         }
         //...and finally the remaining players, that have not folded starting left of the dealer.
-        actor = dealer;
-        while (showingPlayers.size() < activePlayers) {
-            rotateActor(false);
-            if (!showingPlayers.contains(actor)) {
-                showingPlayers.add(actor);
-            }
+        int seat = dealer.getSeat();
+        PokerPlayer player;
+        while ((player = seats.next(seat, live & ~shownSeats)) != null) {
+            seat = player.getSeat();
+            showingPlayers.add(player);
+            shownSeats |= 1L << seat;
         }
 
         return showingPlayers;
     }
 
+    /**
+     * Method to get the players that are still in the hand.
+     *
+     * @return the players that have not folded.
+     */
+    private List<PokerPlayer> getLivePlayers() {
+        long live = seats.getLive();
+        List<PokerPlayer> livePlayers = new ArrayList<>(Long.bitCount(live));
+        while (live != 0) {
+            livePlayers.add(seats.at(Long.numberOfTrailingZeros(live)));
+            live &= live - 1;
+        }
+        return livePlayers;
+    }
+
 
-    private void distributePot() {
+    private void distributePot(Showdown showdown) {
         if (bettingRound != BettingRound.END) return;
-        Map<PokerPlayer, BigInteger> potDivision = new HashMap<>();
-        for (Pot pot : pots) {
-            Set<PokerPlayer> winners = pot.getWinners();
-            // Calculate the pot division and remainder
-            BigInteger[] divisionResult = pot.getPotSize().divideAndRemainder(new BigInteger(String.valueOf(winners.size())));
-            BigInteger potShare = divisionResult[0]; // Pot share for each winner
-            BigInteger remainder = divisionResult[1]; // Remaining odd chips
-            for (PokerPlayer winner : winners) {
-                potDivision.merge(winner, potShare, BigInteger::add);
-            }
-
-            // Distribute any odd chips one by one to the winners in order
-            int chipsToDistribute = 1;
-            for (PokerPlayer winner : winners) {
-                if (chipsToDistribute > remainder.intValue()) {
-                    break; // No more odd chips to distribute
-                }
-                potDivision.merge(winner, BigInteger.ONE, BigInteger::add);
-                chipsToDistribute++;
+        showdown.awardPots(pots, dealer.getSeat());
+        for (PokerPlayer player : getLivePlayers()) {
+            if (player.getPotShare() > 0) {
+                publish(new PokerGameEvent.PotAwarded(id, handNumber, player.getId(), player.getPotShare()));
             }
         }
-
-        // distribute winnings to players
-        for (PokerPlayer winner : potDivision.keySet()) {
-            BigInteger potShare = potDivision.get(winner);
-            winner.win(potShare);
-            winner.setPotShare(potShare);
-        }
     }
 
 
     /**
      * Performs the showdown.
      */
-    private void doShowdown() throws GameActionException {
+    private void doShowdown() {
         if (bettingRound != BettingRound.END) return;
+        Showdown showdown = new Showdown(getLivePlayers());
         showdownOrder = determineShowdownOrder();
-        int bestHandValue = -1;
-        for (PokerPlayer playerToShow : showdownOrder) {
-            if (playerToShow.isAllIn()) {
-                playerToShow.mustShowCards(true);
-            }
-            // players other than all-in players only have to show when having a chance to win
-            if (bestHandValue <= playerToShow.getHandScore() && !playerToShow.isFolded()) {
-                bestHandValue = playerToShow.getHandScore();
-                playerToShow.mustShowCards(true);
-            }
-        }
+        showdown.revealHands(showdownOrder);
 
-        distributePot();
+        distributePot(showdown);
 
     }
 
@@ -0,0 +1,129 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.game.GameEvent;
+
+import java.util.List;
+
+/**
+ * The events a {@link PokerGame} publishes during a hand.
+ *
+ * <p>
+ *     Every event carries the id of the game and the number of the hand it belongs to. Players are referenced by
+ *     id and cards as {@link de.thm.holdem.model.card.CardSet}, so an event does not change when the game goes on.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public sealed interface PokerGameEvent extends GameEvent {
+
+    /**
+     * Getter for the number of the hand the event belongs to.
+     *
+     * @return the number of the hand, starting with 1.
+     */
+    int hand();
+
+    /**
+     * A new hand was started and the hole cards were dealt.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the hand.
+     * @param dealerId the id of the dealer.
+     */
+    record HandStarted(String gameId, int hand, String dealerId) implements PokerGameEvent {
+    }
+
+    /**
+     * The small and the big blind were posted.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the hand.
+     * @param smallBlindId the id of the player that posted the small blind.
+     * @param smallBlind the chips the small blind player put in.
+     * @param bigBlindId the id of the player that posted the big blind.
+     * @param bigBlind the chips the big blind player put in.
+     */
+    record BlindsPosted(String gameId, int hand, String smallBlindId, long smallBlind, String bigBlindId,
+                        long bigBlind) implements PokerGameEvent {
+    }
+
+    /**
+     * A player acted.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the hand.
+     * @param round the betting round the player acted in.
+     * @param playerId the id of the player.
+     * @param action the action of the player.
+     * @param amount the chips the player put in with the action.
+     */
+    record ActionTaken(String gameId, int hand, BettingRound round, String playerId, PokerPlayerAction action,
+                       long amount) implements PokerGameEvent {
+    }
+
+    /**
+     * It is the turn of a player and his allowed actions were set.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the hand.
+     * @param turn the number of the turn, counted over all hands of the game.
+     * @param playerId the id of the player whose turn it is.
+     */
+    record TurnStarted(String gameId, int hand, int turn, String playerId) implements PokerGameEvent {
+    }
+
+    /**
+     * The community cards of a street were dealt.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the hand.
+     * @param round the street that was dealt.
+     * @param cards the dealt cards as card set.
+     */
+    record StreetDealt(String gameId, int hand, BettingRound round, long cards) implements PokerGameEvent {
+    }
+
+    /**
+     * All players that are left in a hand are all-in, the rest of the board is dealt right after.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the hand.
+     * @param playerIds the ids of the players that are all-in.
+     * @param holeCards the hole cards of each player as card set, in the order of the ids.
+     * @param board the community cards that were dealt before the all-in as card set.
+     */
+    record AllIn(String gameId, int hand, List<String> playerIds, long[] holeCards, long board)
+            implements PokerGameEvent {
+    }
+
+    /**
+     * A player won chips from the pots.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the hand.
+     * @param playerId the id of the winner.
+     * @param amount the chips the player won from all pots.
+     */
+    record PotAwarded(String gameId, int hand, String playerId, long amount) implements PokerGameEvent {
+    }
+
+    /**
+     * A hand ended and the pots were awarded.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the hand.
+     * @param showdown true if the hand was decided at a showdown, false if all but one player folded.
+     */
+    record HandEnded(String gameId, int hand, boolean showdown) implements PokerGameEvent {
+    }
+
+    /**
+     * The game ended after a hand, because fewer than two players have chips left.
+     *
+     * @param gameId the id of the game.
+     * @param hand the number of the last hand.
+     */
+    record GameEnded(String gameId, int hand) implements PokerGameEvent {
+    }
+}
@@ -0,0 +1,66 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.game.GameStatus;
+import de.thm.holdem.model.player.Player;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Record to store what the lobby and the registry need to know about a {@link PokerGame}.
+ *
+ * <p>
+ *     A listing is an immutable snapshot of the game, so it can be read by any thread while the game itself is only
+ *     changed in its mailbox.
+ * </p>
+ *
+ * @param gameId the id of the game.
+ * @param name the name of the game.
+ * @param gameStatus the status of the game.
+ * @param tableType the type of the table.
+ * @param buyIn the buy-in of the game.
+ * @param playerCount the number of players at the table.
+ * @param maxPlayerCount the number of seats at the table.
+ * @param playerIds the ids of the players at the table.
+ * @param updatedAt the time the listing was created, in milliseconds since the epoch.
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public record PokerGameListing(String gameId, String name, GameStatus gameStatus, TableType tableType, long buyIn,
+                               int playerCount, int maxPlayerCount, Set<String> playerIds, long updatedAt) {
+
+    /**
+     * Method to create a listing of the current state of a game.
+     *
+     * @param game the game.
+     * @return the listing.
+     */
+    public static PokerGameListing of(PokerGame game) {
+        Set<String> playerIds = new HashSet<>(game.getPlayerList().size() * 2);
+        for (Player player : game.getPlayerList()) {
+            playerIds.add(player.getId());
+        }
+        return new PokerGameListing(game.getId(), game.getName(), game.getGameStatus(), game.getTableType(),
+                game.getBuyIn(), game.getPlayerList().size(), game.getMaxPlayerCount(), Set.copyOf(playerIds),
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Method to get the number of free seats.
+     *
+     * @return the number of free seats.
+     */
+    public int openSeats() {
+        return maxPlayerCount - playerCount;
+    }
+
+    /**
+     * Method to check if a player can take a seat at the table.
+     *
+     * @return true if the game has not started yet and has free seats, false otherwise.
+     */
+    public boolean isJoinable() {
+        return gameStatus == GameStatus.WAITING && openSeats() > 0;
+    }
+}
@@ -1,23 +1,71 @@
 package de.thm.holdem.model.game.poker;
 
 import de.thm.holdem.model.card.Card;
-import de.thm.holdem.model.card.Rank;
-import de.thm.holdem.model.card.Suit;
+import de.thm.holdem.model.card.CardSet;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Class to represent a poker hand of up to 5 cards.
+ * Class to represent a poker hand of up to 7 cards, of which the best 5 cards make up the hand.
+ *
+ * <p>
+ *     The cards are stored as primitive card indices (see {@link Card#index()}), {@link Card} objects are only
+ *     created when the cards of the hand are requested.
+ * </p>
  *
  * @author Valentin Laucht
  * @version 1.0
  */
 public class PokerHand {
 
-    /** A list of up to 5 cards that make up the hand. */
-    private List<Card> cards;
+    /** The maximum number of cards in a hand (2 hole cards + 5 community cards). */
+    private static final int MAX_CARDS = 7;
+
+    /** The number of bits used to store a card index in {@link #sequence}. */
+    private static final int INDEX_BITS = 6;
+
+    /** The mask to read a card index from {@link #sequence}. */
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    /** The number of bits used to count the cards of a suit in {@link #suitCounts}. */
+    private static final int SUIT_COUNT_BITS = 4;
+
+    /**
+     * Adding 3 to a suit count sets its highest bit exactly when the suit holds at least 5 cards,
+     * so these masks find a flush in all four suits at once.
+     */
+    private static final int FLUSH_OFFSET = 0x3333;
+    private static final int FLUSH_MASK = 0x8888;
+
+    /** The {@link CardSet} of all cards in the hand. */
+    private long cardSet;
+
+    /** The indices of all cards in the order they were added, each one stored in {@link #INDEX_BITS} bits. */
+    private long sequence;
+
+    /** The number of cards in the hand. */
+    private int size;
+
+    /** Mask of all ranks in the hand, one bit per rank. */
+    private int ranks;
 
-    /** The result of the hand evaluation. */
+    /** Mask of all ranks that occur at least twice in the hand. */
+    private int pairs;
+
+    /** Mask of all ranks that occur at least three times in the hand. */
+    private int trips;
+
+    /** Mask of all ranks that occur four times in the hand. */
+    private int quads;
+
+    /** The number of cards of each suit, each one stored in {@link #SUIT_COUNT_BITS} bits. */
+    private int suitCounts;
+
+    /** The positions in {@link #sequence} of the cards that make up the best 5-card-combination, one bit each. */
+    private int bestCombination;
+
+    /** The result of the hand evaluation, created on demand by {@link #getHandResult()}. */
     private PokerHandResult handResult;
 
     /**
@@ -31,316 +79,218 @@ public class PokerHand {
      * Method to reset the hand.
      */
     public void reset() {
-        this.cards = new ArrayList<>();
+        cardSet = CardSet.EMPTY;
+        sequence = 0L;
+        size = 0;
+        ranks = 0;
+        pairs = 0;
+        trips = 0;
+        quads = 0;
+        suitCounts = 0;
+        bestCombination = 0;
         handResult = null;
     }
 
     /**
      * Method to add one card to the hand.
      *
-     * <p>
-     *     If the total amount of cards in the hand is more than 5 cards, the best 5-card-combination is chosen.
-     *     The {@link #evaluateHand(List)} is used method to evaluate the hand.
-     *     The result of the hand evaluation is stored in the {@link #handResult} field.
-     *     The {@link #cards} field is updated with the cards that make up the best 5-card-combination.
-     * </p>
      * @param card the card to add to the hand.
      */
     public void addCard(Card card) {
-        addCards(Collections.singletonList(card));
+        push(card.index());
     }
 
     /**
      * Method to add a list of cards to the hand.
      *
-     * <p>
-     *     If the total amount of cards in the hand is more than 5 cards, the best 5-card-combination is chosen.
-     *     The {@link #evaluateHand(List)} is used method to evaluate the hand.
-     *     The result of the hand evaluation is stored in the {@link #handResult} field.
-     *     The {@link #cards} field is updated with the cards that make up the best 5-card-combination.
-     * </p>
      * @param newCards the cards to add to the hand.
      */
     public void addCards(List<Card> newCards) {
-        this.cards.addAll(newCards);
-
-        if (this.cards.size() <= 5) {
-            this.handResult = evaluateHand(this.cards);
-        } else {
-            // ArrayList which will store all 21 5-Card-Combinations out of 7 cards
-            ArrayList<ArrayList<Card>> allCardCombinations = find5CardsCombinations(new ArrayList<>(this.cards));
-
-            PokerHandResult bestHandResult = null;
-
-            for (List<Card> combination : allCardCombinations) {
-                PokerHandResult currentHandResult = evaluateHand(combination);
-
-                if (bestHandResult == null || currentHandResult.compareTo(bestHandResult) > 0) {
-                    bestHandResult = currentHandResult;
-                    this.cards = new ArrayList<>(combination); // Update cards with the best combination
-                }
-            }
-
-            handResult = bestHandResult;
+        for (int i = 0; i < newCards.size(); i++) {
+            push(newCards.get(i).index());
         }
     }
 
-    /***
-     * Method generates all possible combinations of 5 cards out of 7 cards
-     *
-     * @param cards an arraylist of 7 cards
-     * @return all the possible 5 card combinations
-     */
-    ArrayList<ArrayList<Card>> find5CardsCombinations(ArrayList<Card> cards) {
-        ArrayList<ArrayList<Card>> allCardCombinations = new ArrayList<>();
-        backtrack(allCardCombinations, new ArrayList<>(), cards, cards.size(), 5, 0);
-        return allCardCombinations;
-    }
-
-    /***
-     * Backtracking algorithm to generate all possible combinations of 5 cards out of 7 cards
+    /**
+     * Method to add a {@link CardSet} to the hand.
      *
-     * @param allCardCombinations list of all possible 5 card combinations
-     * @param currentCardList temporary currently being generated list
-     * @param allCards a list of up to 7 cards
-     * @param n number of cards in list
-     * @param k 5 (need to find 5 cards combination)
-     * @param start index/pointer in input
+     * @param newCards the set of cards to add to the hand.
      */
-    private void backtrack(ArrayList<ArrayList<Card>> allCardCombinations, ArrayList<Card> currentCardList,
-                           List<Card> allCards, int n, int k, int start) {
-        if (currentCardList.size() == k)
-            allCardCombinations.add(new ArrayList<>(currentCardList));
-        else if (currentCardList.size() > k) return;
-
-        for (int i = start; i < n; i++) {
-            currentCardList.add(allCards.get(i)); // add a card to currently generated list
-            backtrack(allCardCombinations, currentCardList, allCards, n, k, i + 1); // call recursively to generate next card
-            currentCardList.remove(currentCardList.size() - 1); // remove last card for next iteration
+    public void addCardSet(long newCards) {
+        for (long remaining = newCards; remaining != 0; remaining &= remaining - 1) {
+            push(CardSet.first(remaining));
         }
     }
 
     /**
-     * Method to get the cards of the hand.
+     * Method to append a card index to the hand.
      *
-     * @return a list of the cards of the hand.
-     */
-    public List<Card> getCards() {
-        return cards;
-    }
-
-    /**
-     * Method to get the result of the hand evaluation.
+     * <p>
+     *     The rank and suit counts are updated in constant time, the hand is not evaluated until
+     *     {@link #getStrength()} or {@link #getHandResult()} is called. Cards that are already part of the hand
+     *     are ignored.
+     * </p>
      *
-     * @return the {@link PokerHandResult} of the hand evaluation.
+     * @param index the index of the card.
      */
-    public PokerHandResult getHandResult() {
-        return handResult;
+    private void push(int index) {
+        if (CardSet.contains(cardSet, index)) {
+            return;
+        }
+        if (size >= MAX_CARDS) {
+            throw new IllegalStateException("A hand can not hold more than " + MAX_CARDS + " cards.");
+        }
+        sequence |= (long) index << (size * INDEX_BITS);
+        cardSet = CardSet.add(cardSet, index);
+        size++;
+
+        int rank = 1 << Card.rankIndex(index);
+        if ((trips & rank) != 0) {
+            quads |= rank;
+        } else if ((pairs & rank) != 0) {
+            trips |= rank;
+        } else if ((ranks & rank) != 0) {
+            pairs |= rank;
+        }
+        ranks |= rank;
+        suitCounts += 1 << (Card.suitIndex(index) * SUIT_COUNT_BITS);
+        handResult = null;
     }
 
     /**
-     * Method to evaluate the hand.
+     * Method to get the strength of the best 5-card-combination of the hand.
+     *
+     * <p>
+     *     The strength is calculated in constant time from the rank and suit counts of the hand.
+     *     It equals the {@link PokerHandResult#getHandValue()} of the {@link #getHandResult()}.
+     * </p>
+     *
+     * @return the strength of the hand, 0 if the hand is empty.
      */
-    public PokerHandResult evaluateHand(List<Card> cardsToEvaluate) {
-        sortHandDescending(cardsToEvaluate);
-
-        // list of ranks of the hand
-        List<Integer> ranks = new ArrayList<>();
-
-        // map that stores the number of cards for each rank
-        Map<Integer, Integer> rankCounts = new HashMap<>();
-
-        // count the number of cards for each rank
-        for (Card card : cardsToEvaluate) {
-            int rank = card.rank().getValue();
-            ranks.add(rank);
-            rankCounts.put(rank, rankCounts.getOrDefault(rank, 0) + 1);
+    public int getStrength() {
+        if (size == 0) {
+            return 0;
         }
-
-        // list that stores only the cards that are part of the hand type
-        List<Card> handCards = new ArrayList<>();
-
-        // default hand type is high card
-        PokerHandType handType = PokerHandType.HIGH_CARD;
-
-        // check if hand contains FOUR_OF_A_KIND
-        if (doesRankCountContain(rankCounts, 4)) {
-            handType = PokerHandType.FOUR_OF_A_KIND;
-            handCards = findXOfAKindCards(ranks, 4, cardsToEvaluate);
-        // check if hand contains FULL_HOUSE
-        } else if (doesRankCountContain(rankCounts, 3) && doesRankCountContain(rankCounts, 2)) {
-            handType = PokerHandType.FULL_HOUSE;
-            handCards.addAll(cardsToEvaluate);
-        // check if hand contains STRAIGHT_FLUSH
-        } else if (isStraight(ranks) && isFlush(cardsToEvaluate)) {
-        handType = PokerHandType.STRAIGHT_FLUSH;
-        handCards.addAll(cardsToEvaluate);
-            // If the highest card is an Ace, it's a Royal Flush
-            if (cardsToEvaluate.get(0).rank() == Rank.ACE) {
-                handType = PokerHandType.ROYAL_FLUSH;
-            }
-        // check if hand contains FLUSH
-        } else if (isFlush(cardsToEvaluate)) {
-            handType = PokerHandType.FLUSH;
-            handCards.addAll(cardsToEvaluate);
-        // check if hand contains STRAIGHT
-        } else if (isStraight(ranks)) {
-            handType = PokerHandType.STRAIGHT;
-            handCards.addAll(cardsToEvaluate);
-        // check if hand contains THREE_OF_A_KIND
-        } else if (doesRankCountContain(rankCounts, 3)) {
-            handType = PokerHandType.THREE_OF_A_KIND;
-            handCards = findXOfAKindCards(ranks, 3, cardsToEvaluate);
-        // check if hand contains ONE_PAIR
-        } else if (doesRankCountContain(rankCounts, 2)) {
-            int pairRank = findPairRank(rankCounts);
-            int remainingPairRank = findRemainingPairRank(rankCounts, pairRank);
-            // check if hand contains TWO_PAIRS
-            if (remainingPairRank > 0) {
-                handType = PokerHandType.TWO_PAIRS;
-                handCards = findPairsCards(pairRank, remainingPairRank, cardsToEvaluate);
-            // hand contains only ONE_PAIR
-            } else {
-                handType = PokerHandType.ONE_PAIR;
-                handCards = findPairsCards(pairRank, 0, cardsToEvaluate);
-            }
-        } else {
-            // hand contains only HIGH_CARD
-            handCards.add(cardsToEvaluate.get(0));
+        int flush = (suitCounts + FLUSH_OFFSET) & FLUSH_MASK;
+        if (flush != 0) {
+            int suit = Integer.numberOfTrailingZeros(flush) / SUIT_COUNT_BITS;
+            return HandEvaluator.evaluateFlush(CardSet.suitMask(cardSet, suit));
         }
-        return new PokerHandResult(handType, new ArrayList<>(cardsToEvaluate), new ArrayList<>(handCards));
+        return HandEvaluator.evaluateRanks(ranks, pairs, trips, quads);
     }
 
     /**
-     * Method to find the cards that make up one or two pairs.
+     * Method to evaluate the hand.
      *
-     * @param pairRank1 the rank of the first pair.
-     * @param pairRank2 the rank of the second pair, provide 0 if only one pair exists.
-     * @param cardsToEvaluate a list of cards to evaluate.
-     * @return a list of the cards that make up one or two pairs.
+     * <p>
+     *     If there are more than 5 cards, the 5-card-combination that reaches the strength of the hand is searched.
+     *     The {@link PokerHandResult} only stores the strength and the indices of the combination.
+     * </p>
      */
-    private List<Card> findPairsCards(int pairRank1, int pairRank2, List<Card> cardsToEvaluate) {
-        List<Card> pairsCards = new ArrayList<>();
-        for (Card card : cardsToEvaluate) {
-            int rank = card.rank().getValue();
-            if (rank == pairRank1 || rank == pairRank2) {
-                pairsCards.add(card);
+    private void evaluate() {
+        int strength = getStrength();
+        bestCombination = size > 5 ? findBestCombination(strength) : (1 << size) - 1;
+        long cards = 0L;
+        int count = 0;
+        for (int position = 0; position < size; position++) {
+            if ((bestCombination & (1 << position)) != 0) {
+                cards |= (long) indexAt(position) << count++ * PokerHandResult.INDEX_BITS;
             }
         }
-        return pairsCards;
+        handResult = new PokerHandResult(strength, cards, count);
     }
 
-
     /**
-     * Method to find the cards that form a specified count of a Kind.
+     * Method to find the 5 cards out of up to 7 cards that reach the given strength.
      *
-     * @param ranks      a list of ranks of the hand.
-     * @param targetCount the count to search for (e.g., 3 for Three of a Kind, 4 for Four of a Kind).
-     * @param cardsToEvaluate a list of cards to evaluate.
-     * @return a list of the cards that form the specified count of a Kind.
+     * @param strength the strength of the best combination as calculated by the {@link HandEvaluator}.
+     * @return the positions of the 5 cards that make up the best combination, one bit each.
      */
-    private List<Card> findXOfAKindCards(List<Integer> ranks, int targetCount, List<Card> cardsToEvaluate) {
-        List<Card> xOfAKindCards = new ArrayList<>();
-        for (Card card : cardsToEvaluate) {
-            int rank = card.rank().getValue();
-            if (Collections.frequency(ranks, rank) == targetCount) {
-                xOfAKindCards.add(card);
+    private int findBestCombination(int strength) {
+        // every subset with 5 set bits stands for one 5-card-combination
+        for (int subset = 0; subset < 1 << size; subset++) {
+            if (Integer.bitCount(subset) != 5) continue;
+            if (HandEvaluator.evaluate(toCardSet(subset)) == strength) {
+                return subset;
             }
         }
-        return xOfAKindCards;
+        return 0b11111;
     }
 
-
     /**
-     * Method to check whether the rankCount map contains a certain amount of cards of the same rank.
+     * Method to get the index of the card at a position of the hand.
      *
-     * @param rankCounts a map that stores the number of cards for each rank.
-     * @param count the amount of cards of the same rank that is looked for.
-     * @return true if the rankCount map contains the required amount of cards of the same rank, false otherwise.
+     * @param position the position, 0 is the first card that was added.
+     * @return the index of the card.
      */
-    private boolean doesRankCountContain(Map<Integer, Integer> rankCounts, int count) {
-        return rankCounts.containsValue(count);
+    private int indexAt(int position) {
+        return (int) (sequence >>> position * INDEX_BITS & INDEX_MASK);
     }
 
-
     /**
-     * Method to find the rank of a second pair in a hand.
+     * Method to get the {@link CardSet} of the cards at some positions of the hand.
      *
-     * @param rankCounts a map that stores the number of cards for each rank.
-     * @param pairRank the rank of the first pair.
-     * @return the rank of the second pair, 0 if no second pair is found.
+     * @param positions the positions, one bit each.
+     * @return the set of the cards at the positions.
      */
-    private int findRemainingPairRank(Map<Integer, Integer> rankCounts, int pairRank) {
-        for (Map.Entry<Integer, Integer> entry : rankCounts.entrySet()) {
-            if (entry.getValue() >= 2 && entry.getKey() != pairRank) {
-                return entry.getKey();
+    private long toCardSet(int positions) {
+        long set = CardSet.EMPTY;
+        for (int position = 0; position < size; position++) {
+            if ((positions & (1 << position)) != 0) {
+                set = CardSet.add(set, indexAt(position));
             }
         }
-        return 0;
+        return set;
     }
 
-
     /**
-     * Method to find the rank of the cards that make up a pair.
+     * Method to get the cards of the hand.
      *
-     * @param rankCounts a map that stores the number of cards for each rank.
-     * @return the rank of the cards that make up a pair, 0 if no pair is found.
+     * @return a list of the up to 5 cards that make up the best 5-card-combination, in the order they were added.
      */
-    private int findPairRank(Map<Integer, Integer> rankCounts) {
-        for (Map.Entry<Integer, Integer> entry : rankCounts.entrySet()) {
-            if (entry.getValue() >= 2) {
-                return entry.getKey();
-            }
-        }
-        return 0; // Return 0 if no pair is found
+    public List<Card> getCards() {
+        getHandResult();
+        return cardsAt(bestCombination);
     }
 
-
     /**
-     * Sort the hand by rank value in descending order.
+     * Method to create the cards at some positions of the hand.
      *
-     * @param cardsToSort a list of cards to sort.
+     * @param positions the positions, one bit each.
+     * @return the cards at the positions, in the order they were added.
      */
-    public void sortHandDescending(List<Card> cardsToSort) {
-        cardsToSort.sort(Collections.reverseOrder());
+    private List<Card> cardsAt(int positions) {
+        List<Card> cards = new ArrayList<>(Integer.bitCount(positions));
+        for (int position = 0; position < size; position++) {
+            if ((positions & (1 << position)) != 0) {
+                cards.add(Card.of(indexAt(position)));
+            }
+        }
+        return cards;
     }
 
     /**
-     * Method to check whether the hand is a flush.
+     * Method to get all cards of the hand.
      *
-     * @param cards a list of cards of the hand.
-     * @return true if the hand is a flush, false otherwise.
+     * @return the {@link CardSet} of all cards in the hand.
      */
-    private boolean isFlush(List<Card> cards) {
-        if (cards.size() < 5) {
-            return false;
-        }
-        Suit firstSuit = cards.get(0).suit();
-        for (Card card : cards) {
-            if (card.suit() != firstSuit) {
-                return false;
-            }
-        }
-        return true;
+    public long getCardSet() {
+        return cardSet;
     }
 
-
     /**
-     * Method to check whether the hand is a straight.
+     * Method to get the result of the hand evaluation.
+     *
+     * <p>
+     *     The result is created on the first call after cards were added and kept until the hand changes.
+     * </p>
      *
-     * @param ranks a list of ranks of the hand.
-     * @return true if the hand is a straight, false otherwise.
+     * @return the {@link PokerHandResult} of the hand evaluation, null if the hand is empty.
      */
-    private boolean isStraight(List<Integer> ranks) {
-        if (cards.size() < 5) {
-            return false;
-        }
-        for (int i = 0; i < ranks.size() - 1; i++) {
-            if (ranks.get(i) != ranks.get(i + 1) + 1) {
-                return false;
-            }
+    public PokerHandResult getHandResult() {
+        if (handResult == null && size > 0) {
+            evaluate();
         }
-        return true;
+        return handResult;
     }
-
 }
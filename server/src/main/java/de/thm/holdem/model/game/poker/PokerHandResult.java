@@ -1,166 +1,133 @@
 package de.thm.holdem.model.game.poker;
 
 import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
 import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 /**
- * Class to calculate and store the result of a poker hand.
+ * Class to store the result of a poker hand.
+ *
+ * <p>
+ *     The result only holds the {@link HandStrength} of the hand and the indices of its up to 5 cards.
+ *     The card lists are created when they are requested for the first time, e.g. to send them to the client.
+ * </p>
  *
  * @author Valentin Laucht
  * @version 1.0
  */
 public class PokerHandResult implements Comparable<PokerHandResult> {
 
-    /** The type of the evaluated hand. */
-    @Getter
-    private final PokerHandType handType;
+    /** The number of bits used to store a card index in {@link #cards}. */
+    static final int INDEX_BITS = 6;
 
-    /** The value of the hand. */
+    /** The mask to read a card index from {@link #cards}. */
+    static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    /** The strength of the hand, see {@link HandStrength}. */
     @Getter
     private final int handValue;
 
+    /** The indices of the up to 5 cards of the hand in the order they were added, each one stored in {@link #INDEX_BITS} bits. */
+    private final long cards;
+
+    /** The number of cards of the hand. */
+    private final int size;
+
     /** A list of up to 5 cards that are used to calculate the hand (e.g. 2 hole cards + 3 community cards). */
-    private final List<Card> calculationCards;
+    private List<Card> calculationCards;
 
     /** A list of cards containing the cards that make up the hand (e.g. the 4 cards that form a Four-Of-A-Kind). */
-    @Getter
-    private final List<Card> handCards;
+    private List<Card> handCards;
 
     /**
      * Constructor to create a new PokerHandResult.
      *
-     * @param handType the type of the hand.
-     * @param calculationCards the up to 5 cards that are used to calculate the hand (e.g. 2 hole cards + 3 community cards).
-     * @param handCards the cards that make up the hand (e.g. the 4 cards that form a Four-Of-A-Kind).
+     * @param handValue the strength of the hand, see {@link HandStrength}.
+     * @param cards the indices of the up to 5 cards of the hand, each one stored in {@link #INDEX_BITS} bits.
+     * @param size the number of cards of the hand.
      */
-    public PokerHandResult(PokerHandType handType, ArrayList<Card> calculationCards, ArrayList<Card> handCards) {
-        this.handType = handType;
-        this.calculationCards = calculationCards;
-        this.handCards = handCards;
-        this.handCards.sort(Collections.reverseOrder());
-        this.calculationCards.sort(Collections.reverseOrder());
-        this.handValue = calculateHandValue();
+    PokerHandResult(int handValue, long cards, int size) {
+        this.handValue = handValue;
+        this.cards = cards;
+        this.size = size;
     }
 
     /**
-     * Method to calculate the value of the hand.
+     * Method to evaluate up to 5 cards.
      *
-     * @return the value of the hand.
+     * @param cards the cards to evaluate.
+     * @return the result of the evaluation.
+     * @throws IllegalArgumentException if there are more than 5 cards.
      */
-    private int calculateHandValue() {
-        return switch (handType) {
-            case HIGH_CARD -> calculateHighCardValue();
-            case ONE_PAIR -> calculateOnePairValue();
-            case TWO_PAIRS -> calculateTwoPairsValue();
-            case THREE_OF_A_KIND -> calculateThreeOfAKindValue();
-            case FOUR_OF_A_KIND -> calculateFourOfAKindValue();
-            // highest card in flush wins, in case of tie, the second-highest card wins, etc. So method for high card can be used
-            case FLUSH -> handType.getBaseValue() + calculateHighCardValue();
-            // for the following hand types, the value is the base value + the value of the highest card
-            case STRAIGHT, STRAIGHT_FLUSH -> handType.getBaseValue() + calculationCards.get(0).rank().getValue();
-            case FULL_HOUSE -> calculateFullHouseValue();
-            case ROYAL_FLUSH -> handType.getBaseValue();
-            default -> 0;
-        };
-    }
-
-    /**
-     * Method to calculate the value of TWO_PAIRS
-     *
-     * @return TWO_PAIRS (2000000) + 14^2 * HighPairCard + 14* LowPairCard + UnmatchedCard
-     */
-    private int calculateTwoPairsValue() {
-        int value = handType.getBaseValue() + (int) (Math.pow(14, 2) * handCards.get(0).rank().getValue());
-        value += (14 * handCards.get(2).rank().getValue());
-        List<Card> filteredCards = calculationCards.stream().filter(card -> !handCards.contains(card)).toList();
-        if (filteredCards.size() == 1) {
-            value += filteredCards.get(0).rank().getValue();
+    public static PokerHandResult of(List<Card> cards) {
+        if (cards.size() > HandStrength.RANK_COUNT) {
+            throw new IllegalArgumentException("A hand result can not hold more than 5 cards.");
         }
-        return value;
-    }
-
-    /**
-     * Method to calculate the value of ONE_PAIR
-     *
-     * @return ONE_PAIR (1000000) + 14^3 * PairCard + 14^2* HighestCard + 14* MiddleCard + LowestCard
-     */
-    private int calculateOnePairValue() {
-        int value = handType.getBaseValue() + (int) (Math.pow(14, 3) * handCards.get(0).rank().getValue());
-        List<Card> filteredCards = calculationCards.stream().filter(card -> !handCards.contains(card)).toList();
-        for (int i = 0; i < filteredCards.size(); i++) {
-            value += filteredCards.get(i).rank().getValue() * Math.pow(14, 2 - i);
+        long packed = 0L;
+        for (int i = 0; i < cards.size(); i++) {
+            packed |= (long) cards.get(i).index() << i * INDEX_BITS;
         }
-        return value;
+        return new PokerHandResult(HandEvaluator.evaluate(CardSet.of(cards)), packed, cards.size());
     }
 
     /**
-     * Method to calculate the value of a THREE_OF_A_KIND
+     * Method to get the type of the hand.
      *
-     * @return THREE_OF_A_KIND (3000000) + XXXYZ | YXXXZ | YZXXX -> 14^2* value(x) + 14 * value(y) + value(z)
+     * @return the type of the hand.
      */
-    private int calculateThreeOfAKindValue() {
-        int value = handType.getBaseValue() + (int) (Math.pow(14, 2) * handCards.get(0).rank().getValue());
-
-        List<Card> filteredCards = calculationCards.stream().filter(card -> !handCards.contains(card)).toList();
-        for (int i = 0; i < filteredCards.size(); i++) {
-            value += filteredCards.get(i).rank().getValue() * Math.pow(14, 1 - i);
-        }
-
-        return value;
+    public PokerHandType getHandType() {
+        return HandStrength.typeOf(handValue);
     }
 
     /**
-     * Method to calculate the value of a FOUR_OF_A_KIND
+     * Method to get the cards that are used to calculate the hand.
      *
-     * @return FOUR_OF_A_KIND (7000000) + XXXXY | YXXXX -> 14* value(x) + value(y)
+     * @return the up to 5 cards of the hand, sorted descending by rank.
      */
-    private int calculateFourOfAKindValue() {
-        int value = handType.getBaseValue() + 14 * handCards.get(0).rank().getValue();
-
-        List<Card> filteredCards = calculationCards.stream().filter(card -> !handCards.contains(card)).toList();
-        if (filteredCards.size() == 1) {
-            value += filteredCards.get(0).rank().getValue();
+    public List<Card> getCalculationCards() {
+        if (calculationCards == null) {
+            List<Card> sorted = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sorted.add(Card.of((int) (cards >>> i * INDEX_BITS & INDEX_MASK)));
+            }
+            sorted.sort(Collections.reverseOrder());
+            calculationCards = sorted;
         }
-
-        return value;
+        return calculationCards;
     }
 
     /**
-     * Method to calculate the value of a FULL_HOUSE
+     * Method to get the cards that make up the hand.
      *
-     * @return FULL_HOUSE (6000000) + IF xxyyy -> 2* value(x) + 14*3* value(y) ELSE 14*3* value(x) + 2* value(y)
-     */
-    private int calculateFullHouseValue() {
-        calculationCards.sort(Comparator.comparingInt(card -> card.rank().getValue()));
-
-        int rank1 = calculationCards.get(0).rank().getValue();
-        int rank2 = calculationCards.get(4).rank().getValue();
-
-        // Check if it's in the format xxyyy or xxxyy
-        if ((rank1 == rank2 && calculationCards.get(2).rank().getValue() != rank1) ||
-                (rank1 != rank2 && calculationCards.get(2).rank().getValue() == rank2)) {
-            return handType.getBaseValue() + (14 * 3 * rank2) + (2 * rank1);
-        } else {
-            return handType.getBaseValue() + (14 * 3 * rank1) + (2 * rank2);
-        }
-    }
-
-    /**
-     * Method to calculate the value of HIGH_CARD.
+     * <p>
+     *     For pairs, three and four of a kind these are the cards of the matching ranks, for a high card the
+     *     highest card, and for all other hand types all 5 cards.
+     * </p>
      *
-     * @return 14^4* highestCard + 14^3* 2ndHighestCard + 14^2* 3rdHighestCard + 14* 4thHighestCard + LowestCard.
+     * @return the cards that make up the hand, sorted descending by rank.
      */
-    private int calculateHighCardValue() {
-        int value = 0;
-        for (int i = 0; i < calculationCards.size(); i++) {
-            value += calculationCards.get(i).rank().getValue() * Math.pow(14, 4 - i);
+    public List<Card> getHandCards() {
+        if (handCards == null) {
+            int groups = switch (getHandType()) {
+                case HIGH_CARD, ONE_PAIR, THREE_OF_A_KIND, FOUR_OF_A_KIND -> 1;
+                case TWO_PAIRS -> 2;
+                default -> 0;
+            };
+            if (groups == 0) {
+                handCards = getCalculationCards();
+            } else {
+                int firstRank = HandStrength.rankAt(handValue, 0);
+                int secondRank = groups == 2 ? HandStrength.rankAt(handValue, 1) : firstRank;
+                handCards = getCalculationCards().stream()
+                        .filter(card -> card.rank().getValue() == firstRank || card.rank().getValue() == secondRank)
+                        .toList();
+            }
         }
-        return value;
+        return handCards;
     }
 
     /**
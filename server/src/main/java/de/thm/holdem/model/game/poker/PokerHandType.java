@@ -7,19 +7,22 @@ package de.thm.holdem.model.game.poker;
  * @version 1.0
  */
 public enum PokerHandType {
-    HIGH_CARD(0, "High Card"),
-    ONE_PAIR(1000000, "One Pair"),
-    TWO_PAIRS(2000000, "Two Pairs"),
-    THREE_OF_A_KIND(3000000, "Three of a Kind"),
-    STRAIGHT(4000000, "a Straight"),
-    FLUSH(5000000, "a Flush"),
-    FULL_HOUSE(6000000, "a Full House"),
-    FOUR_OF_A_KIND(7000000, "Four of a Kind"),
-    STRAIGHT_FLUSH(8000000, "a Straight Flush"),
-    ROYAL_FLUSH(9000000, "a Royal Flush"),
+    HIGH_CARD("High Card"),
+    ONE_PAIR("One Pair"),
+    TWO_PAIRS("Two Pairs"),
+    THREE_OF_A_KIND("Three of a Kind"),
+    STRAIGHT("a Straight"),
+    FLUSH("a Flush"),
+    FULL_HOUSE("a Full House"),
+    FOUR_OF_A_KIND("Four of a Kind"),
+    STRAIGHT_FLUSH("a Straight Flush"),
+    ROYAL_FLUSH("a Royal Flush"),
 
     ;
 
+    /** Cached values, to avoid a copy of the array on every lookup. */
+    private static final PokerHandType[] VALUES = values();
+
     /** The base value of the hand type. The value is chosen in a way that a higher hand type always has the higher value,
      * regardless of the specific cards*/
     private final int baseValue;
@@ -27,13 +30,23 @@ public enum PokerHandType {
     /** A string representation of the hand type to be shown to the client. */
     private final String prettyName;
 
-    PokerHandType(int baseValue, String prettyName) {
-        this.baseValue = baseValue;
+    PokerHandType(String prettyName) {
+        this.baseValue = ordinal() << HandStrength.TYPE_SHIFT;
         this.prettyName = prettyName;
     }
 
     /**
-     * Returns the base value of the hand type.
+     * Returns the hand type with the given ordinal.
+     *
+     * @param ordinal the ordinal of the hand type.
+     * @return the hand type.
+     */
+    public static PokerHandType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Returns the base value of the hand type, which is the lowest {@link HandStrength} of the type.
      *
      * @return the base value of the hand type.
      */
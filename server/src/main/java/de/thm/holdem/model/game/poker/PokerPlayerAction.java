@@ -37,6 +37,15 @@ public enum PokerPlayerAction {
         return stringValue;
     }
 
+    /**
+     * Returns the bit of the action in a bitmask of actions.
+     *
+     * @return the bit of the action.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
     /**
      * Method to get the action from a string.
      *
@@ -1,13 +1,17 @@
 package de.thm.holdem.model.game.poker;
 
 import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.utils.Chips;
 
-import java.math.BigInteger;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Represents a pot in a poker game.
+ *
+ * <p>
+ *     The size of the pot is kept up to date with every contribution. The players that can win the pot are stored
+ *     as a bitmask of their seats, which is set by the {@link SidePotBuilder} whenever the pots are built.
+ * </p>
  */
 public class Pot {
 
@@ -15,46 +19,55 @@ public class Pot {
     /**
      * Players that have contributed to this pot and the contribution.
      */
-    protected final Map<PokerPlayer, BigInteger> contributions;
+    protected final Map<PokerPlayer, Long> contributions;
+
+    /**
+     * The sum of all contributions.
+     */
+    private long potSize;
+
+    /**
+     * The seats of the players that have not folded and can win this pot.
+     */
+    private long eligiblePlayers;
 
     public Pot() {
         contributions = new HashMap<>();
+        potSize = Chips.ZERO;
     }
 
 
-    public BigInteger getPotSize() {
-        BigInteger totalPotSize = BigInteger.ZERO;
-        for (BigInteger contribution : contributions.values()) {
-            totalPotSize = totalPotSize.add(contribution);
-        }
-        return totalPotSize;
+    public long getPotSize() {
+        return potSize;
+    }
+
+    /**
+     * Returns the seats of the players that can win this pot.
+     *
+     * @return a bitmask with the bit of the seat of every eligible player set.
+     */
+    public long getEligiblePlayers() {
+        return eligiblePlayers;
     }
 
-    public PokerPlayer getAllInPlayerWithSmallestStack() {
-        // Filter out the allIn contributors
-        Map<PokerPlayer, BigInteger> allInContributors = contributions.entrySet().stream()
-                .filter(entry -> entry.getKey().isAllIn())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-        if (allInContributors.isEmpty()) {
-            // No allIn contributors
-            return null;
-        }
-
-        // Find the highest contribution amount
-        BigInteger highestContribution = allInContributors.values().stream()
-                .max(BigInteger::compareTo)
-                .orElse(BigInteger.ZERO);
-
-        // Find the allIn contributor with the least contribution
-        Optional<PokerPlayer> allInContributorWithLeastContribution = allInContributors.entrySet().stream()
-                .filter(entry -> entry.getValue().compareTo(highestContribution) < 0)
-                .map(Map.Entry::getKey)
-                .min(Comparator.comparing(contributions::get));
-
-        return allInContributorWithLeastContribution.orElse(null);
+    /**
+     * Sets the seats of the players that can win this pot.
+     *
+     * @param eligiblePlayers a bitmask with the bit of the seat of every eligible player set.
+     */
+    void setEligiblePlayers(long eligiblePlayers) {
+        this.eligiblePlayers = eligiblePlayers;
     }
 
+    /**
+     * Checks if a player can win this pot.
+     *
+     * @param player the player to check.
+     * @return true if the seat of the player is eligible, false otherwise.
+     */
+    public boolean isEligible(PokerPlayer player) {
+        return (eligiblePlayers & 1L << player.getSeat()) != 0;
+    }
 
 
     /**
@@ -71,59 +84,20 @@ public class Pot {
      *
      * @param player The player to add.
      */
-    public void addContributor(PokerPlayer player, BigInteger contribution) {
-        contributions.put(player, contribution);
-    }
-
-
-    public Set<PokerPlayer> getWinners() {
-
-        Set<PokerPlayer> contributors = getContributors();
-
-        // Find the highest handScore among contributors
-        int highestHandScore = contributors.stream()
-                .filter(player -> !player.isFolded())
-                .mapToInt(PokerPlayer::getHandScore)
-                .max()
-                .orElse(0);
-
-        // return players with the highest handScore and who have not folded
-        return contributors.stream()
-                .filter(player -> !player.isFolded() && player.getHandScore() == highestHandScore)
-                .collect(Collectors.toSet());
-    }
-
-
-
-    public Pot split(PokerPlayer allInPlayerWithSmallestStack) {
-        Pot sidePot = new Pot();
-        BigInteger allInContribution = getPlayerContribution(allInPlayerWithSmallestStack);
-        for (PokerPlayer player : contributions.keySet()) {
-            if (player.equals(allInPlayerWithSmallestStack)) continue;
-            BigInteger contribution = getPlayerContribution(player);
-            BigInteger remainder = contribution.subtract(allInContribution);
-            // if the player has fewer chips in the pot than the allIn player (can happen if the player has folded),
-            // his contributions stays in this pot, and he is not added to the side pot
-            if (remainder.compareTo(BigInteger.ZERO) <= 0) continue;
-
-            contributions.merge(player, remainder, BigInteger::subtract);
-
-            sidePot.addContributor(player, remainder);
-
-
-        }
-        return sidePot;
+    public void addContributor(PokerPlayer player, long contribution) {
+        Long previous = contributions.put(player, contribution);
+        potSize = Chips.add(Chips.subtract(potSize, previous == null ? Chips.ZERO : previous), contribution);
     }
 
 
-    public BigInteger getPlayerContribution(PokerPlayer player) {
-        return contributions.getOrDefault(player, BigInteger.ZERO);
+    public long getPlayerContribution(PokerPlayer player) {
+        return contributions.getOrDefault(player, Chips.ZERO);
     }
 
 
-    public void contribute(PokerPlayer player, BigInteger amount) {
-        BigInteger playerContribution = getPlayerContribution(player);
-        contributions.put(player, playerContribution.add(amount));
+    public void contribute(PokerPlayer player, long amount) {
+        contributions.merge(player, amount, Chips::add);
+        potSize = Chips.add(potSize, amount);
     }
 
     /**
@@ -131,6 +105,8 @@ public class Pot {
      */
     public void clear() {
         contributions.clear();
+        potSize = Chips.ZERO;
+        eligiblePlayers = 0L;
     }
 
 
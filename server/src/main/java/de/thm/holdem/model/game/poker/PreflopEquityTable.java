@@ -0,0 +1,175 @@
+package de.thm.holdem.model.game.poker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class to look up precomputed preflop all-in equities of the 169 {@link StartingHand} classes.
+ *
+ * <p>
+ *     The table is written once by the {@link PreflopEquityTableGenerator}, shipped as resource and mapped
+ *     read-only into memory when it is loaded, so all games share the same pages. Every equity is stored as an
+ *     unsigned 16-bit fraction and read with an absolute get, which neither allocates nor changes the state of the
+ *     buffer.
+ * </p>
+ *
+ * <p>
+ *     File layout: a header of 4 ints (magic, version, number of classes, maximum number of opponents), then the
+ *     heads-up equity of every class against every class, row by row, and finally the equity of every class against
+ *     1 up to the maximum number of random hands.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class PreflopEquityTable {
+
+    /** Marks a file as preflop equity table ("PFEQ"). */
+    private static final int MAGIC = 0x50464551;
+
+    /** The version of the file layout. */
+    private static final int VERSION = 1;
+
+    /** The size of the header in bytes. */
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    /** The value an equity of 1 is stored as. */
+    private static final double SCALE = Character.MAX_VALUE;
+
+    /** A table without any equities, used when no table file is available. */
+    public static final PreflopEquityTable EMPTY = new PreflopEquityTable(null, 0);
+
+    /** The mapped table, null for the empty table. */
+    private final ByteBuffer buffer;
+
+    /** The maximum number of random opponents with a stored equity. */
+    private final int maxOpponents;
+
+    private PreflopEquityTable(ByteBuffer buffer, int maxOpponents) {
+        this.buffer = buffer;
+        this.maxOpponents = maxOpponents;
+    }
+
+    /**
+     * Method to map a table file into memory.
+     *
+     * @param path the path of the table file.
+     * @return the loaded table.
+     * @throws IOException if the file can not be read or is no valid table.
+     */
+    public static PreflopEquityTable load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || buffer.getInt(8) != StartingHand.COUNT) {
+                throw new IOException("Invalid preflop equity table: " + path);
+            }
+            int maxOpponents = buffer.getInt(12);
+            if (buffer.limit() != size(maxOpponents)) {
+                throw new IOException("Invalid preflop equity table: " + path);
+            }
+            return new PreflopEquityTable(buffer, maxOpponents);
+        }
+    }
+
+    /**
+     * Method to write a table file.
+     *
+     * @param path the path of the table file.
+     * @param headsUp the heads-up equity of every class (first index) against every class (second index).
+     * @param versusRandom the equity of every class (first index) against 1 up to n random hands
+     *                     (second index, 0 for 1 hand).
+     * @throws IOException if the file can not be written.
+     */
+    public static void write(Path path, double[][] headsUp, double[][] versusRandom) throws IOException {
+        int maxOpponents = versusRandom[0].length;
+        ByteBuffer buffer = ByteBuffer.allocate(size(maxOpponents));
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(StartingHand.COUNT).putInt(maxOpponents);
+        for (int hand = 0; hand < StartingHand.COUNT; hand++) {
+            for (int opponent = 0; opponent < StartingHand.COUNT; opponent++) {
+                buffer.putChar(encode(headsUp[hand][opponent]));
+            }
+        }
+        for (int hand = 0; hand < StartingHand.COUNT; hand++) {
+            for (int opponents = 0; opponents < maxOpponents; opponents++) {
+                buffer.putChar(encode(versusRandom[hand][opponents]));
+            }
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, buffer.array());
+    }
+
+    /**
+     * Method to check whether the table holds any equities.
+     *
+     * @return true if a table file was loaded, false for the {@link #EMPTY} table.
+     */
+    public boolean isAvailable() {
+        return buffer != null;
+    }
+
+    /**
+     * Method to get the maximum number of random opponents with a stored equity.
+     *
+     * @return the maximum number of opponents, 0 for the {@link #EMPTY} table.
+     */
+    public int getMaxOpponents() {
+        return maxOpponents;
+    }
+
+    /**
+     * Method to look up the all-in equity of a starting hand against another one.
+     *
+     * @param hand the index of the starting hand class.
+     * @param opponent the index of the starting hand class of the opponent.
+     * @return the equity of the hand, ties counted as half.
+     * @throws IllegalStateException if the table is not available.
+     */
+    public double headsUp(int hand, int opponent) {
+        checkAvailable();
+        return decode(HEADER_BYTES + (hand * StartingHand.COUNT + opponent) * Character.BYTES);
+    }
+
+    /**
+     * Method to look up the all-in equity of a starting hand against random hands.
+     *
+     * @param hand the index of the starting hand class.
+     * @param opponents the number of opponents, from 1 up to {@link #getMaxOpponents()}.
+     * @return the equity of the hand, ties counted as the fraction of the pot.
+     * @throws IllegalStateException if the table is not available.
+     * @throws IllegalArgumentException if the number of opponents is not stored.
+     */
+    public double versusRandom(int hand, int opponents) {
+        checkAvailable();
+        if (opponents < 1 || opponents > maxOpponents) {
+            throw new IllegalArgumentException("No preflop equities stored for " + opponents + " opponents.");
+        }
+        int offset = HEADER_BYTES + StartingHand.COUNT * StartingHand.COUNT * Character.BYTES;
+        return decode(offset + (hand * maxOpponents + opponents - 1) * Character.BYTES);
+    }
+
+    private void checkAvailable() {
+        if (buffer == null) {
+            throw new IllegalStateException("No preflop equity table loaded.");
+        }
+    }
+
+    private double decode(int offset) {
+        return buffer.getChar(offset) / SCALE;
+    }
+
+    private static char encode(double equity) {
+        return (char) Math.round(Math.min(1, Math.max(0, equity)) * SCALE);
+    }
+
+    private static int size(int maxOpponents) {
+        return HEADER_BYTES
+                + (StartingHand.COUNT * StartingHand.COUNT + StartingHand.COUNT * maxOpponents) * Character.BYTES;
+    }
+}
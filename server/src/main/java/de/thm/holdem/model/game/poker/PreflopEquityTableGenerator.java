@@ -0,0 +1,185 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Offline generator of the {@link PreflopEquityTable}.
+ *
+ * <p>
+ *     The equities are sampled with a fixed seed per starting hand class, so running the generator twice with the
+ *     same arguments writes the same file. Run it with the {@code generatePreflopEquities} gradle task.
+ * </p>
+ *
+ * <p>
+ *     Arguments: the path of the table file, the number of samples per equity (default 20000) and the maximum
+ *     number of random opponents (default 8).
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Slf4j
+public final class PreflopEquityTableGenerator {
+
+    /** The number of cards on a complete board. */
+    private static final int BOARD_SIZE = 5;
+
+    private PreflopEquityTableGenerator() {
+    }
+
+    /**
+     * Method to generate the table file.
+     *
+     * @param args the path of the table file, the number of samples per equity and the maximum number of opponents.
+     * @throws IOException if the file can not be written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args.length > 0 ? args[0] : "src/main/resources/preflop-equity.bin");
+        int samples = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        int maxOpponents = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+        double[][] headsUp = new double[StartingHand.COUNT][StartingHand.COUNT];
+        double[][] versusRandom = new double[StartingHand.COUNT][maxOpponents];
+
+        IntStream.range(0, StartingHand.COUNT).parallel().forEach(hand -> {
+            SplittableRandom random = new SplittableRandom(hand);
+            // the table is symmetric, so each row only samples the opponents from the diagonal onwards
+            headsUp[hand][hand] = 0.5;
+            for (int opponent = hand + 1; opponent < StartingHand.COUNT; opponent++) {
+                headsUp[hand][opponent] = sampleHeadsUp(hand, opponent, samples, random);
+            }
+            for (int opponents = 1; opponents <= maxOpponents; opponents++) {
+                versusRandom[hand][opponents - 1] = sampleVersusRandom(hand, opponents, samples, random);
+            }
+        });
+        for (int hand = 0; hand < StartingHand.COUNT; hand++) {
+            for (int opponent = 0; opponent < hand; opponent++) {
+                headsUp[hand][opponent] = 1 - headsUp[opponent][hand];
+            }
+        }
+
+        PreflopEquityTable.write(path, headsUp, versusRandom);
+        log.info("Preflop equity table written to {}", path.toAbsolutePath());
+    }
+
+    /**
+     * Method to sample the all-in equity of a starting hand class against another one.
+     *
+     * @param hand the index of the starting hand class.
+     * @param opponent the index of the starting hand class of the opponent.
+     * @param samples the number of run-outs to sample.
+     * @param random the random generator.
+     * @return the equity of the hand, ties counted as half.
+     */
+    public static double sampleHeadsUp(int hand, int opponent, int samples, SplittableRandom random) {
+        long[] handCombos = StartingHand.combos(hand);
+        long[] opponentCombos = StartingHand.combos(opponent);
+        double share = 0;
+        for (int n = 0; n < samples; n++) {
+            long first;
+            long second;
+            do {
+                first = handCombos[random.nextInt(handCombos.length)];
+                second = opponentCombos[random.nextInt(opponentCombos.length)];
+            } while ((first & second) != 0);
+            long board = drawCards(first | second, BOARD_SIZE, random);
+            int strength = HandEvaluator.evaluate(first | board);
+            int opponentStrength = HandEvaluator.evaluate(second | board);
+            share += strength > opponentStrength ? 1 : strength == opponentStrength ? 0.5 : 0;
+        }
+        return share / samples;
+    }
+
+    /**
+     * Method to sample the all-in equity of a starting hand class against random hands.
+     *
+     * @param hand the index of the starting hand class.
+     * @param opponents the number of random opponents.
+     * @param samples the number of run-outs to sample.
+     * @param random the random generator.
+     * @return the equity of the hand, ties counted as the fraction of the pot.
+     */
+    public static double sampleVersusRandom(int hand, int opponents, int samples, SplittableRandom random) {
+        long[] handCombos = StartingHand.combos(hand);
+        long[] opponentCards = new long[opponents];
+        double share = 0;
+        for (int n = 0; n < samples; n++) {
+            share += sampleShare(handCombos[random.nextInt(handCombos.length)], CardSet.EMPTY, opponentCards, random);
+        }
+        return share / samples;
+    }
+
+    /**
+     * Method to sample the all-in equity of hole cards against random hands on a partial board.
+     *
+     * @param holeCards the {@link CardSet} of the 2 hole cards.
+     * @param board the {@link CardSet} of the community cards that are already dealt.
+     * @param opponents the number of random opponents.
+     * @param samples the number of run-outs to sample.
+     * @param random the random generator.
+     * @return the equity of the hole cards, ties counted as the fraction of the pot.
+     */
+    public static double sampleVersusRandom(long holeCards, long board, int opponents, int samples,
+                                            SplittableRandom random) {
+        long[] opponentCards = new long[opponents];
+        double share = 0;
+        for (int n = 0; n < samples; n++) {
+            share += sampleShare(holeCards, board, opponentCards, random);
+        }
+        return share / samples;
+    }
+
+    /**
+     * Method to sample one run-out against random hands.
+     *
+     * @param opponentCards the array the random hands are drawn into, one per opponent.
+     * @return the share of the pot the hole cards win.
+     */
+    private static double sampleShare(long holeCards, long board, long[] opponentCards, SplittableRandom random) {
+        long used = holeCards | board;
+        for (int i = 0; i < opponentCards.length; i++) {
+            opponentCards[i] = drawCards(used, 2, random);
+            used |= opponentCards[i];
+        }
+        long runOut = board | drawCards(used, BOARD_SIZE - CardSet.size(board), random);
+
+        int strength = HandEvaluator.evaluate(holeCards | runOut);
+        int ties = 1;
+        for (long cards : opponentCards) {
+            int opponentStrength = HandEvaluator.evaluate(cards | runOut);
+            if (opponentStrength > strength) {
+                return 0;
+            }
+            if (opponentStrength == strength) {
+                ties++;
+            }
+        }
+        return 1.0 / ties;
+    }
+
+    /**
+     * Method to draw random cards that are not used yet.
+     *
+     * @param used the {@link CardSet} of the cards that are already used.
+     * @param count the number of cards to draw.
+     * @param random the random generator.
+     * @return the {@link CardSet} of the drawn cards.
+     */
+    private static long drawCards(long used, int count, SplittableRandom random) {
+        long drawn = CardSet.EMPTY;
+        while (CardSet.size(drawn) < count) {
+            int card = random.nextInt(Card.COUNT);
+            if (!CardSet.contains(used | drawn, card)) {
+                drawn = CardSet.add(drawn, card);
+            }
+        }
+        return drawn;
+    }
+}
@@ -0,0 +1,239 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.player.PokerPlayer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The seats of a poker table.
+ *
+ * <p>
+ *     The players sit in a fixed-size array and the state of every seat is kept in bitmasks, one bit per seat.
+ *     The masks are updated whenever a player acts, so finding the next player to act and counting the players
+ *     that are still in the hand, all-in or have matched the current bet are a few bit operations.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public class SeatRing {
+
+    /** The players on the seats, null if a seat is free. */
+    private final PokerPlayer[] seats;
+
+    /** The players by their id. */
+    private final Map<String, PokerPlayer> players;
+
+    /** The seats that are taken. */
+    private long occupied;
+
+    /** The seats of players that do not take part in the hand. */
+    private long spectators;
+
+    /** The seats of players that have folded. */
+    private long folded;
+
+    /** The seats of players that are all-in. */
+    private long allIn;
+
+    /** The seats of players whose bet matches the current bet. */
+    private long matched;
+
+    /** The current bet the {@link #matched} seats refer to. */
+    private long currentBet;
+
+    /**
+     * Constructor to create the seats of a table.
+     *
+     * @param size the number of seats.
+     * @throws IllegalArgumentException if the size does not fit into a bitmask.
+     */
+    public SeatRing(int size) {
+        if (size < 1 || size > Long.SIZE) {
+            throw new IllegalArgumentException("A table has between 1 and " + Long.SIZE + " seats.");
+        }
+        this.seats = new PokerPlayer[size];
+        this.players = new HashMap<>(size * 2);
+    }
+
+    /**
+     * Method to seat a player on the lowest free seat.
+     *
+     * @param player the player to seat.
+     * @return the seat of the player.
+     * @throws IllegalStateException if all seats are taken.
+     */
+    public int sit(PokerPlayer player) {
+        int seat = Long.numberOfTrailingZeros(~occupied);
+        if (seat >= seats.length) {
+            throw new IllegalStateException("All seats are taken.");
+        }
+        player.setSeat(seat);
+        seats[seat] = player;
+        players.put(player.getId(), player);
+        occupied |= 1L << seat;
+        update(player);
+        return seat;
+    }
+
+    /**
+     * Method to remove a player from his seat.
+     *
+     * @param player the player to remove.
+     */
+    public void leave(PokerPlayer player) {
+        int seat = player.getSeat();
+        if (seats[seat] != player) {
+            return;
+        }
+        long bit = 1L << seat;
+        seats[seat] = null;
+        players.remove(player.getId());
+        occupied &= ~bit;
+        spectators &= ~bit;
+        folded &= ~bit;
+        allIn &= ~bit;
+        matched &= ~bit;
+    }
+
+    /**
+     * Method to get a player by his id.
+     *
+     * @param id the id of the player.
+     * @return the player or null if no player with the id is seated.
+     */
+    public PokerPlayer get(String id) {
+        return players.get(id);
+    }
+
+    /**
+     * Method to get the player on a seat.
+     *
+     * @param seat the seat.
+     * @return the player or null if the seat is free.
+     */
+    public PokerPlayer at(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * Method to start a new hand, the state of every seat is read from its player again.
+     *
+     * @param currentBet the current bet at the start of the hand.
+     */
+    public void startHand(long currentBet) {
+        this.currentBet = currentBet;
+        spectators = 0L;
+        folded = 0L;
+        allIn = 0L;
+        matched = 0L;
+        long seated = occupied;
+        while (seated != 0) {
+            update(seats[Long.numberOfTrailingZeros(seated)]);
+            seated &= seated - 1;
+        }
+    }
+
+    /**
+     * Method to update the state of the seat of a player after he acted.
+     *
+     * @param player the player that acted.
+     * @param currentBet the current bet of the table after the action.
+     */
+    public void update(PokerPlayer player, long currentBet) {
+        if (currentBet != this.currentBet) {
+            // only the player that raised can have matched a new bet
+            this.currentBet = currentBet;
+            matched = 0L;
+        }
+        update(player);
+    }
+
+    private void update(PokerPlayer player) {
+        long bit = 1L << player.getSeat();
+        spectators = player.isSpectator() ? spectators | bit : spectators & ~bit;
+        folded = player.isFolded() ? folded | bit : folded & ~bit;
+        allIn = player.isAllIn() ? allIn | bit : allIn & ~bit;
+        matched = player.getCurrentBet() == currentBet ? matched | bit : matched & ~bit;
+    }
+
+    /**
+     * Returns the seats of players that take part in the hand and have not folded.
+     *
+     * @return the seats as bitmask.
+     */
+    public long getLive() {
+        return occupied & ~spectators & ~folded;
+    }
+
+    /**
+     * Returns the seats of players that can still act in this hand.
+     *
+     * @return the seats as bitmask.
+     */
+    public long getActing() {
+        return getLive() & ~allIn;
+    }
+
+    /**
+     * Returns the seats of players that take part in the hand, folded or not.
+     *
+     * @return the seats as bitmask.
+     */
+    public long getPlaying() {
+        return occupied & ~spectators;
+    }
+
+    /**
+     * Returns the seats of players that are all-in and have not folded.
+     *
+     * @return the seats as bitmask.
+     */
+    public long getAllIn() {
+        return getLive() & allIn;
+    }
+
+    /**
+     * Method to count the players that have not folded and have matched the current bet or are all-in.
+     *
+     * @return the number of players.
+     */
+    public int countCalled() {
+        return Long.bitCount(getLive() & (matched | allIn));
+    }
+
+    /**
+     * Method to count the players that are all-in and have not folded.
+     *
+     * @return the number of players.
+     */
+    public int countAllIn() {
+        return Long.bitCount(getAllIn());
+    }
+
+    /**
+     * Method to count the players that take part in the hand.
+     *
+     * @return the number of players.
+     */
+    public int countPlaying() {
+        return Long.bitCount(getPlaying());
+    }
+
+    /**
+     * Method to find the next player clockwise from a seat.
+     *
+     * @param seat the seat to start from, it is only returned if no other seat is in the mask.
+     * @param mask the seats that can be returned.
+     * @return the player on the next seat in the mask or null if the mask is empty.
+     */
+    public PokerPlayer next(int seat, long mask) {
+        mask &= occupied;
+        if (mask == 0) {
+            return null;
+        }
+        long after = seat + 1 >= Long.SIZE ? 0L : mask & -1L << seat + 1;
+        return seats[Long.numberOfTrailingZeros(after != 0 ? after : mask)];
+    }
+}
@@ -0,0 +1,180 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.utils.Chips;
+
+import java.util.List;
+
+/**
+ * The showdown of a hand.
+ *
+ * <p>
+ *     The players that are still in the hand are ranked once by the strength of their hands. Players with equal
+ *     strength share a rank, and the seats of every rank are kept as bitmask. Each pot goes to the best rank that
+ *     has an eligible seat, so a pot is awarded with a few bit operations. Chips that can not be split evenly go
+ *     one by one to the winners in seat order, starting left of the dealer. The same ranking decides which
+ *     players have to show their cards.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public class Showdown {
+
+    /** The number of seats a bitmask can hold. */
+    private static final int SEATS = Long.SIZE;
+
+    /** The seats of the players of every rank, the best rank first. */
+    private final long[] ranks;
+
+    /** The number of ranks. */
+    private final int rankCount;
+
+    /** The rank of the player on every seat. */
+    private final int[] rankOfSeat;
+
+    /** The player on every seat. */
+    private final PokerPlayer[] players;
+
+    /**
+     * Constructor to rank the players that are still in the hand.
+     *
+     * @param livePlayers the players that have not folded.
+     */
+    public Showdown(List<PokerPlayer> livePlayers) {
+        int count = livePlayers.size();
+        PokerPlayer[] sorted = new PokerPlayer[count];
+        int[] scores = new int[count];
+        players = new PokerPlayer[SEATS];
+        for (int n = 0; n < count; n++) {
+            // insertion sort by hand score, the best hand first
+            PokerPlayer player = livePlayers.get(n);
+            int score = player.getHandScore();
+            int i = n;
+            while (i > 0 && scores[i - 1] < score) {
+                sorted[i] = sorted[i - 1];
+                scores[i] = scores[i - 1];
+                i--;
+            }
+            sorted[i] = player;
+            scores[i] = score;
+            players[player.getSeat()] = player;
+        }
+
+        ranks = new long[count];
+        rankOfSeat = new int[SEATS];
+        int rank = -1;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || scores[i] != scores[i - 1]) {
+                rank++;
+            }
+            ranks[rank] |= 1L << sorted[i].getSeat();
+            rankOfSeat[sorted[i].getSeat()] = rank;
+        }
+        rankCount = rank + 1;
+    }
+
+    /**
+     * Returns the rank of a player, the best hand has rank 0.
+     *
+     * @param player a player that is still in the hand.
+     * @return the rank of the player.
+     */
+    public int getRank(PokerPlayer player) {
+        return rankOfSeat[player.getSeat()];
+    }
+
+    /**
+     * Method to award all pots to their winners.
+     *
+     * <p>
+     *     The chips each winner gets from all pots are added to his stack and set as his pot share.
+     * </p>
+     *
+     * @param pots the main pot and the side pots.
+     * @param dealerSeat the seat of the dealer, odd chips go to the first winner left of him.
+     */
+    public void awardPots(List<Pot> pots, int dealerSeat) {
+        if (rankCount == 0) {
+            return;
+        }
+        long[] winnings = new long[SEATS];
+        long allWinners = 0L;
+        // seats left of the dealer come first, the seats up to the dealer follow
+        long leftOfDealer = dealerSeat + 1 >= SEATS ? 0L : -1L << dealerSeat + 1;
+        for (Pot pot : pots) {
+            long potSize = pot.getPotSize();
+            if (potSize == Chips.ZERO) {
+                continue;
+            }
+            long winners = findWinners(pot.getEligiblePlayers());
+            allWinners |= winners;
+            int winnerCount = Long.bitCount(winners);
+            long share = potSize / winnerCount;
+            long remainder = potSize % winnerCount;
+
+            long seats = winners;
+            while (seats != 0) {
+                int seat = Long.numberOfTrailingZeros(seats);
+                winnings[seat] = Chips.add(winnings[seat], share);
+                seats &= seats - 1;
+            }
+            long oddChipSeats = (winners & leftOfDealer) != 0 ? winners & leftOfDealer : winners;
+            for (long chip = 0; chip < remainder; chip++) {
+                int seat = Long.numberOfTrailingZeros(oddChipSeats);
+                winnings[seat]++;
+                oddChipSeats &= oddChipSeats - 1;
+                if (oddChipSeats == 0) {
+                    oddChipSeats = winners & ~leftOfDealer;
+                }
+            }
+        }
+
+        while (allWinners != 0) {
+            int seat = Long.numberOfTrailingZeros(allWinners);
+            players[seat].win(winnings[seat]);
+            players[seat].setPotShare(winnings[seat]);
+            allWinners &= allWinners - 1;
+        }
+    }
+
+    /**
+     * Method to decide which players have to show their cards.
+     *
+     * <p>
+     *     All-in players always show. Every other player only shows if his hand is at least as good as every hand
+     *     shown before him, otherwise he mucks.
+     * </p>
+     *
+     * @param showdownOrder the players in the order they show their cards.
+     */
+    public void revealHands(List<PokerPlayer> showdownOrder) {
+        int bestRank = Integer.MAX_VALUE;
+        for (PokerPlayer player : showdownOrder) {
+            if (player.isAllIn()) {
+                player.mustShowCards(true);
+            }
+            int rank = getRank(player);
+            if (rank <= bestRank) {
+                bestRank = rank;
+                player.mustShowCards(true);
+            }
+        }
+    }
+
+    /**
+     * Finds the best rank with an eligible seat.
+     *
+     * @return the seats of the winners.
+     */
+    private long findWinners(long eligiblePlayers) {
+        for (int rank = 0; rank < rankCount; rank++) {
+            long winners = ranks[rank] & eligiblePlayers;
+            if (winners != 0) {
+                return winners;
+            }
+        }
+        // nobody that paid into the pot is left, so it goes to the best hand
+        return ranks[0];
+    }
+}
@@ -0,0 +1,117 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.utils.Chips;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the main pot and the side pots of a hand.
+ *
+ * <p>
+ *     New bets always go into the last pot. When a betting round ends, the contributions to the last pot are sorted
+ *     once and every distinct contribution of an all-in player below the highest contribution becomes a level.
+ *     A single sweep over the levels then cuts the last pot into one pot per level and a pot for everything above
+ *     the highest level, which stays open for the next betting round. A player contributes to every pot up to his
+ *     own contribution and can win every pot he has fully paid into, unless he has folded.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class SidePotBuilder {
+
+    private SidePotBuilder() {
+    }
+
+    /**
+     * Method to split the last pot at the all-in levels and update the eligible players of all pots.
+     *
+     * @param pots the pots of the hand, the side pots are appended to this list.
+     */
+    public static void build(List<Pot> pots) {
+        if (pots.isEmpty()) {
+            return;
+        }
+        // players that folded after the earlier pots were closed can no longer win them
+        for (int i = 0; i < pots.size() - 1; i++) {
+            Pot pot = pots.get(i);
+            pot.setEligiblePlayers(pot.getEligiblePlayers() & ~foldedPlayers(pot));
+        }
+
+        Pot openPot = pots.get(pots.size() - 1);
+        int count = openPot.contributions.size();
+        if (count == 0) {
+            openPot.setEligiblePlayers(0L);
+            return;
+        }
+        PokerPlayer[] players = new PokerPlayer[count];
+        long[] amounts = new long[count];
+        int n = 0;
+        for (Map.Entry<PokerPlayer, Long> entry : openPot.contributions.entrySet()) {
+            // insertion sort by contribution, there are never more players than seats at the table
+            long amount = entry.getValue();
+            int i = n++;
+            while (i > 0 && amounts[i - 1] > amount) {
+                players[i] = players[i - 1];
+                amounts[i] = amounts[i - 1];
+                i--;
+            }
+            players[i] = entry.getKey();
+            amounts[i] = amount;
+        }
+
+        long highest = amounts[count - 1];
+        openPot.clear();
+        Pot pot = openPot;
+        long previousLevel = Chips.ZERO;
+        int first = 0;
+        while (true) {
+            long level = nextLevel(players, amounts, first, highest);
+            long eligible = 0L;
+            for (int i = first; i < count; i++) {
+                long contribution = Chips.subtract(Math.min(amounts[i], level), previousLevel);
+                pot.addContributor(players[i], contribution);
+                if (amounts[i] >= level && !players[i].isFolded()) {
+                    eligible |= 1L << players[i].getSeat();
+                }
+            }
+            pot.setEligiblePlayers(eligible);
+            if (level == highest) {
+                return;
+            }
+            // players that have paid no more than this level do not take part in the next pot
+            while (amounts[first] <= level) {
+                first++;
+            }
+            previousLevel = level;
+            pot = new Pot();
+            pots.add(pot);
+        }
+    }
+
+    /**
+     * Finds the smallest contribution of an all-in player from the given position on.
+     *
+     * @return the contribution or the highest contribution, if no player with a smaller contribution is all-in.
+     */
+    private static long nextLevel(PokerPlayer[] players, long[] amounts, int first, long highest) {
+        for (int i = first; i < players.length && amounts[i] < highest; i++) {
+            if (players[i].isAllIn()) {
+                return amounts[i];
+            }
+        }
+        return highest;
+    }
+
+    private static long foldedPlayers(Pot pot) {
+        long folded = 0L;
+        for (PokerPlayer player : pot.getContributors()) {
+            if (player.isFolded()) {
+                folded |= 1L << player.getSeat();
+            }
+        }
+        return folded;
+    }
+}
@@ -0,0 +1,105 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+
+/**
+ * Utility class to map two hole cards to one of the 169 classes of starting hands.
+ *
+ * <p>
+ *     The classes form a 13x13 grid of ranks: pairs lie on the diagonal, suited hands use the higher rank as row and
+ *     offsuit hands use the lower rank as row. The index of a class is {@code row * 13 + column}.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class StartingHand {
+
+    /** The number of starting hand classes. */
+    public static final int COUNT = Rank.COUNT * Rank.COUNT;
+
+    private StartingHand() {
+    }
+
+    /**
+     * Method to get the class of two hole cards.
+     *
+     * @param first the first hole card.
+     * @param second the second hole card.
+     * @return the index of the starting hand class.
+     */
+    public static int indexOf(Card first, Card second) {
+        return indexOf(first.index(), second.index());
+    }
+
+    /**
+     * Method to get the class of two hole cards.
+     *
+     * @param holeCards the {@link CardSet} of exactly two hole cards.
+     * @return the index of the starting hand class.
+     */
+    public static int indexOf(long holeCards) {
+        int first = CardSet.first(holeCards);
+        return indexOf(first, CardSet.first(holeCards & ~CardSet.of(first)));
+    }
+
+    /**
+     * Method to get the class of two hole cards.
+     *
+     * @param first the index of the first hole card.
+     * @param second the index of the second hole card.
+     * @return the index of the starting hand class.
+     */
+    public static int indexOf(int first, int second) {
+        int high = Math.max(Card.rankIndex(first), Card.rankIndex(second));
+        int low = Math.min(Card.rankIndex(first), Card.rankIndex(second));
+        boolean suited = Card.suitIndex(first) == Card.suitIndex(second);
+        return suited ? high * Rank.COUNT + low : low * Rank.COUNT + high;
+    }
+
+    /**
+     * Method to check whether a class stands for a pair.
+     *
+     * @param index the index of the starting hand class.
+     * @return true if both cards have the same rank.
+     */
+    public static boolean isPair(int index) {
+        return index / Rank.COUNT == index % Rank.COUNT;
+    }
+
+    /**
+     * Method to check whether a class stands for suited cards.
+     *
+     * @param index the index of the starting hand class.
+     * @return true if both cards have the same suit.
+     */
+    public static boolean isSuited(int index) {
+        return index / Rank.COUNT > index % Rank.COUNT;
+    }
+
+    /**
+     * Method to get all combinations of hole cards of a class.
+     *
+     * @param index the index of the starting hand class.
+     * @return the {@link CardSet} of each combination, 6 for a pair, 4 for suited and 12 for offsuit hands.
+     */
+    public static long[] combos(int index) {
+        int high = Math.max(index / Rank.COUNT, index % Rank.COUNT);
+        int low = Math.min(index / Rank.COUNT, index % Rank.COUNT);
+        long[] combos = new long[isPair(index) ? 6 : isSuited(index) ? 4 : 12];
+        int count = 0;
+        for (int firstSuit = 0; firstSuit < Suit.COUNT; firstSuit++) {
+            for (int secondSuit = 0; secondSuit < Suit.COUNT; secondSuit++) {
+                boolean valid = isPair(index) ? firstSuit < secondSuit
+                        : isSuited(index) == (firstSuit == secondSuit);
+                if (valid) {
+                    combos[count++] = CardSet.of(Card.indexOf(high, firstSuit)) | CardSet.of(Card.indexOf(low, secondSuit));
+                }
+            }
+        }
+        return combos;
+    }
+}
@@ -1,9 +1,9 @@
 package de.thm.holdem.model.player;
 
 import de.thm.holdem.exception.GameActionException;
+import de.thm.holdem.utils.Chips;
 import lombok.Getter;
 
-import java.math.BigInteger;
 import java.util.Objects;
 
 /**
@@ -25,13 +25,13 @@ public abstract class Player {
     protected final String avatar;
 
     /** The bankroll of the player. */
-    protected BigInteger bankroll;
+    protected long bankroll;
 
     /** The amount of chips the player can play with in the current game. */
-    protected BigInteger chips;
+    protected long chips;
 
     /** The amount of chips the player has bet in the current round. */
-    protected BigInteger currentBet;
+    protected long currentBet;
 
     /**
      * Constructor to create a player.
@@ -41,16 +41,16 @@ public abstract class Player {
      * @param avatar the avatar of the player.
      * @param bankroll the bankroll of the player.
      */
-    Player(String id, String alias, String avatar, BigInteger bankroll) {
+    Player(String id, String alias, String avatar, long bankroll) {
         this.id = id;
         this.alias = alias;
         this.avatar = avatar;
         this.bankroll = bankroll;
-        this.chips = BigInteger.ZERO;
-        this.currentBet = BigInteger.ZERO;
+        this.chips = Chips.ZERO;
+        this.currentBet = Chips.ZERO;
     }
 
-    public void setCurrentBet(BigInteger amount) {
+    public void setCurrentBet(long amount) {
         this.currentBet = amount;
     }
 
@@ -60,8 +60,8 @@ public abstract class Player {
      *
      * @param amount the amount of chips to add
      */
-    void addToBankroll(BigInteger amount) {
-        bankroll = bankroll.add(amount);
+    void addToBankroll(long amount) {
+        bankroll = Chips.add(bankroll, amount);
     }
 
     /**
@@ -69,8 +69,8 @@ public abstract class Player {
      *
      * @param amount the amount of chips to remove
      */
-    public void removeFromBankroll(BigInteger amount) {
-        bankroll = bankroll.subtract(amount);
+    public void removeFromBankroll(long amount) {
+        bankroll = Chips.subtract(bankroll, amount);
     }
 
     /**
@@ -82,9 +82,9 @@ public abstract class Player {
      *
      * @return the remaining bankroll after the leave.
      */
-    public BigInteger leaveGame() {
+    public long leaveGame() {
         addToBankroll(chips);
-        chips = BigInteger.ZERO;
+        chips = Chips.ZERO;
         reset();
         return bankroll;
     }
@@ -99,7 +99,7 @@ public abstract class Player {
      * @param buyIn the amount of chips to buy in.
      * @return the remaining bankroll after the buy in.
      */
-    public BigInteger joinGame(BigInteger buyIn) {
+    public long joinGame(long buyIn) {
         chips = buyIn;
         removeFromBankroll(buyIn);
         reset();
@@ -114,7 +114,7 @@ public abstract class Player {
      * </p>
      */
     public void reset() {
-        this.currentBet = BigInteger.ZERO;
+        this.currentBet = Chips.ZERO;
     }
 
     /**
@@ -122,8 +122,8 @@ public abstract class Player {
      *
      * @param amount the amount of chips to add
      */
-    public void win(BigInteger amount) {
-        chips = chips.add(amount);
+    public void win(long amount) {
+        chips = Chips.add(chips, amount);
     }
 
     /**
@@ -135,15 +135,15 @@ public abstract class Player {
      *
      * @param amount the amount of chips to bet
      */
-    public void bet(BigInteger amount) throws GameActionException {
-        if (amount.compareTo(BigInteger.ZERO) <= 0) {
+    public void bet(long amount) throws GameActionException {
+        if (amount <= 0) {
             throw new GameActionException("Bet amount has to be greater than 0.");
         }
-        if (amount.compareTo(chips) > 0) {
+        if (amount > chips) {
             throw new GameActionException("Not enough chips to bet.");
         }
-        chips = chips.subtract(amount);
-        currentBet = currentBet.add(amount);
+        chips = Chips.subtract(chips, amount);
+        currentBet = Chips.add(currentBet, amount);
     }
 
     /**
@@ -2,13 +2,16 @@ package de.thm.holdem.model.player;
 
 import de.thm.holdem.exception.GameActionException;
 import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.game.poker.AllowedActions;
+import de.thm.holdem.model.game.poker.EquityResult;
 import de.thm.holdem.model.game.poker.PokerHand;
+import de.thm.holdem.model.game.poker.PokerHandResult;
 import de.thm.holdem.model.game.poker.PokerPlayerAction;
+import de.thm.holdem.utils.Chips;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,9 +36,9 @@ public class PokerPlayer extends Player {
     @Accessors(fluent = true)
     private boolean isFolded;
 
-    /** A list of actions the player is allowed to perform */
-    @Getter
-    private final List<PokerPlayerAction> allowedActions;
+    /** The actions the player is allowed to perform */
+    @Setter
+    private AllowedActions allowedActions;
 
     /** Indicates if the player must show his cards when the round ends. */
     @Setter
@@ -44,7 +47,19 @@ public class PokerPlayer extends Player {
 
     /** The share of the pot the player will get */
     @Setter
-    private BigInteger potShare;
+    private long potShare;
+
+    /** The exact equity of the player, only calculated when all remaining players are all-in */
+    @Setter
+    private EquityResult.Equity equity;
+
+    /** The seat of the player at the table, assigned when he joins a game */
+    @Setter
+    private int seat;
+
+    /** The milliseconds the player can take in addition to the time per move, used up over the whole game */
+    @Setter
+    private long timeBank;
 
     /** The current {@link PokerHand} of the player */
     private final PokerHand hand;
@@ -57,12 +72,12 @@ public class PokerPlayer extends Player {
      * @param avatar the avatar of the player.
      * @param bankroll the bankroll of the player.
      */
-    public PokerPlayer(String id, String alias, String avatar, BigInteger bankroll) {
+    public PokerPlayer(String id, String alias, String avatar, long bankroll) {
         super(id, alias, avatar, bankroll);
         this.holeCards = new ArrayList<>(2);
         this.isFolded = false;
-        this.allowedActions = new ArrayList<>();
-        this.potShare = BigInteger.ZERO;
+        this.allowedActions = AllowedActions.NONE;
+        this.potShare = Chips.ZERO;
         this.hand = new PokerHand();
     }
 
@@ -73,7 +88,7 @@ public class PokerPlayer extends Player {
      * @return true if the player is allowed to perform the action, false otherwise.
      */
     public boolean canDoAction(PokerPlayerAction allowedAction) {
-        return this.allowedActions.contains(allowedAction);
+        return allowedActions.contains(allowedAction);
     }
 
     /**
@@ -102,15 +117,16 @@ public class PokerPlayer extends Player {
      *
      * <p>
      *     If the player has folded or is a spectator, the score will be 0.
+     *     The score is read from the running state of the hand, so no {@link PokerHandResult} is created.
      * </p>
      *
      * @return the players hand score.
      */
     public int getHandScore() {
-        if (hand.getHandResult() == null || isFolded || isSpectator()) {
+        if (isFolded || isSpectator()) {
             return 0;
         }
-        return hand.getHandResult().getHandValue();
+        return hand.getStrength();
     }
 
     /**
@@ -123,10 +139,10 @@ public class PokerPlayer extends Player {
      *
      * @param bigBlind the amount of the big blind.
      */
-    public void payBigBlind(BigInteger bigBlind) {
+    public void payBigBlind(long bigBlind) {
         lastAction = PokerPlayerAction.BIG_BLIND;
-        chips = chips.subtract(bigBlind);
-        currentBet = currentBet.add(bigBlind);
+        chips = Chips.subtract(chips, bigBlind);
+        currentBet = Chips.add(currentBet, bigBlind);
     }
 
     /**
@@ -139,10 +155,10 @@ public class PokerPlayer extends Player {
      *
      * @param smallBlind the amount of the small blind.
      */
-    public void paySmallBlind(BigInteger smallBlind) {
+    public void paySmallBlind(long smallBlind) {
         lastAction = PokerPlayerAction.SMALL_BLIND;
-        chips = chips.subtract(smallBlind);
-        currentBet = currentBet.add(smallBlind);
+        chips = Chips.subtract(chips, smallBlind);
+        currentBet = Chips.add(currentBet, smallBlind);
     }
 
     /**
@@ -155,26 +171,17 @@ public class PokerPlayer extends Player {
      *
      * @param bet the amount needed to call the bet.
      */
-    public void call(BigInteger bet) {
+    public void call(long bet) {
         lastAction = PokerPlayerAction.CALL;
-        chips = chips.subtract(bet);
-        currentBet = currentBet.add(bet);
+        chips = Chips.subtract(chips, bet);
+        currentBet = Chips.add(currentBet, bet);
     }
 
     /**
      *  Method to clear all allowed actions.
      */
     public void clearAllowedActions() {
-        this.allowedActions.clear();
-    }
-
-    /**
-     * Method to add an action the player is allowed to perform.
-     *
-     * @param action the action to be added.
-     */
-    public void addAllowedAction(PokerPlayerAction action) {
-        this.allowedActions.add(action);
+        this.allowedActions = AllowedActions.NONE;
     }
 
     /**
@@ -195,7 +202,7 @@ public class PokerPlayer extends Player {
 
     /** Indicates if the player is not participating anymore but still in the game (e.g. no cash left) */
     public boolean isSpectator() {
-        return holeCards.size() == 0 && chips.equals(BigInteger.ZERO);
+        return holeCards.size() == 0 && chips == Chips.ZERO;
     }
 
 
@@ -209,7 +216,7 @@ public class PokerPlayer extends Player {
      * @return true if the player is all in, false otherwise
      */
     public boolean isAllIn() {
-        return holeCards.size() > 0 && chips.equals(BigInteger.ZERO);
+        return holeCards.size() > 0 && chips == Chips.ZERO;
     }
 
     /**
@@ -233,9 +240,10 @@ public class PokerPlayer extends Player {
         this.isFolded = false;
         this.lastAction = null;
         this.holeCards.clear();
-        this.allowedActions.clear();
+        this.allowedActions = AllowedActions.NONE;
         this.mustShowCards = false;
-        this.potShare = BigInteger.ZERO;
+        this.potShare = Chips.ZERO;
+        this.equity = null;
         this.hand.reset();
     }
 
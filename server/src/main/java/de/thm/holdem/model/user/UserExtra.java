@@ -4,7 +4,6 @@ import lombok.Data;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.math.BigInteger;
 import java.util.Objects;
 
 /**
@@ -28,7 +27,7 @@ public class UserExtra {
     private String avatar;
 
     /** The bankroll of the user. */
-    private BigInteger bankroll;
+    private long bankroll;
 
     /** The game the user is currently playing. */
     private String activeGameId;
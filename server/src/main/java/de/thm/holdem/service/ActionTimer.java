@@ -0,0 +1,166 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.model.game.GameStatus;
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameEvent;
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.settings.PokerGameSettings;
+import de.thm.holdem.utils.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class enforces the time a player has for his turn.
+ *
+ * <p>
+ *     The deadlines of all tables share a single {@link TimingWheel}, so arming and cancelling a deadline is O(1)
+ *     and no thread is needed per table. When the time per move is up, the time bank of the player is used if he
+ *     has any left. When that is used up as well, the player checks if he is allowed to, otherwise he folds. The
+ *     forced action is performed in the mailbox of the table like an action of the player.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class ActionTimer {
+
+    /** The duration of a tick of the timing wheel in milliseconds. */
+    private static final long TICK_DURATION = 100;
+
+    /** The number of buckets of the timing wheel, a rotation covers a little more than 50 seconds. */
+    private static final int TICKS_PER_WHEEL = 512;
+
+    /**
+     * The running turn of a table.
+     *
+     * @param turn the number of the turn.
+     * @param playerId the id of the player whose turn it is.
+     * @param timeout the deadline of the turn.
+     * @param bankStartedAt the time the player started to use his time bank in milliseconds, 0 if he does not.
+     */
+    private record Turn(int turn, String playerId, TimingWheel.Timeout timeout, long bankStartedAt) {
+    }
+
+    private final GameExecutor gameExecutor;
+
+    private final PokerGameSettings settings;
+
+    private final TimingWheel timingWheel;
+
+    /** The running turns by the id of their table. */
+    private final Map<String, Turn> turns = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to create the timer and start its timing wheel.
+     *
+     * @param gameExecutor the executor of the table mailboxes.
+     * @param settings the settings with the time per move.
+     */
+    public ActionTimer(GameExecutor gameExecutor, PokerGameSettings settings) {
+        this.gameExecutor = gameExecutor;
+        this.settings = settings;
+        // the wheel only hands the expired turns over to the mailboxes, so it runs them on its own thread
+        this.timingWheel = new TimingWheel(TICK_DURATION, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL, Runnable::run,
+                "action-timer");
+    }
+
+    /**
+     * Method to arm the deadline of a turn, must be called in the mailbox of the table.
+     *
+     * @param game the game.
+     * @param event the event of the started turn.
+     */
+    public void startTurn(PokerGame game, PokerGameEvent.TurnStarted event) {
+        long delay = (long) (settings.getTimePerPlayerMove() * 1000);
+        Turn previous = turns.put(game.getId(),
+                new Turn(event.turn(), event.playerId(), schedule(game, event.turn(), delay), 0L));
+        if (previous != null) {
+            previous.timeout().cancel();
+        }
+    }
+
+    /**
+     * Method to disarm the deadline of a turn after the player acted, must be called in the mailbox of the table.
+     *
+     * <p>
+     *     If the player acted while he used his time bank, the used time is taken from it.
+     * </p>
+     *
+     * @param game the game.
+     * @param playerId the id of the player that acted.
+     */
+    public void endTurn(PokerGame game, String playerId) {
+        Turn turn = turns.get(game.getId());
+        if (turn == null || !turn.playerId().equals(playerId)) {
+            return;
+        }
+        turns.remove(game.getId());
+        turn.timeout().cancel();
+        if (turn.bankStartedAt() > 0) {
+            PokerPlayer player = (PokerPlayer) game.getPlayerById(playerId);
+            if (player != null) {
+                long used = System.currentTimeMillis() - turn.bankStartedAt();
+                player.setTimeBank(Math.max(0L, player.getTimeBank() - used));
+            }
+        }
+    }
+
+    /**
+     * Method to disarm the deadline of a table, for example when the hand has ended.
+     *
+     * @param gameId the id of the game.
+     */
+    public void cancel(String gameId) {
+        Turn turn = turns.remove(gameId);
+        if (turn != null) {
+            turn.timeout().cancel();
+        }
+    }
+
+    private TimingWheel.Timeout schedule(PokerGame game, int turn, long delay) {
+        return timingWheel.schedule(() -> gameExecutor.execute(game.getId(), () -> expire(game, turn)),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Method called in the mailbox of the table when the deadline of a turn is reached.
+     *
+     * @param game the game.
+     * @param turnNumber the number of the turn the deadline was set for.
+     * @throws Exception if the forced action can not be performed.
+     */
+    void expire(PokerGame game, int turnNumber) throws Exception {
+        Turn turn = turns.get(game.getId());
+        if (turn == null || turn.turn() != turnNumber || game.getGameStatus() != GameStatus.IN_PROGRESS) {
+            return;
+        }
+        PokerPlayer player = (PokerPlayer) game.getPlayerById(turn.playerId());
+        if (player != null && turn.bankStartedAt() == 0 && player.getTimeBank() > 0) {
+            turns.put(game.getId(), new Turn(turnNumber, turn.playerId(),
+                    schedule(game, turnNumber, player.getTimeBank()), System.currentTimeMillis()));
+            return;
+        }
+        turns.remove(game.getId());
+        if (player != null) {
+            player.setTimeBank(0L);
+        }
+        if (game.actOnTimeout(turnNumber)) {
+            log.debug("Player {} ran out of time in game {}", turn.playerId(), game.getId());
+        }
+    }
+
+    /**
+     * Method to stop the timing wheel when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.stop();
+    }
+}
@@ -0,0 +1,125 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.exception.NotFoundException;
+import de.thm.holdem.model.game.GameStatus;
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.settings.PokerGameSettings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class raises the blinds of the running tables when their blind level expires.
+ *
+ * <p>
+ *     The end of the current level of every table is kept in one set ordered by time, and a single task on the
+ *     shared scheduler takes the expired levels from its head every second. The table is marked in its mailbox and
+ *     raises the blinds at the start of the next hand, then the end of its next level is added to the set.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class BlindClock {
+
+    /**
+     * The end of the current blind level of a table.
+     *
+     * @param deadline the end of the level in milliseconds since the epoch.
+     * @param gameId the id of the table.
+     */
+    private record LevelDeadline(long deadline, String gameId) {
+    }
+
+    private final PokerGameRegistry registry;
+
+    private final GameExecutor gameExecutor;
+
+    private final PokerGameSettings settings;
+
+    /** The ends of the current levels of all tables, the earliest first. */
+    private final NavigableSet<LevelDeadline> deadlines = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(LevelDeadline::deadline).thenComparing(LevelDeadline::gameId));
+
+    /**
+     * Constructor to create the blind clock.
+     *
+     * @param registry the registry of the tables.
+     * @param gameExecutor the executor of the table mailboxes.
+     * @param settings the settings with the duration of a blind level.
+     */
+    public BlindClock(PokerGameRegistry registry, GameExecutor gameExecutor, PokerGameSettings settings) {
+        this.registry = registry;
+        this.gameExecutor = gameExecutor;
+        this.settings = settings;
+    }
+
+    /**
+     * Method to start the first blind level of a table, must be called in the mailbox of the table.
+     *
+     * @param game the game that started.
+     * @param now the point in time in milliseconds since the epoch.
+     */
+    public void start(PokerGame game, long now) {
+        if (game.getRemainingBlindLevels() == 0) {
+            return;
+        }
+        long deadline = now + getLevelDuration();
+        game.startBlindClock(deadline);
+        deadlines.add(new LevelDeadline(deadline, game.getId()));
+    }
+
+    /**
+     * Marks all tables whose blind level has expired.
+     */
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void tick() {
+        tick(System.currentTimeMillis());
+    }
+
+    /**
+     * Marks all tables whose blind level has expired at a point in time.
+     *
+     * @param now the point in time in milliseconds since the epoch.
+     * @return the number of expired levels.
+     */
+    int tick(long now) {
+        int expired = 0;
+        // only the tick removes deadlines, so the set can not become empty between the check and first()
+        while (!deadlines.isEmpty() && deadlines.first().deadline() <= now) {
+            LevelDeadline level = deadlines.pollFirst();
+            try {
+                PokerGame game = registry.getGame(level.gameId());
+                gameExecutor.execute(level.gameId(), () -> raiseBlinds(game, level.deadline()));
+                expired++;
+            } catch (NotFoundException e) {
+                log.debug("Game {} was removed before its blinds were raised.", level.gameId());
+            }
+        }
+        return expired;
+    }
+
+    private void raiseBlinds(PokerGame game, long deadline) {
+        if (game.getGameStatus() != GameStatus.IN_PROGRESS || game.getRemainingBlindLevels() == 0) {
+            return;
+        }
+        // the next level starts when this one should have ended, so a late tick does not shift the schedule
+        long nextDeadline = game.getRemainingBlindLevels() > 1 ? deadline + getLevelDuration() : 0L;
+        game.scheduleBlindRaise(nextDeadline);
+        if (nextDeadline > 0) {
+            deadlines.add(new LevelDeadline(nextDeadline, game.getId()));
+        }
+        log.debug("Blinds of game {} are raised with the next hand.", game.getId());
+    }
+
+    private long getLevelDuration() {
+        return TimeUnit.MINUTES.toMillis(settings.getTimeToRaiseBlinds());
+    }
+}
@@ -0,0 +1,373 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.dto.CardDto;
+import de.thm.holdem.dto.PokerGameStateDeltaDto;
+import de.thm.holdem.dto.PokerGameStateDto;
+import de.thm.holdem.dto.PokerPlayerStateDto;
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import de.thm.holdem.model.game.GameStatus;
+import de.thm.holdem.model.game.poker.BettingRound;
+import de.thm.holdem.model.game.poker.PokerPlayerAction;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link PayloadEncoder} that encodes the game messages in a compact binary form.
+ *
+ * <p>
+ *     A session chooses the form when it connects. Only the states of a table and the private info of a player are
+ *     encoded this way, all other payloads are still sent as JSON. Every message starts with a version byte and the
+ *     type of the message, then the fields follow in a fixed order:
+ * </p>
+ * <ul>
+ *     <li>a card is a single byte, its index from 0 to 51 or {@link #HIDDEN_CARD} for a card that is face down,</li>
+ *     <li>the statuses, betting rounds, operations and actions are the ordinal of their enum in one byte, the
+ *     allowed actions are a bitmask of these ordinals,</li>
+ *     <li>chips and all other numbers are zigzag varints, so small amounts take one or two bytes,</li>
+ *     <li>texts are the varint length followed by the UTF-8 bytes,</li>
+ *     <li>the flags of a player and the fields that are set are a varint bitmask in front of the fields, a field
+ *     whose bit is not set is left out.</li>
+ * </ul>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Component
+public class CompactPayloadEncoder implements PayloadEncoder {
+
+    /** The content type of the compact encoding. */
+    public static final MimeType CONTENT_TYPE = new MimeType("application", "vnd.holdem.compact");
+
+    /** The suffix of the topic a table is broadcast to in the compact encoding. */
+    public static final String DESTINATION_SUFFIX = "/compact";
+
+    /** The version of the encoding, it changes with every change of the layout. */
+    public static final byte VERSION = 1;
+
+    /** The type of a full state of a table. */
+    public static final byte TYPE_STATE = 1;
+
+    /** The type of the changes of the state of a table. */
+    public static final byte TYPE_DELTA = 2;
+
+    /** The type of the private info of a player. */
+    public static final byte TYPE_PLAYER = 3;
+
+    /** The code of a card that is face down. */
+    public static final byte HIDDEN_CARD = (byte) Card.COUNT;
+
+    /** The bits of the flags and optional fields of a player. */
+    static final int PLAYER_DEALER = 1;
+    static final int PLAYER_SMALL_BLIND = 1 << 1;
+    static final int PLAYER_BIG_BLIND = 1 << 2;
+    static final int PLAYER_ACTOR = 1 << 3;
+    static final int PLAYER_MUST_SHOW_CARDS = 1 << 4;
+    static final int PLAYER_NAME = 1 << 5;
+    static final int PLAYER_AVATAR = 1 << 6;
+    static final int PLAYER_LAST_ACTION = 1 << 7;
+    static final int PLAYER_HOLE_CARDS = 1 << 8;
+    static final int PLAYER_ALLOWED_ACTIONS = 1 << 9;
+    static final int PLAYER_HAND_RESULT = 1 << 10;
+    static final int PLAYER_EQUITY = 1 << 11;
+
+    /** The bits of the optional fields of a state. */
+    static final int STATE_FLOP = 1;
+    static final int STATE_TURN = 1 << 1;
+    static final int STATE_RIVER = 1 << 2;
+    static final int STATE_SHOWDOWN_ORDER = 1 << 3;
+
+    /** The bits of the fields of a delta. */
+    static final int DELTA_GAME_STATUS = 1;
+    static final int DELTA_FLOP = 1 << 1;
+    static final int DELTA_TURN = 1 << 2;
+    static final int DELTA_RIVER = 1 << 3;
+    static final int DELTA_BETTING_ROUND = 1 << 4;
+    static final int DELTA_BIG_BLIND = 1 << 5;
+    static final int DELTA_BLIND_LEVEL = 1 << 6;
+    static final int DELTA_TIME_TO_NEXT_BLIND_LEVEL = 1 << 7;
+    static final int DELTA_POTS = 1 << 8;
+    static final int DELTA_CURRENT_BET = 1 << 9;
+    static final int DELTA_PLAYERS = 1 << 10;
+
+    /** {@inheritDoc} */
+    @Override
+    public byte[] encode(Object payload) {
+        Writer writer = new Writer();
+        writer.writeByte(VERSION);
+        if (payload instanceof PokerGameStateDto state) {
+            writer.writeByte(TYPE_STATE);
+            writeState(writer, state);
+        } else if (payload instanceof PokerGameStateDeltaDto delta) {
+            writer.writeByte(TYPE_DELTA);
+            writeDelta(writer, delta);
+        } else if (payload instanceof PokerPlayerStateDto player) {
+            writer.writeByte(TYPE_PLAYER);
+            writePlayer(writer, player);
+        } else {
+            throw new IllegalArgumentException("Could not encode "
+                    + (payload == null ? "null" : payload.getClass().getSimpleName()));
+        }
+        return writer.toByteArray();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean supports(Class<?> type) {
+        return PokerGameStateDto.class.equals(type) || PokerGameStateDeltaDto.class.equals(type)
+                || PokerPlayerStateDto.class.equals(type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MimeType getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    private void writeState(Writer writer, PokerGameStateDto state) {
+        int fields = (state.getFlopCards() != null ? STATE_FLOP : 0)
+                | (state.getTurnCard() != null ? STATE_TURN : 0)
+                | (state.getRiverCard() != null ? STATE_RIVER : 0)
+                | (state.getShowdownOrder() != null ? STATE_SHOWDOWN_ORDER : 0);
+        writer.writeVarint(fields);
+        writer.writeVarint(state.getSeq());
+        writer.writeString(state.getId());
+        writer.writeString(state.getName());
+        writer.writeByte(ordinal(GameStatus.values(), GameStatus::getPrettyName, state.getGameStatus()));
+        writer.writeByte(state.getOperation().ordinal());
+        writer.writeByte(ordinal(BettingRound.values(), BettingRound::toString, state.getBettingRound()));
+        writer.writeVarint(state.getMaxPlayers());
+        writer.writeVarint(state.getBigBlind());
+        writer.writeVarint(state.getBlindLevel());
+        writer.writeVarint(state.getTimeToNextBlindLevel());
+        writer.writeVarint(state.getCurrentBet());
+        writeChips(writer, state.getPots());
+        if (state.getFlopCards() != null) {
+            writeCards(writer, state.getFlopCards());
+        }
+        if (state.getTurnCard() != null) {
+            writer.writeByte(card(state.getTurnCard()));
+        }
+        if (state.getRiverCard() != null) {
+            writer.writeByte(card(state.getRiverCard()));
+        }
+        writePlayers(writer, state.getPlayers());
+        if (state.getShowdownOrder() != null) {
+            writePlayers(writer, state.getShowdownOrder());
+        }
+    }
+
+    private void writeDelta(Writer writer, PokerGameStateDeltaDto delta) {
+        int fields = (delta.getGameStatus() != null ? DELTA_GAME_STATUS : 0)
+                | (delta.getFlopCards() != null ? DELTA_FLOP : 0)
+                | (delta.getTurnCard() != null ? DELTA_TURN : 0)
+                | (delta.getRiverCard() != null ? DELTA_RIVER : 0)
+                | (delta.getBettingRound() != null ? DELTA_BETTING_ROUND : 0)
+                | (delta.getBigBlind() != null ? DELTA_BIG_BLIND : 0)
+                | (delta.getBlindLevel() != null ? DELTA_BLIND_LEVEL : 0)
+                | (delta.getTimeToNextBlindLevel() != null ? DELTA_TIME_TO_NEXT_BLIND_LEVEL : 0)
+                | (delta.getPots() != null ? DELTA_POTS : 0)
+                | (delta.getCurrentBet() != null ? DELTA_CURRENT_BET : 0)
+                | (delta.getPlayers() != null ? DELTA_PLAYERS : 0);
+        writer.writeVarint(fields);
+        writer.writeVarint(delta.getSeq());
+        writer.writeString(delta.getId());
+        writer.writeByte(delta.getOperation().ordinal());
+        if (delta.getGameStatus() != null) {
+            writer.writeByte(ordinal(GameStatus.values(), GameStatus::getPrettyName, delta.getGameStatus()));
+        }
+        if (delta.getFlopCards() != null) {
+            writeCards(writer, delta.getFlopCards());
+        }
+        if (delta.getTurnCard() != null) {
+            writer.writeByte(card(delta.getTurnCard()));
+        }
+        if (delta.getRiverCard() != null) {
+            writer.writeByte(card(delta.getRiverCard()));
+        }
+        if (delta.getBettingRound() != null) {
+            writer.writeByte(ordinal(BettingRound.values(), BettingRound::toString, delta.getBettingRound()));
+        }
+        if (delta.getBigBlind() != null) {
+            writer.writeVarint(delta.getBigBlind());
+        }
+        if (delta.getBlindLevel() != null) {
+            writer.writeVarint(delta.getBlindLevel());
+        }
+        if (delta.getTimeToNextBlindLevel() != null) {
+            writer.writeVarint(delta.getTimeToNextBlindLevel());
+        }
+        if (delta.getPots() != null) {
+            writeChips(writer, delta.getPots());
+        }
+        if (delta.getCurrentBet() != null) {
+            writer.writeVarint(delta.getCurrentBet());
+        }
+        if (delta.getPlayers() != null) {
+            writer.writeVarint(delta.getPlayers().size());
+            for (Map.Entry<Integer, PokerPlayerStateDto> seat : delta.getPlayers().entrySet()) {
+                writer.writeVarint(seat.getKey());
+                writePlayer(writer, seat.getValue());
+            }
+        }
+    }
+
+    private void writePlayers(Writer writer, List<PokerPlayerStateDto> players) {
+        writer.writeVarint(players.size());
+        for (PokerPlayerStateDto player : players) {
+            writePlayer(writer, player);
+        }
+    }
+
+    private void writePlayer(Writer writer, PokerPlayerStateDto player) {
+        int fields = (player.isDealer() ? PLAYER_DEALER : 0)
+                | (player.isSmallBlind() ? PLAYER_SMALL_BLIND : 0)
+                | (player.isBigBlind() ? PLAYER_BIG_BLIND : 0)
+                | (player.isActor() ? PLAYER_ACTOR : 0)
+                | (player.isMustShowCards() ? PLAYER_MUST_SHOW_CARDS : 0)
+                | (player.getName() != null ? PLAYER_NAME : 0)
+                | (player.getAvatar() != null ? PLAYER_AVATAR : 0)
+                | (player.getLastAction() != null ? PLAYER_LAST_ACTION : 0)
+                | (player.getHoleCards() != null ? PLAYER_HOLE_CARDS : 0)
+                | (player.getAllowedActions() != null ? PLAYER_ALLOWED_ACTIONS : 0)
+                | (player.getHandResult() != null ? PLAYER_HAND_RESULT : 0)
+                | (player.getWinPercentage() != null ? PLAYER_EQUITY : 0);
+        writer.writeVarint(fields);
+        if (player.getName() != null) {
+            writer.writeString(player.getName());
+        }
+        if (player.getAvatar() != null) {
+            writer.writeString(player.getAvatar());
+        }
+        writer.writeVarint(player.getChips());
+        writer.writeVarint(player.getBet());
+        writer.writeVarint(player.getPotShare());
+        if (player.getLastAction() != null) {
+            writer.writeByte(action(player.getLastAction()).ordinal());
+        }
+        if (player.getHoleCards() != null) {
+            writeCards(writer, player.getHoleCards());
+        }
+        if (player.getAllowedActions() != null) {
+            int allowedActions = 0;
+            for (String allowedAction : player.getAllowedActions()) {
+                allowedActions |= action(allowedAction).mask();
+            }
+            writer.writeVarint(allowedActions);
+            writer.writeVarint(player.getCallAmount());
+            writer.writeVarint(player.getMinRaise());
+            writer.writeVarint(player.getMaxRaise());
+        }
+        if (player.getHandResult() != null) {
+            writer.writeString(player.getHandResult().getHandType());
+            writeCards(writer, player.getHandResult().getHandCards());
+        }
+        if (player.getWinPercentage() != null) {
+            writer.writeFloat(player.getWinPercentage().floatValue());
+            writer.writeFloat(player.getTiePercentage() != null ? player.getTiePercentage().floatValue() : 0f);
+        }
+    }
+
+    private void writeCards(Writer writer, List<CardDto> cards) {
+        writer.writeVarint(cards.size());
+        for (CardDto card : cards) {
+            writer.writeByte(card(card));
+        }
+    }
+
+    private void writeChips(Writer writer, List<Integer> chips) {
+        writer.writeVarint(chips.size());
+        for (int amount : chips) {
+            writer.writeVarint(amount);
+        }
+    }
+
+    /**
+     * Method to get the code of a card.
+     *
+     * @param card the card.
+     * @return the index of the card, or {@link #HIDDEN_CARD} if it is face down.
+     */
+    static int card(CardDto card) {
+        if (!card.isFaceUp()) {
+            return HIDDEN_CARD;
+        }
+        // the ranks and suits are declared in the order of their index
+        return Card.indexOf(ordinal(Rank.values(), Rank::getSymbol, card.getRank()),
+                ordinal(Suit.values(), Suit::getSymbol, card.getSuit()));
+    }
+
+    private static PokerPlayerAction action(String action) {
+        PokerPlayerAction value = PokerPlayerAction.fromString(action);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown action " + action);
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> int ordinal(E[] values, Function<E, String> name, String value) {
+        for (E constant : values) {
+            if (name.apply(constant).equals(value)) {
+                return constant.ordinal();
+            }
+        }
+        throw new IllegalArgumentException("Unknown value " + value + " of " + Arrays.toString(values));
+    }
+
+    /** A growing buffer the fields of a message are written to. */
+    private static final class Writer {
+
+        private byte[] buffer = new byte[256];
+
+        private int size;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        /** Writes a zigzag varint, seven bits per byte with the lowest bits first. */
+        void writeVarint(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            ensureCapacity(10);
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[size++] = (byte) zigzag;
+        }
+
+        void writeFloat(float value) {
+            int bits = Float.floatToIntBits(value);
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (bits >>> shift);
+            }
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (size + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+            }
+        }
+    }
+}
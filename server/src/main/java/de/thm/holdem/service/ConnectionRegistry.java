@@ -2,7 +2,12 @@ package de.thm.holdem.service;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Maps;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Registry to keep track of user connections.
@@ -15,8 +20,14 @@ import org.springframework.stereotype.Service;
 @Service
 public class ConnectionRegistry {
 
-    /** Bidirectional map of user ids to session ids. */
-    private final BiMap<String, String> connections = HashBiMap.create();
+    /** Bidirectional map of user ids to session ids, users connect and disconnect on many threads. */
+    private final BiMap<String, String> connections = Maps.synchronizedBiMap(HashBiMap.create());
+
+    /** The time until a disconnected user can reconnect in milliseconds, by user id. */
+    private final Map<String, Long> gracePeriods = new ConcurrentHashMap<>();
+
+    /** The content type the payloads are encoded in, by session id, only for sessions that did not keep JSON. */
+    private final Map<String, MimeType> contentTypes = new ConcurrentHashMap<>();
 
     /**
      * Connects a user to a session.
@@ -25,7 +36,22 @@ public class ConnectionRegistry {
      * @param sessionId the session id
      */
     public void connect(String userId, String sessionId) {
+        connect(userId, sessionId, null);
+    }
+
+    /**
+     * Connects a user to a session that receives its payloads in another content type than JSON.
+     *
+     * @param userId the user id
+     * @param sessionId the session id
+     * @param contentType the content type of the session, null for JSON
+     */
+    public void connect(String userId, String sessionId, MimeType contentType) {
+        if (contentType != null) {
+            contentTypes.put(sessionId, contentType);
+        }
         connections.put(userId, sessionId);
+        gracePeriods.remove(userId);
     }
 
     /**
@@ -35,9 +61,50 @@ public class ConnectionRegistry {
      * @return the user id of the disconnected user
      */
     public String disconnect(String sessionId) {
+        contentTypes.remove(sessionId);
         return connections.inverse().remove(sessionId);
     }
 
+    /**
+     * Gets the content type a session receives its payloads in.
+     *
+     * @param sessionId the session id
+     * @return the content type, null for JSON
+     */
+    public MimeType getContentType(String sessionId) {
+        return contentTypes.get(sessionId);
+    }
+
+    /**
+     * Checks if any session receives its payloads in another content type than JSON.
+     *
+     * @return true if a session chose another content type, false otherwise
+     */
+    public boolean hasOtherContentTypes() {
+        return !contentTypes.isEmpty();
+    }
+
+    /**
+     * Starts the time a disconnected user has to reconnect, it ends as soon as he connects again.
+     *
+     * @param userId the user id
+     * @param deadline the end of the grace period in milliseconds
+     */
+    public void startGracePeriod(String userId, long deadline) {
+        gracePeriods.put(userId, deadline);
+    }
+
+    /**
+     * Ends the grace period of a user that did not reconnect.
+     *
+     * @param userId the user id
+     * @param deadline the end of the grace period in milliseconds
+     * @return true if the user did not reconnect, false if he did or a later grace period was started
+     */
+    public boolean endGracePeriod(String userId, long deadline) {
+        return gracePeriods.remove(userId, deadline) && !isConnected(userId);
+    }
+
     /**
      * Gets the session id of a user.
      *
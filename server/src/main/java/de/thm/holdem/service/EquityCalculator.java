@@ -0,0 +1,83 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.game.poker.EquityResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service Interface to calculate the equities of the players of a hand.
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public interface EquityCalculator {
+
+    /**
+     * Calculates the equities of the players by sampling run-outs of the board.
+     *
+     * @param holeCards the 2 hole cards of each player, for 2 or more players.
+     * @param board the community cards that are already dealt, up to 5.
+     * @param deadCards cards that are known to be out of the deck, e.g. folded cards.
+     * @return the equity of each player, in the order of the hole cards.
+     * @throws IllegalArgumentException if the cards are invalid or a card is used twice.
+     */
+    EquityResult calculate(List<List<Card>> holeCards, List<Card> board, List<Card> deadCards);
+
+    /**
+     * Calculates the equities of the players by sampling run-outs of the board.
+     *
+     * @param holeCards the {@link CardSet} of the 2 hole cards of each player, for 2 or more players.
+     * @param board the {@link CardSet} of the community cards that are already dealt, up to 5.
+     * @param deadCards the {@link CardSet} of cards that are known to be out of the deck.
+     * @return the equity of each player, in the order of the hole cards.
+     * @throws IllegalArgumentException if the cards are invalid or a card is used twice.
+     */
+    EquityResult calculate(long[] holeCards, long board, long deadCards);
+
+    /**
+     * Enumerates the exact equities of players that are all-in, on a pool of its own.
+     *
+     * <p>
+     *     An enumeration preflop takes up to a second, so it never runs on the thread that asks for it.
+     * </p>
+     *
+     * @param holeCards the {@link CardSet} of the 2 hole cards of each player, for 2 or more players.
+     * @param board the {@link CardSet} of the community cards that are already dealt, up to 5.
+     * @return completes with the equity of each player, in the order of the hole cards.
+     */
+    CompletableFuture<EquityResult> calculateAllIn(long[] holeCards, long board);
+
+    /**
+     * Looks up the preflop all-in equity of hole cards against random hands.
+     *
+     * <p>
+     *     The equity depends only on the starting hand class, so it is read from the precomputed
+     *     {@link de.thm.holdem.model.game.poker.PreflopEquityTable} if one is loaded.
+     * </p>
+     *
+     * @param holeCards the 2 hole cards.
+     * @param opponents the number of opponents.
+     * @return the equity of the hole cards, ties counted as the fraction of the pot.
+     * @throws IllegalArgumentException if the cards are invalid or the number of opponents is not possible.
+     */
+    double preflopEquity(List<Card> holeCards, int opponents);
+
+    /**
+     * Calculates the all-in equity of hole cards against random hands on any street.
+     *
+     * <p>
+     *     Suit isomorphic hands have the same equity, so the result is cached per
+     *     {@link de.thm.holdem.model.game.poker.HandIndexer} class and shared by all tables.
+     * </p>
+     *
+     * @param holeCards the 2 hole cards.
+     * @param board the community cards, 0, 3, 4 or 5.
+     * @param opponents the number of opponents.
+     * @return the equity of the hole cards, ties counted as the fraction of the pot.
+     * @throws IllegalArgumentException if the cards are invalid or the number of opponents is not possible.
+     */
+    double equity(List<Card> holeCards, List<Card> board, int opponents);
+}
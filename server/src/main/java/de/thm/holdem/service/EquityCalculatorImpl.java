@@ -0,0 +1,425 @@
+package de.thm.holdem.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.game.poker.EquityEnumerator;
+import de.thm.holdem.model.game.poker.EquityResult;
+import de.thm.holdem.model.game.poker.HandEvaluator;
+import de.thm.holdem.model.game.poker.HandIndexer;
+import de.thm.holdem.model.game.poker.PreflopEquityTable;
+import de.thm.holdem.model.game.poker.PreflopEquityTableGenerator;
+import de.thm.holdem.model.game.poker.StartingHand;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Implementation of the {@link EquityCalculator} that samples run-outs of the board (Monte Carlo).
+ *
+ * <p>
+ *     The run-outs are sampled in rounds on the common fork/join pool. Every worker draws from its own primitive
+ *     copy of the remaining deck and evaluates the hands with the {@link HandEvaluator} directly on
+ *     {@link CardSet}s, so no objects are created per run-out. After each round the 95% confidence interval of
+ *     every equity is checked and the calculation stops as soon as all of them are narrow enough.
+ *     Preflop equities against random hands are read from the {@link PreflopEquityTable}, equities against random
+ *     hands on later streets are sampled once per {@link HandIndexer} class and kept in a bounded cache.
+ *     The exact equities of an all-in are enumerated on a small pool of their own, so they neither block a table
+ *     nor compete with the samplers on the common pool.
+ * </p>
+ *
+ * @see EquityCalculator
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Service
+public class EquityCalculatorImpl implements EquityCalculator {
+
+    /** The number of cards on a complete board. */
+    private static final int BOARD_SIZE = 5;
+
+    /** The number of hole cards of a player. */
+    private static final int HOLE_CARDS = 2;
+
+    /** The z-value of the 95% confidence interval. */
+    private static final double Z_95 = 1.96;
+
+    /** The number of run-outs sampled in one round, before the confidence intervals are checked. */
+    private static final long RUN_OUTS_PER_ROUND = 1 << 16;
+
+    /** The number of run-outs up to which a worker samples on its own instead of splitting the work. */
+    private static final long RUN_OUTS_PER_TASK = 1 << 12;
+
+    /** The number of run-outs sampled for an equity against random hands that is not stored in the table. */
+    private static final int VERSUS_RANDOM_SAMPLES = 20000;
+
+    /** The number of bits of the cache key that hold the number of opponents. */
+    private static final int OPPONENT_BITS = 5;
+
+    /** The number of bits of the cache key that hold the board size. */
+    private static final int BOARD_SIZE_BITS = 3;
+
+    /** The number of threads the equities of all-ins are enumerated on. */
+    private static final int ALL_IN_THREADS = 2;
+
+    /** The pool the run-outs are sampled on. */
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /** The pool the equities of all-ins are enumerated on. */
+    private final ExecutorService allInPool = Executors.newFixedThreadPool(ALL_IN_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "equity-all-in");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The precomputed preflop equities. */
+    private final PreflopEquityTable preflopEquityTable;
+
+    /** The maximum number of run-outs that are sampled for one calculation. */
+    private final long maxRunOuts;
+
+    /** The half width of the confidence interval at which the calculation stops early. */
+    private final double targetMargin;
+
+    /** The equities against random hands, by hand class, board size and number of opponents. */
+    private final Cache<Long, Double> equityCache;
+
+    /**
+     * Constructor to create a new EquityCalculatorImpl.
+     *
+     * @param preflopEquityTable the precomputed preflop equities.
+     * @param maxRunOuts the maximum number of run-outs that are sampled for one calculation.
+     * @param targetMargin the half width of the confidence interval at which the calculation stops early.
+     * @param cacheSize the maximum number of cached equities against random hands.
+     */
+    public EquityCalculatorImpl(PreflopEquityTable preflopEquityTable,
+                                @Value("${equity.max-run-outs:2000000}") long maxRunOuts,
+                                @Value("${equity.target-margin:0.001}") double targetMargin,
+                                @Value("${equity.cache-size:100000}") long cacheSize) {
+        this.preflopEquityTable = preflopEquityTable;
+        this.maxRunOuts = maxRunOuts;
+        this.targetMargin = targetMargin;
+        this.equityCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EquityResult calculate(List<List<Card>> holeCards, List<Card> board, List<Card> deadCards) {
+        long[] hands = new long[holeCards.size()];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = CardSet.of(holeCards.get(i));
+            if (CardSet.size(hands[i]) != holeCards.get(i).size()) {
+                throw new IllegalArgumentException("A card can not be used twice.");
+            }
+        }
+        long boardSet = CardSet.of(board);
+        long deadSet = CardSet.of(deadCards);
+        if (CardSet.size(boardSet) != board.size() || CardSet.size(deadSet) != deadCards.size()) {
+            throw new IllegalArgumentException("A card can not be used twice.");
+        }
+        return calculate(hands, boardSet, deadSet);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EquityResult calculate(long[] holeCards, long board, long deadCards) {
+        long usedCards = validate(holeCards, board, deadCards);
+        int[] deck = remainingDeck(usedCards);
+        int missing = BOARD_SIZE - CardSet.size(board);
+
+        if (missing == 0) {
+            return toResult(new Sampler(holeCards, board, deck, 0, 1, new SplittableRandom()).compute(), true);
+        }
+
+        SplittableRandom random = new SplittableRandom();
+        Tally total = new Tally(holeCards.length);
+        do {
+            long runOuts = Math.min(RUN_OUTS_PER_ROUND, maxRunOuts - total.runOuts);
+            total.add(pool.invoke(new Sampler(holeCards, board, deck, missing, runOuts, random.split())));
+        } while (total.runOuts < maxRunOuts && maxMargin(total) > targetMargin);
+
+        return toResult(total, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<EquityResult> calculateAllIn(long[] holeCards, long board) {
+        return CompletableFuture.supplyAsync(() -> EquityEnumerator.enumerate(holeCards, board), allInPool);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double preflopEquity(List<Card> holeCards, int opponents) {
+        long cards = CardSet.of(holeCards);
+        if (holeCards.size() != HOLE_CARDS || CardSet.size(cards) != HOLE_CARDS) {
+            throw new IllegalArgumentException("Exactly " + HOLE_CARDS + " different hole cards are needed.");
+        }
+        if (opponents < 1 || (opponents + 1) * HOLE_CARDS + BOARD_SIZE > Card.COUNT) {
+            throw new IllegalArgumentException("Invalid number of opponents: " + opponents);
+        }
+        int hand = StartingHand.indexOf(cards);
+        if (preflopEquityTable.isAvailable() && opponents <= preflopEquityTable.getMaxOpponents()) {
+            return preflopEquityTable.versusRandom(hand, opponents);
+        }
+        return PreflopEquityTableGenerator.sampleVersusRandom(hand, opponents, VERSUS_RANDOM_SAMPLES, new SplittableRandom());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double equity(List<Card> holeCards, List<Card> board, int opponents) {
+        if (board.isEmpty()) {
+            return preflopEquity(holeCards, opponents);
+        }
+        long index = HandIndexer.indexOf(holeCards, board);
+        if (opponents < 1 || (opponents + 1) * HOLE_CARDS + BOARD_SIZE > Card.COUNT) {
+            throw new IllegalArgumentException("Invalid number of opponents: " + opponents);
+        }
+        long key = (index << BOARD_SIZE_BITS | board.size()) << OPPONENT_BITS | opponents;
+        return equityCache.get(key, k -> PreflopEquityTableGenerator.sampleVersusRandom(CardSet.of(holeCards),
+                CardSet.of(board), opponents, VERSUS_RANDOM_SAMPLES, new SplittableRandom()));
+    }
+
+    /**
+     * Method to stop the pool of the all-ins when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        allInPool.shutdownNow();
+    }
+
+    /**
+     * Method to validate the cards of a calculation.
+     *
+     * @param holeCards the hole cards of each player.
+     * @param board the community cards.
+     * @param deadCards the dead cards.
+     * @return the {@link CardSet} of all used cards.
+     * @throws IllegalArgumentException if the cards are invalid or a card is used twice.
+     */
+    private long validate(long[] holeCards, long board, long deadCards) {
+        if (holeCards.length < 2) {
+            throw new IllegalArgumentException("At least 2 players are needed to calculate equities.");
+        }
+        if (CardSet.size(board) > BOARD_SIZE) {
+            throw new IllegalArgumentException("The board can not hold more than " + BOARD_SIZE + " cards.");
+        }
+        long usedCards = board;
+        if ((usedCards & deadCards) != 0) {
+            throw new IllegalArgumentException("A card can not be used twice.");
+        }
+        usedCards |= deadCards;
+        for (long hand : holeCards) {
+            if (CardSet.size(hand) != HOLE_CARDS) {
+                throw new IllegalArgumentException("Every player needs exactly " + HOLE_CARDS + " hole cards.");
+            }
+            if ((usedCards & hand) != 0) {
+                throw new IllegalArgumentException("A card can not be used twice.");
+            }
+            usedCards |= hand;
+        }
+        if ((usedCards & ~CardSet.FULL_DECK) != 0) {
+            throw new IllegalArgumentException("Invalid card index.");
+        }
+        if (Card.COUNT - CardSet.size(usedCards) < BOARD_SIZE - CardSet.size(board)) {
+            throw new IllegalArgumentException("Not enough cards left to complete the board.");
+        }
+        return usedCards;
+    }
+
+    /**
+     * Method to get the cards that are left in the deck.
+     *
+     * @param usedCards the {@link CardSet} of all used cards.
+     * @return the indices of the remaining cards.
+     */
+    private int[] remainingDeck(long usedCards) {
+        long remaining = CardSet.FULL_DECK & ~usedCards;
+        int[] deck = new int[CardSet.size(remaining)];
+        for (int i = 0; remaining != 0; remaining &= remaining - 1) {
+            deck[i++] = CardSet.first(remaining);
+        }
+        return deck;
+    }
+
+    /**
+     * Method to get the widest confidence interval of all equities.
+     *
+     * @param tally the run-outs sampled so far.
+     * @return the largest half width of the 95% confidence intervals.
+     */
+    private double maxMargin(Tally tally) {
+        double max = 0;
+        for (int i = 0; i < tally.shares.length; i++) {
+            max = Math.max(max, margin(tally, i));
+        }
+        return max;
+    }
+
+    /**
+     * Method to calculate the half width of the 95% confidence interval of the equity of a player.
+     *
+     * @param tally the run-outs sampled so far.
+     * @param player the position of the player.
+     * @return the half width of the confidence interval.
+     */
+    private double margin(Tally tally, int player) {
+        double mean = tally.shares[player] / tally.runOuts;
+        double variance = Math.max(0, tally.squaredShares[player] / tally.runOuts - mean * mean);
+        return Z_95 * Math.sqrt(variance / tally.runOuts);
+    }
+
+    /**
+     * Method to convert the sampled run-outs into an {@link EquityResult}.
+     *
+     * @param tally the sampled run-outs.
+     * @param exact true if the board was already complete.
+     * @return the equities of the players.
+     */
+    private EquityResult toResult(Tally tally, boolean exact) {
+        List<EquityResult.Equity> equities = new ArrayList<>(tally.shares.length);
+        double runOuts = tally.runOuts;
+        for (int i = 0; i < tally.shares.length; i++) {
+            equities.add(new EquityResult.Equity(tally.wins[i] / runOuts, tally.ties[i] / runOuts,
+                    tally.shares[i] / runOuts, exact ? 0 : margin(tally, i)));
+        }
+        return new EquityResult(tally.runOuts, exact, equities);
+    }
+
+    /**
+     * Class to sum up the outcomes of sampled run-outs.
+     */
+    private static final class Tally {
+
+        private final long[] wins;
+        private final long[] ties;
+        private final double[] shares;
+        private final double[] squaredShares;
+        private long runOuts;
+
+        private Tally(int players) {
+            wins = new long[players];
+            ties = new long[players];
+            shares = new double[players];
+            squaredShares = new double[players];
+        }
+
+        private void add(Tally other) {
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+                ties[i] += other.ties[i];
+                shares[i] += other.shares[i];
+                squaredShares[i] += other.squaredShares[i];
+            }
+            runOuts += other.runOuts;
+        }
+    }
+
+    /**
+     * Fork/join task to sample a number of run-outs.
+     *
+     * <p>
+     *     The task splits itself until a part is small enough to be sampled by one worker. Every part gets its
+     *     own random generator, split off the generator of its parent.
+     * </p>
+     */
+    private static final class Sampler extends RecursiveTask<Tally> {
+
+        private final long[] holeCards;
+        private final long board;
+        private final int[] deck;
+        private final int missing;
+        private final long runOuts;
+        private final SplittableRandom random;
+
+        private Sampler(long[] holeCards, long board, int[] deck, int missing, long runOuts, SplittableRandom random) {
+            this.holeCards = holeCards;
+            this.board = board;
+            this.deck = deck;
+            this.missing = missing;
+            this.runOuts = runOuts;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (runOuts > RUN_OUTS_PER_TASK) {
+                long half = runOuts / 2;
+                Sampler left = new Sampler(holeCards, board, deck, missing, half, random.split());
+                left.fork();
+                Tally tally = new Sampler(holeCards, board, deck, missing, runOuts - half, random).compute();
+                tally.add(left.join());
+                return tally;
+            }
+            return sample();
+        }
+
+        /**
+         * Method to sample the run-outs of this task.
+         *
+         * <p>
+         *     The missing board cards are drawn with a partial Fisher-Yates shuffle of the worker's own copy of the
+         *     deck. Shuffling the already shuffled deck again keeps every run-out equally likely.
+         * </p>
+         *
+         * @return the outcomes of the run-outs.
+         */
+        private Tally sample() {
+            int players = holeCards.length;
+            int[] cards = deck.clone();
+            int[] strengths = new int[players];
+            Tally tally = new Tally(players);
+
+            for (long n = 0; n < runOuts; n++) {
+                long runOut = board;
+                for (int i = 0; i < missing; i++) {
+                    int j = i + random.nextInt(cards.length - i);
+                    int card = cards[j];
+                    cards[j] = cards[i];
+                    cards[i] = card;
+                    runOut |= CardSet.of(card);
+                }
+
+                int best = 0;
+                int winners = 0;
+                for (int p = 0; p < players; p++) {
+                    int strength = HandEvaluator.evaluate(holeCards[p] | runOut);
+                    strengths[p] = strength;
+                    if (strength > best) {
+                        best = strength;
+                        winners = 1;
+                    } else if (strength == best) {
+                        winners++;
+                    }
+                }
+
+                double share = 1.0 / winners;
+                for (int p = 0; p < players; p++) {
+                    if (strengths[p] == best) {
+                        if (winners == 1) {
+                            tally.wins[p]++;
+                        } else {
+                            tally.ties[p]++;
+                        }
+                        tally.shares[p] += share;
+                        tally.squaredShares[p] += share * share;
+                    }
+                }
+            }
+            tally.runOuts = runOuts;
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package de.thm.holdem.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service Interface to run the commands of a game one after another.
+ *
+ * <p>
+ *     Games are not thread-safe. Every command that reads or changes a game is queued in the mailbox of the game
+ *     and run by a single thread, so commands of the same game never overlap while commands of different games run
+ *     in parallel.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public interface GameExecutor {
+
+    /**
+     * A command that does not return a result.
+     */
+    @FunctionalInterface
+    interface Command {
+
+        /**
+         * Runs the command.
+         *
+         * @throws Exception if the command fails.
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * Queues a command in the mailbox of a game.
+     *
+     * @param gameId the id of the game.
+     * @param command the command to run.
+     * @param <T> the type of the result.
+     * @return the result of the command, completed exceptionally if the command throws.
+     */
+    <T> CompletableFuture<T> submit(String gameId, Callable<T> command);
+
+    /**
+     * Queues a command without result in the mailbox of a game.
+     *
+     * @param gameId the id of the game.
+     * @param command the command to run.
+     * @return completes when the command has run, completed exceptionally if the command throws.
+     */
+    CompletableFuture<Void> execute(String gameId, Command command);
+
+    /**
+     * Queues a command in the mailbox of a game after a delay.
+     *
+     * @param gameId the id of the game.
+     * @param command the command to run, exceptions are logged.
+     * @param delay the delay.
+     * @param unit the unit of the delay.
+     * @return the future to cancel the command.
+     */
+    ScheduledFuture<?> schedule(String gameId, Command command, long delay, TimeUnit unit);
+
+    /**
+     * Queues a blocking command of a user, like a call of a repository, outside of the mailboxes of the games.
+     *
+     * <p>
+     *     The commands of the same user run in the order they were queued, so a command queued from a mailbox runs
+     *     after all commands of the user that were queued by earlier commands of the mailbox.
+     * </p>
+     *
+     * @param userId the id of the user.
+     * @param command the command to run.
+     * @param <T> the type of the result.
+     * @return the result of the command, completed exceptionally if the command throws.
+     */
+    <T> CompletableFuture<T> submitBlocking(String userId, Callable<T> command);
+}
@@ -0,0 +1,120 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.settings.PokerGameSettings;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+
+/**
+ * Implementation of the {@link GameExecutor} as sharded event loop.
+ *
+ * <p>
+ *     There is a fixed number of shards, each with a single thread. A game is assigned to a shard by its id, so all
+ *     commands of the game are run by the same thread in the order they were queued, without locks. The number of
+ *     shards defaults to the number of cores, so thousands of games are spread evenly over all cores.
+ * </p>
+ * <p>
+ *     Blocking calls are run by a separate set of I/O shards, which a user is assigned to by his id, so a slow
+ *     database never stalls the games of a shard.
+ * </p>
+ *
+ * @see GameExecutor
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class GameExecutorImpl implements GameExecutor {
+
+    /** The single threaded shards the games are assigned to. */
+    private final ScheduledExecutorService[] shards;
+
+    /** The single threaded shards the blocking commands of the users are assigned to. */
+    private final ExecutorService[] ioShards;
+
+    /**
+     * Constructor to create the shards.
+     *
+     * @param settings the settings with the number of shards, 0 for one shard per core, and of I/O shards.
+     */
+    public GameExecutorImpl(PokerGameSettings settings) {
+        int shardCount = settings.getTableShards() > 0
+                ? settings.getTableShards()
+                : Runtime.getRuntime().availableProcessors();
+        this.shards = new ScheduledExecutorService[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            String name = "game-shard-" + i;
+            shards[i] = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, name));
+        }
+        this.ioShards = new ExecutorService[Math.max(1, settings.getIoShards())];
+        for (int i = 0; i < ioShards.length; i++) {
+            String name = "game-io-" + i;
+            ioShards[i] = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, name));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> CompletableFuture<T> submit(String gameId, Callable<T> command) {
+        return submit(shardOf(gameId), command);
+    }
+
+    private <T> CompletableFuture<T> submit(Executor shard, Callable<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        shard.execute(() -> {
+            try {
+                result.complete(command.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> CompletableFuture<T> submitBlocking(String userId, Callable<T> command) {
+        return submit(ioShards[Math.floorMod(userId.hashCode(), ioShards.length)], command);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> execute(String gameId, Command command) {
+        return submit(gameId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ScheduledFuture<?> schedule(String gameId, Command command, long delay, TimeUnit unit) {
+        return shardOf(gameId).schedule(() -> {
+            try {
+                command.run();
+            } catch (Exception e) {
+                log.error("Scheduled command of game {} failed", gameId, e);
+            }
+        }, delay, unit);
+    }
+
+    private ScheduledExecutorService shardOf(String gameId) {
+        return shards[Math.floorMod(gameId.hashCode(), shards.length)];
+    }
+
+    /**
+     * Method to stop the shards when the application shuts down, queued commands are dropped.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (ScheduledExecutorService shard : shards) {
+            shard.shutdownNow();
+        }
+        for (ExecutorService ioShard : ioShards) {
+            ioShard.shutdownNow();
+        }
+    }
+}
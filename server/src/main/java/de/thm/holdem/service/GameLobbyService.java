@@ -3,8 +3,10 @@ package de.thm.holdem.service;
 import de.thm.holdem.dto.ClientOperation;
 import de.thm.holdem.dto.PokerGameLobbyDto;
 import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameListing;
 import de.thm.holdem.model.user.UserExtra;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -30,6 +32,13 @@ public interface GameLobbyService {
      */
     void broadcast(PokerGame game, ClientOperation operation);
 
+    /**
+     * Broadcasts the removal of several games in one message to all clients connected to the lobby.
+     *
+     * @param listings the listings of the removed games
+     */
+    void broadcastDeleted(Collection<PokerGameListing> listings);
+
     /**
      * Broadcasts all games to all clients connected to the lobby.
      */
@@ -3,11 +3,13 @@ package de.thm.holdem.service;
 import de.thm.holdem.dto.ClientOperation;
 import de.thm.holdem.dto.PokerGameLobbyDto;
 import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameListing;
 import de.thm.holdem.model.user.UserExtra;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,7 +31,8 @@ public class GameLobbyServiceImpl implements GameLobbyService {
 
     /** {@inheritDoc} */
     public List<PokerGameLobbyDto> getPokerGames() {
-        return registry.getGames().stream().map(PokerGameLobbyDto::from).toList();
+        // the lobby is built from the listings, so no game is read outside of its mailbox
+        return registry.getListings().stream().map(PokerGameLobbyDto::from).toList();
     }
 
     /** {@inheritDoc} */
@@ -42,5 +45,15 @@ public class GameLobbyServiceImpl implements GameLobbyService {
         websocketService.broadcast("/topic/lobby", PokerGameLobbyDto.from(game, operation));
     }
 
+    /** {@inheritDoc} */
+    public void broadcastDeleted(Collection<PokerGameListing> listings) {
+        if (listings.isEmpty()) {
+            return;
+        }
+        websocketService.broadcast("/topic/lobby", listings.stream()
+                .map(listing -> PokerGameLobbyDto.from(listing, ClientOperation.DELETE))
+                .toList());
+    }
+
 
 }
@@ -0,0 +1,130 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.dto.ClientOperation;
+import de.thm.holdem.dto.PokerGameStateDeltaDto;
+import de.thm.holdem.dto.PokerGameStateDto;
+import de.thm.holdem.dto.PokerPlayerStateDto;
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.player.Player;
+import de.thm.holdem.model.player.PokerPlayer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The versioned stream of the states of every table.
+ *
+ * <p>
+ *     Every state that is sent for a table gets the next sequence number of the table. The first state, a state
+ *     after a player joined or left and the showdown are sent as full snapshot, all other states only as
+ *     {@link PokerGameStateDeltaDto} with the changes since the previous state. A client that misses a number
+ *     requests a snapshot with {@link #snapshot(PokerGame, String)}. The private info of a player is only sent
+ *     when it changed. All methods have to be called in the mailbox of the table.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class GameStateStream {
+
+    /** The state of the stream of a table. */
+    private static final class TableStream {
+
+        /** The sequence number of the last sent state. */
+        private long seq;
+
+        /** The last sent state. */
+        private PokerGameStateDto last;
+
+        /** The last sent private info by player id. */
+        private final Map<String, PokerPlayerStateDto> lastPrivate = new HashMap<>();
+    }
+
+    private final WebsocketService websocketService;
+
+    /** The streams by the id of their table. */
+    private final Map<String, TableStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Method to send the current state of a table to all its subscribers.
+     *
+     * @param game the game.
+     * @param operation the operation that changed the state.
+     */
+    public void publish(PokerGame game, ClientOperation operation) {
+        TableStream stream = streams.computeIfAbsent(game.getId(), id -> new TableStream());
+        PokerGameStateDto state = PokerGameStateDto.from(game, operation);
+        state.setSeq(++stream.seq);
+        PokerGameStateDto previous = stream.last;
+        stream.last = state;
+
+        String destination = "/topic/game/" + game.getId();
+        // the client plays the showdown from the full state
+        if (previous == null || operation == ClientOperation.SHOWDOWN
+                || !PokerGameStateDeltaDto.isPossible(previous, state)) {
+            websocketService.broadcast(destination, state);
+        } else {
+            websocketService.broadcast(destination, PokerGameStateDeltaDto.between(previous, state));
+        }
+    }
+
+    /**
+     * Method to send the private info of every connected player of a table, if it changed since it was sent last.
+     *
+     * @param game the game.
+     */
+    public void publishPrivate(PokerGame game) {
+        TableStream stream = streams.computeIfAbsent(game.getId(), id -> new TableStream());
+        for (Player player : game.getPlayerList()) {
+            // the private info of a player that is not connected would be dropped anyway
+            if (!websocketService.isConnected(player.getId())) {
+                stream.lastPrivate.remove(player.getId());
+                continue;
+            }
+            PokerPlayerStateDto privateInfo = PokerPlayerStateDto.from((PokerPlayer) player, game, true);
+            if (!privateInfo.equals(stream.lastPrivate.put(player.getId(), privateInfo))) {
+                websocketService.sendPrivate(player.getId(), game.getId() + "/private-info", privateInfo);
+            }
+        }
+    }
+
+    /**
+     * Method to get a full snapshot of a table for a player, with his private info and the sequence number of the
+     * last sent state, so the client can apply the following deltas.
+     *
+     * @param game the game.
+     * @param playerId the id of the player.
+     * @return the snapshot.
+     */
+    public PokerGameStateDto snapshot(PokerGame game, String playerId) {
+        TableStream stream = streams.computeIfAbsent(game.getId(), id -> new TableStream());
+        PokerPlayer player = (PokerPlayer) game.getPlayerById(playerId);
+        PokerGameStateDto snapshot = PokerGameStateDto.from(game);
+        snapshot.setSeq(stream.seq);
+        int playerIndex = game.getPlayerList().indexOf(player);
+        if (playerIndex != -1) {
+            List<PokerPlayerStateDto> players = new ArrayList<>(snapshot.getPlayers());
+            players.set(playerIndex, PokerPlayerStateDto.from(player, game, true));
+            snapshot.setPlayers(players);
+        }
+        // the client starts over, so its private info is sent again with the next change
+        stream.lastPrivate.remove(playerId);
+        return snapshot;
+    }
+
+    /**
+     * Method to drop the stream of a table that was removed.
+     *
+     * @param gameId the id of the game.
+     */
+    public void remove(String gameId) {
+        streams.remove(gameId);
+    }
+}
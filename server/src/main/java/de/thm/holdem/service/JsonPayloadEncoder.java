@@ -0,0 +1,44 @@
+package de.thm.holdem.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Implementation of {@link PayloadEncoder} that encodes the payloads as JSON with the object mapper of the
+ * application.
+ *
+ * <p>
+ *     This is the encoding of every session that did not choose another one, so it is the primary encoder.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class JsonPayloadEncoder implements PayloadEncoder {
+
+    private final ObjectMapper objectMapper;
+
+    /** {@inheritDoc} */
+    @Override
+    public byte[] encode(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not encode " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MimeType getContentType() {
+        return MimeTypeUtils.APPLICATION_JSON;
+    }
+}
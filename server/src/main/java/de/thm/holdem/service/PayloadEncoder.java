@@ -0,0 +1,43 @@
+package de.thm.holdem.service;
+
+import org.springframework.util.MimeType;
+
+/**
+ * Encoder for the payloads sent over the websocket.
+ *
+ * <p>
+ *     A payload is encoded once into bytes, which are then sent to every destination and session as they are, so
+ *     the message converters of the broker do not encode it again.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public interface PayloadEncoder {
+
+    /**
+     * Encodes a payload.
+     *
+     * @param payload the payload to encode.
+     * @return the encoded payload.
+     * @throws IllegalArgumentException if the payload can not be encoded.
+     */
+    byte[] encode(Object payload);
+
+    /**
+     * Checks if payloads of a type can be encoded.
+     *
+     * @param type the type of the payload.
+     * @return true if the payloads can be encoded, false otherwise.
+     */
+    default boolean supports(Class<?> type) {
+        return true;
+    }
+
+    /**
+     * Returns the content type of the encoded payloads.
+     *
+     * @return the content type.
+     */
+    MimeType getContentType();
+}
@@ -0,0 +1,193 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.exception.NotFoundException;
+import de.thm.holdem.model.game.GameStatus;
+import de.thm.holdem.model.game.poker.BettingRound;
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameListing;
+import de.thm.holdem.model.player.Player;
+import de.thm.holdem.settings.PokerGameSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class removes tables from the {@link PokerGameRegistry} that are not played anymore.
+ *
+ * <p>
+ *     The reaper runs on the shared task scheduler and evicts finished tables, tables that wait for players without
+ *     any change and tables none of whose players is connected, each after its own time to live. The chips of the
+ *     remaining players are taken in the mailbox of the table and paid back to their bankroll outside of it, bets of
+ *     an unfinished hand are returned. The lobby is told about all evicted tables of a run in a single message.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class PokerGameReaper {
+
+    /** The reasons a table is evicted for. */
+    enum EvictionReason {
+        FINISHED, IDLE, ABANDONED
+    }
+
+    private final PokerGameRegistry registry;
+
+    private final GameExecutor gameExecutor;
+
+    private final UserService userService;
+
+    private final GameLobbyService gameLobbyService;
+
+    private final ConnectionRegistry connectionRegistry;
+
+    private final GameStateStream gameStateStream;
+
+    private final PokerGameSettings settings;
+
+    /** The number of evicted tables by reason. */
+    private final Map<EvictionReason, Counter> evicted = new EnumMap<>(EvictionReason.class);
+
+    /**
+     * Constructor to create the reaper and register its metrics.
+     *
+     * @param registry the registry of the tables.
+     * @param gameExecutor the executor of the table mailboxes.
+     * @param userService the service to pay the chips back.
+     * @param gameLobbyService the service to notify the lobby.
+     * @param connectionRegistry the registry of the connected users.
+     * @param gameStateStream the stream of the table states.
+     * @param settings the settings with the times to live.
+     * @param meterRegistry the registry of the metrics.
+     */
+    public PokerGameReaper(PokerGameRegistry registry, GameExecutor gameExecutor, UserService userService,
+                           GameLobbyService gameLobbyService, ConnectionRegistry connectionRegistry,
+                           GameStateStream gameStateStream, PokerGameSettings settings, MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.gameExecutor = gameExecutor;
+        this.userService = userService;
+        this.gameLobbyService = gameLobbyService;
+        this.connectionRegistry = connectionRegistry;
+        this.gameStateStream = gameStateStream;
+        this.settings = settings;
+        Gauge.builder("poker.tables.live", registry, PokerGameRegistry::size)
+                .description("The number of tables in the registry")
+                .register(meterRegistry);
+        for (EvictionReason reason : EvictionReason.values()) {
+            evicted.put(reason, Counter.builder("poker.tables.evicted")
+                    .description("The number of tables removed by the reaper")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Evicts all tables whose time to live has expired.
+     */
+    @Scheduled(fixedDelayString = "${poker-game-settings.reaper-interval:60}",
+            initialDelayString = "${poker-game-settings.reaper-interval:60}", timeUnit = TimeUnit.SECONDS)
+    public void reap() {
+        List<PokerGameListing> evictedListings = reap(System.currentTimeMillis());
+        if (!evictedListings.isEmpty()) {
+            log.info("Evicted {} tables, {} tables left", evictedListings.size(), registry.size());
+        }
+    }
+
+    /**
+     * Evicts all tables whose time to live has expired at a point in time.
+     *
+     * @param now the point in time in milliseconds since the epoch.
+     * @return the listings of the evicted tables.
+     */
+    List<PokerGameListing> reap(long now) {
+        List<CompletableFuture<PokerGameListing>> evictions = new ArrayList<>();
+        for (PokerGameListing listing : registry.getListings()) {
+            if (getEvictionReason(listing, now) != null) {
+                evictions.add(gameExecutor.submit(listing.gameId(), () -> evict(listing.gameId(), now)));
+            }
+        }
+        List<PokerGameListing> evictedListings = new ArrayList<>(evictions.size());
+        for (CompletableFuture<PokerGameListing> eviction : evictions) {
+            try {
+                evictedListings.add(eviction.join());
+            } catch (RuntimeException e) {
+                log.error("Could not evict a table", e);
+            }
+        }
+        evictedListings.removeIf(Objects::isNull);
+        gameLobbyService.broadcastDeleted(evictedListings);
+        return evictedListings;
+    }
+
+    /**
+     * Method to determine why a table should be evicted.
+     *
+     * @param listing the listing of the table.
+     * @param now the point in time in milliseconds since the epoch.
+     * @return the reason or null if the table should be kept.
+     */
+    EvictionReason getEvictionReason(PokerGameListing listing, long now) {
+        long age = now - listing.updatedAt();
+        if (listing.gameStatus() == GameStatus.FINISHED) {
+            return age >= TimeUnit.SECONDS.toMillis(settings.getFinishedTableTtl()) ? EvictionReason.FINISHED : null;
+        }
+        if (listing.gameStatus() == GameStatus.WAITING && age >= TimeUnit.SECONDS.toMillis(settings.getWaitingTableTtl())) {
+            return EvictionReason.IDLE;
+        }
+        if (age >= TimeUnit.SECONDS.toMillis(settings.getAbandonedTableTtl())
+                && listing.playerIds().stream().noneMatch(connectionRegistry::isConnected)) {
+            return EvictionReason.ABANDONED;
+        }
+        return null;
+    }
+
+    /**
+     * Evicts a table in its mailbox, if it still has to be evicted.
+     *
+     * @param gameId the id of the table.
+     * @param now the point in time in milliseconds since the epoch.
+     * @return the listing of the evicted table or null if it was kept.
+     */
+    private PokerGameListing evict(String gameId, long now) throws NotFoundException {
+        // the table can have changed since the listing was read
+        PokerGameListing listing = registry.getListing(gameId);
+        EvictionReason reason = listing != null ? getEvictionReason(listing, now) : null;
+        if (reason == null) {
+            return null;
+        }
+        PokerGame game = registry.getGame(gameId);
+        boolean handRunning = game.getBettingRound().isAfter(BettingRound.NONE)
+                && game.getBettingRound().isBefore(BettingRound.END);
+        for (Player player : new ArrayList<>(game.getPlayerList())) {
+            if (handRunning) {
+                // the pots of an unfinished hand are paid back to the players
+                player.win(player.getCurrentBet());
+            }
+            long bankroll = player.leaveGame();
+            game.removePlayer(player);
+            String playerId = player.getId();
+            gameExecutor.submitBlocking(playerId, () -> userService.leaveGame(playerId, bankroll)).exceptionally(e -> {
+                log.error("Could not pay back {} chips to user {}", bankroll, playerId, e);
+                return null;
+            });
+        }
+        game.endGame();
+        registry.removeGame(gameId);
+        gameStateStream.remove(gameId);
+        evicted.get(reason).increment();
+        return listing;
+    }
+}
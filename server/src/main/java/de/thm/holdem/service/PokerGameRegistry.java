@@ -1,17 +1,26 @@
 package de.thm.holdem.service;
 
 import de.thm.holdem.exception.NotFoundException;
+import de.thm.holdem.model.game.GameStatus;
 import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameListing;
+import de.thm.holdem.model.game.poker.TableType;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * This class is a registry that stores all currently active poker games.
  *
+ * <p>
+ *     The games are stored in a concurrent map together with a {@link PokerGameListing} of each game. The listings
+ *     are indexed by status, table type, buy-in and free seats, and the ids of the players are mapped to their game,
+ *     so lookups and the search for a free seat do not scan all games. A game changes only in its mailbox, after
+ *     every change {@link #update(PokerGame)} replaces its listing and moves it in the indexes.
+ * </p>
+ *
  * @see PokerGame
  *
  * @author Valentin Laucht
@@ -20,25 +29,146 @@ import java.util.Map;
 @Service
 public class PokerGameRegistry implements GameRegistry<PokerGame> {
 
-    /** Hash map to store all currently active poker games. */
-    private final Map<String, PokerGame> games = new HashMap<>();
+    /** Greater than every game id, used as upper bound of buy-in ranges. */
+    private static final String MAX_ID = "\uffff";
+
+    /**
+     * Record to order the games in the buy-in indexes by buy-in and id.
+     *
+     * @param buyIn the buy-in of the game.
+     * @param gameId the id of the game.
+     */
+    private record BuyInKey(long buyIn, String gameId) implements Comparable<BuyInKey> {
+
+        @Override
+        public int compareTo(BuyInKey other) {
+            int compare = Long.compare(buyIn, other.buyIn);
+            return compare != 0 ? compare : gameId.compareTo(other.gameId);
+        }
+    }
+
+    /** Map to store all currently active poker games. */
+    private final Map<String, PokerGame> games = new ConcurrentHashMap<>();
+
+    /** The latest listing of every game. */
+    private final Map<String, PokerGameListing> listings = new ConcurrentHashMap<>();
+
+    /** The ids of the games by their status. */
+    private final Map<GameStatus, Set<String>> byStatus = new EnumMap<>(GameStatus.class);
+
+    /** The ids of the games by their table type. */
+    private final Map<TableType, Set<String>> byTableType = new EnumMap<>(TableType.class);
+
+    /** The games ordered by their buy-in. */
+    private final NavigableSet<BuyInKey> byBuyIn = new ConcurrentSkipListSet<>();
+
+    /** The games that can be joined by table type, ordered by their buy-in. */
+    private final Map<TableType, NavigableSet<BuyInKey>> joinable = new EnumMap<>(TableType.class);
+
+    /** The id of the game of every player. */
+    private final Map<String, String> gameIdByPlayer = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to create an empty registry.
+     */
+    public PokerGameRegistry() {
+        // the enum maps are filled once and only their concurrent values change afterwards
+        for (GameStatus status : GameStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+        for (TableType tableType : TableType.values()) {
+            byTableType.put(tableType, ConcurrentHashMap.newKeySet());
+            joinable.put(tableType, new ConcurrentSkipListSet<>());
+        }
+    }
 
     /** {@inheritDoc} */
     public PokerGame getGame(String id) throws NotFoundException {
-        if (!containsGame(id)) {
+        PokerGame game = games.get(id);
+        if (game == null) {
             throw new NotFoundException(String.format("Game with id %s not found.", id));
         }
-        return games.get(id);
+        return game;
     }
 
     /** {@inheritDoc} */
     public void addGame(PokerGame game) {
         games.put(game.getId(), game);
+        update(game);
+    }
+
+    /**
+     * Updates the listing of a game and its position in the indexes.
+     *
+     * <p>
+     *     Has to be called in the mailbox of the game after every change of its status or players. The new entries
+     *     are indexed before the stale ones are removed, so a reader never misses a game or a player that stays in it.
+     * </p>
+     *
+     * @param game the game that changed.
+     */
+    public void update(PokerGame game) {
+        if (!games.containsKey(game.getId())) {
+            return;
+        }
+        PokerGameListing listing = PokerGameListing.of(game);
+        PokerGameListing previous = listings.put(game.getId(), listing);
+        index(listing);
+        if (previous != null) {
+            unindex(previous, listing);
+        }
     }
 
     /** {@inheritDoc} */
     public void removeGame(String id) {
         games.remove(id);
+        PokerGameListing listing = listings.remove(id);
+        if (listing != null) {
+            unindex(listing, null);
+        }
+    }
+
+    private void index(PokerGameListing listing) {
+        String id = listing.gameId();
+        byStatus.get(listing.gameStatus()).add(id);
+        byTableType.get(listing.tableType()).add(id);
+        BuyInKey key = new BuyInKey(listing.buyIn(), id);
+        byBuyIn.add(key);
+        if (listing.isJoinable()) {
+            joinable.get(listing.tableType()).add(key);
+        }
+        for (String playerId : listing.playerIds()) {
+            gameIdByPlayer.put(playerId, id);
+        }
+    }
+
+    /**
+     * Removes the index entries of a listing that the current listing of the game does not have.
+     *
+     * @param listing the listing whose entries are removed.
+     * @param current the current listing of the game, or null if the game was removed.
+     */
+    private void unindex(PokerGameListing listing, PokerGameListing current) {
+        String id = listing.gameId();
+        if (current == null || current.gameStatus() != listing.gameStatus()) {
+            byStatus.get(listing.gameStatus()).remove(id);
+        }
+        if (current == null || current.tableType() != listing.tableType()) {
+            byTableType.get(listing.tableType()).remove(id);
+        }
+        BuyInKey key = new BuyInKey(listing.buyIn(), id);
+        if (current == null || current.buyIn() != listing.buyIn()) {
+            byBuyIn.remove(key);
+        }
+        if (current == null || !current.isJoinable() || current.tableType() != listing.tableType()
+                || current.buyIn() != listing.buyIn()) {
+            joinable.get(listing.tableType()).remove(key);
+        }
+        for (String playerId : listing.playerIds()) {
+            if (current == null || !current.playerIds().contains(playerId)) {
+                gameIdByPlayer.remove(playerId, id);
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -49,6 +179,12 @@ public class PokerGameRegistry implements GameRegistry<PokerGame> {
     /** {@inheritDoc} */
     public void clear() {
         games.clear();
+        listings.clear();
+        byStatus.values().forEach(Set::clear);
+        byTableType.values().forEach(Set::clear);
+        byBuyIn.clear();
+        joinable.values().forEach(Set::clear);
+        gameIdByPlayer.clear();
     }
 
     /** {@inheritDoc} */
@@ -60,4 +196,90 @@ public class PokerGameRegistry implements GameRegistry<PokerGame> {
     public List<PokerGame> getGames() {
         return new ArrayList<>(games.values());
     }
+
+    /**
+     * Returns the listings of all games, without reading the games themselves.
+     *
+     * @return a view of the listings.
+     */
+    public Collection<PokerGameListing> getListings() {
+        return Collections.unmodifiableCollection(listings.values());
+    }
+
+    /**
+     * Returns the listing of a game.
+     *
+     * @param id the id of the game.
+     * @return the listing or null if no game with the id exists.
+     */
+    public PokerGameListing getListing(String id) {
+        return listings.get(id);
+    }
+
+    /**
+     * Returns the id of the game a player sits at.
+     *
+     * @param playerId the id of the player.
+     * @return the id of the game or null if the player is not in a game.
+     */
+    public String getGameIdOfPlayer(String playerId) {
+        return gameIdByPlayer.get(playerId);
+    }
+
+    /**
+     * Returns the ids of the games with a status.
+     *
+     * @param status the status.
+     * @return a view of the ids.
+     */
+    public Set<String> getGameIds(GameStatus status) {
+        return Collections.unmodifiableSet(byStatus.get(status));
+    }
+
+    /**
+     * Returns the ids of the games with a table type.
+     *
+     * @param tableType the table type.
+     * @return a view of the ids.
+     */
+    public Set<String> getGameIds(TableType tableType) {
+        return Collections.unmodifiableSet(byTableType.get(tableType));
+    }
+
+    /**
+     * Returns the ids of the games with a buy-in in a range.
+     *
+     * @param minBuyIn the lowest buy-in, inclusive.
+     * @param maxBuyIn the highest buy-in, inclusive.
+     * @return the ids, ordered by buy-in.
+     */
+    public List<String> getGameIds(long minBuyIn, long maxBuyIn) {
+        List<String> ids = new ArrayList<>();
+        for (BuyInKey key : byBuyIn.subSet(new BuyInKey(minBuyIn, ""), true, new BuyInKey(maxBuyIn, MAX_ID), true)) {
+            ids.add(key.gameId());
+        }
+        return ids;
+    }
+
+    /**
+     * Finds a game that has not started yet and has a free seat.
+     *
+     * <p>
+     *     The game with the highest buy-in the player can afford is chosen.
+     * </p>
+     *
+     * @param tableType the table type of the game.
+     * @param maxBuyIn the highest buy-in the player can pay.
+     * @return the listing of the game or null if no game has a free seat.
+     */
+    public PokerGameListing findOpenSeat(TableType tableType, long maxBuyIn) {
+        for (BuyInKey key : joinable.get(tableType).headSet(new BuyInKey(maxBuyIn, MAX_ID), true).descendingSet()) {
+            PokerGameListing listing = listings.get(key.gameId());
+            // the listing can be replaced between the lookup in the index and here
+            if (listing != null && listing.isJoinable()) {
+                return listing;
+            }
+        }
+        return null;
+    }
 }
@@ -8,9 +8,18 @@ import de.thm.holdem.exception.ApiError;
 import de.thm.holdem.exception.NotFoundException;
 import de.thm.holdem.model.game.poker.PokerGame;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service Interface for business logic regarding poker games.
  *
+ * <p>
+ *     Everything that reads or changes a running game is queued in the mailbox of the game in the
+ *     {@link GameExecutor}, those methods return a {@link CompletableFuture} that completes when the game has
+ *     processed the command.
+ * </p>
+ *
  * @author Valentin Laucht
  * @version 1.0
  */
@@ -32,8 +41,21 @@ public interface PokerGameService {
      *
      * @param gameId the id of the game
      * @param playerId the id of the player
+     * @return completes when the player left, exceptionally with a {@link NotFoundException} if he is not in the game
+     * @throws NotFoundException if the game could not be found.
+     */
+    CompletableFuture<Void> leaveGame(String gameId, String playerId) throws NotFoundException;
+
+    /** Removes several players from a game at once, players that are not in the game anymore are skipped.
+     *
+     * <p> The game state and the lobby are only notified once for all players.
+     *
+     * @param gameId the id of the game
+     * @param playerIds the ids of the players
+     * @return completes when the players left
+     * @throws NotFoundException if the game could not be found.
      */
-    void leaveGame(String gameId, String playerId) throws NotFoundException;
+    CompletableFuture<Void> leaveGame(String gameId, Collection<String> playerIds) throws NotFoundException;
 
     /**
      * Broadcasts the current game state to all players in the game.
@@ -51,6 +73,16 @@ public interface PokerGameService {
      */
     PokerGame getGame(String gameId) throws NotFoundException;
 
+    /**
+     * Get the state of a game with the private information of a player.
+     *
+     * @param gameId the id of the game.
+     * @param playerId the id of the player.
+     * @return the game state, null if the player is not in the game.
+     * @throws NotFoundException if the game could not be found.
+     */
+    CompletableFuture<PokerGameStateDto> getGameState(String gameId, String playerId) throws NotFoundException;
+
     /**
      * Checks if a player is in a game.
      *
@@ -65,22 +97,31 @@ public interface PokerGameService {
      *
      * @param gameId the id of the game.
      * @param userId the id of the user.
-     * @return the game.
-     * @throws Exception if the user could not be joined to the game.
+     * @return the game state after the join, completed exceptionally if the user could not be joined to the game.
+     * @throws NotFoundException if the game could not be found.
      */
-    PokerGame joinGame(String gameId, String userId) throws Exception;
+    CompletableFuture<PokerGameStateDto> joinGame(String gameId, String userId) throws NotFoundException;
 
     /**
      * Starts a game.
      *
      * @param gameId the id of the game.
      * @param playerId the id of the player.
-     * @throws Exception if the game could not be started.
+     * @return completes when the game was started, exceptionally if the game could not be started.
+     * @throws NotFoundException if the game could not be found.
      */
-    void startGame(String gameId, String playerId) throws Exception;
+    CompletableFuture<Void> startGame(String gameId, String playerId) throws NotFoundException;
 
     PokerGameStateDto mergePrivateInfo(PokerGame game, String playerId);
-    void performAction(GameActionRequest request, String playerId);
+
+    /**
+     * Performs the action of a player, errors are sent to the player.
+     *
+     * @param request the action request.
+     * @param playerId the id of the player.
+     * @return completes when the action was processed.
+     */
+    CompletableFuture<Void> performAction(GameActionRequest request, String playerId);
 
     void sendErrorMessage(String playerId, ApiError error);
 }
@@ -5,23 +5,31 @@ import de.thm.holdem.exception.ApiError;
 import de.thm.holdem.exception.GameActionException;
 import de.thm.holdem.exception.NotFoundException;
 import de.thm.holdem.model.game.Game;
+import de.thm.holdem.model.game.GameEvent;
 import de.thm.holdem.model.game.GameListener;
 import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameEvent;
 import de.thm.holdem.model.game.poker.PokerPlayerAction;
 import de.thm.holdem.model.player.Player;
 import de.thm.holdem.model.player.PokerPlayer;
 import de.thm.holdem.model.user.UserExtra;
 import de.thm.holdem.settings.PokerGameSettings;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.math.BigInteger;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PokerGameServiceImpl implements PokerGameService, GameListener {
@@ -36,6 +44,16 @@ public class PokerGameServiceImpl implements PokerGameService, GameListener {
 
     private final WebsocketService websocketService;
 
+    private final GameStateStream gameStateStream;
+
+    private final GameExecutor gameExecutor;
+
+    private final ActionTimer actionTimer;
+
+    private final BlindClock blindClock;
+
+    private final EquityCalculator equityCalculator;
+
 
     /**
      * {@inheritDoc}
@@ -43,64 +61,75 @@ public class PokerGameServiceImpl implements PokerGameService, GameListener {
     public PokerGame createGame(String playerId, PokerGameCreateRequest request) throws Exception {
         UserExtra userExtra = userService.getUserExtra(playerId);
 
-        if (userExtra.getBankroll().compareTo(BigInteger.valueOf(request.getBuyIn())) < 0) {
+        if (userExtra.getBankroll() < request.getBuyIn()) {
             throw new GameActionException("Not enough cash to create the game.");
         }
 
         PokerPlayer pokerPlayer = new PokerPlayer(playerId, userExtra.getUsername(), userExtra.getAvatar(),
                 userExtra.getBankroll());
-        PokerGame game = new PokerGame(pokerPlayer, BigInteger.valueOf(request.getBuyIn()),
+        PokerGame game = new PokerGame(pokerPlayer, request.getBuyIn(),
                 settings, request.getTableType(), request.getMaxPlayerCount(), request.getName());
-        userExtra.setBankroll(pokerPlayer.joinGame(BigInteger.valueOf(request.getBuyIn())));
+        userExtra.setBankroll(pokerPlayer.joinGame(request.getBuyIn()));
+        // the listener is added before other threads can see the game
+        game.addListener(this);
         registry.addGame(game);
         userExtra.setActiveGameId(game.getId());
         userService.playGame(userExtra);
         userService.notifyUserUpdate(userExtra);
         gameLobbyService.broadcast(game, ClientOperation.CREATE);
-        game.addListener(this);
         return game;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public CompletableFuture<PokerGameStateDto> getGameState(String gameId, String playerId) throws NotFoundException {
+        PokerGame game = getGame(gameId);
+        return gameExecutor.submit(gameId, () -> isPlayerInGame(game, playerId) ? mergePrivateInfo(game, playerId) : null);
+    }
+
     public PokerGameStateDto mergePrivateInfo(PokerGame game, String playerId) {
-        PokerPlayer player = (PokerPlayer) game.getPlayerById(playerId);
-        int playerIndex = game.getPlayerList().indexOf(player);
-        PokerGameStateDto gameStateDto = PokerGameStateDto.from(game);
-        PokerPlayerStateDto privateInfo = PokerPlayerStateDto.from(player, game, true);
-        if (playerIndex != -1) {
-            List<PokerPlayerStateDto> players = new ArrayList<>(gameStateDto.getPlayers());
-            players.set(playerIndex, privateInfo);
-            gameStateDto.setPlayers(players);
-        }
-        return gameStateDto;
+        return gameStateStream.snapshot(game, playerId);
     }
 
 
-    public void performAction(GameActionRequest request, String playerId) {
+    /**
+     * {@inheritDoc}
+     */
+    public CompletableFuture<Void> performAction(GameActionRequest request, String playerId) {
         String action = request.getAction();
         PokerPlayerAction pokerAction = PokerPlayerAction.fromString(action);
 
-        if (pokerAction != null) {
-            try {
-                PokerGame game = registry.getGame(request.getGameId());
-                PokerPlayer player = (PokerPlayer) game.getPlayerById(playerId);
-                if (player == null) {
-                    throw new NotFoundException("Player not found");
-                }
-                switch (pokerAction) {
-                    case FOLD -> game.fold(player);
-                    case CHECK -> game.check(player);
-                    case CALL -> game.call(player);
-                    case RAISE -> game.raise(player, BigInteger.valueOf(request.getAmount()));
-                    case ALL_IN -> game.allIn(player);
-                    default -> {
-                    }
-                }
-            } catch (Exception e) {
-                sendErrorMessage(playerId, getApiError(e));
-            }
-        } else {
+        if (pokerAction == null) {
             sendErrorMessage(playerId, getApiError("Invalid action"));
+            return CompletableFuture.completedFuture(null);
         }
+        return gameExecutor.execute(request.getGameId(), () -> {
+            PokerGame game = registry.getGame(request.getGameId());
+            PokerPlayer player = (PokerPlayer) game.getPlayerById(playerId);
+            if (player == null) {
+                throw new NotFoundException("Player not found");
+            }
+            switch (pokerAction) {
+                case FOLD -> game.fold(player);
+                case CHECK -> game.check(player);
+                case CALL -> game.call(player);
+                case RAISE -> game.raise(player, request.getAmount());
+                case ALL_IN -> game.allIn(player);
+                default -> {
+                }
+            }
+        }).exceptionally(e -> {
+            sendErrorMessage(playerId, getApiError(unwrap(e)));
+            return null;
+        });
+    }
+
+    private Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return cause instanceof Exception exception ? exception : new CompletionException(cause);
     }
 
     private ApiError getApiError(Exception exception) {
@@ -124,64 +153,96 @@ public class PokerGameServiceImpl implements PokerGameService, GameListener {
     }
 
 
-    public PokerGame joinGame(String gameId, String userId) throws Exception {
+    /**
+     * {@inheritDoc}
+     */
+    public CompletableFuture<PokerGameStateDto> joinGame(String gameId, String userId) throws NotFoundException {
         PokerGame game = registry.getGame(gameId);
-        if (game == null) {
-            throw new NotFoundException("Game not found");
-        }
-        UserExtra userExtra = userService.getUserExtra(userId);
-        if (userExtra.getBankroll().compareTo(game.getBuyIn()) < 0) {
+        // the repository is called outside of the mailbox, only the seat is taken in it
+        return gameExecutor.submitBlocking(userId, () -> userService.getUserExtra(userId))
+                .thenCompose(userExtra -> gameExecutor.submit(gameId, () -> joinGame(game, userExtra)))
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<PokerGameStateDto> joinGame(PokerGame game, UserExtra userExtra) throws Exception {
+        if (userExtra.getBankroll() < game.getBuyIn()) {
             throw new GameActionException("Not enough cash to join the game.");
         }
-        PokerPlayer pokerPlayer = new PokerPlayer(userId, userExtra.getUsername(), userExtra.getAvatar(),
+        PokerPlayer pokerPlayer = new PokerPlayer(userExtra.getId(), userExtra.getUsername(), userExtra.getAvatar(),
                 userExtra.getBankroll());
         game.addPlayer(pokerPlayer);
         userExtra.setBankroll(pokerPlayer.joinGame(game.getBuyIn()));
         userExtra.setActiveGameId(game.getId());
-        userService.playGame(userExtra);
-        userService.notifyUserUpdate(userExtra);
+        registry.update(game);
         gameLobbyService.broadcast(game, ClientOperation.UPDATE);
         broadcastGameState(game, ClientOperation.JOIN_PLAYER);
-        return game;
+        PokerGameStateDto state = PokerGameStateDto.from(game);
+        // queued from the mailbox, so a later leave of the player is stored after the join
+        return gameExecutor.submitBlocking(userExtra.getId(), () -> {
+            userService.playGame(userExtra);
+            userService.notifyUserUpdate(userExtra);
+            return state;
+        });
     }
 
     @Override
-    public void startGame(String gameId, String playerId) throws Exception {
+    public CompletableFuture<Void> startGame(String gameId, String playerId) throws NotFoundException {
         PokerGame game = registry.getGame(gameId);
-        if (game == null) {
-            throw new NotFoundException("Game not found");
-        }
-        // only creator should be able to start the game, but if he leaves, there should be a backup
-        if (!game.getPlayerList().get(0).getId().equals(playerId)) {
-            throw new GameActionException("You can not start this game.");
-        }
-        game.startGame();
-        gameLobbyService.broadcast(game, ClientOperation.UPDATE);
+        return gameExecutor.execute(gameId, () -> {
+            // only creator should be able to start the game, but if he leaves, there should be a backup
+            if (!game.getPlayerList().get(0).getId().equals(playerId)) {
+                throw new GameActionException("You can not start this game.");
+            }
+            game.startGame();
+            registry.update(game);
+            gameLobbyService.broadcast(game, ClientOperation.UPDATE);
+        });
     }
 
     /**
      * {@inheritDoc}
      */
-    public void leaveGame(String gameID, String playerId) throws NotFoundException {
+    public CompletableFuture<Void> leaveGame(String gameID, String playerId) throws NotFoundException {
         PokerGame game = registry.getGame(gameID);
-        Player player = game.getPlayerById(playerId);
-
-        if (player == null) {
-            throw new NotFoundException("Player not found");
-        }
+        return gameExecutor.submit(gameID, () -> {
+            if (game.getPlayerById(playerId) == null) {
+                throw new NotFoundException("Player not found");
+            }
+            return leaveGame(game, List.of(playerId));
+        }).thenCompose(Function.identity());
+    }
 
-        BigInteger bankroll = player.leaveGame();
-        game.removePlayer(player);
+    /**
+     * {@inheritDoc}
+     */
+    public CompletableFuture<Void> leaveGame(String gameId, Collection<String> playerIds) throws NotFoundException {
+        PokerGame game = getGame(gameId);
+        return gameExecutor.submit(gameId, () -> leaveGame(game, playerIds)).thenCompose(Function.identity());
+    }
 
-        userService.leaveGame(playerId, bankroll);
+    private CompletableFuture<Void> leaveGame(PokerGame game, Collection<String> playerIds) {
+        String gameID = game.getId();
+        List<CompletableFuture<UserExtra>> payouts = new ArrayList<>(playerIds.size());
+        for (String playerId : playerIds) {
+            Player player = game.getPlayerById(playerId);
+            if (player == null) {
+                continue;
+            }
+            long bankroll = player.leaveGame();
+            game.removePlayer(player);
+            payouts.add(gameExecutor.submitBlocking(playerId, () -> userService.leaveGame(playerId, bankroll)));
+        }
 
         if (game.getPlayerList().size() == 0) {
             registry.removeGame(gameID);
+            gameStateStream.remove(gameID);
             gameLobbyService.broadcast(game, ClientOperation.DELETE);
         } else {
+            registry.update(game);
             gameLobbyService.broadcast(game, ClientOperation.UPDATE);
             broadcastGameState(game, ClientOperation.LEAVE_PLAYER);
         }
+        return CompletableFuture.allOf(payouts.toArray(CompletableFuture[]::new));
     }
 
 
@@ -194,21 +255,12 @@ public class PokerGameServiceImpl implements PokerGameService, GameListener {
 
     @Override
     public boolean isPlayerInGame(PokerGame game, String playerId) {
-        boolean playerExists = false;
-        for (Player player : game.getPlayerList()) {
-            if (player.getId().equals(playerId)) {
-                playerExists = true;
-                break;
-            }
-        }
-        return playerExists;
+        return game.getId().equals(registry.getGameIdOfPlayer(playerId));
     }
 
     @Override
     public void onNotifyPlayers(Game game, ClientOperation operation) {
-        for (Player player : game.getPlayerList()) {
-            sendPrivateInfo((PokerPlayer) player, (PokerGame) game, game.getId());
-        }
+        gameStateStream.publishPrivate((PokerGame) game);
     }
 
     @Override
@@ -221,15 +273,74 @@ public class PokerGameServiceImpl implements PokerGameService, GameListener {
         broadcastGameState((PokerGame) game, operation);
     }
 
+    @Override
+    public void onGameEvent(Game game, GameEvent event) {
+        if (event instanceof PokerGameEvent.TurnStarted turnStarted) {
+            actionTimer.startTurn((PokerGame) game, turnStarted);
+        } else if (event instanceof PokerGameEvent.ActionTaken actionTaken) {
+            actionTimer.endTurn((PokerGame) game, actionTaken.playerId());
+        } else if (event instanceof PokerGameEvent.HandStarted handStarted && handStarted.hand() == 1) {
+            blindClock.start((PokerGame) game, System.currentTimeMillis());
+        } else if (event instanceof PokerGameEvent.AllIn allIn) {
+            runOutAllIn((PokerGame) game, allIn);
+        } else if (event instanceof PokerGameEvent.HandEnded) {
+            actionTimer.cancel(game.getId());
+            scheduleNextHand((PokerGame) game);
+        } else if (event instanceof PokerGameEvent.GameEnded) {
+            // the clients leave the showdown and the lobby shows the table as finished
+            PokerGame pokerGame = (PokerGame) game;
+            registry.update(pokerGame);
+            gameLobbyService.broadcast(pokerGame, ClientOperation.UPDATE);
+            broadcastGameState(pokerGame, ClientOperation.UPDATE);
+        }
+    }
+
     /**
-     * {@inheritDoc}
+     * Method to calculate the equities of an all-in, show them with the current street and deal the next street
+     * after the time between streets.
+     *
+     * <p>
+     *     The equities are enumerated outside of the mailbox. If they can not be calculated, the street is dealt
+     *     without them.
+     * </p>
+     *
+     * @param game the game of the all-in.
+     * @param allIn the all-in.
      */
-    public void broadcastGameState(PokerGame game, ClientOperation operation) {
-        websocketService.broadcast("/topic/game/" + game.getId(), PokerGameStateDto.from(game, operation));
+    void runOutAllIn(PokerGame game, PokerGameEvent.AllIn allIn) {
+        equityCalculator.calculateAllIn(allIn.holeCards(), allIn.board())
+                .exceptionally(e -> {
+                    log.error("Could not calculate the all-in equities of game {}", game.getId(), e);
+                    return null;
+                })
+                .thenCompose(result -> gameExecutor.execute(game.getId(), () -> {
+                    if (result != null) {
+                        game.setAllInEquities(allIn.hand(), allIn.playerIds(), result);
+                    }
+                    long delay = (long) (settings.getTimeBetweenStreets() * 1000);
+                    gameExecutor.schedule(game.getId(), () -> game.runOutNextStreet(allIn.hand()), delay,
+                            TimeUnit.MILLISECONDS);
+                }));
     }
 
-    public void sendPrivateInfo(PokerPlayer player, PokerGame game, String gameId) {
-        websocketService.sendPrivate(player.getId(), gameId + "/private-info", PokerPlayerStateDto.from(player, game, true));
+    /**
+     * Method to deal the next hand of a game after the time between hands.
+     *
+     * @param game the game whose hand ended.
+     */
+    void scheduleNextHand(PokerGame game) {
+        long delay = (long) (settings.getTimeBetweenHands() * 1000);
+        gameExecutor.schedule(game.getId(), () -> {
+            game.startNextHand();
+            registry.update(game);
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void broadcastGameState(PokerGame game, ClientOperation operation) {
+        gameStateStream.publish(game, operation);
     }
 
 
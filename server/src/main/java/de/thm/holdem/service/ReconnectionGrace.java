@@ -0,0 +1,131 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.exception.NotFoundException;
+import de.thm.holdem.settings.PokerGameSettings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class removes players from their game when they do not reconnect in time.
+ *
+ * <p>
+ *     A player that disconnects during a game gets a grace period in the {@link ConnectionRegistry}, which ends as
+ *     soon as he connects again. All grace periods have the same length, so they expire in the order they were
+ *     started and are kept in a queue. A task on the shared scheduler takes the expired ones from the head of the
+ *     queue every second and removes their players with one command per table. The game of a player is looked up
+ *     in the {@link PokerGameRegistry}, so a disconnect does not need a database query.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class ReconnectionGrace {
+
+    /**
+     * A started grace period.
+     *
+     * @param userId the id of the disconnected user.
+     * @param deadline the end of the grace period in milliseconds since the epoch.
+     */
+    private record GracePeriod(String userId, long deadline) {
+    }
+
+    private final ConnectionRegistry connectionRegistry;
+
+    private final PokerGameRegistry registry;
+
+    private final PokerGameService gameService;
+
+    private final PokerGameSettings settings;
+
+    /** The grace periods in the order they expire. */
+    private final Queue<GracePeriod> gracePeriods = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor to create the grace periods.
+     *
+     * @param connectionRegistry the registry of the connected users.
+     * @param registry the registry of the tables.
+     * @param gameService the service to remove the players from their game.
+     * @param settings the settings with the length of the grace period.
+     */
+    public ReconnectionGrace(ConnectionRegistry connectionRegistry, PokerGameRegistry registry,
+                             PokerGameService gameService, PokerGameSettings settings) {
+        this.connectionRegistry = connectionRegistry;
+        this.registry = registry;
+        this.gameService = gameService;
+        this.settings = settings;
+    }
+
+    /**
+     * Method to start the grace period of a user that disconnected.
+     *
+     * @param userId the id of the user, may be null if the session was already replaced by a new one.
+     * @param now the point in time in milliseconds since the epoch.
+     */
+    public void disconnected(String userId, long now) {
+        // if the user is not currently playing a game, everything is fine
+        if (userId == null || registry.getGameIdOfPlayer(userId) == null) {
+            return;
+        }
+        log.debug("User {} disconnected and is playing a game.", userId);
+        long deadline = now + TimeUnit.SECONDS.toMillis(settings.getReconnectGracePeriod());
+        connectionRegistry.startGracePeriod(userId, deadline);
+        gracePeriods.add(new GracePeriod(userId, deadline));
+    }
+
+    /**
+     * Removes all players whose grace period has expired from their games.
+     */
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void expire() {
+        expire(System.currentTimeMillis());
+    }
+
+    /**
+     * Removes all players whose grace period has expired at a point in time from their games.
+     *
+     * @param now the point in time in milliseconds since the epoch.
+     * @return the ids of the removed players by the id of their game.
+     */
+    Map<String, List<String>> expire(long now) {
+        Map<String, List<String>> expired = new HashMap<>();
+        GracePeriod gracePeriod;
+        while ((gracePeriod = gracePeriods.peek()) != null && gracePeriod.deadline() <= now) {
+            gracePeriods.poll();
+            if (!connectionRegistry.endGracePeriod(gracePeriod.userId(), gracePeriod.deadline())) {
+                continue;
+            }
+            // the player may have left the game on his own in the meantime
+            String gameId = registry.getGameIdOfPlayer(gracePeriod.userId());
+            if (gameId != null) {
+                expired.computeIfAbsent(gameId, id -> new ArrayList<>()).add(gracePeriod.userId());
+            }
+        }
+        expired.forEach(this::leaveGame);
+        return expired;
+    }
+
+    private void leaveGame(String gameId, List<String> playerIds) {
+        log.debug("Removing users {} from game {}, they did not reconnect.", playerIds, gameId);
+        try {
+            gameService.leaveGame(gameId, playerIds).exceptionally(e -> {
+                log.error("Could not remove users {} from game {}", playerIds, gameId, e);
+                return null;
+            });
+        } catch (NotFoundException e) {
+            log.debug("Game {} was removed before its players were.", gameId);
+        }
+    }
+}
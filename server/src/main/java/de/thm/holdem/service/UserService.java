@@ -2,8 +2,6 @@ package de.thm.holdem.service;
 
 import de.thm.holdem.model.user.UserExtra;
 
-import java.math.BigInteger;
-
 /**
  * Service for the {@link UserExtra}.
  *
@@ -69,7 +67,7 @@ public interface UserService {
      * @param bankroll the new bankroll of the user
      * @return the updated {@link UserExtra}
      */
-    UserExtra leaveGame(String id, BigInteger bankroll);
+    UserExtra leaveGame(String id, long bankroll);
 
     void notifyUserUpdate(UserExtra userExtra);
 }
@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.math.BigInteger;
 import java.util.Optional;
 
 /**
@@ -55,7 +54,7 @@ public class UserServiceImpl implements UserService  {
         UserExtra newUserExtra = new UserExtra(id, username);
         String avatar = avatarService.getRandomAvatarUrl();
         newUserExtra.setAvatar(avatar);
-        newUserExtra.setBankroll(new BigInteger(initialBankroll));
+        newUserExtra.setBankroll(Long.parseLong(initialBankroll));
         return userExtraRepository.save(newUserExtra);
     }
 
@@ -94,7 +93,7 @@ public class UserServiceImpl implements UserService  {
     @Override
     public UserExtra recharge(String id) {
         UserExtra userExtra = getUserExtra(id);
-        userExtra.setBankroll(new BigInteger(initialBankroll));
+        userExtra.setBankroll(Long.parseLong(initialBankroll));
         return userExtraRepository.save(userExtra);
     }
 
@@ -115,7 +114,7 @@ public class UserServiceImpl implements UserService  {
 
     /** {@inheritDoc} */
     @Override
-    public UserExtra leaveGame(String id, BigInteger bankroll) {
+    public UserExtra leaveGame(String id, long bankroll) {
         UserExtra userExtra = getUserExtra(id);
         userExtra.setBankroll(bankroll);
         userExtra.setActiveGameId(null);
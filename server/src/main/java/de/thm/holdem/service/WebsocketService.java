@@ -28,4 +28,12 @@ public interface WebsocketService {
     <T> void sendPrivate(String userId, String channel, T payload);
 
     <T> void sendPrivateToSession(String sessionId, String channel, T payload);
+
+    /**
+     * Checks if a user is connected, so a private payload is only built for users that can receive it.
+     *
+     * @param userId The id of the user.
+     * @return true if the user is connected, false otherwise.
+     */
+    boolean isConnected(String userId);
 }
@@ -1,16 +1,28 @@
 package de.thm.holdem.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 
 /**
  * Implementation of {@link WebsocketService}.
  * A service for all websocket related actions.
  *
+ * <p>
+ *     Every payload is encoded once with the {@link PayloadEncoder} and sent as bytes, so the broker fans the same
+ *     bytes out to all subscribers and no message converter encodes it again.
+ * </p>
+ *
+ * <p>
+ *     Sessions that chose the {@link CompactPayloadEncoder compact encoding} get the game messages in that form. Their
+ *     private messages are encoded for them, and a broadcast is encoded a second time and sent to the compact topic of
+ *     the room, but only while such a session is connected.
+ * </p>
+ *
  * @author Valentin Laucht
  * @version 1.0
  */
@@ -20,43 +32,61 @@ public class WebsocketServiceImpl implements WebsocketService {
 
     private final ConnectionRegistry connectionRegistry;
     private final SimpMessagingTemplate template;
+    private final PayloadEncoder payloadEncoder;
+    private final CompactPayloadEncoder compactPayloadEncoder;
 
     /** {@inheritDoc} */
     @Override
     public <T> void broadcast(String room, T payload) {
-        template.convertAndSend(room, payload);
+        template.send(room, createMessage(null, payloadEncoder, payload));
+        if (connectionRegistry.hasOtherContentTypes() && compactPayloadEncoder.supports(payload.getClass())) {
+            template.send(room + CompactPayloadEncoder.DESTINATION_SUFFIX,
+                    createMessage(null, compactPayloadEncoder, payload));
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public <T> void sendPrivate(String userId, String channel, T payload) {
-        if (!connectionRegistry.isConnected(userId)) {
+        String sessionId = connectionRegistry.getConnection(userId);
+        if (sessionId == null) {
             return;
         }
-        String sessionId = connectionRegistry.getConnection(userId);
-        String destination = "/queue/" + channel;
-        template.convertAndSendToUser(sessionId, destination, payload,
-                createHeaders(sessionId));
-
+        sendPrivateToSession(sessionId, channel, payload);
     }
 
     @Override
     public <T> void sendPrivateToSession(String sessionId, String channel, T payload) {
-        String destination = "/queue/" + channel;
-        template.convertAndSendToUser(sessionId, destination, payload,
-                createHeaders(sessionId));
+        String destination = template.getUserDestinationPrefix() + sessionId + "/queue/" + channel;
+        PayloadEncoder encoder = payloadEncoder;
+        if (CompactPayloadEncoder.CONTENT_TYPE.equals(connectionRegistry.getContentType(sessionId))
+                && compactPayloadEncoder.supports(payload.getClass())) {
+            encoder = compactPayloadEncoder;
+        }
+        template.send(destination, createMessage(sessionId, encoder, payload));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConnected(String userId) {
+        return connectionRegistry.isConnected(userId);
     }
 
     /**
-     * Creates the headers for a private message.
+     * Creates a message with an encoded payload.
      *
-     * @param sessionId the session id of the user
-     * @return the headers for the message
+     * @param sessionId the session id of the user for a private message, null for a broadcast
+     * @param encoder the encoder of the payload
+     * @param payload the payload
+     * @return the message
      */
-    private MessageHeaders createHeaders(String sessionId) {
+    private Message<byte[]> createMessage(String sessionId, PayloadEncoder encoder, Object payload) {
         SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
-        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setContentType(encoder.getContentType());
+        if (sessionId != null) {
+            headerAccessor.setSessionId(sessionId);
+        }
         headerAccessor.setLeaveMutable(true);
-        return headerAccessor.getMessageHeaders();
+        return MessageBuilder.createMessage(encoder.encode(payload), headerAccessor.getMessageHeaders());
     }
 }
@@ -1,5 +1,6 @@
 package de.thm.holdem.settings;
 
+import de.thm.holdem.model.card.RandomSource;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -13,7 +14,43 @@ import org.springframework.stereotype.Component;
 @Setter
 public class PokerGameSettings {
     private int timeToRaiseBlinds;
-    private float timePerPlayerMove;
+
+    /** The seconds a player has to act before he automatically checks or folds. */
+    private float timePerPlayerMove = 30;
+
+    /** The seconds every player can take in addition to the time per move over a whole game, 0 to disable it. */
+    private float timeBank;
+
     private int totalTournamentTime;
 
+    /** The seconds between the end of a hand and the deal of the next hand, so the clients can show the result. */
+    private float timeBetweenHands = 8;
+
+    /** The seconds between the streets that are dealt after all players went all-in. */
+    private float timeBetweenStreets = 2;
+
+    /** The number of threads the tables are spread over, 0 for one thread per core. */
+    private int tableShards;
+
+    /** The number of threads that run the blocking calls of the tables, like the calls of the repositories. */
+    private int ioShards = 8;
+
+    /** The seconds a player that disconnected during a game has to reconnect before he leaves the game. */
+    private int reconnectGracePeriod = 30;
+
+    /** The seconds between two runs of the reaper that removes finished, idle and abandoned tables. */
+    private int reaperInterval = 60;
+
+    /** The seconds a finished table is kept, so the players can see the result. */
+    private int finishedTableTtl = 300;
+
+    /** The seconds a table that has not started can wait for players without a change. */
+    private int waitingTableTtl = 3600;
+
+    /** The seconds a table is kept without a change when none of its players is connected. */
+    private int abandonedTableTtl = 600;
+
+    /** The random generator the decks of the tables are shuffled with. */
+    private RandomSource randomSource = RandomSource.DRBG;
+
 }
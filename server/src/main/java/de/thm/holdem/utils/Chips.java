@@ -0,0 +1,82 @@
+package de.thm.holdem.utils;
+
+/**
+ * Utility class for chip amounts.
+ *
+ * <p>
+ *     Chip amounts are primitive longs, so betting does not create any objects. All arithmetic goes through this
+ *     class and fails with an {@link ArithmeticException} instead of silently overflowing.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class Chips {
+
+    /** No chips. */
+    public static final long ZERO = 0L;
+
+    private Chips() {
+    }
+
+    /**
+     * Method to add two chip amounts.
+     *
+     * @param amount the first amount.
+     * @param other the amount to add.
+     * @return the sum of both amounts.
+     * @throws ArithmeticException if the sum overflows.
+     */
+    public static long add(long amount, long other) {
+        return Math.addExact(amount, other);
+    }
+
+    /**
+     * Method to subtract a chip amount from another.
+     *
+     * @param amount the amount to subtract from.
+     * @param other the amount to subtract.
+     * @return the difference of both amounts.
+     * @throws ArithmeticException if the difference overflows.
+     */
+    public static long subtract(long amount, long other) {
+        return Math.subtractExact(amount, other);
+    }
+
+    /**
+     * Method to multiply a chip amount.
+     *
+     * @param amount the amount to multiply.
+     * @param factor the factor.
+     * @return the product.
+     * @throws ArithmeticException if the product overflows.
+     */
+    public static long multiply(long amount, long factor) {
+        return Math.multiplyExact(amount, factor);
+    }
+
+    /**
+     * Method to check that a chip amount is not negative.
+     *
+     * @param amount the amount to check.
+     * @return the amount.
+     * @throws IllegalArgumentException if the amount is negative.
+     */
+    public static long requireNonNegative(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("A chip amount can not be negative: " + amount);
+        }
+        return amount;
+    }
+
+    /**
+     * Method to convert a chip amount for a client, which handles at most 32-bit values.
+     *
+     * @param amount the amount to convert.
+     * @return the amount as int.
+     * @throws ArithmeticException if the amount does not fit into an int.
+     */
+    public static int toInt(long amount) {
+        return Math.toIntExact(amount);
+    }
+}
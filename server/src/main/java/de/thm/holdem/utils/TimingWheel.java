@@ -0,0 +1,282 @@
+package de.thm.holdem.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A hashed timing wheel to run a large number of timeouts with a single thread.
+ *
+ * <p>
+ *     The wheel is a ring of buckets, one bucket per tick. A timeout is put into the bucket of the tick it expires
+ *     in, together with the number of full rotations of the wheel until then. A worker thread moves from bucket to
+ *     bucket once per tick and runs the timeouts of the current bucket whose rotations are over. Scheduling and
+ *     cancelling a timeout are O(1) and can be done from any thread: new and cancelled timeouts are queued and
+ *     moved into or out of their bucket by the worker. Timeouts expire up to one tick late.
+ * </p>
+ *
+ * @author Valentin Laucht
+ * @version 1.0
+ */
+public final class TimingWheel {
+
+    /** The maximum number of new timeouts moved into the wheel per tick, so a burst does not delay a tick. */
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+    /** The buckets of the wheel, the length is a power of 2. */
+    private final Bucket[] wheel;
+
+    /** The mask to get the bucket of a tick. */
+    private final int mask;
+
+    /** The duration of a tick in nanoseconds. */
+    private final long tickDuration;
+
+    /** The executor the tasks of expired timeouts are run with. */
+    private final Executor executor;
+
+    /** The timeouts that were scheduled and not yet put into a bucket. */
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+
+    /** The timeouts that were cancelled and not yet removed from their bucket. */
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    /** The thread that moves the wheel. */
+    private final Thread worker;
+
+    /** The time the wheel was started, all deadlines are relative to it. */
+    private final long startTime;
+
+    /** The number of ticks since the start, only used by the worker. */
+    private long tick;
+
+    /** True as long as the wheel is not stopped. */
+    private volatile boolean running = true;
+
+    /**
+     * Constructor to create and start a timing wheel.
+     *
+     * @param tickDuration the duration of a tick.
+     * @param unit the unit of the tick duration.
+     * @param ticksPerWheel the number of buckets, rounded up to a power of 2.
+     * @param executor the executor the tasks of expired timeouts are run with, the tasks should be short.
+     * @param name the name of the worker thread.
+     * @throws IllegalArgumentException if the tick duration or the number of buckets is not positive.
+     */
+    public TimingWheel(long tickDuration, TimeUnit unit, int ticksPerWheel, Executor executor, String name) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("Tick duration and ticks per wheel have to be positive.");
+        }
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.tickDuration = unit.toNanos(tickDuration);
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Method to schedule a task.
+     *
+     * @param task the task to run when the timeout expires.
+     * @param delay the delay.
+     * @param unit the unit of the delay.
+     * @return the timeout, used to cancel the task.
+     * @throws IllegalStateException if the wheel is stopped.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("The timing wheel is stopped.");
+        }
+        Timeout timeout = new Timeout(task, System.nanoTime() - startTime + unit.toNanos(Math.max(0, delay)));
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Method to stop the wheel, pending timeouts do not expire anymore.
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = tickDuration * (tick + 1);
+            long sleep = deadline - (System.nanoTime() - startTime);
+            if (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+                continue;
+            }
+            removeCancelled();
+            transferScheduled();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferScheduled() {
+        Timeout timeout;
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK && (timeout = scheduled.poll()) != null; i++) {
+            if (timeout.state.get() != Timeout.PENDING) {
+                continue;
+            }
+            long expiresAt = timeout.deadline / tickDuration;
+            timeout.rounds = (expiresAt - tick) / wheel.length;
+            // a timeout that should already have expired goes into the current bucket
+            wheel[(int) (Math.max(expiresAt, tick) & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * A scheduled task of the timing wheel.
+     */
+    public final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        /** The task to run. */
+        private final Runnable task;
+
+        /** The deadline relative to the start of the wheel, in nanoseconds. */
+        private final long deadline;
+
+        /** The state of the timeout. */
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        /** The rotations of the wheel left until the timeout expires, only used by the worker. */
+        private long rounds;
+
+        /** The bucket of the timeout and its neighbours in the bucket, only used by the worker. */
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Method to cancel the timeout.
+         *
+         * @return true if the timeout was cancelled, false if it has already expired or was cancelled before.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            cancelled.add(this);
+            return true;
+        }
+
+        /**
+         * Returns whether the timeout was cancelled.
+         *
+         * @return true if the timeout was cancelled.
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Returns whether the timeout has expired.
+         *
+         * @return true if the task of the timeout was run.
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(PENDING, EXPIRED)) {
+                executor.execute(task);
+            }
+        }
+    }
+
+    /**
+     * A bucket of the wheel as doubly linked list, so a timeout can be removed in O(1).
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        private Timeout remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.previous != null) {
+                timeout.previous.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        private void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                if (timeout.isCancelled()) {
+                    timeout = remove(timeout);
+                } else if (timeout.rounds <= 0 && timeout.deadline <= deadline) {
+                    Timeout next = remove(timeout);
+                    timeout.expire();
+                    timeout = next;
+                } else {
+                    if (timeout.rounds > 0) {
+                        timeout.rounds--;
+                    }
+                    timeout = timeout.next;
+                }
+            }
+        }
+    }
+}
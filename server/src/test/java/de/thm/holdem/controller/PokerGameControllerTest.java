@@ -83,19 +83,17 @@ class PokerGameControllerTest {
         String requestJson =  mapper.writeValueAsString(createRequest);
         requestJson = requestJson.replace("Fixed-Limit", "FL");
         when(pokerGameService.createGame(id, createRequest)).thenReturn(mockGame);
-        try {
-            MockedStatic<PokerGameStateDto> dto = mockStatic(PokerGameStateDto.class);
+        // the static mock is closed after the request, so it does not leak into other tests
+        try (MockedStatic<PokerGameStateDto> dto = mockStatic(PokerGameStateDto.class)) {
             dto.when(() -> PokerGameStateDto.from(mockGame)).thenReturn(new PokerGameStateDto());
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+            mockMvc.perform(post("/api/poker/create")
+                            .content(requestJson)
+                            .with(csrf())
+                            .with(jwt().jwt(jwt))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isCreated())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE));
         }
-        mockMvc.perform(post("/api/poker/create")
-                        .content(requestJson)
-                        .with(csrf())
-                        .with(jwt().jwt(jwt))
-                        .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isCreated())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE));
         verify(pokerGameService, times(1)).createGame(id, createRequest);
     }
 
@@ -17,7 +17,6 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
-import java.math.BigInteger;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -52,7 +51,7 @@ class UserControllerTest {
     @BeforeEach
     void setup() {
         userExtra = new UserExtra(id, username);
-        userExtra.setBankroll(BigInteger.valueOf(1000));
+        userExtra.setBankroll(1000L);
         MockitoAnnotations.openMocks(this);
         jwt = Jwt.withTokenValue("test::token")
                 .claim("sub", id)
@@ -0,0 +1,51 @@
+package de.thm.holdem.model.card;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardSetTest {
+
+    @Test
+    void Should_ConvertCardsToSetAndBack() {
+        List<Card> cards = List.of(
+                new Card(Rank.TWO, Suit.HEARTS),
+                new Card(Rank.ACE, Suit.DIAMONDS),
+                new Card(Rank.TEN, Suit.SPADES));
+
+        long set = CardSet.of(cards);
+
+        assertEquals(3, CardSet.size(set));
+        assertEquals(cards, CardSet.toCards(set));
+    }
+
+    @Test
+    void Should_ContainAddedCard() {
+        Card card = new Card(Rank.QUEEN, Suit.CLUBS);
+
+        long set = CardSet.add(CardSet.EMPTY, card.index());
+
+        assertTrue(CardSet.contains(set, card.index()));
+        assertFalse(CardSet.contains(set, new Card(Rank.QUEEN, Suit.HEARTS).index()));
+    }
+
+    @Test
+    void Should_ReturnRankMaskOfAllSuits() {
+        long set = CardSet.of(List.of(
+                new Card(Rank.TWO, Suit.HEARTS),
+                new Card(Rank.TWO, Suit.SPADES),
+                new Card(Rank.ACE, Suit.CLUBS)));
+
+        assertEquals(0b1000000000001, CardSet.rankMask(set));
+        assertEquals(0b1000000000000, CardSet.suitMask(set, Suit.CLUBS));
+        assertEquals(0, CardSet.suitMask(set, Suit.DIAMONDS));
+    }
+
+    @Test
+    void Should_ContainAllCardsInFullDeck() {
+        assertEquals(Card.COUNT, CardSet.size(CardSet.FULL_DECK));
+        assertEquals(CardSet.RANK_MASK, CardSet.rankMask(CardSet.FULL_DECK));
+    }
+}
@@ -16,4 +16,14 @@ class CardTest {
         assertTrue(card2.compareTo(card3) > 0);
         assertEquals(0, card1.compareTo(card3));
     }
-}
\ No newline at end of file
+
+    @Test
+    void Should_MapEveryCardToAUniqueIndex() {
+        for (int index = 0; index < Card.COUNT; index++) {
+            Card card = Card.of(index);
+            assertEquals(index, card.index());
+            assertEquals(card.rank(), Rank.of(Card.rankIndex(index)));
+            assertEquals(card.suit(), Suit.of(Card.suitIndex(index)));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -47,4 +48,39 @@ class DeckTest {
         assertEquals(51, deck.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    void Should_PutAllCardsBack_If_Shuffled() {
+        deck.drawCard();
+        deck.burnCard();
+
+        deck.shuffle();
+
+        assertEquals(52, deck.size());
+        assertEquals(52, new HashSet<>(deck.getDeck()).size());
+    }
+
+    @Test
+    void Should_DealTheSameCards_If_SeedIsTheSame() {
+        for (RandomSource source : List.of(RandomSource.SPLITTABLE, RandomSource.XOSHIRO)) {
+            Deck first = new Deck(source.create(42));
+            Deck second = new Deck(source.create(42));
+
+            first.shuffle();
+            second.shuffle();
+
+            assertEquals(first.getDeck(), second.getDeck());
+        }
+    }
+
+    @Test
+    void Should_ShuffleWithEveryRandomSource() {
+        for (RandomSource source : RandomSource.values()) {
+            Deck seededDeck = new Deck(source.create(7));
+
+            seededDeck.shuffle();
+
+            assertEquals(52, new HashSet<>(seededDeck.getDeck()).size());
+            assertNotEquals(new Deck().getDeck(), seededDeck.getDeck());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package de.thm.holdem.model.card;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RandomSourceTest {
+
+    @Test
+    void Should_ReadSecureRandomOnce_If_DeckIsShuffled() {
+        SecureRandom secureRandom = spy(new SecureRandom());
+        Deck deck = new Deck(new RandomSource.BufferedRandom(secureRandom));
+
+        deck.shuffle();
+
+        verify(secureRandom, times(1)).nextBytes(any(byte[].class));
+        assertEquals(52, new HashSet<>(deck.getDeck()).size());
+    }
+
+    @Test
+    void Should_RefillBuffer_If_AllBytesWereRead() {
+        SecureRandom secureRandom = spy(new SecureRandom());
+        RandomSource.BufferedRandom random = new RandomSource.BufferedRandom(secureRandom);
+
+        for (int i = 0; i < RandomSource.BufferedRandom.BUFFER_SIZE / Long.BYTES + 1; i++) {
+            random.nextLong();
+        }
+
+        verify(secureRandom, times(2)).nextBytes(any(byte[].class));
+    }
+}
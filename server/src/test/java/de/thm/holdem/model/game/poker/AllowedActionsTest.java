@@ -0,0 +1,61 @@
+package de.thm.holdem.model.game.poker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllowedActionsTest {
+
+    @Test
+    void Should_AllowNothing_If_NoActionsAreSet() {
+        assertEquals(0, AllowedActions.NONE.size());
+        assertFalse(AllowedActions.NONE.contains(PokerPlayerAction.FOLD));
+    }
+
+    @Test
+    void Should_CalculateCallAndRaiseBounds() {
+        AllowedActions allowedActions = AllowedActions.of(1000L, 20L, 100L, 20L, 80L, false);
+
+        assertEquals(List.of(PokerPlayerAction.FOLD, PokerPlayerAction.CALL, PokerPlayerAction.RAISE,
+                PokerPlayerAction.ALL_IN), allowedActions.toList());
+        assertEquals(80L, allowedActions.getCall());
+        // the raise has to be at least as high as the last raise
+        assertEquals(160L, allowedActions.getMinRaise());
+        assertEquals(1000L, allowedActions.getMaxRaise());
+    }
+
+    @Test
+    void Should_RaiseAtLeastTheBigBlind() {
+        AllowedActions allowedActions = AllowedActions.of(1000L, 20L, 20L, 20L, 0L, false);
+
+        assertTrue(allowedActions.contains(PokerPlayerAction.CHECK));
+        assertEquals(0L, allowedActions.getCall());
+        assertEquals(20L, allowedActions.getMinRaise());
+    }
+
+    @Test
+    void Should_NotAllowRaise_If_RaiseLimitIsReached() {
+        AllowedActions allowedActions = AllowedActions.of(1000L, 20L, 100L, 20L, 80L, true);
+
+        assertFalse(allowedActions.contains(PokerPlayerAction.RAISE));
+        assertEquals(0L, allowedActions.getMinRaise());
+        assertEquals(0L, allowedActions.getMaxRaise());
+    }
+
+    @Test
+    void Should_NotAllowRaise_If_PlayerCanNotAffordTheMinimumRaise() {
+        AllowedActions allowedActions = AllowedActions.of(150L, 20L, 100L, 20L, 80L, false);
+
+        assertEquals(List.of(PokerPlayerAction.FOLD, PokerPlayerAction.CALL, PokerPlayerAction.ALL_IN),
+                allowedActions.toList());
+    }
+
+    @Test
+    void Should_OnlyAllowFoldAndAllIn_If_PlayerCanNotCall() {
+        AllowedActions allowedActions = AllowedActions.of(50L, 20L, 100L, 20L, 80L, false);
+
+        assertEquals(List.of(PokerPlayerAction.FOLD, PokerPlayerAction.ALL_IN), allowedActions.toList());
+    }
+}
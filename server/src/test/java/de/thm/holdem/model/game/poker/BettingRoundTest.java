@@ -72,4 +72,42 @@ class BettingRoundTest {
         assertFalse(BettingRound.END.isAfter(BettingRound.END));
     }
 
-}
\ No newline at end of file
+    @Test
+    void Should_ReturnNextRound() {
+        assertEquals(BettingRound.PRE_FLOP, BettingRound.NONE.next());
+        assertEquals(BettingRound.FLOP, BettingRound.PRE_FLOP.next());
+        assertEquals(BettingRound.TURN, BettingRound.FLOP.next());
+        assertEquals(BettingRound.RIVER, BettingRound.TURN.next());
+        assertEquals(BettingRound.END, BettingRound.RIVER.next());
+        assertEquals(BettingRound.NONE, BettingRound.END.next());
+    }
+
+    @Test
+    void Should_AllowTransition_To_NextRoundOrEnd() {
+        for (BettingRound round : BettingRound.values()) {
+            assertTrue(round.canTransitionTo(round.next()));
+        }
+        assertTrue(BettingRound.PRE_FLOP.canTransitionTo(BettingRound.END));
+        assertTrue(BettingRound.FLOP.canTransitionTo(BettingRound.END));
+        assertTrue(BettingRound.TURN.canTransitionTo(BettingRound.END));
+    }
+
+    @Test
+    void Should_NotAllowTransition_If_RoundIsSkippedOrRepeated() {
+        assertFalse(BettingRound.NONE.canTransitionTo(BettingRound.FLOP));
+        assertFalse(BettingRound.NONE.canTransitionTo(BettingRound.END));
+        assertFalse(BettingRound.PRE_FLOP.canTransitionTo(BettingRound.TURN));
+        assertFalse(BettingRound.FLOP.canTransitionTo(BettingRound.FLOP));
+        assertFalse(BettingRound.RIVER.canTransitionTo(BettingRound.FLOP));
+        assertFalse(BettingRound.END.canTransitionTo(BettingRound.PRE_FLOP));
+    }
+
+    @Test
+    void Should_ReturnNumberOfCommunityCards() {
+        assertEquals(0, BettingRound.PRE_FLOP.getCommunityCards());
+        assertEquals(3, BettingRound.FLOP.getCommunityCards());
+        assertEquals(1, BettingRound.TURN.getCommunityCards());
+        assertEquals(1, BettingRound.RIVER.getCommunityCards());
+    }
+
+}
@@ -3,7 +3,6 @@ package de.thm.holdem.model.game.poker;
 import de.thm.holdem.model.game.poker.BlindHelper;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigInteger;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -13,38 +12,38 @@ class BlindHelperTest {
     @Test
     void Should_CalculateBlindLevels() {
         int numOfPlayers = 5;
-        BigInteger buyIn = BigInteger.valueOf(1000);
+        long buyIn = 1000L;
         int totalTournamentTime = 180;
         int timeToRaiseBlinds = 20;
 
-        List<BigInteger> blindLevels = BlindHelper.calculateBlindLevels(
+        List<Long> blindLevels = BlindHelper.calculateBlindLevels(
                 numOfPlayers, buyIn, totalTournamentTime, timeToRaiseBlinds
         );
 
         assertNotNull(blindLevels);
         assertEquals(9, blindLevels.size());
-        assertEquals(BigInteger.valueOf(25), blindLevels.get(0));
-        assertEquals(BigInteger.valueOf(30), blindLevels.get(1));
-        assertEquals(BigInteger.valueOf(50), blindLevels.get(2));
-        assertEquals(BigInteger.valueOf(65), blindLevels.get(3));
-        assertEquals(BigInteger.valueOf(100), blindLevels.get(4));
-        assertEquals(BigInteger.valueOf(150), blindLevels.get(5));
-        assertEquals(BigInteger.valueOf(225), blindLevels.get(6));
-        assertEquals(BigInteger.valueOf(335), blindLevels.get(7));
-        assertEquals(BigInteger.valueOf(500), blindLevels.get(8));
+        assertEquals(25L, blindLevels.get(0));
+        assertEquals(30L, blindLevels.get(1));
+        assertEquals(50L, blindLevels.get(2));
+        assertEquals(65L, blindLevels.get(3));
+        assertEquals(100L, blindLevels.get(4));
+        assertEquals(150L, blindLevels.get(5));
+        assertEquals(225L, blindLevels.get(6));
+        assertEquals(335L, blindLevels.get(7));
+        assertEquals(500L, blindLevels.get(8));
     }
 
     @Test
     void Should_NotSetBlindsSmallerThanFiveDollars() {
         int numOfPlayers = 5;
-        BigInteger buyIn = BigInteger.valueOf(20);
+        long buyIn = 20L;
         int totalTournamentTime = 180;
         int timeToRaiseBlinds = 20;
 
-        List<BigInteger> blindLevels = BlindHelper.calculateBlindLevels(
+        List<Long> blindLevels = BlindHelper.calculateBlindLevels(
                 numOfPlayers, buyIn, totalTournamentTime, timeToRaiseBlinds
         );
 
-        assertEquals(BigInteger.valueOf(5), blindLevels.get(0));
+        assertEquals(5L, blindLevels.get(0));
     }
 }
\ No newline at end of file
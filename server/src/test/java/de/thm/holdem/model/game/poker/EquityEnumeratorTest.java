@@ -0,0 +1,161 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquityEnumeratorTest {
+
+    @Test
+    void Should_EnumerateAllPreflopRunOuts() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS)),
+                List.of(new Card(Rank.KING, Suit.CLUBS), new Card(Rank.KING, Suit.DIAMONDS)));
+
+        EquityResult result = EquityEnumerator.enumerate(holeCards, List.of());
+
+        assertTrue(result.exact());
+        assertEquals(1712304, result.runOuts());
+        assertEquals(0.82, result.get(0).equity(), 0.01);
+        assertEquals(1.0, result.get(0).equity() + result.get(1).equity(), 1e-9);
+    }
+
+    @Test
+    void Should_MatchEnumerationWithoutSuitIsomorphism() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.KING, Suit.SPADES)),
+                List.of(new Card(Rank.QUEEN, Suit.HEARTS), new Card(Rank.QUEEN, Suit.SPADES)),
+                List.of(new Card(Rank.SEVEN, Suit.SPADES), new Card(Rank.EIGHT, Suit.SPADES)));
+        List<Card> flop = List.of(
+                new Card(Rank.TWO, Suit.SPADES),
+                new Card(Rank.NINE, Suit.HEARTS),
+                new Card(Rank.KING, Suit.HEARTS));
+        long[] hands = new long[holeCards.size()];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = CardSet.of(holeCards.get(i));
+        }
+        long board = CardSet.of(flop);
+        long used = board | hands[0] | hands[1] | hands[2];
+
+        double[] shares = new double[hands.length];
+        long runOuts = 0;
+        for (int turn = 0; turn < Card.COUNT; turn++) {
+            for (int river = turn + 1; river < Card.COUNT; river++) {
+                if (CardSet.contains(used, turn) || CardSet.contains(used, river)) continue;
+                long runOut = board | CardSet.of(turn) | CardSet.of(river);
+                int best = 0;
+                int winners = 0;
+                for (long hand : hands) {
+                    int strength = HandEvaluator.evaluate(hand | runOut);
+                    if (strength > best) {
+                        best = strength;
+                        winners = 1;
+                    } else if (strength == best) {
+                        winners++;
+                    }
+                }
+                for (int p = 0; p < hands.length; p++) {
+                    if (HandEvaluator.evaluate(hands[p] | runOut) == best) {
+                        shares[p] += 1.0 / winners;
+                    }
+                }
+                runOuts++;
+            }
+        }
+
+        EquityResult result = EquityEnumerator.enumerate(holeCards, flop);
+
+        assertEquals(runOuts, result.runOuts());
+        for (int p = 0; p < hands.length; p++) {
+            assertEquals(shares[p] / runOuts, result.get(p).equity(), 1e-9);
+        }
+    }
+
+    @Test
+    void Should_MatchEnumerationWithoutSuitIsomorphism_If_MultiWayPreflop() {
+        // spades and hearts as well as clubs and diamonds are interchangeable, although every suit is dealt
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS)),
+                List.of(new Card(Rank.KING, Suit.SPADES), new Card(Rank.KING, Suit.HEARTS)),
+                List.of(new Card(Rank.QUEEN, Suit.CLUBS), new Card(Rank.QUEEN, Suit.DIAMONDS)));
+        long[] hands = new long[holeCards.size()];
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = CardSet.of(holeCards.get(i));
+        }
+        double[] shares = new double[hands.length];
+        long runOuts = enumerateWithoutIsomorphism(hands, hands[0] | hands[1] | hands[2], CardSet.EMPTY, 0, 5, shares);
+
+        EquityResult result = EquityEnumerator.enumerate(holeCards, List.of());
+
+        assertEquals(runOuts, result.runOuts());
+        for (int p = 0; p < hands.length; p++) {
+            assertEquals(shares[p] / runOuts, result.get(p).equity(), 1e-9);
+        }
+    }
+
+    private long enumerateWithoutIsomorphism(long[] hands, long used, long runOut, int start, int left,
+                                             double[] shares) {
+        if (left == 0) {
+            int[] strengths = new int[hands.length];
+            int best = 0;
+            int winners = 0;
+            for (int p = 0; p < hands.length; p++) {
+                strengths[p] = HandEvaluator.evaluate(hands[p] | runOut);
+                if (strengths[p] > best) {
+                    best = strengths[p];
+                    winners = 1;
+                } else if (strengths[p] == best) {
+                    winners++;
+                }
+            }
+            for (int p = 0; p < hands.length; p++) {
+                if (strengths[p] == best) {
+                    shares[p] += 1.0 / winners;
+                }
+            }
+            return 1;
+        }
+        long runOuts = 0;
+        for (int card = start; card < Card.COUNT; card++) {
+            if (!CardSet.contains(used, card)) {
+                runOuts += enumerateWithoutIsomorphism(hands, used, runOut | CardSet.of(card), card + 1, left - 1,
+                        shares);
+            }
+        }
+        return runOuts;
+    }
+
+    @Test
+    void Should_ReturnSingleRunOut_If_BoardIsComplete() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS)),
+                List.of(new Card(Rank.KING, Suit.CLUBS), new Card(Rank.KING, Suit.DIAMONDS)));
+        List<Card> board = List.of(
+                new Card(Rank.KING, Suit.SPADES),
+                new Card(Rank.TWO, Suit.HEARTS),
+                new Card(Rank.THREE, Suit.CLUBS),
+                new Card(Rank.EIGHT, Suit.DIAMONDS),
+                new Card(Rank.NINE, Suit.SPADES));
+
+        EquityResult result = EquityEnumerator.enumerate(holeCards, board);
+
+        assertEquals(1, result.runOuts());
+        assertEquals(0.0, result.get(0).win());
+        assertEquals(1.0, result.get(1).win());
+    }
+
+    @Test
+    void Should_ThrowException_If_CardIsUsedTwice() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS)),
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.KING, Suit.DIAMONDS)));
+
+        assertThrows(IllegalArgumentException.class, () -> EquityEnumerator.enumerate(holeCards, List.of()));
+    }
+}
@@ -0,0 +1,154 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.Deck;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandEvaluatorTest {
+
+    @Test
+    void Should_EvaluateRoyalFlush() {
+        List<Card> cards = List.of(
+                new Card(Rank.ACE, Suit.SPADES),
+                new Card(Rank.KING, Suit.SPADES),
+                new Card(Rank.QUEEN, Suit.SPADES),
+                new Card(Rank.JACK, Suit.SPADES),
+                new Card(Rank.TEN, Suit.SPADES),
+                new Card(Rank.TEN, Suit.HEARTS),
+                new Card(Rank.TEN, Suit.CLUBS));
+
+        assertEquals(PokerHandType.ROYAL_FLUSH.getBaseValue(), HandEvaluator.evaluate(cards));
+    }
+
+    @Test
+    void Should_EvaluateWheelAsLowestStraight() {
+        List<Card> wheel = List.of(
+                new Card(Rank.ACE, Suit.SPADES),
+                new Card(Rank.TWO, Suit.HEARTS),
+                new Card(Rank.THREE, Suit.CLUBS),
+                new Card(Rank.FOUR, Suit.DIAMONDS),
+                new Card(Rank.FIVE, Suit.SPADES));
+        List<Card> sixHigh = List.of(
+                new Card(Rank.SIX, Suit.SPADES),
+                new Card(Rank.TWO, Suit.HEARTS),
+                new Card(Rank.THREE, Suit.CLUBS),
+                new Card(Rank.FOUR, Suit.DIAMONDS),
+                new Card(Rank.FIVE, Suit.SPADES));
+
+        assertEquals(HandStrength.of(PokerHandType.STRAIGHT, 5 << 16), HandEvaluator.evaluate(wheel));
+        assertTrue(HandEvaluator.evaluate(sixHigh) > HandEvaluator.evaluate(wheel));
+    }
+
+    @Test
+    void Should_UseBestKicker_If_HandHasThreePairs() {
+        List<Card> cards = List.of(
+                new Card(Rank.ACE, Suit.SPADES),
+                new Card(Rank.ACE, Suit.HEARTS),
+                new Card(Rank.KING, Suit.CLUBS),
+                new Card(Rank.KING, Suit.DIAMONDS),
+                new Card(Rank.QUEEN, Suit.SPADES),
+                new Card(Rank.QUEEN, Suit.HEARTS),
+                new Card(Rank.TWO, Suit.HEARTS));
+
+        int expected = HandStrength.of(PokerHandType.TWO_PAIRS, 14 << 16 | 13 << 12 | 12 << 8);
+        assertEquals(expected, HandEvaluator.evaluate(cards));
+    }
+
+    @Test
+    void Should_EvaluateHandsWithLessThanFiveCards() {
+        List<Card> cards = List.of(
+                new Card(Rank.ACE, Suit.SPADES),
+                new Card(Rank.ACE, Suit.HEARTS),
+                new Card(Rank.QUEEN, Suit.CLUBS));
+
+        int expected = HandStrength.of(PokerHandType.ONE_PAIR, 14 << 16 | 12 << 12);
+        assertEquals(expected, HandEvaluator.evaluate(cards));
+    }
+
+    @Test
+    void Should_MatchReferenceValueOfBestCombination() {
+        for (int i = 0; i < 2000; i++) {
+            Deck deck = new Deck();
+            deck.shuffle();
+            List<Card> cards = new ArrayList<>();
+            for (int j = 0; j < 7; j++) {
+                cards.add(deck.drawCard());
+            }
+
+            int expected = 0;
+            // every combination of 5 out of the 7 cards, as a bitmask of their positions
+            for (int combination = 0; combination < 1 << 7; combination++) {
+                if (Integer.bitCount(combination) != 5) {
+                    continue;
+                }
+                List<Card> fiveCards = new ArrayList<>(5);
+                for (int position = 0; position < 7; position++) {
+                    if ((combination & 1 << position) != 0) {
+                        fiveCards.add(cards.get(position));
+                    }
+                }
+                expected = Math.max(expected, referenceStrength(fiveCards));
+            }
+
+            assertEquals(expected, HandEvaluator.evaluate(cards), cards.toString());
+        }
+    }
+
+    /**
+     * Straightforward evaluation of exactly 5 cards, used as reference for the table driven evaluator.
+     */
+    private static int referenceStrength(List<Card> cards) {
+        int[] counts = new int[15];
+        boolean flush = true;
+        for (Card card : cards) {
+            counts[card.rank().getValue()]++;
+            flush &= card.suit() == cards.get(0).suit();
+        }
+        // ranks ordered by their count first and their value second
+        List<Integer> ranks = new ArrayList<>();
+        for (int count = 4; count >= 1; count--) {
+            for (int value = 14; value >= 2; value--) {
+                if (counts[value] == count) {
+                    ranks.add(value);
+                }
+            }
+        }
+        int straightHigh = 0;
+        if (ranks.size() == 5 && ranks.get(0) - ranks.get(4) == 4) {
+            straightHigh = ranks.get(0);
+        } else if (ranks.equals(List.of(14, 5, 4, 3, 2))) {
+            straightHigh = 5;
+        }
+
+        PokerHandType type;
+        if (straightHigh == 14 && flush) type = PokerHandType.ROYAL_FLUSH;
+        else if (straightHigh != 0 && flush) type = PokerHandType.STRAIGHT_FLUSH;
+        else if (counts[ranks.get(0)] == 4) type = PokerHandType.FOUR_OF_A_KIND;
+        else if (counts[ranks.get(0)] == 3 && counts[ranks.get(1)] == 2) type = PokerHandType.FULL_HOUSE;
+        else if (flush) type = PokerHandType.FLUSH;
+        else if (straightHigh != 0) type = PokerHandType.STRAIGHT;
+        else if (counts[ranks.get(0)] == 3) type = PokerHandType.THREE_OF_A_KIND;
+        else if (counts[ranks.get(1)] == 2) type = PokerHandType.TWO_PAIRS;
+        else if (counts[ranks.get(0)] == 2) type = PokerHandType.ONE_PAIR;
+        else type = PokerHandType.HIGH_CARD;
+
+        if (type == PokerHandType.ROYAL_FLUSH) {
+            return type.getBaseValue();
+        }
+        if (straightHigh != 0 && type != PokerHandType.FULL_HOUSE && type != PokerHandType.FOUR_OF_A_KIND) {
+            return HandStrength.of(type, straightHigh << 16);
+        }
+        int packed = 0;
+        for (int i = 0; i < ranks.size(); i++) {
+            packed |= ranks.get(i) << (4 - i) * 4;
+        }
+        return HandStrength.of(type, packed);
+    }
+}
@@ -0,0 +1,115 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandIndexerTest {
+
+    @Test
+    void Should_CountTheClassesOfEveryStreet() {
+        assertEquals(169, HandIndexer.size(0));
+        assertEquals(1286792, HandIndexer.size(3));
+        assertEquals(13960050, HandIndexer.size(4));
+        assertEquals(123156254, HandIndexer.size(5));
+    }
+
+    @Test
+    void Should_MapAllPreflopHandsToDenseIndices() {
+        Set<Long> indices = new HashSet<>();
+        for (int first = 0; first < Card.COUNT; first++) {
+            for (int second = first + 1; second < Card.COUNT; second++) {
+                long index = HandIndexer.indexOf(CardSet.of(first) | CardSet.of(second), CardSet.EMPTY);
+                assertTrue(index >= 0 && index < 169);
+                indices.add(index);
+            }
+        }
+        assertEquals(169, indices.size());
+    }
+
+    @Test
+    void Should_MapIsomorphicHandsToTheSameIndex() {
+        List<Card> holeCards = List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.KING, Suit.SPADES));
+        List<Card> board = List.of(new Card(Rank.QUEEN, Suit.SPADES), new Card(Rank.SEVEN, Suit.HEARTS),
+                new Card(Rank.TWO, Suit.DIAMONDS));
+        List<Card> isomorphicHoleCards = List.of(new Card(Rank.KING, Suit.HEARTS), new Card(Rank.ACE, Suit.HEARTS));
+        List<Card> isomorphicBoard = List.of(new Card(Rank.TWO, Suit.SPADES), new Card(Rank.QUEEN, Suit.HEARTS),
+                new Card(Rank.SEVEN, Suit.CLUBS));
+        List<Card> otherBoard = List.of(new Card(Rank.QUEEN, Suit.SPADES), new Card(Rank.SEVEN, Suit.HEARTS),
+                new Card(Rank.TWO, Suit.HEARTS));
+
+        long index = HandIndexer.indexOf(holeCards, board);
+
+        assertEquals(index, HandIndexer.indexOf(isomorphicHoleCards, isomorphicBoard));
+        assertNotEquals(index, HandIndexer.indexOf(holeCards, otherBoard));
+    }
+
+    @Test
+    void Should_MapPermutedSuitsToTheSameIndex() {
+        SplittableRandom random = new SplittableRandom(1);
+        int[] permutation = {2, 0, 3, 1};
+        for (int n = 0; n < 10000; n++) {
+            long[] hand = randomHand(random, new int[]{0, 3, 4, 5}[n % 4]);
+            long index = HandIndexer.indexOf(hand[0], hand[1]);
+
+            assertEquals(index, HandIndexer.indexOf(permute(hand[0], permutation), permute(hand[1], permutation)));
+        }
+    }
+
+    @Test
+    void Should_RestoreTheClassFromItsIndex() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (int boardSize : new int[]{0, 3, 4, 5}) {
+            long size = HandIndexer.size(boardSize);
+            for (int n = 0; n < 2000; n++) {
+                long index = n < 2 ? n * (size - 1) : random.nextLong(size);
+                long[] hand = HandIndexer.canonicalHand(boardSize, index);
+
+                assertEquals(2, CardSet.size(hand[0]));
+                assertEquals(boardSize, CardSet.size(hand[1]));
+                assertEquals(index, HandIndexer.indexOf(hand[0], hand[1]));
+            }
+        }
+    }
+
+    @Test
+    void Should_ThrowException_If_CardsAreInvalid() {
+        long holeCards = CardSet.of(0) | CardSet.of(1);
+
+        assertThrows(IllegalArgumentException.class, () -> HandIndexer.indexOf(CardSet.of(0), CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () -> HandIndexer.indexOf(holeCards, CardSet.of(1)));
+        assertThrows(IllegalArgumentException.class, () -> HandIndexer.indexOf(holeCards, CardSet.of(2) | CardSet.of(3)));
+        assertThrows(IllegalArgumentException.class, () -> HandIndexer.canonicalHand(3, HandIndexer.size(3)));
+    }
+
+    private static long[] randomHand(SplittableRandom random, int boardSize) {
+        long used = CardSet.EMPTY;
+        long[] hand = new long[2];
+        for (int i = 0; i < 2 + boardSize; i++) {
+            int card;
+            do {
+                card = random.nextInt(Card.COUNT);
+            } while (CardSet.contains(used, card));
+            used = CardSet.add(used, card);
+            hand[i < 2 ? 0 : 1] |= CardSet.of(card);
+        }
+        return hand;
+    }
+
+    private static long permute(long cards, int[] permutation) {
+        long permuted = CardSet.EMPTY;
+        for (int suit = 0; suit < Suit.COUNT; suit++) {
+            permuted |= (long) CardSet.suitMask(cards, suit) << permutation[suit] * Rank.COUNT;
+        }
+        return permuted;
+    }
+}
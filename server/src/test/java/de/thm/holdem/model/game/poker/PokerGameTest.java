@@ -2,16 +2,22 @@ package de.thm.holdem.model.game.poker;
 
 import de.thm.holdem.dto.ClientOperation;
 import de.thm.holdem.exception.GameActionException;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.RandomSource;
+import de.thm.holdem.model.game.GameEvent;
+import de.thm.holdem.model.game.GameListener;
 import de.thm.holdem.model.game.GameStatus;
+import de.thm.holdem.model.player.Player;
 import de.thm.holdem.model.player.PokerPlayer;
 import de.thm.holdem.settings.PokerGameSettings;
+import de.thm.holdem.utils.Chips;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
-import java.math.BigInteger;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,20 +44,25 @@ class PokerGameTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(creator.getSeat()).thenReturn(0);
+        when(player1.getSeat()).thenReturn(1);
+        when(player2.getSeat()).thenReturn(2);
+        when(player3.getSeat()).thenReturn(3);
         PokerGameSettings settings = new PokerGameSettings();
         settings.setTimePerPlayerMove(3);
         settings.setTimeToRaiseBlinds(20);
         settings.setTotalTournamentTime(180);
-        pokerGame = new PokerGame(creator, BigInteger.valueOf(1000), settings, TableType.NO_LIMIT, 3, "test::game");
+        pokerGame = new PokerGame(creator, 1000L, settings, TableType.NO_LIMIT, 3, "test::game");
     }
 
     @Test
-    void Should_GetPlayerById() {
-        when(creator.getId()).thenReturn("test::id");
+    void Should_GetPlayerById() throws Exception {
+        when(player1.getId()).thenReturn("test::id");
+        pokerGame.addPlayer(player1);
 
         PokerPlayer result = (PokerPlayer) pokerGame.getPlayerById("test::id");
 
-        assertEquals(creator, result);
+        assertEquals(player1, result);
     }
 
     @Test
@@ -180,6 +191,9 @@ class PokerGameTest {
 
 
         mockPokerGame.deck = Mockito.spy(mockPokerGame.deck);
+        mockPokerGame.dealer = creator;
+        mockPokerGame.smallBlindPlayer = creator;
+        mockPokerGame.bigBlindPlayer = player1;
 
         mockPokerGame.deal();
 
@@ -200,18 +214,18 @@ class PokerGameTest {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
         mockPokerGame.currentBlindLevel = 0;
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
-        doNothing().when(creator).paySmallBlind(BigInteger.valueOf(10));
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
+        doNothing().when(creator).paySmallBlind(10L);
         doNothing().when(mockPokerGame).rotateActor(false);
-        doNothing().when(mockPokerGame).contributePot(BigInteger.valueOf(10));
+        doNothing().when(mockPokerGame).contributePot(10L);
 
         mockPokerGame.postSmallBlind();
 
         verify(mockPokerGame, times(1)).rotateActor(false);
         assertEquals(creator, mockPokerGame.smallBlindPlayer);
-        verify(creator, times(1)).paySmallBlind(BigInteger.valueOf(10));
-        verify(mockPokerGame, times(1)).contributePot(BigInteger.valueOf(10));
-        assertEquals(BigInteger.valueOf(10), mockPokerGame.currentBet);
+        verify(creator, times(1)).paySmallBlind(10L);
+        verify(mockPokerGame, times(1)).contributePot(10L);
+        assertEquals(10L, mockPokerGame.currentBet);
     }
 
     @Test
@@ -219,18 +233,19 @@ class PokerGameTest {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
         mockPokerGame.currentBlindLevel = 0;
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
-        doNothing().when(creator).paySmallBlind(BigInteger.valueOf(20));
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
+        mockPokerGame.smallBlindPlayer = player1;
+        doNothing().when(creator).paySmallBlind(20L);
         doNothing().when(mockPokerGame).rotateActor(true);
-        doNothing().when(mockPokerGame).contributePot(BigInteger.valueOf(20));
+        doNothing().when(mockPokerGame).contributePot(20L);
 
         mockPokerGame.postBigBlind();
 
         verify(mockPokerGame, times(1)).rotateActor(true);
         assertEquals(creator, mockPokerGame.bigBlindPlayer);
-        verify(creator, times(1)).payBigBlind(BigInteger.valueOf(20));
-        verify(mockPokerGame, times(1)).contributePot(BigInteger.valueOf(20));
-        assertEquals(BigInteger.valueOf(20), mockPokerGame.currentBet);
+        verify(creator, times(1)).payBigBlind(20L);
+        verify(mockPokerGame, times(1)).contributePot(20L);
+        assertEquals(20L, mockPokerGame.currentBet);
     }
 
     @Test
@@ -239,57 +254,54 @@ class PokerGameTest {
         mockPokerGame.actor = creator;
         mockPokerGame.pots.clear();
 
-        mockPokerGame.contributePot(BigInteger.valueOf(10));
+        mockPokerGame.contributePot(10L);
         assertEquals(1, mockPokerGame.pots.size());
-        assertEquals(BigInteger.valueOf(10), mockPokerGame.pots.get(0).getPotSize());
+        assertEquals(10L, mockPokerGame.pots.get(0).getPotSize());
     }
 
 
     @Test
     void Should_NotCreateSplitPot_If_NoPlayerIsPartialAllIn() {
-        PokerGame mockPokerGame = Mockito.spy(pokerGame);
-        Pot mockPot = Mockito.mock(Pot.class);
-        when(mockPot.getAllInPlayerWithSmallestStack()).thenReturn(null);
-        mockPokerGame.pots.add(mockPot);
-
-        assertEquals(1, mockPokerGame.pots.size());
-        mockPokerGame.checkForSplitPots();
-        assertEquals(1, mockPokerGame.pots.size());
+        Pot pot = new Pot();
+        pot.contribute(player1, 100L);
+        pot.contribute(player2, 100L);
+        pokerGame.pots.add(pot);
+
+        assertEquals(1, pokerGame.pots.size());
+        pokerGame.checkForSplitPots();
+        assertEquals(1, pokerGame.pots.size());
+        assertEquals(200L, pokerGame.pots.get(0).getPotSize());
     }
 
     @Test
     void Should_CreateSplitPot_If_PlayerIsPartialAllIn() {
-        PokerGame mockPokerGame = Mockito.spy(pokerGame);
-        Pot mockPot = Mockito.mock(Pot.class);
-        Pot mockSplitPot = Mockito.mock(Pot.class);
-        when(mockPot.getAllInPlayerWithSmallestStack()).thenReturn(player1);
-        when(mockSplitPot.getAllInPlayerWithSmallestStack()).thenReturn(null);
-        when(mockPot.split(player1)).thenReturn(mockSplitPot);
-
-        mockPokerGame.pots.add(mockPot);
-
-        assertEquals(1, mockPokerGame.pots.size());
-        mockPokerGame.checkForSplitPots();
-        assertEquals(2, mockPokerGame.pots.size());
+        when(player1.isAllIn()).thenReturn(true);
+        Pot pot = new Pot();
+        pot.contribute(player1, 50L);
+        pot.contribute(player2, 100L);
+        pot.contribute(player3, 100L);
+        pokerGame.pots.add(pot);
+
+        assertEquals(1, pokerGame.pots.size());
+        pokerGame.checkForSplitPots();
+        assertEquals(2, pokerGame.pots.size());
+        assertEquals(150L, pokerGame.pots.get(0).getPotSize());
+        assertEquals(100L, pokerGame.pots.get(1).getPotSize());
     }
 
     @Test
     void Should_CreateMultipleSplitPots() {
-        PokerGame mockPokerGame = Mockito.spy(pokerGame);
-        Pot mockPot = Mockito.mock(Pot.class);
-        Pot mockSplitPot = Mockito.mock(Pot.class);
-        Pot mockSplitPot2 = Mockito.mock(Pot.class);
-        when(mockPot.getAllInPlayerWithSmallestStack()).thenReturn(player1);
-        when(mockSplitPot.getAllInPlayerWithSmallestStack()).thenReturn(player2);
-        when(mockSplitPot2.getAllInPlayerWithSmallestStack()).thenReturn(null);
-        when(mockPot.split(player1)).thenReturn(mockSplitPot);
-        when(mockSplitPot.split(player2)).thenReturn(mockSplitPot2);
-
-        mockPokerGame.pots.add(mockPot);
-
-        assertEquals(1, mockPokerGame.pots.size());
-        mockPokerGame.checkForSplitPots();
-        assertEquals(3, mockPokerGame.pots.size());
+        when(player1.isAllIn()).thenReturn(true);
+        when(player2.isAllIn()).thenReturn(true);
+        Pot pot = new Pot();
+        pot.contribute(player1, 50L);
+        pot.contribute(player2, 80L);
+        pot.contribute(player3, 100L);
+        pokerGame.pots.add(pot);
+
+        assertEquals(1, pokerGame.pots.size());
+        pokerGame.checkForSplitPots();
+        assertEquals(3, pokerGame.pots.size());
     }
 
     @Test
@@ -310,7 +322,7 @@ class PokerGameTest {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.bettingRound = BettingRound.NONE;
         mockPokerGame.currentBlindLevel = 0;
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
         mockPokerGame.raiseBlinds();
 
         assertEquals(1, mockPokerGame.currentBlindLevel);
@@ -321,7 +333,7 @@ class PokerGameTest {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.bettingRound = BettingRound.NONE;
         mockPokerGame.currentBlindLevel = 1;
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
         mockPokerGame.raiseBlinds();
 
         assertEquals(1, mockPokerGame.currentBlindLevel);
@@ -332,10 +344,10 @@ class PokerGameTest {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.bettingRound = BettingRound.PRE_FLOP;
         mockPokerGame.actor = creator;
-        mockPokerGame.getPlayerList().add(player1);
         when(player1.isFolded()).thenReturn(false);
         when(player1.isSpectator()).thenReturn(false);
         when(player1.isAllIn()).thenReturn(false);
+        mockPokerGame.seat(player1);
 
         mockPokerGame.rotateActor(false);
 
@@ -348,14 +360,14 @@ class PokerGameTest {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.bettingRound = BettingRound.PRE_FLOP;
         mockPokerGame.actor = creator;
-        mockPokerGame.getPlayerList().add(player1);
-        mockPokerGame.getPlayerList().add(player2);
         when(player1.isFolded()).thenReturn(true);
         when(player1.isSpectator()).thenReturn(false);
         when(player1.isAllIn()).thenReturn(false);
         when(player2.isFolded()).thenReturn(false);
         when(player2.isSpectator()).thenReturn(false);
         when(player2.isAllIn()).thenReturn(false);
+        mockPokerGame.seat(player1);
+        mockPokerGame.seat(player2);
 
         mockPokerGame.rotateActor(false);
 
@@ -366,16 +378,15 @@ class PokerGameTest {
     void Should_ResetAllowedActionsOnRotation() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.bettingRound = BettingRound.PRE_FLOP;
-        creator.addAllowedAction(PokerPlayerAction.CHECK);
         mockPokerGame.actor = creator;
-        mockPokerGame.getPlayerList().add(player1);
         when(player1.isFolded()).thenReturn(false);
         when(player1.isSpectator()).thenReturn(false);
         when(player1.isAllIn()).thenReturn(false);
+        mockPokerGame.seat(player1);
 
         mockPokerGame.rotateActor(false);
 
-        assertEquals(0, creator.getAllowedActions().size());
+        verify(creator, times(1)).clearAllowedActions();
     }
 
     @Test
@@ -383,11 +394,11 @@ class PokerGameTest {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.bettingRound = BettingRound.PRE_FLOP;
         mockPokerGame.actor = creator;
-        mockPokerGame.getPlayerList().add(player1);
         when(player1.isFolded()).thenReturn(false);
         when(player1.isSpectator()).thenReturn(false);
         when(player1.isAllIn()).thenReturn(false);
         doNothing().when(mockPokerGame).setAllowedActions();
+        mockPokerGame.seat(player1);
 
         mockPokerGame.rotateActor(true);
 
@@ -406,128 +417,134 @@ class PokerGameTest {
 
         verify(mockPokerGame, times(1)).check(creator);
         verify(mockPokerGame, times(1)).notifyPlayers(ClientOperation.PLAYER_ACTION);
-        assertEquals(0, creator.getAllowedActions().size());
+        verify(creator, never()).setAllowedActions(any());
     }
 
     @Test
     void Should_OnlyAddFoldAndAllIn_If_PlayerHasFewerChipsThanCurrentBet() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.currentBet = 200L;
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
 
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(100));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(0));
+        when(creator.getChips()).thenReturn(100L);
+        when(creator.getCurrentBet()).thenReturn(0L);
         when(creator.getLastAction()).thenReturn(null);
 
         mockPokerGame.setAllowedActions();
 
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.FOLD);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.ALL_IN);
-        verify(creator, times(2)).addAllowedAction(any());
+        AllowedActions allowedActions = captureAllowedActions(creator);
+        assertTrue(allowedActions.contains(PokerPlayerAction.FOLD));
+        assertTrue(allowedActions.contains(PokerPlayerAction.ALL_IN));
+        assertEquals(2, allowedActions.size());
     }
 
     @Test
     void Should_AllowCheck_If_PlayerHasMatchedCurrentBet() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.currentBet = 200L;
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
 
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(0));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(200));
+        when(creator.getChips()).thenReturn(0L);
+        when(creator.getCurrentBet()).thenReturn(200L);
         when(creator.getLastAction()).thenReturn(null);
 
         mockPokerGame.setAllowedActions();
 
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.CHECK);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.FOLD);
-        verify(creator, times(2)).addAllowedAction(any());
+        AllowedActions allowedActions = captureAllowedActions(creator);
+        assertTrue(allowedActions.contains(PokerPlayerAction.CHECK));
+        assertTrue(allowedActions.contains(PokerPlayerAction.FOLD));
+        assertEquals(2, allowedActions.size());
     }
 
     @Test
     void Should_AllowCheckAndAllIn_If_PlayerHasMatchedCurrentBetAndHasFewerChipsThanBigBlind() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.currentBet = 200L;
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
 
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(10));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(200));
+        when(creator.getChips()).thenReturn(10L);
+        when(creator.getCurrentBet()).thenReturn(200L);
         when(creator.getLastAction()).thenReturn(null);
 
         mockPokerGame.setAllowedActions();
 
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.CHECK);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.FOLD);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.ALL_IN);
-        verify(creator, times(3)).addAllowedAction(any());
+        AllowedActions allowedActions = captureAllowedActions(creator);
+        assertTrue(allowedActions.contains(PokerPlayerAction.CHECK));
+        assertTrue(allowedActions.contains(PokerPlayerAction.FOLD));
+        assertTrue(allowedActions.contains(PokerPlayerAction.ALL_IN));
+        assertEquals(3, allowedActions.size());
     }
 
     @Test
     void Should_AllowCall_If_PlayerHasNotMatchedCurrentBetAndHasEnoughChipsToCall() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.currentBet = 200L;
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
 
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(100));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(100));
+        when(creator.getChips()).thenReturn(100L);
+        when(creator.getCurrentBet()).thenReturn(100L);
         when(creator.getLastAction()).thenReturn(null);
 
         mockPokerGame.setAllowedActions();
 
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.CALL);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.FOLD);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.ALL_IN);
-        verify(creator, times(3)).addAllowedAction(any());
+        AllowedActions allowedActions = captureAllowedActions(creator);
+        assertTrue(allowedActions.contains(PokerPlayerAction.CALL));
+        assertTrue(allowedActions.contains(PokerPlayerAction.FOLD));
+        assertTrue(allowedActions.contains(PokerPlayerAction.ALL_IN));
+        assertEquals(3, allowedActions.size());
     }
 
     @Test
     void Should_AllowRaise_If_PlayerHasMoreChipsThanHeNeedsToCallPlusBigBlind() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.currentBet = 200L;
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
 
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(300));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(100));
+        when(creator.getChips()).thenReturn(300L);
+        when(creator.getCurrentBet()).thenReturn(100L);
         when(creator.getLastAction()).thenReturn(null);
 
         mockPokerGame.setAllowedActions();
 
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.CALL);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.FOLD);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.RAISE);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.ALL_IN);
-        verify(creator, times(4)).addAllowedAction(any());
+        AllowedActions allowedActions = captureAllowedActions(creator);
+        assertTrue(allowedActions.contains(PokerPlayerAction.CALL));
+        assertTrue(allowedActions.contains(PokerPlayerAction.FOLD));
+        assertTrue(allowedActions.contains(PokerPlayerAction.RAISE));
+        assertTrue(allowedActions.contains(PokerPlayerAction.ALL_IN));
+        assertEquals(4, allowedActions.size());
     }
 
     @Test
     void Should_NotAllowRaise_If_TableHasLimitAndLimitIsReached() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.currentBet = 200L;
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
 
         when(mockPokerGame.getTableType()).thenReturn(TableType.FIXED_LIMIT);
         when(mockPokerGame.getRaises()).thenReturn(3);
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(300));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(100));
+        when(creator.getChips()).thenReturn(300L);
+        when(creator.getCurrentBet()).thenReturn(100L);
         when(creator.getLastAction()).thenReturn(null);
 
         mockPokerGame.setAllowedActions();
 
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.CALL);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.FOLD);
-        verify(creator, times(1)).addAllowedAction(PokerPlayerAction.ALL_IN);
-        verify(creator, times(3)).addAllowedAction(any());
+        AllowedActions allowedActions = captureAllowedActions(creator);
+        assertTrue(allowedActions.contains(PokerPlayerAction.CALL));
+        assertTrue(allowedActions.contains(PokerPlayerAction.FOLD));
+        assertTrue(allowedActions.contains(PokerPlayerAction.ALL_IN));
+        assertEquals(3, allowedActions.size());
     }
 
     @Test
     void Should_SetNextDealer() {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
-        mockPokerGame.getPlayerList().add(player1);
+        mockPokerGame.seat(player1);
         mockPokerGame.dealer = creator;
         mockPokerGame.setNextDealer();
 
@@ -540,7 +557,7 @@ class PokerGameTest {
     void Should_NotAllowAction_If_NotActorsTurn() {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.getPlayerList().add(player1);
+        mockPokerGame.seat(player1);
         mockPokerGame.actor = player1;
 
 
@@ -595,60 +612,54 @@ class PokerGameTest {
     }
 
     @Test
-    void Should_NotBeAbleToCall_If_PlayerHasNotEnoughChips() {
-        PokerGame mockPokerGame = Mockito.spy(pokerGame);
-        mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        when(creator.canDoAction(PokerPlayerAction.CALL)).thenReturn(true);
-        when(creator.isSpectator()).thenReturn(false);
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(100));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(0));
+    void Should_NotBeAbleToCall_If_PlayerHasNotEnoughChips() throws Exception {
+        PokerGame game = createHeadsUpGame(100L);
+        game.raise(game.getActor(), 500L);
+        PokerPlayer shortStack = game.getActor();
 
-        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.call(creator));
+        GameActionException exception = assertThrows(GameActionException.class, () -> game.call(shortStack));
 
         assertThat(
                 exception.getMessage(),
-                containsString("You do not have enough chips to call.")
+                containsString("You are not allowed to perform this action.")
         );
+        assertEquals(List.of(PokerPlayerAction.FOLD, PokerPlayerAction.ALL_IN),
+                shortStack.getAllowedActions().toList());
     }
 
     @Test
-    void Should_NotBeAbleToCall_If_BetAlreadyMatched() {
-        PokerGame mockPokerGame = Mockito.spy(pokerGame);
-        mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        when(creator.canDoAction(PokerPlayerAction.CALL)).thenReturn(true);
-        when(creator.isSpectator()).thenReturn(false);
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(100));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(200));
-
+    void Should_NotBeAbleToCall_If_BetAlreadyMatched() throws Exception {
+        PokerGame game = createHeadsUpGame();
+        game.call(game.getActor());
+        PokerPlayer bigBlind = game.getActor();
 
-        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.call(creator));
+        GameActionException exception = assertThrows(GameActionException.class, () -> game.call(bigBlind));
 
         assertThat(
                 exception.getMessage(),
-                containsString("You have already matched the bet.")
+                containsString("You are not allowed to perform this action.")
         );
+        assertEquals(game.getCurrentBet(), bigBlind.getCurrentBet());
     }
 
     @Test
     void Should_Call() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
+        mockPokerGame.currentBet = 200L;
         when(creator.canDoAction(PokerPlayerAction.CALL)).thenReturn(true);
         when(creator.isSpectator()).thenReturn(false);
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(200));
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(100));
+        when(creator.getChips()).thenReturn(200L);
+        when(creator.getCurrentBet()).thenReturn(100L);
 
-        doNothing().when(creator).call(BigInteger.valueOf(100));
-        doNothing().when(mockPokerGame).contributePot(BigInteger.valueOf(100));
+        doNothing().when(creator).call(100L);
+        doNothing().when(mockPokerGame).contributePot(100L);
         doNothing().when(mockPokerGame).manageBettingRound();
 
         mockPokerGame.call(creator);
 
-        verify(creator, times(1)).call(BigInteger.valueOf(100));
-        verify(mockPokerGame, times(1)).contributePot(BigInteger.valueOf(100));
+        verify(creator, times(1)).call(100L);
+        verify(mockPokerGame, times(1)).contributePot(100L);
         verify(mockPokerGame, times(1)).manageBettingRound();
     }
 
@@ -677,30 +688,25 @@ class PokerGameTest {
     }
 
     @Test
-    void Should_NotAllowCheck_If_PlayerHasNotMatchedBet() {
-        PokerGame mockPokerGame = Mockito.spy(pokerGame);
-        mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(100));
-        when(creator.canDoAction(PokerPlayerAction.CHECK)).thenReturn(true);
-        when(creator.isSpectator()).thenReturn(false);
+    void Should_NotAllowCheck_If_PlayerHasNotMatchedBet() throws Exception {
+        PokerGame game = createHeadsUpGame();
+        PokerPlayer smallBlind = game.getActor();
 
-        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.check(creator));
+        GameActionException exception = assertThrows(GameActionException.class, () -> game.check(smallBlind));
 
         assertThat(
                 exception.getMessage(),
-                containsString("Your current bet is too low to check.")
+                containsString("You are not allowed to perform this action.")
         );
-
-
+        assertTrue(smallBlind.getCurrentBet() < game.getCurrentBet());
     }
 
     @Test
     void Should_Check() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(200);
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(200));
+        mockPokerGame.currentBet = 200L;
+        when(creator.getCurrentBet()).thenReturn(200L);
         when(creator.canDoAction(PokerPlayerAction.CHECK)).thenReturn(true);
         when(creator.isSpectator()).thenReturn(false);
 
@@ -734,16 +740,21 @@ class PokerGameTest {
     void Should_NotAllowRaise_If_FixedLimitReached() {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         when(mockPokerGame.getTableType()).thenReturn(TableType.FIXED_LIMIT);
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
         mockPokerGame.raises = 3;
         mockPokerGame.actor = creator;
-        when(creator.canDoAction(PokerPlayerAction.RAISE)).thenReturn(true);
+        when(creator.getChips()).thenReturn(1000L);
         when(creator.isSpectator()).thenReturn(false);
+        AllowedActions allowedActions = mockPokerGame.getAllowedActions(creator);
+        when(creator.getAllowedActions()).thenReturn(allowedActions);
+        when(creator.canDoAction(any())).thenAnswer(invocation -> allowedActions.contains(invocation.getArgument(0)));
 
-        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.raise(creator, BigInteger.valueOf(100)));
+        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.raise(creator, 100L));
 
+        assertFalse(allowedActions.contains(PokerPlayerAction.RAISE));
         assertThat(
                 exception.getMessage(),
-                containsString("Maximum number of raises reached for fixed limit.")
+                containsString("You are not allowed to perform this action.")
         );
     }
 
@@ -751,15 +762,18 @@ class PokerGameTest {
     void Should_NotAllowRaiseWithLessThanBigBlind() {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         when(mockPokerGame.getTableType()).thenReturn(TableType.FIXED_LIMIT);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
         mockPokerGame.actor = creator;
         mockPokerGame.currentBlindLevel = 0;
-        mockPokerGame.currentBet = BigInteger.valueOf(10);
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(10));
+        mockPokerGame.currentBet = 10L;
+        when(creator.getCurrentBet()).thenReturn(10L);
+        when(creator.getChips()).thenReturn(100L);
+        AllowedActions allowedActions = mockPokerGame.getAllowedActions(creator);
+        when(creator.getAllowedActions()).thenReturn(allowedActions);
         when(creator.canDoAction(PokerPlayerAction.RAISE)).thenReturn(true);
         when(creator.isSpectator()).thenReturn(false);
 
-        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.raise(creator, BigInteger.valueOf(10)));
+        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.raise(creator, 10L));
 
         assertThat(
                 exception.getMessage(),
@@ -771,16 +785,18 @@ class PokerGameTest {
     void Should_NotAllowRaise_If_PlayerDoesNotHaveEnoughChips() {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         when(mockPokerGame.getTableType()).thenReturn(TableType.FIXED_LIMIT);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
         mockPokerGame.actor = creator;
         mockPokerGame.currentBlindLevel = 0;
-        mockPokerGame.currentBet = BigInteger.valueOf(10);
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(10));
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(50));
+        mockPokerGame.currentBet = 10L;
+        when(creator.getCurrentBet()).thenReturn(10L);
+        when(creator.getChips()).thenReturn(50L);
+        AllowedActions allowedActions = mockPokerGame.getAllowedActions(creator);
+        when(creator.getAllowedActions()).thenReturn(allowedActions);
         when(creator.canDoAction(PokerPlayerAction.RAISE)).thenReturn(true);
         when(creator.isSpectator()).thenReturn(false);
 
-        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.raise(creator, BigInteger.valueOf(100)));
+        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.raise(creator, 100L));
 
         assertThat(
                 exception.getMessage(),
@@ -788,29 +804,54 @@ class PokerGameTest {
         );
     }
 
+    @Test
+    void Should_NotAllowRaise_If_RaiseIsLowerThanLastRaise() {
+        PokerGame mockPokerGame = Mockito.spy(pokerGame);
+        when(mockPokerGame.getTableType()).thenReturn(TableType.NO_LIMIT);
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
+        mockPokerGame.actor = creator;
+        mockPokerGame.currentBet = 100L;
+        mockPokerGame.lastRaise = 80L;
+        when(creator.getCurrentBet()).thenReturn(20L);
+        when(creator.getChips()).thenReturn(1000L);
+        AllowedActions allowedActions = mockPokerGame.getAllowedActions(creator);
+        when(creator.getAllowedActions()).thenReturn(allowedActions);
+        when(creator.canDoAction(PokerPlayerAction.RAISE)).thenReturn(true);
+        when(creator.isSpectator()).thenReturn(false);
+
+        GameActionException exception = assertThrows(GameActionException.class, () -> mockPokerGame.raise(creator, 150L));
+
+        assertThat(
+                exception.getMessage(),
+                containsString("Raise is not high enough.")
+        );
+    }
+
     @Test
     void Should_Raise() throws GameActionException {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
         when(mockPokerGame.getTableType()).thenReturn(TableType.FIXED_LIMIT);
-        mockPokerGame.smallBlindLevels = List.of(new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(20)});
+        mockPokerGame.smallBlindLevels = List.of(10L, 20L);
         mockPokerGame.actor = creator;
         mockPokerGame.currentBlindLevel = 0;
-        mockPokerGame.currentBet = BigInteger.valueOf(10);
+        mockPokerGame.currentBet = 10L;
         mockPokerGame.raises = 0;
         mockPokerGame.lastBettor = null;
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(10));
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(100));
+        when(creator.getCurrentBet()).thenReturn(10L);
+        when(creator.getChips()).thenReturn(100L);
+        AllowedActions allowedActions = mockPokerGame.getAllowedActions(creator);
+        when(creator.getAllowedActions()).thenReturn(allowedActions);
         when(creator.canDoAction(PokerPlayerAction.RAISE)).thenReturn(true);
         when(creator.isSpectator()).thenReturn(false);
         doNothing().when(mockPokerGame).rotateActor(true);
-        doNothing().when(mockPokerGame).contributePot(BigInteger.valueOf(50));
-        doNothing().when(creator).bet(BigInteger.valueOf(50));
+        doNothing().when(mockPokerGame).contributePot(50L);
+        doNothing().when(creator).bet(50L);
 
-        mockPokerGame.raise(creator, BigInteger.valueOf(50));
+        mockPokerGame.raise(creator, 50L);
 
         verify(mockPokerGame, times(1)).rotateActor(true);
-        verify(mockPokerGame, times(1)).contributePot(BigInteger.valueOf(50));
-        verify(creator, times(1)).bet(BigInteger.valueOf(50));
+        verify(mockPokerGame, times(1)).contributePot(50L);
+        verify(creator, times(1)).bet(50L);
         assertEquals(1, mockPokerGame.raises);
         assertEquals(creator, mockPokerGame.lastBettor);
     }
@@ -821,20 +862,20 @@ class PokerGameTest {
 
         mockPokerGame.actor = creator;
         mockPokerGame.raises = 0;
-        mockPokerGame.currentBet = BigInteger.valueOf(20);
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(100));
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(100));
+        mockPokerGame.currentBet = 20L;
+        when(creator.getCurrentBet()).thenReturn(100L);
+        when(creator.getChips()).thenReturn(100L);
         when(creator.canDoAction(PokerPlayerAction.ALL_IN)).thenReturn(true);
         when(creator.isSpectator()).thenReturn(false);
         doNothing().when(mockPokerGame).manageBettingRound();
 
         mockPokerGame.allIn(creator);
 
-        verify(creator, times(1)).bet(BigInteger.valueOf(100));
-        verify(mockPokerGame, times(1)).contributePot(BigInteger.valueOf(100));
+        verify(creator, times(1)).bet(100L);
+        verify(mockPokerGame, times(1)).contributePot(100L);
         assertEquals(1, mockPokerGame.raises);
         assertEquals(creator, mockPokerGame.lastBettor);
-        assertEquals(BigInteger.valueOf(100), mockPokerGame.currentBet);
+        assertEquals(100L, mockPokerGame.currentBet);
         verify(mockPokerGame, times(1)).manageBettingRound();
         verify(creator, times(1)).setLastAction(PokerPlayerAction.ALL_IN);
     }
@@ -844,20 +885,290 @@ class PokerGameTest {
         PokerGame mockPokerGame = Mockito.spy(pokerGame);
 
         mockPokerGame.actor = creator;
-        mockPokerGame.currentBet = BigInteger.valueOf(50);
-        when(creator.getCurrentBet()).thenReturn(BigInteger.valueOf(20));
-        when(creator.getChips()).thenReturn(BigInteger.valueOf(100));
+        mockPokerGame.currentBet = 50L;
+        when(creator.getCurrentBet()).thenReturn(20L);
+        when(creator.getChips()).thenReturn(100L);
         when(creator.canDoAction(PokerPlayerAction.ALL_IN)).thenReturn(true);
         when(creator.isSpectator()).thenReturn(false);
         doNothing().when(mockPokerGame).manageBettingRound();
 
         mockPokerGame.allIn(creator);
 
-        assertEquals(BigInteger.valueOf(50), mockPokerGame.currentBet);
+        assertEquals(50L, mockPokerGame.currentBet);
+    }
+
+    private static AllowedActions captureAllowedActions(PokerPlayer player) {
+        ArgumentCaptor<AllowedActions> captor = ArgumentCaptor.forClass(AllowedActions.class);
+        verify(player).setAllowedActions(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void Should_ThrowException_If_TransitionIsNotAllowed() {
+        PokerGame mockPokerGame = Mockito.spy(pokerGame);
+        mockPokerGame.bettingRound = BettingRound.PRE_FLOP;
+
+        assertThrows(IllegalStateException.class, () -> mockPokerGame.transition(BettingRound.TURN));
+        assertEquals(BettingRound.PRE_FLOP, mockPokerGame.bettingRound);
+    }
+
+    @Test
+    void Should_NotStartNextHand_If_HandHasNotEnded() {
+        PokerGame mockPokerGame = Mockito.spy(pokerGame);
+        mockPokerGame.bettingRound = BettingRound.RIVER;
+
+        Exception exception = assertThrows(GameActionException.class, mockPokerGame::startNextHand);
+
+        assertThat(
+                exception.getMessage(),
+                containsString("The hand has not ended yet.")
+        );
+    }
+
+    @Test
+    void Should_StartNextHand_If_HandHasEnded() throws Exception {
+        PokerGame mockPokerGame = Mockito.spy(pokerGame);
+        mockPokerGame.bettingRound = BettingRound.END;
+        doNothing().when(mockPokerGame).finishHand();
+
+        mockPokerGame.startNextHand();
+
+        verify(mockPokerGame, times(1)).finishHand();
+    }
+
+    @Test
+    void Should_PublishEventsOfHand_And_DealNextHand() throws Exception {
+        PokerGameSettings settings = new PokerGameSettings();
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+        PokerPlayer first = new PokerPlayer("first", "first", "avatar", 1000L);
+        PokerPlayer second = new PokerPlayer("second", "second", "avatar", 1000L);
+        first.joinGame(1000L);
+        second.joinGame(1000L);
+        PokerGame game = new PokerGame(first, 1000L, settings, TableType.NO_LIMIT, 2, "test::events", 42L);
+        GameListener listener = mock(GameListener.class);
+        game.addListener(listener);
+
+        game.addPlayer(second);
+        while (game.getBettingRound() != BettingRound.END) {
+            PokerPlayer actor = game.getActor();
+            if (actor.canDoAction(PokerPlayerAction.CHECK)) {
+                game.check(actor);
+            } else {
+                game.call(actor);
+            }
+        }
+
+        ArgumentCaptor<GameEvent> events = ArgumentCaptor.forClass(GameEvent.class);
+        verify(listener, atLeastOnce()).onGameEvent(eq(game), events.capture());
+        List<GameEvent> published = events.getAllValues();
+        assertInstanceOf(PokerGameEvent.HandStarted.class, published.get(0));
+        assertInstanceOf(PokerGameEvent.BlindsPosted.class, published.get(1));
+        assertEquals(List.of(BettingRound.FLOP, BettingRound.TURN, BettingRound.RIVER), published.stream()
+                .filter(PokerGameEvent.StreetDealt.class::isInstance)
+                .map(event -> ((PokerGameEvent.StreetDealt) event).round())
+                .toList());
+        long awarded = published.stream()
+                .filter(PokerGameEvent.PotAwarded.class::isInstance)
+                .mapToLong(event -> ((PokerGameEvent.PotAwarded) event).amount())
+                .sum();
+        assertEquals(Chips.multiply(game.getBigBlind(), 2), awarded);
+        assertEquals(2000L, first.getChips() + second.getChips());
+        assertEquals(new PokerGameEvent.HandEnded(game.getId(), 1, true), published.get(published.size() - 1));
+
+        game.startNextHand();
+
+        assertEquals(BettingRound.PRE_FLOP, game.getBettingRound());
+        assertEquals(2, game.getHandNumber());
+    }
+
+    private PokerGame createHeadsUpGame() throws Exception {
+        return createHeadsUpGame(1000L);
+    }
+
+    /**
+     * Creates a running heads-up game, with the reproducible seed the second player is the small blind and acts first.
+     */
+    private PokerGame createHeadsUpGame(long firstStack) throws Exception {
+        PokerGameSettings settings = new PokerGameSettings();
+        settings.setRandomSource(RandomSource.SPLITTABLE);
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+        PokerPlayer first = new PokerPlayer("first", "first", "avatar", 1000L);
+        PokerPlayer second = new PokerPlayer("second", "second", "avatar", 1000L);
+        first.joinGame(firstStack);
+        second.joinGame(1000L);
+        PokerGame game = new PokerGame(first, 1000L, settings, TableType.NO_LIMIT, 2, "test::timeout", 42L);
+        game.addPlayer(second);
+        return game;
+    }
+
+    @Test
+    void Should_Fold_If_TimeIsUp_And_ActorCanNotCheck() throws Exception {
+        PokerGame game = createHeadsUpGame();
+        PokerPlayer actor = game.getActor();
+
+        boolean acted = game.actOnTimeout(game.getTurn());
+
+        assertTrue(acted);
+        assertTrue(actor.isFolded());
+        assertEquals(BettingRound.END, game.getBettingRound());
     }
 
+    @Test
+    void Should_Check_If_TimeIsUp_And_ActorCanCheck() throws Exception {
+        PokerGame game = createHeadsUpGame();
+        game.call(game.getActor());
+        PokerPlayer actor = game.getActor();
+
+        boolean acted = game.actOnTimeout(game.getTurn());
 
+        assertTrue(acted);
+        assertFalse(actor.isFolded());
+        assertEquals(PokerPlayerAction.CHECK, actor.getLastAction());
+        assertEquals(BettingRound.FLOP, game.getBettingRound());
+    }
+
+    @Test
+    void Should_NotAct_If_TurnIsOver() throws Exception {
+        PokerGame game = createHeadsUpGame();
+        int turn = game.getTurn();
+        game.call(game.getActor());
+        PokerPlayer actor = game.getActor();
 
+        boolean acted = game.actOnTimeout(turn);
 
+        assertFalse(acted);
+        assertEquals(BettingRound.PRE_FLOP, game.getBettingRound());
+        assertTrue(actor.canDoAction(PokerPlayerAction.CHECK));
+    }
+
+    @Test
+    void Should_RaiseBlinds_With_NextHand_If_BlindRaiseIsDue() throws Exception {
+        PokerGame game = createHeadsUpGame();
+        int remainingLevels = game.getRemainingBlindLevels();
+
+        game.scheduleBlindRaise(1234L);
+
+        assertEquals(0, game.getCurrentBlindLevel());
+        assertEquals(remainingLevels - 1, game.getRemainingBlindLevels());
+        assertEquals(1234L, game.getNextBlindLevelAt());
+
+        game.fold(game.getActor());
+        game.startNextHand();
+
+        assertEquals(1, game.getCurrentBlindLevel());
+        assertEquals(Chips.multiply(game.getSmallBlindLevels().get(1), 2), game.getBigBlind());
+        assertEquals(0, game.getBlindRaisesDue());
+    }
 
+    @Test
+    void Should_ShowCardsFromLeftOfDealer_If_HandWasCheckedDown() throws Exception {
+        PokerGameSettings settings = new PokerGameSettings();
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+        List<PokerPlayer> players = List.of(new PokerPlayer("first", "first", "avatar", 1000L),
+                new PokerPlayer("second", "second", "avatar", 1000L),
+                new PokerPlayer("third", "third", "avatar", 1000L));
+        players.forEach(player -> player.joinGame(1000L));
+        PokerGame game = new PokerGame(players.get(0), 1000L, settings, TableType.NO_LIMIT, 3, "test::showdown", 42L);
+        game.addPlayer(players.get(1));
+        game.addPlayer(players.get(2));
+
+        while (game.getBettingRound() != BettingRound.END) {
+            PokerPlayer actor = game.getActor();
+            if (actor.canDoAction(PokerPlayerAction.CHECK)) {
+                game.check(actor);
+            } else {
+                game.call(actor);
+            }
+        }
+
+        int dealerSeat = game.getDealer().getSeat();
+        assertEquals(List.of(players.get((dealerSeat + 1) % 3), players.get((dealerSeat + 2) % 3), game.getDealer()),
+                game.getShowdownOrder());
+    }
+
+    @Test
+    void Should_PublishGameEnded_If_OnlyOnePlayerHasChipsLeft() throws Exception {
+        PokerGame game = createHeadsUpGame(100L);
+        GameListener listener = mock(GameListener.class);
+        game.addListener(listener);
+
+        // both players go all-in every hand until one of them has no chips left
+        for (int actions = 0; game.getGameStatus() == GameStatus.IN_PROGRESS && actions < 1000; actions++) {
+            PokerPlayer actor = game.getActor();
+            if (game.getBettingRound() == BettingRound.END) {
+                game.startNextHand();
+            } else if (game.isRunningOut()) {
+                game.runOutNextStreet(game.getHandNumber());
+            } else if (actor.canDoAction(PokerPlayerAction.ALL_IN)) {
+                game.allIn(actor);
+            } else if (actor.canDoAction(PokerPlayerAction.CHECK)) {
+                game.check(actor);
+            } else {
+                game.call(actor);
+            }
+        }
+
+        assertEquals(GameStatus.FINISHED, game.getGameStatus());
+        verify(listener).onGameEvent(game, new PokerGameEvent.GameEnded(game.getId(), game.getHandNumber()));
+    }
+
+    @Test
+    void Should_PublishAllIn_And_KeepEquitiesOfTheHand_If_AllPlayersAreAllIn() throws Exception {
+        PokerGame game = createHeadsUpGame();
+        GameListener listener = mock(GameListener.class);
+        game.addListener(listener);
+
+        game.allIn(game.getActor());
+        game.allIn(game.getActor());
+
+        ArgumentCaptor<GameEvent> events = ArgumentCaptor.forClass(GameEvent.class);
+        verify(listener, atLeastOnce()).onGameEvent(eq(game), events.capture());
+        PokerGameEvent.AllIn allIn = events.getAllValues().stream()
+                .filter(PokerGameEvent.AllIn.class::isInstance)
+                .map(PokerGameEvent.AllIn.class::cast)
+                .findFirst().orElseThrow();
+        assertEquals(2, allIn.playerIds().size());
+        assertEquals(CardSet.EMPTY, allIn.board());
+
+        EquityResult result = new EquityResult(1, true, List.of(
+                new EquityResult.Equity(0.6, 0.1, 0.65, 0), new EquityResult.Equity(0.3, 0.1, 0.35, 0)));
+        assertFalse(game.setAllInEquities(allIn.hand() - 1, allIn.playerIds(), result));
+        assertTrue(game.setAllInEquities(allIn.hand(), allIn.playerIds(), result));
+        assertEquals(result.get(0), ((PokerPlayer) game.getPlayerById(allIn.playerIds().get(0))).getEquity());
+    }
+
+    @Test
+    void Should_DealOneStreetAtATime_If_AllPlayersAreAllIn() throws Exception {
+        PokerGame game = createHeadsUpGame();
+        GameListener listener = mock(GameListener.class);
+        game.addListener(listener);
+        long chips = game.getPlayerList().stream().mapToLong(player -> player.getChips() + player.getCurrentBet()).sum();
+
+        game.allIn(game.getActor());
+        game.allIn(game.getActor());
+
+        // the board is only dealt once the equities of the street were shown
+        assertTrue(game.isRunningOut());
+        assertEquals(BettingRound.PRE_FLOP, game.getBettingRound());
+        assertTrue(game.getFlopCards().isEmpty());
+
+        game.runOutNextStreet(game.getHandNumber());
+        assertEquals(BettingRound.FLOP, game.getBettingRound());
+        assertEquals(3, game.getFlopCards().size());
+        game.runOutNextStreet(game.getHandNumber());
+        game.runOutNextStreet(game.getHandNumber());
+        assertEquals(BettingRound.RIVER, game.getBettingRound());
+        assertNotNull(game.getRiverCard());
+
+        game.runOutNextStreet(game.getHandNumber());
+        assertFalse(game.isRunningOut());
+        assertEquals(BettingRound.END, game.getBettingRound());
+        verify(listener, times(4)).onGameEvent(eq(game), any(PokerGameEvent.AllIn.class));
+        verify(listener).onGameEvent(game, new PokerGameEvent.HandEnded(game.getId(), game.getHandNumber(), true));
+        verify(listener, times(1)).onNotifyGameState(game, ClientOperation.SHOWDOWN);
+        assertEquals(chips, game.getPlayerList().stream().mapToLong(Player::getChips).sum());
+    }
 }
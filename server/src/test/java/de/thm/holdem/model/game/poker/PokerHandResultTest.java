@@ -24,7 +24,7 @@ class PokerHandResultTest {
 
         List<Card> cards = List.of(c1, c2, c3, c4, c5);
 
-        pokerHandResult = new PokerHandResult(PokerHandType.FULL_HOUSE, new ArrayList<>(cards), new ArrayList<>(cards));
+        pokerHandResult = PokerHandResult.of(cards);
     }
 
 
@@ -39,9 +39,9 @@ class PokerHandResultTest {
         List<Card> cards = List.of(new Card(Rank.ACE, Suit.DIAMONDS),
                 new Card(Rank.ACE, Suit.HEARTS),
                 new Card(Rank.TWO, Suit.CLUBS),
-                new Card(Rank.TWO, Suit.CLUBS),
+                new Card(Rank.TWO, Suit.SPADES),
                 new Card(Rank.TWO, Suit.HEARTS));
-        pokerHandResult = new PokerHandResult(PokerHandType.FULL_HOUSE, new ArrayList<>(cards), new ArrayList<>(cards));
+        pokerHandResult = PokerHandResult.of(cards);
         int fullHouse2High = pokerHandResult.getHandValue();
 
         assertTrue(fullHouse5High > fullHouse2High);
@@ -49,7 +49,7 @@ class PokerHandResultTest {
 
     @Test
     void Should_CalculateXXXYYFullHouse() {
-        assertEquals(6000000 + 14 * 3 * 5 + 2 * 2, pokerHandResult.getHandValue());
+        assertEquals(strength(PokerHandType.FULL_HOUSE, 5, 2), pokerHandResult.getHandValue());
     }
 
     @Test
@@ -60,9 +60,9 @@ class PokerHandResultTest {
                 new Card(Rank.FIVE, Suit.CLUBS),
                 new Card(Rank.FIVE, Suit.SPADES),
                 new Card(Rank.FIVE, Suit.HEARTS));
-        pokerHandResult = new PokerHandResult(PokerHandType.FULL_HOUSE, new ArrayList<>(cards), new ArrayList<>(cards));
+        pokerHandResult = PokerHandResult.of(cards);
 
-        assertEquals(6000000 + 14 * 3 * 5 + 2 * 14, pokerHandResult.getHandValue());
+        assertEquals(strength(PokerHandType.FULL_HOUSE, 5, 14), pokerHandResult.getHandValue());
     }
 
     @Test
@@ -73,8 +73,8 @@ class PokerHandResultTest {
                 new Card(Rank.TEN, Suit.CLUBS),
                 new Card(Rank.NINE, Suit.SPADES),
                 new Card(Rank.FIVE, Suit.HEARTS));
-        pokerHandResult = new PokerHandResult(PokerHandType.HIGH_CARD, new ArrayList<>(cards), new ArrayList<>(cards));
-        int expected = (int) (Math.pow(14, 4) * 14 + Math.pow(14, 3) * 12 + Math.pow(14, 2) * 10 + 14 * 9 + 5);
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.HIGH_CARD, 14, 12, 10, 9, 5);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -88,8 +88,8 @@ class PokerHandResultTest {
                 new Card(Rank.NINE, Suit.SPADES),
                 new Card(Rank.FIVE, Suit.HEARTS)));
         cards.addAll(pair);
-        pokerHandResult = new PokerHandResult(PokerHandType.ONE_PAIR, new ArrayList<>(cards), new ArrayList<>(pair));
-        int expected = 1000000 + (int) (Math.pow(14, 3) * 14 + Math.pow(14, 2) * 10 + 14 * 9 + 5);
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.ONE_PAIR, 14, 10, 9, 5);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -102,8 +102,8 @@ class PokerHandResultTest {
                 new Card(Rank.TEN, Suit.CLUBS),
                 new Card(Rank.NINE, Suit.SPADES)));
         cards.addAll(pair);
-        pokerHandResult = new PokerHandResult(PokerHandType.ONE_PAIR, new ArrayList<>(cards), new ArrayList<>(pair));
-        int expected = 1000000 + (int) (Math.pow(14, 3) * 14 + Math.pow(14, 2) * 10 + 14 * 9);
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.ONE_PAIR, 14, 10, 9);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -120,8 +120,8 @@ class PokerHandResultTest {
         cards.addAll(pair1);
         cards.addAll(pair2);
         pair1.addAll(pair2);
-        pokerHandResult = new PokerHandResult(PokerHandType.TWO_PAIRS, new ArrayList<>(cards), new ArrayList<>(pair1));
-        int expected = 2000000 + (int) (Math.pow(14, 2) * 14 + 14 * 10 + 9);
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.TWO_PAIRS, 14, 10, 9);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -135,8 +135,8 @@ class PokerHandResultTest {
                 new Card(Rank.TEN, Suit.CLUBS),
                 new Card(Rank.NINE, Suit.SPADES)));
         cards.addAll(threeOfAKind);
-        pokerHandResult = new PokerHandResult(PokerHandType.THREE_OF_A_KIND, new ArrayList<>(cards), new ArrayList<>(threeOfAKind));
-        int expected = (int) (3000000 + Math.pow(14, 2) * 14 + 14 * 10 + 9);
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.THREE_OF_A_KIND, 14, 10, 9);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -150,8 +150,8 @@ class PokerHandResultTest {
                 new Card(Rank.TEN, Suit.CLUBS)));
         cards.addAll(threeOfAKind);
         cards.add(new Card(Rank.FIVE, Suit.SPADES));
-        pokerHandResult = new PokerHandResult(PokerHandType.THREE_OF_A_KIND, new ArrayList<>(cards), new ArrayList<>(threeOfAKind));
-        int expected = (int) (3000000 + Math.pow(14, 2) * 7 + 14 * 10 + 5);
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.THREE_OF_A_KIND, 7, 10, 5);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -165,8 +165,8 @@ class PokerHandResultTest {
                 new Card(Rank.ACE, Suit.CLUBS),
                 new Card(Rank.QUEEN, Suit.SPADES)));
         cards.addAll(threeOfAKind);
-        pokerHandResult = new PokerHandResult(PokerHandType.THREE_OF_A_KIND, new ArrayList<>(cards), new ArrayList<>(threeOfAKind));
-        int expected = (int) (3000000 + Math.pow(14, 2) * 7 + 14 * 14 + 12);
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.THREE_OF_A_KIND, 7, 14, 12);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -178,8 +178,8 @@ class PokerHandResultTest {
                 new Card(Rank.QUEEN, Suit.CLUBS),
                 new Card(Rank.JACK, Suit.SPADES),
                 new Card(Rank.TEN, Suit.HEARTS));
-        pokerHandResult = new PokerHandResult(PokerHandType.STRAIGHT, new ArrayList<>(cards), new ArrayList<>(cards));
-        assertEquals(4000000 + 14, pokerHandResult.getHandValue());
+        pokerHandResult = PokerHandResult.of(cards);
+        assertEquals(strength(PokerHandType.STRAIGHT, 14), pokerHandResult.getHandValue());
     }
 
     @Test
@@ -192,8 +192,8 @@ class PokerHandResultTest {
         List<Card> cards = new ArrayList<>(List.of(
                 new Card(Rank.TEN, Suit.CLUBS)));
         cards.addAll(fourOfAKind);
-        pokerHandResult = new PokerHandResult(PokerHandType.FOUR_OF_A_KIND, new ArrayList<>(cards), new ArrayList<>(fourOfAKind));
-        int expected = 7000000 + 14 * 14 + 10;
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.FOUR_OF_A_KIND, 14, 10);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -207,8 +207,8 @@ class PokerHandResultTest {
         List<Card> cards = new ArrayList<>(List.of(
                 new Card(Rank.ACE, Suit.CLUBS)));
         cards.addAll(fourOfAKind);
-        pokerHandResult = new PokerHandResult(PokerHandType.FOUR_OF_A_KIND, new ArrayList<>(cards), new ArrayList<>(fourOfAKind));
-        int expected = 7000000 + 14 * 7 + 14;
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.FOUR_OF_A_KIND, 7, 14);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -220,8 +220,8 @@ class PokerHandResultTest {
                 new Card(Rank.TEN, Suit.HEARTS),
                 new Card(Rank.NINE, Suit.HEARTS),
                 new Card(Rank.FIVE, Suit.HEARTS));
-        pokerHandResult = new PokerHandResult(PokerHandType.FLUSH, new ArrayList<>(cards), new ArrayList<>(cards));
-        int expected = 5000000 + (int) (Math.pow(14, 4) * 14 + Math.pow(14, 3) * 12 + Math.pow(14, 2) * 10 + 14 * 9 + 5);
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.FLUSH, 14, 12, 10, 9, 5);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -233,8 +233,8 @@ class PokerHandResultTest {
                 new Card(Rank.EIGHT, Suit.HEARTS),
                 new Card(Rank.SEVEN, Suit.HEARTS),
                 new Card(Rank.SIX, Suit.HEARTS));
-        pokerHandResult = new PokerHandResult(PokerHandType.STRAIGHT_FLUSH, new ArrayList<>(cards), new ArrayList<>(cards));
-        int expected = 8000000 + 10;
+        pokerHandResult = PokerHandResult.of(cards);
+        int expected = strength(PokerHandType.STRAIGHT_FLUSH, 10);
         assertEquals(expected, pokerHandResult.getHandValue());
     }
 
@@ -246,9 +246,50 @@ class PokerHandResultTest {
                 new Card(Rank.QUEEN, Suit.HEARTS),
                 new Card(Rank.JACK, Suit.HEARTS),
                 new Card(Rank.TEN, Suit.HEARTS));
-        pokerHandResult = new PokerHandResult(PokerHandType.ROYAL_FLUSH, new ArrayList<>(cards), new ArrayList<>(cards));
-        assertEquals(9000000, pokerHandResult.getHandValue());
+        pokerHandResult = PokerHandResult.of(cards);
+        assertEquals(PokerHandType.ROYAL_FLUSH.getBaseValue(), pokerHandResult.getHandValue());
     }
 
+    @Test
+    void Should_BreakTieByLastKicker() {
+        PokerHandResult nineKicker = PokerHandResult.of(List.of(
+                new Card(Rank.ACE, Suit.DIAMONDS),
+                new Card(Rank.ACE, Suit.HEARTS),
+                new Card(Rank.KING, Suit.CLUBS),
+                new Card(Rank.QUEEN, Suit.SPADES),
+                new Card(Rank.NINE, Suit.HEARTS)));
+        PokerHandResult eightKicker = PokerHandResult.of(List.of(
+                new Card(Rank.ACE, Suit.CLUBS),
+                new Card(Rank.ACE, Suit.SPADES),
+                new Card(Rank.KING, Suit.HEARTS),
+                new Card(Rank.QUEEN, Suit.HEARTS),
+                new Card(Rank.EIGHT, Suit.HEARTS)));
+
+        assertTrue(nineKicker.compareTo(eightKicker) > 0);
+    }
 
-}
\ No newline at end of file
+    @Test
+    void Should_CreateHandCardsOnlyWhenRequested() {
+        List<Card> pair = List.of(
+                new Card(Rank.ACE, Suit.DIAMONDS),
+                new Card(Rank.ACE, Suit.HEARTS));
+        List<Card> cards = new ArrayList<>(List.of(
+                new Card(Rank.TEN, Suit.CLUBS),
+                new Card(Rank.NINE, Suit.SPADES)));
+        cards.addAll(pair);
+        pokerHandResult = PokerHandResult.of(cards);
+
+        assertEquals(PokerHandType.ONE_PAIR, pokerHandResult.getHandType());
+        assertEquals(pair, pokerHandResult.getHandCards());
+        assertSame(pokerHandResult.getHandCards(), pokerHandResult.getHandCards());
+        assertEquals(4, pokerHandResult.getCalculationCards().size());
+    }
+
+    private static int strength(PokerHandType type, int... ranks) {
+        int packed = 0;
+        for (int i = 0; i < ranks.length; i++) {
+            packed |= ranks[i] << (4 - i) * 4;
+        }
+        return HandStrength.of(type, packed);
+    }
+}
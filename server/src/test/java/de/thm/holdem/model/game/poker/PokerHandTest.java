@@ -250,43 +250,6 @@ class PokerHandTest {
         assertEquals(2, result.getHandCards().size());
     }
 
-    @Test
-    void Should_FindAllFiveCardCombinationsOutOfSixCards() {
-        List<Card> cards = new ArrayList<>(Arrays.asList(
-                new Card(Rank.QUEEN, Suit.SPADES),
-                new Card(Rank.ACE, Suit.HEARTS),
-                new Card(Rank.SEVEN, Suit.SPADES),
-                new Card(Rank.QUEEN, Suit.DIAMONDS),
-                new Card(Rank.QUEEN, Suit.CLUBS),
-                new Card(Rank.QUEEN, Suit.HEARTS)
-        ));
-        pokerHand.addCards(cards);
-
-        ArrayList<ArrayList<Card>> combinations = pokerHand.find5CardsCombinations(new ArrayList<>(cards));
-        // make sure there are no duplicates
-        long uniques = combinations.stream().distinct().count();
-        assertEquals(6, uniques);
-    }
-
-    @Test
-    void Should_FindAllFiveCardCombinationsOutOfSevenCards() {
-        List<Card> cards = new ArrayList<>(Arrays.asList(
-                new Card(Rank.QUEEN, Suit.SPADES),
-                new Card(Rank.ACE, Suit.HEARTS),
-                new Card(Rank.SEVEN, Suit.SPADES),
-                new Card(Rank.QUEEN, Suit.DIAMONDS),
-                new Card(Rank.QUEEN, Suit.CLUBS),
-                new Card(Rank.QUEEN, Suit.HEARTS),
-                new Card(Rank.TWO, Suit.HEARTS)
-        ));
-        pokerHand.addCards(cards);
-
-        ArrayList<ArrayList<Card>> combinations = pokerHand.find5CardsCombinations(new ArrayList<>(cards));
-        // make sure there are no duplicates
-        long uniques = combinations.stream().distinct().count();
-        assertEquals(21, uniques);
-    }
-
     @Test
     void Should_EvaluateHandWithSixCards() {
         List<Card> cards = Arrays.asList(
@@ -322,5 +285,28 @@ class PokerHandTest {
         assertEquals(4, result.getHandCards().size());
     }
 
-
-}
\ No newline at end of file
+    @Test
+    void Should_UpdateStrengthAfterEveryStreet() {
+        List<Card> holeCards = Arrays.asList(new Card(Rank.ACE, Suit.HEARTS), new Card(Rank.KING, Suit.HEARTS));
+        List<Card> flop = Arrays.asList(
+                new Card(Rank.QUEEN, Suit.HEARTS),
+                new Card(Rank.ACE, Suit.SPADES),
+                new Card(Rank.TWO, Suit.CLUBS)
+        );
+        Card turn = new Card(Rank.JACK, Suit.HEARTS);
+        Card river = new Card(Rank.TEN, Suit.HEARTS);
+
+        pokerHand.addCards(holeCards);
+        assertEquals(HandEvaluator.evaluate(pokerHand.getCardSet()), pokerHand.getStrength());
+        pokerHand.addCards(flop);
+        assertEquals(HandEvaluator.evaluate(pokerHand.getCardSet()), pokerHand.getStrength());
+        assertEquals(PokerHandType.ONE_PAIR, pokerHand.getHandResult().getHandType());
+        pokerHand.addCard(turn);
+        assertEquals(HandEvaluator.evaluate(pokerHand.getCardSet()), pokerHand.getStrength());
+        pokerHand.addCard(river);
+
+        assertEquals(PokerHandType.ROYAL_FLUSH.getBaseValue(), pokerHand.getStrength());
+        assertEquals(PokerHandType.ROYAL_FLUSH, pokerHand.getHandResult().getHandType());
+        assertEquals(pokerHand.getStrength(), pokerHand.getHandResult().getHandValue());
+    }
+}
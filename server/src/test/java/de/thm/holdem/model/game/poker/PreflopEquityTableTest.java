@@ -0,0 +1,63 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreflopEquityTableTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void Should_LookUpWrittenEquities() throws IOException {
+        double[][] headsUp = new double[StartingHand.COUNT][StartingHand.COUNT];
+        double[][] versusRandom = new double[StartingHand.COUNT][3];
+        headsUp[12][11] = 0.75;
+        versusRandom[12][2] = 0.5;
+        Path path = tempDir.resolve("preflop.bin");
+
+        PreflopEquityTable.write(path, headsUp, versusRandom);
+        PreflopEquityTable table = PreflopEquityTable.load(path);
+
+        assertTrue(table.isAvailable());
+        assertEquals(3, table.getMaxOpponents());
+        assertEquals(0.75, table.headsUp(12, 11), 1e-4);
+        assertEquals(0.0, table.headsUp(11, 12), 1e-4);
+        assertEquals(0.5, table.versusRandom(12, 3), 1e-4);
+        assertThrows(IllegalArgumentException.class, () -> table.versusRandom(12, 4));
+    }
+
+    @Test
+    void Should_LoadShippedTable() throws Exception {
+        PreflopEquityTable table = PreflopEquityTable.load(
+                Path.of(getClass().getResource("/preflop-equity.bin").toURI()));
+
+        int aces = StartingHand.indexOf(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS));
+        int kings = StartingHand.indexOf(new Card(Rank.KING, Suit.SPADES), new Card(Rank.KING, Suit.HEARTS));
+        assertEquals(0.82, table.headsUp(aces, kings), 0.01);
+        assertEquals(0.85, table.versusRandom(aces, 1), 0.01);
+    }
+
+    @Test
+    void Should_RejectInvalidFile() throws IOException {
+        Path path = tempDir.resolve("invalid.bin");
+        Files.write(path, new byte[]{1, 2, 3});
+
+        assertThrows(IOException.class, () -> PreflopEquityTable.load(path));
+    }
+
+    @Test
+    void Should_ThrowException_If_TableIsNotAvailable() {
+        assertFalse(PreflopEquityTable.EMPTY.isAvailable());
+        assertThrows(IllegalStateException.class, () -> PreflopEquityTable.EMPTY.headsUp(0, 0));
+    }
+}
@@ -0,0 +1,113 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import de.thm.holdem.model.player.PokerPlayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatRingTest {
+
+    private SeatRing seats;
+
+    private PokerPlayer player1;
+
+    private PokerPlayer player2;
+
+    private PokerPlayer player3;
+
+    @BeforeEach
+    void setUp() {
+        seats = new SeatRing(4);
+        player1 = new PokerPlayer("player1", "player1", "avatar", 1000L);
+        player2 = new PokerPlayer("player2", "player2", "avatar", 1000L);
+        player3 = new PokerPlayer("player3", "player3", "avatar", 1000L);
+        for (PokerPlayer player : List.of(player1, player2, player3)) {
+            player.joinGame(1000L);
+            seats.sit(player);
+        }
+    }
+
+    @Test
+    void Should_SeatPlayersOnTheLowestFreeSeat() {
+        assertEquals(0, player1.getSeat());
+        assertEquals(1, player2.getSeat());
+        assertEquals(2, player3.getSeat());
+
+        seats.leave(player2);
+        PokerPlayer player4 = new PokerPlayer("player4", "player4", "avatar", 0L);
+
+        assertEquals(1, seats.sit(player4));
+        assertEquals(player4, seats.at(1));
+    }
+
+    @Test
+    void Should_ThrowException_If_AllSeatsAreTaken() {
+        seats.sit(new PokerPlayer("player4", "player4", "avatar", 0L));
+
+        assertThrows(IllegalStateException.class,
+                () -> seats.sit(new PokerPlayer("player5", "player5", "avatar", 0L)));
+    }
+
+    @Test
+    void Should_FindPlayerById() {
+        assertEquals(player2, seats.get("player2"));
+
+        seats.leave(player2);
+
+        assertNull(seats.get("player2"));
+    }
+
+    @Test
+    void Should_FindNextPlayerClockwise() {
+        assertEquals(player2, seats.next(0, seats.getActing()));
+        assertEquals(player1, seats.next(2, seats.getActing()));
+
+        player2.fold();
+        seats.update(player2, 0L);
+
+        assertEquals(player3, seats.next(0, seats.getActing()));
+        assertEquals(2, Long.bitCount(seats.getLive()));
+    }
+
+    @Test
+    void Should_CountPlayersThatCalled() throws Exception {
+        player1.bet(100L);
+        seats.update(player1, 100L);
+        assertEquals(1, seats.countCalled());
+
+        player2.call(100L);
+        seats.update(player2, 100L);
+        assertEquals(2, seats.countCalled());
+
+        player3.bet(500L);
+        seats.update(player3, 500L);
+        assertEquals(1, seats.countCalled());
+        assertEquals(0, seats.countAllIn());
+    }
+
+    @Test
+    void Should_CountAllInPlayers() throws Exception {
+        player1.dealCard(new Card(Rank.ACE, Suit.SPADES));
+        player1.bet(1000L);
+        seats.update(player1, 1000L);
+
+        assertEquals(1, seats.countAllIn());
+        assertEquals(1, seats.countCalled());
+        assertEquals(player2, seats.next(3, seats.getActing()));
+    }
+
+    @Test
+    void Should_TreatPlayersWithoutChipsAsSpectators() {
+        player3.leaveGame();
+        seats.startHand(0L);
+
+        assertEquals(2, seats.countPlaying());
+        assertEquals(player1, seats.next(1, seats.getPlaying()));
+    }
+}
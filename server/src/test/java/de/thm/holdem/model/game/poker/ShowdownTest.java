@@ -0,0 +1,128 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.player.PokerPlayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShowdownTest {
+
+    @Mock
+    private PokerPlayer player1;
+
+    @Mock
+    private PokerPlayer player2;
+
+    @Mock
+    private PokerPlayer player3;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(player1.getSeat()).thenReturn(0);
+        when(player2.getSeat()).thenReturn(1);
+        when(player3.getSeat()).thenReturn(2);
+    }
+
+    private static Pot pot(long size, long eligiblePlayers) {
+        Pot pot = new Pot();
+        pot.contribute(mock(PokerPlayer.class), size);
+        pot.setEligiblePlayers(eligiblePlayers);
+        return pot;
+    }
+
+    @Test
+    void Should_RankPlayersByHandScore() {
+        when(player1.getHandScore()).thenReturn(50);
+        when(player2.getHandScore()).thenReturn(100);
+        when(player3.getHandScore()).thenReturn(50);
+
+        Showdown showdown = new Showdown(List.of(player1, player2, player3));
+
+        assertEquals(1, showdown.getRank(player1));
+        assertEquals(0, showdown.getRank(player2));
+        assertEquals(1, showdown.getRank(player3));
+    }
+
+    @Test
+    void Should_AwardPotToPlayerWithTheHighestHandScore() {
+        when(player1.getHandScore()).thenReturn(100);
+        when(player2.getHandScore()).thenReturn(50);
+
+        new Showdown(List.of(player1, player2)).awardPots(List.of(pot(400L, 0b11L)), 1);
+
+        verify(player1).win(400L);
+        verify(player1).setPotShare(400L);
+        verify(player2, never()).win(anyLong());
+    }
+
+    @Test
+    void Should_SplitPot_If_ThereIsATie() {
+        when(player1.getHandScore()).thenReturn(100);
+        when(player2.getHandScore()).thenReturn(100);
+
+        new Showdown(List.of(player1, player2)).awardPots(List.of(pot(400L, 0b11L)), 1);
+
+        verify(player1).win(200L);
+        verify(player2).win(200L);
+    }
+
+    @Test
+    void Should_AwardSidePotToBestEligiblePlayer() {
+        when(player1.getHandScore()).thenReturn(100);
+        when(player2.getHandScore()).thenReturn(80);
+        when(player3.getHandScore()).thenReturn(50);
+
+        new Showdown(List.of(player1, player2, player3))
+                .awardPots(List.of(pot(150L, 0b111L), pot(100L, 0b110L)), 2);
+
+        verify(player1).win(150L);
+        verify(player2).win(100L);
+        verify(player3, never()).win(anyLong());
+    }
+
+    @Test
+    void Should_GiveOddChipsInSeatOrderLeftOfTheDealer() {
+        when(player1.getHandScore()).thenReturn(100);
+        when(player2.getHandScore()).thenReturn(100);
+        when(player3.getHandScore()).thenReturn(100);
+
+        new Showdown(List.of(player1, player2, player3)).awardPots(List.of(pot(101L, 0b111L)), 0);
+
+        verify(player1).win(33L);
+        verify(player2).win(34L);
+        verify(player3).win(34L);
+    }
+
+    @Test
+    void Should_ShowCardsOnlyIfHandCanWin() {
+        when(player1.getHandScore()).thenReturn(80);
+        when(player2.getHandScore()).thenReturn(50);
+        when(player3.getHandScore()).thenReturn(100);
+        Showdown showdown = new Showdown(List.of(player1, player2, player3));
+
+        showdown.revealHands(List.of(player1, player2, player3));
+
+        verify(player1).mustShowCards(true);
+        verify(player2, never()).mustShowCards(true);
+        verify(player3).mustShowCards(true);
+    }
+
+    @Test
+    void Should_AlwaysShowCards_If_PlayerIsAllIn() {
+        when(player1.getHandScore()).thenReturn(100);
+        when(player2.getHandScore()).thenReturn(50);
+        when(player2.isAllIn()).thenReturn(true);
+        Showdown showdown = new Showdown(List.of(player1, player2));
+
+        showdown.revealHands(List.of(player1, player2));
+
+        verify(player2).mustShowCards(true);
+    }
+}
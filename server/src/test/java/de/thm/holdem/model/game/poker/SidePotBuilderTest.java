@@ -0,0 +1,155 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.player.PokerPlayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SidePotBuilderTest {
+
+    private List<Pot> pots;
+
+    private Pot pot;
+
+    @Mock
+    private PokerPlayer player1;
+
+    @Mock
+    private PokerPlayer player2;
+
+    @Mock
+    private PokerPlayer player3;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(player1.getSeat()).thenReturn(0);
+        when(player2.getSeat()).thenReturn(1);
+        when(player3.getSeat()).thenReturn(2);
+        pot = new Pot();
+        pots = new ArrayList<>(List.of(pot));
+    }
+
+    @Test
+    void Should_KeepOnePot_If_NoPlayerIsAllIn() {
+        pot.contribute(player1, 100L);
+        pot.contribute(player2, 100L);
+        pot.contribute(player3, 40L);
+        when(player3.isFolded()).thenReturn(true);
+
+        SidePotBuilder.build(pots);
+
+        assertEquals(1, pots.size());
+        assertEquals(240L, pot.getPotSize());
+        assertEquals(0b011L, pot.getEligiblePlayers());
+    }
+
+    @Test
+    void Should_SplitPot() {
+        when(player1.isAllIn()).thenReturn(true);
+        pot.contribute(player1, 60L);
+        pot.contribute(player2, 200L);
+        pot.contribute(player3, 200L);
+
+        SidePotBuilder.build(pots);
+
+        // the main pot should have the allInPlayer's contribution from each player
+        assertEquals(2, pots.size());
+        assertEquals(60L, pot.getPlayerContribution(player1));
+        assertEquals(60L, pot.getPlayerContribution(player2));
+        assertEquals(60L, pot.getPlayerContribution(player3));
+        assertEquals(180L, pot.getPotSize());
+        assertEquals(0b111L, pot.getEligiblePlayers());
+
+        // the side pot should have the remaining contribution from each player and the allInPlayer should not be a contributor
+        Pot sidePot = pots.get(1);
+        assertFalse(sidePot.contributions.containsKey(player1));
+        assertEquals(140L, sidePot.getPlayerContribution(player2));
+        assertEquals(140L, sidePot.getPlayerContribution(player3));
+        assertEquals(280L, sidePot.getPotSize());
+        assertEquals(0b110L, sidePot.getEligiblePlayers());
+    }
+
+    @Test
+    void Should_KeepLowerBalancesInMainPotOnSplit() {
+        when(player1.isFolded()).thenReturn(true);
+        when(player3.isAllIn()).thenReturn(true);
+        pot.contribute(player1, 50L);
+        pot.contribute(player2, 100L);
+        pot.contribute(player3, 60L);
+
+        SidePotBuilder.build(pots);
+
+        // player 1 has folded with less than the allInPlayer and should not be added to the side pot
+        assertEquals(50L, pot.getPlayerContribution(player1));
+        assertEquals(60L, pot.getPlayerContribution(player2));
+        assertEquals(60L, pot.getPlayerContribution(player3));
+        assertEquals(170L, pot.getPotSize());
+        assertEquals(0b110L, pot.getEligiblePlayers());
+
+        Pot sidePot = pots.get(1);
+        assertFalse(sidePot.contributions.containsKey(player1));
+        assertFalse(sidePot.contributions.containsKey(player3));
+        assertEquals(40L, sidePot.getPlayerContribution(player2));
+        assertEquals(40L, sidePot.getPotSize());
+        assertEquals(0b010L, sidePot.getEligiblePlayers());
+    }
+
+    @Test
+    void Should_CreateOnePotPerAllInLevel() {
+        when(player1.isAllIn()).thenReturn(true);
+        when(player2.isAllIn()).thenReturn(true);
+        pot.contribute(player1, 50L);
+        pot.contribute(player2, 80L);
+        pot.contribute(player3, 100L);
+
+        SidePotBuilder.build(pots);
+
+        assertEquals(3, pots.size());
+        assertEquals(150L, pots.get(0).getPotSize());
+        assertEquals(60L, pots.get(1).getPotSize());
+        assertEquals(20L, pots.get(2).getPotSize());
+        assertEquals(0b111L, pots.get(0).getEligiblePlayers());
+        assertEquals(0b110L, pots.get(1).getEligiblePlayers());
+        assertEquals(0b100L, pots.get(2).getEligiblePlayers());
+    }
+
+    @Test
+    void Should_NotCreateSidePot_If_AllInPlayerHasTheHighestContribution() {
+        when(player1.isAllIn()).thenReturn(true);
+        when(player2.isAllIn()).thenReturn(true);
+        pot.contribute(player1, 100L);
+        pot.contribute(player2, 100L);
+        pot.contribute(player3, 100L);
+
+        SidePotBuilder.build(pots);
+
+        assertEquals(1, pots.size());
+        assertEquals(300L, pot.getPotSize());
+    }
+
+    @Test
+    void Should_RemoveFoldedPlayersFromClosedPots() {
+        when(player1.isAllIn()).thenReturn(true);
+        pot.contribute(player1, 50L);
+        pot.contribute(player2, 100L);
+        pot.contribute(player3, 100L);
+        SidePotBuilder.build(pots);
+        pots.get(1).contribute(player2, 20L);
+        when(player3.isFolded()).thenReturn(true);
+
+        SidePotBuilder.build(pots);
+
+        assertEquals(2, pots.size());
+        assertEquals(0b011L, pots.get(0).getEligiblePlayers());
+        assertEquals(0b010L, pots.get(1).getEligiblePlayers());
+        assertEquals(120L, pots.get(1).getPotSize());
+    }
+}
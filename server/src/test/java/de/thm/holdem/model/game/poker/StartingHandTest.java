@@ -0,0 +1,40 @@
+package de.thm.holdem.model.game.poker;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartingHandTest {
+
+    @Test
+    void Should_MapEveryCombinationToItsClass() {
+        Set<Long> allCombos = new HashSet<>();
+        for (int index = 0; index < StartingHand.COUNT; index++) {
+            for (long combo : StartingHand.combos(index)) {
+                assertEquals(2, CardSet.size(combo));
+                assertEquals(index, StartingHand.indexOf(combo));
+                allCombos.add(combo);
+            }
+        }
+        assertEquals(1326, allCombos.size());
+    }
+
+    @Test
+    void Should_DistinguishSuitedAndOffsuitHands() {
+        int suited = StartingHand.indexOf(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.KING, Suit.SPADES));
+        int offsuit = StartingHand.indexOf(new Card(Rank.KING, Suit.HEARTS), new Card(Rank.ACE, Suit.SPADES));
+        int pair = StartingHand.indexOf(new Card(Rank.ACE, Suit.HEARTS), new Card(Rank.ACE, Suit.SPADES));
+
+        assertTrue(StartingHand.isSuited(suited));
+        assertFalse(StartingHand.isSuited(offsuit));
+        assertTrue(StartingHand.isPair(pair));
+        assertNotEquals(suited, offsuit);
+    }
+}
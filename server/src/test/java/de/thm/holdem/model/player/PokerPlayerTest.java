@@ -4,19 +4,19 @@ import de.thm.holdem.exception.GameActionException;
 import de.thm.holdem.model.card.Card;
 import de.thm.holdem.model.card.Rank;
 import de.thm.holdem.model.card.Suit;
+import de.thm.holdem.model.game.poker.AllowedActions;
 import de.thm.holdem.model.game.poker.PokerPlayerAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class PokerPlayerTest {
 
     private PokerPlayer pokerPlayer;
-    private final BigInteger buyIn = BigInteger.valueOf(1000);
-    private final BigInteger bankroll = BigInteger.valueOf(10000);
+    private final long buyIn = 1000L;
+    private final long bankroll = 10000L;
 
     @BeforeEach
     void setUp() {
@@ -26,7 +26,7 @@ class PokerPlayerTest {
     @Test
     void Should_DeductBuyInFromPlayersBankroll() {
         pokerPlayer.joinGame(buyIn);
-        assertEquals(bankroll.subtract(buyIn), pokerPlayer.getBankroll());
+        assertEquals(bankroll - buyIn, pokerPlayer.getBankroll());
     }
 
     @Test
@@ -36,8 +36,9 @@ class PokerPlayerTest {
 
     @Test
     void Should_ReturnTrue_If_PlayerCanDoAction() {
-        pokerPlayer.addAllowedAction(PokerPlayerAction.CHECK);
+        pokerPlayer.setAllowedActions(AllowedActions.of(100L, 0L, 0L, 20L, 0L, false));
         assertTrue(pokerPlayer.canDoAction(PokerPlayerAction.CHECK));
+        assertFalse(pokerPlayer.canDoAction(PokerPlayerAction.CALL));
     }
 
     @Test
@@ -94,17 +95,17 @@ class PokerPlayerTest {
     void Should_ReturnChipsToPlayer_If_PlayerLeavesGame() {
         pokerPlayer.joinGame(buyIn);
         pokerPlayer.leaveGame();
-        assertEquals(BigInteger.ZERO, pokerPlayer.getChips()); // Chips should be reset to 0
+        assertEquals(0L, pokerPlayer.getChips()); // Chips should be reset to 0
         assertEquals(bankroll, pokerPlayer.getBankroll()); // Bankroll should be restored
     }
 
     @Test
     void Should_NotReturnActiveChipsToPlayer_If_PlayerLeavesGame() throws GameActionException {
         pokerPlayer.joinGame(buyIn);
-        pokerPlayer.bet(BigInteger.valueOf(50));
+        pokerPlayer.bet(50L);
         pokerPlayer.leaveGame();
-        assertEquals(BigInteger.ZERO, pokerPlayer.getChips());
-        assertEquals(bankroll.subtract(BigInteger.valueOf(50)), pokerPlayer.getBankroll());
+        assertEquals(0L, pokerPlayer.getChips());
+        assertEquals(bankroll - 50L, pokerPlayer.getBankroll());
     }
     @Test
     void Should_DealCardsToPlayer() throws GameActionException {
@@ -134,28 +135,28 @@ class PokerPlayerTest {
     @Test
     void Should_DeductBetFromAvailableChips() throws GameActionException {
         pokerPlayer.joinGame(buyIn);
-        pokerPlayer.bet(BigInteger.valueOf(50));
+        pokerPlayer.bet(50L);
 
-        assertEquals(BigInteger.valueOf(50), pokerPlayer.getCurrentBet());
-        assertEquals(buyIn.subtract(BigInteger.valueOf(50)), pokerPlayer.getChips());
+        assertEquals(50L, pokerPlayer.getCurrentBet());
+        assertEquals(buyIn - 50L, pokerPlayer.getChips());
     }
 
     @Test
     void Should_ThrowException_If_BetIsNegative() {
-        assertThrows(GameActionException.class, () -> pokerPlayer.bet(BigInteger.valueOf(50).negate()));
+        assertThrows(GameActionException.class, () -> pokerPlayer.bet(-50L));
     }
 
     @Test
     void Should_ThrowException_If_NotEnoughChipsForBet() {
-        assertThrows(GameActionException.class, () -> pokerPlayer.bet(BigInteger.valueOf(1001)));
+        assertThrows(GameActionException.class, () -> pokerPlayer.bet(1001L));
     }
 
     @Test
     void Should_AddToTotalChips_If_PlayerWins() {
         pokerPlayer.joinGame(buyIn);
-        pokerPlayer.win(BigInteger.valueOf(10));
+        pokerPlayer.win(10L);
 
-        assertEquals(buyIn.add(BigInteger.valueOf(10)), pokerPlayer.getChips());
+        assertEquals(buyIn + 10L, pokerPlayer.getChips());
     }
 
     @Test
@@ -203,71 +204,71 @@ class PokerPlayerTest {
     @Test
     void Should_PayBigBlind() {
         pokerPlayer.joinGame(buyIn);
-        pokerPlayer.payBigBlind(BigInteger.valueOf(50));
+        pokerPlayer.payBigBlind(50L);
         assertEquals(PokerPlayerAction.BIG_BLIND, pokerPlayer.getLastAction());
-        assertEquals(BigInteger.valueOf(50), pokerPlayer.getCurrentBet());
-        assertEquals(buyIn.subtract(BigInteger.valueOf(50)), pokerPlayer.getChips());
+        assertEquals(50L, pokerPlayer.getCurrentBet());
+        assertEquals(buyIn - 50L, pokerPlayer.getChips());
     }
 
     @Test
     void Should_PaySmallBlind() {
         pokerPlayer.joinGame(buyIn);
-        pokerPlayer.paySmallBlind(BigInteger.valueOf(25));
+        pokerPlayer.paySmallBlind(25L);
         assertEquals(PokerPlayerAction.SMALL_BLIND, pokerPlayer.getLastAction());
-        assertEquals(BigInteger.valueOf(25), pokerPlayer.getCurrentBet());
-        assertEquals(buyIn.subtract(BigInteger.valueOf(25)), pokerPlayer.getChips());
+        assertEquals(25L, pokerPlayer.getCurrentBet());
+        assertEquals(buyIn - 25L, pokerPlayer.getChips());
     }
 
     @Test
     void Should_CallBet() {
         pokerPlayer.joinGame(buyIn);
-        pokerPlayer.call(BigInteger.valueOf(50));
+        pokerPlayer.call(50L);
         assertEquals(PokerPlayerAction.CALL, pokerPlayer.getLastAction());
-        assertEquals(BigInteger.valueOf(50), pokerPlayer.getCurrentBet());
-        assertEquals(buyIn.subtract(BigInteger.valueOf(50)), pokerPlayer.getChips());
+        assertEquals(50L, pokerPlayer.getCurrentBet());
+        assertEquals(buyIn - 50L, pokerPlayer.getChips());
     }
 
     @Test
     void Should_ClearAllowedActions() {
-        pokerPlayer.addAllowedAction(PokerPlayerAction.CHECK);
+        pokerPlayer.setAllowedActions(AllowedActions.of(100L, 0L, 0L, 20L, 0L, false));
         pokerPlayer.clearAllowedActions();
         assertEquals(0, pokerPlayer.getAllowedActions().size());
     }
 
     @Test
-    void Should_AddAllowedAction() {
-        pokerPlayer.addAllowedAction(PokerPlayerAction.CHECK);
-        assertEquals(1, pokerPlayer.getAllowedActions().size());
+    void Should_SetAllowedActions() {
+        pokerPlayer.setAllowedActions(AllowedActions.of(100L, 0L, 0L, 20L, 0L, false));
+        assertEquals(4, pokerPlayer.getAllowedActions().size());
         assertTrue(pokerPlayer.getAllowedActions().contains(PokerPlayerAction.CHECK));
     }
 
     @Test
     void Should_AddToBankroll() {
-        pokerPlayer.addToBankroll(BigInteger.valueOf(500));
+        pokerPlayer.addToBankroll(500L);
 
-        assertEquals(bankroll.add(BigInteger.valueOf(500)), pokerPlayer.getBankroll());
+        assertEquals(bankroll + 500L, pokerPlayer.getBankroll());
     }
 
     @Test
     void Should_ResetPlayer() throws GameActionException {
         pokerPlayer.joinGame(buyIn);
-        pokerPlayer.bet(BigInteger.valueOf(50));
+        pokerPlayer.bet(50L);
         pokerPlayer.fold();
         pokerPlayer.dealCard(new Card(Rank.ACE, Suit.HEARTS));
         pokerPlayer.reset();
 
-        assertEquals(BigInteger.ZERO, pokerPlayer.getCurrentBet());
+        assertEquals(0L, pokerPlayer.getCurrentBet());
         assertFalse(pokerPlayer.isFolded());
         assertNull(pokerPlayer.getLastAction());
         assertEquals(0, pokerPlayer.getHoleCards().size());
         assertEquals(0, pokerPlayer.getAllowedActions().size());
         assertFalse(pokerPlayer.mustShowCards());
-        assertEquals(BigInteger.ZERO, pokerPlayer.getPotShare());
+        assertEquals(0L, pokerPlayer.getPotShare());
         assertNull(pokerPlayer.getHand().getHandResult());
 
         // should keep chips and bankroll
-        assertEquals(buyIn.subtract(BigInteger.valueOf(50)), pokerPlayer.getChips());
-        assertEquals(bankroll.subtract(buyIn), pokerPlayer.getBankroll());
+        assertEquals(buyIn - 50L, pokerPlayer.getChips());
+        assertEquals(bankroll - buyIn, pokerPlayer.getBankroll());
     }
 
 
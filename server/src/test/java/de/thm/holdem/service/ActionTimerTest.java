@@ -0,0 +1,122 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.model.game.poker.BettingRound;
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameEvent;
+import de.thm.holdem.model.game.poker.PokerPlayerAction;
+import de.thm.holdem.model.game.poker.TableType;
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.settings.PokerGameSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionTimerTest {
+
+    private GameExecutorImpl gameExecutor;
+
+    private ActionTimer actionTimer;
+
+    private PokerGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PokerGameSettings settings = new PokerGameSettings();
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+        settings.setTableShards(1);
+        settings.setTimePerPlayerMove(0.05f);
+        gameExecutor = new GameExecutorImpl(settings);
+        actionTimer = new ActionTimer(gameExecutor, settings);
+        PokerPlayer first = new PokerPlayer("first", "first", "avatar", 1000L);
+        PokerPlayer second = new PokerPlayer("second", "second", "avatar", 1000L);
+        first.joinGame(1000L);
+        second.joinGame(1000L);
+        game = new PokerGame(first, 1000L, settings, TableType.NO_LIMIT, 2, "game", 42L);
+        game.addPlayer(second);
+    }
+
+    @AfterEach
+    void tearDown() {
+        actionTimer.shutdown();
+        gameExecutor.shutdown();
+    }
+
+    private PokerGameEvent.TurnStarted currentTurn() {
+        return new PokerGameEvent.TurnStarted(game.getId(), game.getHandNumber(), game.getTurn(),
+                game.getActor().getId());
+    }
+
+    private BettingRound awaitBettingRound(BettingRound expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        BettingRound round;
+        do {
+            round = gameExecutor.submit(game.getId(), game::getBettingRound).get();
+        } while (round != expected && System.currentTimeMillis() < deadline);
+        return round;
+    }
+
+    @Test
+    void Should_ForceAction_If_TimeIsUp() throws Exception {
+        PokerPlayer actor = game.getActor();
+
+        gameExecutor.execute(game.getId(), () -> actionTimer.startTurn(game, currentTurn())).get();
+
+        assertEquals(BettingRound.END, awaitBettingRound(BettingRound.END));
+        assertTrue(actor.isFolded());
+    }
+
+    @Test
+    void Should_NotForceAction_If_PlayerActed() throws Exception {
+        PokerPlayer actor = game.getActor();
+
+        gameExecutor.execute(game.getId(), () -> {
+            actionTimer.startTurn(game, currentTurn());
+            actionTimer.endTurn(game, actor.getId());
+        }).get();
+        Thread.sleep(300);
+
+        assertEquals(BettingRound.PRE_FLOP, gameExecutor.submit(game.getId(), game::getBettingRound).get());
+        assertFalse(actor.isFolded());
+        assertTrue(actor.canDoAction(PokerPlayerAction.CALL));
+    }
+
+    @Test
+    void Should_UseTimeBank_Before_ForcingAction() throws Exception {
+        PokerPlayer actor = game.getActor();
+        actor.setTimeBank(TimeUnit.MINUTES.toMillis(1));
+
+        gameExecutor.execute(game.getId(), () -> {
+            actionTimer.startTurn(game, currentTurn());
+            actionTimer.expire(game, game.getTurn());
+        }).get();
+
+        assertFalse(actor.isFolded());
+        assertEquals(TimeUnit.MINUTES.toMillis(1), actor.getTimeBank());
+
+        gameExecutor.execute(game.getId(), () -> actionTimer.expire(game, game.getTurn())).get();
+
+        assertTrue(actor.isFolded());
+        assertEquals(0L, actor.getTimeBank());
+    }
+
+    @Test
+    void Should_TakeUsedTimeFromTimeBank_If_PlayerActs() throws Exception {
+        PokerPlayer actor = game.getActor();
+        actor.setTimeBank(TimeUnit.MINUTES.toMillis(1));
+
+        gameExecutor.execute(game.getId(), () -> {
+            actionTimer.startTurn(game, currentTurn());
+            actionTimer.expire(game, game.getTurn());
+        }).get();
+        Thread.sleep(50);
+        gameExecutor.execute(game.getId(), () -> actionTimer.endTurn(game, actor.getId())).get();
+
+        assertTrue(actor.getTimeBank() < TimeUnit.MINUTES.toMillis(1));
+        assertFalse(actor.isFolded());
+    }
+}
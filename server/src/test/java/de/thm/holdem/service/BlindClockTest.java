@@ -0,0 +1,99 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.TableType;
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.settings.PokerGameSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlindClockTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private static final long LEVEL = TimeUnit.MINUTES.toMillis(20);
+
+    private PokerGameRegistry registry;
+
+    private GameExecutorImpl gameExecutor;
+
+    private BlindClock blindClock;
+
+    private PokerGame game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PokerGameSettings settings = new PokerGameSettings();
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(60);
+        settings.setTableShards(1);
+        registry = new PokerGameRegistry();
+        gameExecutor = new GameExecutorImpl(settings);
+        blindClock = new BlindClock(registry, gameExecutor, settings);
+        PokerPlayer first = new PokerPlayer("first", "first", "avatar", 1000L);
+        PokerPlayer second = new PokerPlayer("second", "second", "avatar", 1000L);
+        first.joinGame(1000L);
+        second.joinGame(1000L);
+        game = new PokerGame(first, 1000L, settings, TableType.NO_LIMIT, 2, "game", 42L);
+        game.addPlayer(second);
+        registry.addGame(game);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameExecutor.shutdown();
+    }
+
+    private void tick(long now) throws Exception {
+        blindClock.tick(now);
+        // wait until the mailbox of the table has run the raise
+        gameExecutor.submit(game.getId(), () -> null).get();
+    }
+
+    @Test
+    void Should_StartFirstLevel_When_GameStarts() {
+        blindClock.start(game, NOW);
+
+        assertEquals(NOW + LEVEL, game.getNextBlindLevelAt());
+        assertEquals(0, blindClock.tick(NOW + LEVEL - 1));
+        assertEquals(0, game.getBlindRaisesDue());
+    }
+
+    @Test
+    void Should_MarkTable_And_StartNextLevel_If_LevelHasExpired() throws Exception {
+        blindClock.start(game, NOW);
+
+        tick(NOW + LEVEL);
+
+        assertEquals(1, game.getBlindRaisesDue());
+        assertEquals(0, game.getCurrentBlindLevel());
+        assertEquals(NOW + 2 * LEVEL, game.getNextBlindLevelAt());
+    }
+
+    @Test
+    void Should_StopClock_After_LastLevel() throws Exception {
+        blindClock.start(game, NOW);
+
+        // 60 minutes with levels of 20 minutes are 3 levels, so the blinds are raised twice
+        tick(NOW + LEVEL);
+        tick(NOW + 2 * LEVEL);
+
+        assertEquals(2, game.getBlindRaisesDue());
+        assertEquals(0L, game.getNextBlindLevelAt());
+        assertEquals(0, game.getRemainingBlindLevels());
+        assertEquals(0, blindClock.tick(NOW + 10 * LEVEL));
+    }
+
+    @Test
+    void Should_IgnoreTable_If_ItWasRemoved() {
+        blindClock.start(game, NOW);
+        registry.removeGame(game.getId());
+
+        assertEquals(0, blindClock.tick(NOW + LEVEL));
+    }
+}
@@ -0,0 +1,135 @@
+package de.thm.holdem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.thm.holdem.dto.CardDto;
+import de.thm.holdem.dto.ClientOperation;
+import de.thm.holdem.dto.PokerGameStateDeltaDto;
+import de.thm.holdem.dto.PokerGameStateDto;
+import de.thm.holdem.dto.PokerPlayerStateDto;
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerPlayerAction;
+import de.thm.holdem.model.game.poker.TableType;
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.settings.PokerGameSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactPayloadEncoderTest {
+
+    private CompactPayloadEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new CompactPayloadEncoder();
+    }
+
+    private PokerPlayer createPlayer(String id) {
+        PokerPlayer player = new PokerPlayer(id, id, "avatar", 1000L);
+        player.joinGame(1000L);
+        return player;
+    }
+
+    /** Reads the zigzag varint at a position of the bytes. */
+    private long readVarint(byte[] bytes, int position) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = bytes[position++];
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @Test
+    void Should_EncodeCard_As_ItsIndex_If_FaceUp() {
+        Card card = new Card(Rank.ACE, Suit.SPADES);
+
+        assertEquals(card.index(), CompactPayloadEncoder.card(CardDto.from(card, true)));
+        assertEquals(CompactPayloadEncoder.HIDDEN_CARD, CompactPayloadEncoder.card(CardDto.from(card, false)));
+        assertEquals(CompactPayloadEncoder.HIDDEN_CARD, CompactPayloadEncoder.card(CardDto.hidden()));
+    }
+
+    @Test
+    void Should_EncodePrivateInfo_With_FlagsAndActionBitmask() {
+        PokerPlayerStateDto player = new PokerPlayerStateDto();
+        player.setChips(1000);
+        player.setBet(20);
+        player.setActor(true);
+        player.setLastAction("call");
+        player.setAllowedActions(List.of("fold", "raise"));
+        player.setCallAmount(0);
+        player.setMinRaise(40);
+        player.setMaxRaise(1000);
+
+        byte[] bytes = encoder.encode(player);
+
+        assertEquals(CompactPayloadEncoder.VERSION, bytes[0]);
+        assertEquals(CompactPayloadEncoder.TYPE_PLAYER, bytes[1]);
+        int flags = CompactPayloadEncoder.PLAYER_ACTOR | CompactPayloadEncoder.PLAYER_LAST_ACTION
+                | CompactPayloadEncoder.PLAYER_ALLOWED_ACTIONS;
+        assertEquals(flags, readVarint(bytes, 2));
+        // flags, 1000 chips, bet, pot share, last action, allowed actions, call amount, min raise, max raise
+        int chips = 4;
+        assertEquals(1000, readVarint(bytes, chips));
+        assertEquals(20, readVarint(bytes, chips + 2));
+        assertEquals(PokerPlayerAction.CALL.ordinal(), bytes[chips + 4]);
+        assertEquals(PokerPlayerAction.FOLD.mask() | PokerPlayerAction.RAISE.mask(), readVarint(bytes, chips + 5));
+        assertEquals(14, bytes.length);
+    }
+
+    @Test
+    void Should_EncodeDelta_With_OnlyChangedFields() {
+        PokerGameStateDeltaDto delta = new PokerGameStateDeltaDto();
+        delta.setSeq(7);
+        delta.setId("game");
+        delta.setOperation(ClientOperation.PLAYER_ACTION);
+        delta.setCurrentBet(40);
+
+        byte[] bytes = encoder.encode(delta);
+
+        assertEquals(CompactPayloadEncoder.TYPE_DELTA, bytes[1]);
+        assertEquals(CompactPayloadEncoder.DELTA_CURRENT_BET, readVarint(bytes, 2));
+        assertEquals(7, readVarint(bytes, 4));
+        assertEquals(ClientOperation.PLAYER_ACTION.ordinal(), bytes[10]);
+        assertEquals(40, readVarint(bytes, 11));
+        assertEquals(12, bytes.length);
+    }
+
+    @Test
+    void Should_EncodeState_Smaller_Than_Json() throws Exception {
+        PokerGameSettings settings = new PokerGameSettings();
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+        PokerGame game = new PokerGame(createPlayer("first"), 1000L, settings, TableType.NO_LIMIT, 3, "game", 42L);
+        game.addPlayer(createPlayer("second"));
+        game.addPlayer(createPlayer("third"));
+        PokerGameStateDto state = PokerGameStateDto.from(game, ClientOperation.DEAL);
+        state.setPlayers(game.getPlayerList().stream()
+                .map(player -> PokerPlayerStateDto.from((PokerPlayer) player, game, true)).toList());
+
+        byte[] compact = encoder.encode(state);
+        byte[] json = new ObjectMapper().writeValueAsBytes(state);
+
+        assertEquals(CompactPayloadEncoder.TYPE_STATE, compact[1]);
+        assertTrue(compact.length * 4 < json.length, compact.length + " bytes compact, " + json.length + " JSON");
+    }
+
+    @Test
+    void Should_Support_OnlyGameMessages() {
+        assertTrue(encoder.supports(PokerGameStateDto.class));
+        assertTrue(encoder.supports(PokerGameStateDeltaDto.class));
+        assertTrue(encoder.supports(PokerPlayerStateDto.class));
+        assertFalse(encoder.supports(Map.class));
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode(Map.of("chips", 100)));
+    }
+}
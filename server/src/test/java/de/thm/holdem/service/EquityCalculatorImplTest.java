@@ -0,0 +1,146 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.model.card.Card;
+import de.thm.holdem.model.card.CardSet;
+import de.thm.holdem.model.card.Rank;
+import de.thm.holdem.model.card.Suit;
+import de.thm.holdem.model.game.poker.EquityResult;
+import de.thm.holdem.model.game.poker.PreflopEquityTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquityCalculatorImplTest {
+
+    private EquityCalculatorImpl equityCalculator;
+
+    @BeforeEach
+    void setUp() {
+        equityCalculator = new EquityCalculatorImpl(PreflopEquityTable.EMPTY, 2000000, 0.002, 1000);
+    }
+
+    @Test
+    void Should_CalculatePreflopEquity() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS)),
+                List.of(new Card(Rank.KING, Suit.SPADES), new Card(Rank.KING, Suit.HEARTS)));
+
+        EquityResult result = equityCalculator.calculate(holeCards, List.of(), List.of());
+
+        assertFalse(result.exact());
+        assertEquals(0.82, result.get(0).equity(), 0.01);
+        assertEquals(1.0, result.get(0).equity() + result.get(1).equity(), 1e-9);
+        assertTrue(result.get(0).margin() <= 0.002);
+    }
+
+    @Test
+    void Should_StopEarly_If_EquitiesConverged() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS)),
+                List.of(new Card(Rank.SEVEN, Suit.CLUBS), new Card(Rank.TWO, Suit.DIAMONDS)));
+
+        EquityResult result = new EquityCalculatorImpl(PreflopEquityTable.EMPTY, 2000000, 0.01, 1000)
+                .calculate(holeCards, List.of(), List.of());
+
+        assertTrue(result.runOuts() < 2000000);
+    }
+
+    @Test
+    void Should_EnumerateAllIn_OnPoolOfItsOwn() throws Exception {
+        long[] holeCards = {
+                CardSet.of(List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS))),
+                CardSet.of(List.of(new Card(Rank.KING, Suit.SPADES), new Card(Rank.KING, Suit.HEARTS)))};
+        long board = CardSet.of(List.of(new Card(Rank.TWO, Suit.CLUBS), new Card(Rank.SEVEN, Suit.DIAMONDS),
+                new Card(Rank.NINE, Suit.CLUBS)));
+
+        CompletableFuture<EquityResult> future = equityCalculator.calculateAllIn(holeCards, board);
+        EquityResult result = future.get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.exact());
+        assertEquals(990, result.runOuts());
+        assertTrue(result.get(0).equity() > 0.9);
+    }
+
+    @Test
+    void Should_EnumerateHeadsUpAllInPreflop_If_TableIsLoaded() throws Exception {
+        PreflopEquityTable table = PreflopEquityTable.load(
+                Path.of(getClass().getResource("/preflop-equity.bin").toURI()));
+        long[] holeCards = {
+                CardSet.of(List.of(new Card(Rank.ACE, Suit.HEARTS), new Card(Rank.KING, Suit.HEARTS))),
+                CardSet.of(List.of(new Card(Rank.QUEEN, Suit.HEARTS), new Card(Rank.JACK, Suit.HEARTS)))};
+
+        EquityResult result = new EquityCalculatorImpl(table, 2000000, 0.002, 1000)
+                .calculateAllIn(holeCards, CardSet.EMPTY).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.exact());
+        assertEquals(1712304, result.runOuts());
+        assertEquals(0.657, result.get(0).win(), 0.001);
+        assertEquals(0.006, result.get(0).tie(), 0.001);
+    }
+
+    @Test
+    void Should_SplitPot_If_BoardPlaysForBoth() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.TWO, Suit.SPADES), new Card(Rank.THREE, Suit.HEARTS)),
+                List.of(new Card(Rank.TWO, Suit.CLUBS), new Card(Rank.THREE, Suit.DIAMONDS)));
+        List<Card> board = List.of(
+                new Card(Rank.ACE, Suit.SPADES),
+                new Card(Rank.KING, Suit.HEARTS),
+                new Card(Rank.QUEEN, Suit.CLUBS),
+                new Card(Rank.JACK, Suit.DIAMONDS),
+                new Card(Rank.TEN, Suit.SPADES));
+
+        EquityResult result = equityCalculator.calculate(holeCards, board, List.of());
+
+        assertTrue(result.exact());
+        assertEquals(1, result.runOuts());
+        assertEquals(1.0, result.get(0).tie());
+        assertEquals(0.5, result.get(1).equity());
+    }
+
+    @Test
+    void Should_ThrowException_If_CardIsUsedTwice() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS)),
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.KING, Suit.HEARTS)));
+
+        assertThrows(IllegalArgumentException.class, () -> equityCalculator.calculate(holeCards, List.of(), List.of()));
+    }
+
+    @Test
+    void Should_ThrowException_If_OnlyOnePlayer() {
+        List<List<Card>> holeCards = List.of(
+                List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS)));
+
+        assertThrows(IllegalArgumentException.class, () -> equityCalculator.calculate(holeCards, List.of(), List.of()));
+    }
+
+    @Test
+    void Should_SamplePreflopEquity_If_NoTableIsLoaded() {
+        List<Card> holeCards = List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.ACE, Suit.HEARTS));
+
+        assertEquals(0.85, equityCalculator.preflopEquity(holeCards, 1), 0.02);
+    }
+
+    @Test
+    void Should_ShareTheEquityOfIsomorphicHands() {
+        List<Card> holeCards = List.of(new Card(Rank.ACE, Suit.SPADES), new Card(Rank.KING, Suit.SPADES));
+        List<Card> board = List.of(new Card(Rank.QUEEN, Suit.SPADES), new Card(Rank.SEVEN, Suit.HEARTS),
+                new Card(Rank.TWO, Suit.DIAMONDS));
+        List<Card> isomorphicHoleCards = List.of(new Card(Rank.ACE, Suit.CLUBS), new Card(Rank.KING, Suit.CLUBS));
+        List<Card> isomorphicBoard = List.of(new Card(Rank.QUEEN, Suit.CLUBS), new Card(Rank.SEVEN, Suit.DIAMONDS),
+                new Card(Rank.TWO, Suit.HEARTS));
+
+        double equity = equityCalculator.equity(holeCards, board, 1);
+
+        // the equity is sampled, so only a cache hit returns exactly the same value
+        assertEquals(equity, equityCalculator.equity(isomorphicHoleCards, isomorphicBoard, 1));
+        assertTrue(equity > equityCalculator.equity(holeCards, board, 3));
+    }
+}
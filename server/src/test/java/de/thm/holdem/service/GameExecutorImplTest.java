@@ -0,0 +1,106 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.exception.GameActionException;
+import de.thm.holdem.settings.PokerGameSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameExecutorImplTest {
+
+    private GameExecutorImpl gameExecutor;
+
+    @BeforeEach
+    void setUp() {
+        PokerGameSettings settings = new PokerGameSettings();
+        settings.setTableShards(4);
+        gameExecutor = new GameExecutorImpl(settings);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameExecutor.shutdown();
+    }
+
+    @Test
+    void Should_RunCommandsOfGameInOrderOnOneThread() throws Exception {
+        List<Integer> processed = new ArrayList<>();
+        List<String> threads = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int command = i;
+            futures.add(gameExecutor.execute("game", () -> {
+                processed.add(command);
+                threads.add(Thread.currentThread().getName());
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1000, processed.size());
+        for (int i = 0; i < processed.size(); i++) {
+            assertEquals(i, processed.get(i));
+        }
+        assertEquals(1, threads.stream().distinct().count());
+    }
+
+    @Test
+    void Should_ReturnResultOfCommand() throws Exception {
+        assertEquals(42, gameExecutor.submit("game", () -> 42).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void Should_CompleteExceptionally_If_CommandThrows() {
+        CompletableFuture<Void> future = gameExecutor.execute("game", () -> {
+            throw new GameActionException("It is not your turn.");
+        });
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(GameActionException.class, exception.getCause());
+    }
+
+    @Test
+    void Should_RunScheduledCommandInMailboxOfGame() throws Exception {
+        String mailboxThread = gameExecutor.submit("game", () -> Thread.currentThread().getName())
+                .get(5, TimeUnit.SECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> threads = new ArrayList<>();
+
+        gameExecutor.schedule("game", () -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        }, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(mailboxThread), threads);
+    }
+
+    @Test
+    void Should_RunBlockingCommandsOfUserInOrderOutsideOfMailboxes() throws Exception {
+        List<Integer> processed = new ArrayList<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            int command = i;
+            futures.add(gameExecutor.submitBlocking("user", () -> {
+                processed.add(command);
+                return Thread.currentThread().getName();
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < processed.size(); i++) {
+            assertEquals(i, processed.get(i));
+        }
+        assertTrue(futures.get(0).get().startsWith("game-io-"));
+    }
+}
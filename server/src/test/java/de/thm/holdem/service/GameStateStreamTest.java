@@ -0,0 +1,154 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.dto.ClientOperation;
+import de.thm.holdem.dto.PokerGameStateDeltaDto;
+import de.thm.holdem.dto.PokerGameStateDto;
+import de.thm.holdem.dto.PokerPlayerStateDto;
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.TableType;
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.settings.PokerGameSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameStateStreamTest {
+
+    @Mock
+    private WebsocketService websocketService;
+
+    private GameStateStream gameStateStream;
+
+    private PokerGameSettings settings;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        settings = new PokerGameSettings();
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+        gameStateStream = new GameStateStream(websocketService);
+    }
+
+    private PokerPlayer createPlayer(String id) {
+        PokerPlayer player = new PokerPlayer(id, id, "avatar", 1000L);
+        player.joinGame(1000L);
+        return player;
+    }
+
+    private PokerGame createGame(int maxPlayerCount) {
+        return new PokerGame(createPlayer("first"), 1000L, settings, TableType.NO_LIMIT, maxPlayerCount, "game", 42L);
+    }
+
+    private List<Object> broadcasts(PokerGame game) {
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(websocketService, atLeastOnce()).broadcast(eq("/topic/game/" + game.getId()), payloads.capture());
+        return payloads.getAllValues();
+    }
+
+    @Test
+    void Should_SendSnapshot_First_And_Deltas_After() throws Exception {
+        PokerGame game = createGame(2);
+        game.addPlayer(createPlayer("second"));
+        gameStateStream.publish(game, ClientOperation.DEAL);
+        PokerPlayer actor = game.getActor();
+        int actorIndex = game.getPlayerList().indexOf(actor);
+
+        game.call(actor);
+        gameStateStream.publish(game, ClientOperation.PLAYER_ACTION);
+
+        List<Object> payloads = broadcasts(game);
+        PokerGameStateDto snapshot = assertInstanceOf(PokerGameStateDto.class, payloads.get(0));
+        PokerGameStateDeltaDto delta = assertInstanceOf(PokerGameStateDeltaDto.class, payloads.get(1));
+        assertEquals(1, snapshot.getSeq());
+        assertEquals(2, delta.getSeq());
+        assertEquals(ClientOperation.PLAYER_ACTION, delta.getOperation());
+        assertTrue(delta.getPlayers().containsKey(actorIndex));
+        assertEquals("call", delta.getPlayers().get(actorIndex).getLastAction());
+        assertNull(delta.getFlopCards());
+        assertNull(delta.getGameStatus());
+        assertNull(delta.getBigBlind());
+    }
+
+    @Test
+    void Should_SendSnapshot_If_PlayerJoined() throws Exception {
+        PokerGame game = createGame(3);
+        gameStateStream.publish(game, ClientOperation.CREATE);
+
+        game.addPlayer(createPlayer("second"));
+        gameStateStream.publish(game, ClientOperation.JOIN_PLAYER);
+
+        List<Object> payloads = broadcasts(game);
+        PokerGameStateDto snapshot = assertInstanceOf(PokerGameStateDto.class, payloads.get(1));
+        assertEquals(2, snapshot.getSeq());
+        assertEquals(2, snapshot.getPlayers().size());
+    }
+
+    private PokerGameStateDto createState(String... playerIds) {
+        PokerGameStateDto state = new PokerGameStateDto();
+        state.setPlayers(Arrays.stream(playerIds).map(id -> {
+            PokerPlayerStateDto player = new PokerPlayerStateDto();
+            player.setId(id);
+            player.setName("name");
+            return player;
+        }).toList());
+        return state;
+    }
+
+    @Test
+    void Should_SendSnapshot_If_ShowdownOrderWasCleared() {
+        PokerGameStateDto showdown = createState("first", "second");
+        showdown.setShowdownOrder(showdown.getPlayers());
+        PokerGameStateDto next = createState("first", "second");
+
+        assertFalse(PokerGameStateDeltaDto.isPossible(showdown, next));
+        assertTrue(PokerGameStateDeltaDto.isPossible(next, createState("first", "second")));
+    }
+
+    @Test
+    void Should_SendSnapshot_If_OtherPlayerWithSameNameSits() {
+        assertFalse(PokerGameStateDeltaDto.isPossible(createState("first", "second"), createState("first", "third")));
+    }
+
+    @Test
+    void Should_SendPrivateInfo_Only_If_ItChanged() throws Exception {
+        when(websocketService.isConnected(anyString())).thenReturn(true);
+        PokerGame game = createGame(2);
+        game.addPlayer(createPlayer("second"));
+
+        gameStateStream.publishPrivate(game);
+        gameStateStream.publishPrivate(game);
+
+        verify(websocketService, times(2)).sendPrivate(anyString(), eq(game.getId() + "/private-info"),
+                any(PokerPlayerStateDto.class));
+
+        game.call(game.getActor());
+        gameStateStream.publishPrivate(game);
+
+        verify(websocketService, times(4)).sendPrivate(anyString(), eq(game.getId() + "/private-info"),
+                any(PokerPlayerStateDto.class));
+    }
+
+    @Test
+    void Should_ReturnSnapshot_With_SeqOfLastState_And_PrivateInfo() throws Exception {
+        PokerGame game = createGame(2);
+        game.addPlayer(createPlayer("second"));
+        gameStateStream.publish(game, ClientOperation.DEAL);
+        gameStateStream.publish(game, ClientOperation.PLAYER_ACTION);
+
+        PokerGameStateDto snapshot = gameStateStream.snapshot(game, "second");
+
+        assertEquals(2, snapshot.getSeq());
+        assertNotNull(snapshot.getPlayers().get(1).getAllowedActions());
+        assertNull(snapshot.getPlayers().get(0).getAllowedActions());
+    }
+}
@@ -0,0 +1,154 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.PokerGameListing;
+import de.thm.holdem.model.game.poker.TableType;
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.settings.PokerGameSettings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PokerGameReaperTest {
+
+    private static final long BUY_IN = 500L;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private GameLobbyService gameLobbyService;
+
+    @Mock
+    private ConnectionRegistry connectionRegistry;
+
+    @Mock
+    private GameStateStream gameStateStream;
+
+    private PokerGameRegistry registry;
+
+    private GameExecutorImpl gameExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PokerGameSettings settings;
+
+    private PokerGameReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        settings = new PokerGameSettings();
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+        settings.setTableShards(2);
+        registry = new PokerGameRegistry();
+        gameExecutor = new GameExecutorImpl(settings);
+        meterRegistry = new SimpleMeterRegistry();
+        reaper = new PokerGameReaper(registry, gameExecutor, userService, gameLobbyService, connectionRegistry,
+                gameStateStream, settings, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameExecutor.shutdown();
+    }
+
+    private PokerPlayer createPlayer(String id) {
+        PokerPlayer player = new PokerPlayer(id, id, "avatar", 2 * BUY_IN);
+        player.joinGame(BUY_IN);
+        return player;
+    }
+
+    private long after(int seconds) {
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    private double evicted(String reason) {
+        return meterRegistry.get("poker.tables.evicted").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    void Should_KeepTable_If_TtlHasNotExpired() {
+        PokerGame game = new PokerGame(createPlayer("creator"), BUY_IN, settings, TableType.NO_LIMIT, 3, "game");
+        registry.addGame(game);
+        when(connectionRegistry.isConnected("creator")).thenReturn(true);
+
+        List<PokerGameListing> evictedListings = reaper.reap(after(settings.getWaitingTableTtl() - 10));
+
+        assertTrue(evictedListings.isEmpty());
+        assertTrue(registry.containsGame(game.getId()));
+        verify(userService, never()).leaveGame(anyString(), anyLong());
+    }
+
+    @Test
+    void Should_EvictFinishedTable_And_PayBackChips() {
+        PokerGame game = new PokerGame(createPlayer("creator"), BUY_IN, settings, TableType.NO_LIMIT, 3, "game");
+        registry.addGame(game);
+        game.endGame();
+        registry.update(game);
+
+        List<PokerGameListing> evictedListings = reaper.reap(after(settings.getFinishedTableTtl()));
+
+        assertEquals(1, evictedListings.size());
+        assertFalse(registry.containsGame(game.getId()));
+        assertNull(registry.getGameIdOfPlayer("creator"));
+        verify(userService, timeout(1000).times(1)).leaveGame("creator", 2 * BUY_IN);
+        verify(gameLobbyService, times(1)).broadcastDeleted(evictedListings);
+        assertEquals(1.0, evicted("finished"));
+        assertEquals(0.0, meterRegistry.get("poker.tables.live").gauge().value());
+    }
+
+    @Test
+    void Should_EvictIdleTable_If_WaitingTtlHasExpired() {
+        PokerGame game = new PokerGame(createPlayer("creator"), BUY_IN, settings, TableType.NO_LIMIT, 3, "game");
+        registry.addGame(game);
+        when(connectionRegistry.isConnected("creator")).thenReturn(true);
+
+        reaper.reap(after(settings.getWaitingTableTtl()));
+
+        assertFalse(registry.containsGame(game.getId()));
+        assertEquals(1.0, evicted("idle"));
+    }
+
+    @Test
+    void Should_EvictAbandonedTable_And_ReturnBetsOfRunningHand() throws Exception {
+        PokerGame game = new PokerGame(createPlayer("first"), BUY_IN, settings, TableType.NO_LIMIT, 2, "game");
+        registry.addGame(game);
+        // the second player fills the table and the blinds of the first hand are posted
+        game.addPlayer(createPlayer("second"));
+        registry.update(game);
+
+        reaper.reap(after(settings.getAbandonedTableTtl()));
+
+        assertFalse(registry.containsGame(game.getId()));
+        verify(userService, timeout(1000).times(1)).leaveGame("first", 2 * BUY_IN);
+        verify(userService, timeout(1000).times(1)).leaveGame("second", 2 * BUY_IN);
+        assertEquals(1.0, evicted("abandoned"));
+    }
+
+    @Test
+    void Should_KeepRunningTable_If_PlayerIsConnected() throws Exception {
+        PokerGame game = new PokerGame(createPlayer("first"), BUY_IN, settings, TableType.NO_LIMIT, 2, "game");
+        registry.addGame(game);
+        game.addPlayer(createPlayer("second"));
+        registry.update(game);
+        when(connectionRegistry.isConnected("second")).thenReturn(true);
+
+        List<PokerGameListing> evictedListings = reaper.reap(after(settings.getAbandonedTableTtl()));
+
+        assertTrue(evictedListings.isEmpty());
+        assertTrue(registry.containsGame(game.getId()));
+        assertEquals(1.0, meterRegistry.get("poker.tables.live").gauge().value());
+    }
+}
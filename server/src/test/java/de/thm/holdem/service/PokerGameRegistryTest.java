@@ -0,0 +1,122 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.exception.NotFoundException;
+import de.thm.holdem.model.game.GameStatus;
+import de.thm.holdem.model.game.poker.PokerGame;
+import de.thm.holdem.model.game.poker.TableType;
+import de.thm.holdem.model.player.PokerPlayer;
+import de.thm.holdem.settings.PokerGameSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokerGameRegistryTest {
+
+    private PokerGameRegistry registry;
+
+    private PokerGameSettings settings;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PokerGameRegistry();
+        settings = new PokerGameSettings();
+        settings.setTimeToRaiseBlinds(20);
+        settings.setTotalTournamentTime(180);
+    }
+
+    private PokerGame createGame(String creatorId, long buyIn, TableType tableType, int maxPlayerCount) {
+        PokerPlayer creator = new PokerPlayer(creatorId, creatorId, "avatar", buyIn);
+        creator.joinGame(buyIn);
+        return new PokerGame(creator, buyIn, settings, tableType, maxPlayerCount, "game of " + creatorId);
+    }
+
+    @Test
+    void Should_ThrowException_If_GameDoesNotExist() {
+        assertThrows(NotFoundException.class, () -> registry.getGame("unknown"));
+    }
+
+    @Test
+    void Should_IndexGame_If_GameIsAdded() throws NotFoundException {
+        PokerGame game = createGame("creator", 500L, TableType.NO_LIMIT, 3);
+
+        registry.addGame(game);
+
+        assertSame(game, registry.getGame(game.getId()));
+        assertEquals(Set.of(game.getId()), registry.getGameIds(GameStatus.WAITING));
+        assertEquals(Set.of(game.getId()), registry.getGameIds(TableType.NO_LIMIT));
+        assertTrue(registry.getGameIds(TableType.FIXED_LIMIT).isEmpty());
+        assertEquals(List.of(game.getId()), registry.getGameIds(100L, 500L));
+        assertEquals(game.getId(), registry.getGameIdOfPlayer("creator"));
+        assertEquals(2, registry.getListing(game.getId()).openSeats());
+    }
+
+    @Test
+    void Should_MoveGameInIndexes_If_GameIsUpdated() throws Exception {
+        PokerGame game = createGame("creator", 500L, TableType.NO_LIMIT, 2);
+        registry.addGame(game);
+        PokerPlayer player = new PokerPlayer("player", "player", "avatar", 500L);
+        player.joinGame(500L);
+
+        // the table is full and starts the game
+        game.addPlayer(player);
+        registry.update(game);
+
+        assertTrue(registry.getGameIds(GameStatus.WAITING).isEmpty());
+        assertEquals(Set.of(game.getId()), registry.getGameIds(GameStatus.IN_PROGRESS));
+        assertEquals(game.getId(), registry.getGameIdOfPlayer("player"));
+        assertNull(registry.findOpenSeat(TableType.NO_LIMIT, 500L));
+    }
+
+    @Test
+    void Should_KeepUnchangedIndexEntries_If_GameIsUpdated() throws Exception {
+        PokerGame game = createGame("creator", 500L, TableType.NO_LIMIT, 3);
+        registry.addGame(game);
+        PokerPlayer player = new PokerPlayer("player", "player", "avatar", 500L);
+        player.joinGame(500L);
+        game.addPlayer(player);
+        registry.update(game);
+
+        game.removePlayer(player);
+        registry.update(game);
+
+        assertEquals(game.getId(), registry.getGameIdOfPlayer("creator"));
+        assertNull(registry.getGameIdOfPlayer("player"));
+        assertEquals(Set.of(game.getId()), registry.getGameIds(GameStatus.WAITING));
+        assertEquals(List.of(game.getId()), registry.getGameIds(500L, 500L));
+        assertEquals(game.getId(), registry.findOpenSeat(TableType.NO_LIMIT, 500L).gameId());
+    }
+
+    @Test
+    void Should_RemoveGameFromIndexes_If_GameIsRemoved() {
+        PokerGame game = createGame("creator", 500L, TableType.NO_LIMIT, 3);
+        registry.addGame(game);
+
+        registry.removeGame(game.getId());
+
+        assertFalse(registry.containsGame(game.getId()));
+        assertTrue(registry.getGameIds(GameStatus.WAITING).isEmpty());
+        assertTrue(registry.getGameIds(0L, Long.MAX_VALUE).isEmpty());
+        assertNull(registry.getGameIdOfPlayer("creator"));
+        assertTrue(registry.getListings().isEmpty());
+    }
+
+    @Test
+    void Should_FindOpenSeatWithHighestAffordableBuyIn() {
+        PokerGame cheap = createGame("cheap", 100L, TableType.NO_LIMIT, 3);
+        PokerGame medium = createGame("medium", 500L, TableType.NO_LIMIT, 3);
+        PokerGame expensive = createGame("expensive", 1000L, TableType.NO_LIMIT, 3);
+        PokerGame fixedLimit = createGame("fixed", 500L, TableType.FIXED_LIMIT, 3);
+        registry.addGame(cheap);
+        registry.addGame(medium);
+        registry.addGame(expensive);
+        registry.addGame(fixedLimit);
+
+        assertEquals(medium.getId(), registry.findOpenSeat(TableType.NO_LIMIT, 999L).gameId());
+        assertEquals(fixedLimit.getId(), registry.findOpenSeat(TableType.FIXED_LIMIT, 500L).gameId());
+        assertNull(registry.findOpenSeat(TableType.NO_LIMIT, 99L));
+    }
+}
@@ -0,0 +1,95 @@
+package de.thm.holdem.service;
+
+import de.thm.holdem.settings.PokerGameSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReconnectionGraceTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Mock
+    private PokerGameRegistry registry;
+
+    @Mock
+    private PokerGameService gameService;
+
+    private ConnectionRegistry connectionRegistry;
+
+    private ReconnectionGrace reconnectionGrace;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        PokerGameSettings settings = new PokerGameSettings();
+        settings.setReconnectGracePeriod(30);
+        connectionRegistry = new ConnectionRegistry();
+        reconnectionGrace = new ReconnectionGrace(connectionRegistry, registry, gameService, settings);
+        when(gameService.leaveGame(anyString(), anyCollection())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    private long after(int seconds) {
+        return NOW + TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    @Test
+    void Should_RemovePlayersOfTable_InOneBatch_If_GracePeriodHasExpired() throws Exception {
+        when(registry.getGameIdOfPlayer("first")).thenReturn("game");
+        when(registry.getGameIdOfPlayer("second")).thenReturn("game");
+        when(registry.getGameIdOfPlayer("third")).thenReturn("other");
+        reconnectionGrace.disconnected("first", NOW);
+        reconnectionGrace.disconnected("second", NOW);
+        reconnectionGrace.disconnected("third", NOW);
+
+        assertTrue(reconnectionGrace.expire(after(29)).isEmpty());
+        Map<String, List<String>> expired = reconnectionGrace.expire(after(30));
+
+        assertEquals(Map.of("game", List.of("first", "second"), "other", List.of("third")), expired);
+        verify(gameService).leaveGame("game", List.of("first", "second"));
+        verify(gameService).leaveGame("other", List.of("third"));
+    }
+
+    @Test
+    void Should_KeepPlayer_If_HeReconnected() throws Exception {
+        when(registry.getGameIdOfPlayer("first")).thenReturn("game");
+        reconnectionGrace.disconnected("first", NOW);
+
+        connectionRegistry.connect("first", "session");
+
+        assertTrue(reconnectionGrace.expire(after(30)).isEmpty());
+        verify(gameService, never()).leaveGame(anyString(), anyCollection());
+    }
+
+    @Test
+    void Should_RemovePlayer_After_LastDisconnect_If_HeDisconnectedAgain() throws Exception {
+        when(registry.getGameIdOfPlayer("first")).thenReturn("game");
+        reconnectionGrace.disconnected("first", NOW);
+        connectionRegistry.connect("first", "session");
+        connectionRegistry.disconnect("session");
+        reconnectionGrace.disconnected("first", after(10));
+
+        assertTrue(reconnectionGrace.expire(after(30)).isEmpty());
+
+        assertEquals(Map.of("game", List.of("first")), reconnectionGrace.expire(after(40)));
+    }
+
+    @Test
+    void Should_IgnoreUser_If_HeIsNotPlaying() throws Exception {
+        reconnectionGrace.disconnected("first", NOW);
+        reconnectionGrace.disconnected(null, NOW);
+
+        assertTrue(reconnectionGrace.expire(after(30)).isEmpty());
+        verify(gameService, never()).leaveGame(anyString(), anyCollection());
+    }
+}
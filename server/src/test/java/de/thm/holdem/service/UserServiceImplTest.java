@@ -8,7 +8,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.math.BigInteger;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -59,7 +58,7 @@ class UserServiceImplTest {
         assertEquals(id, result.getId());
         assertEquals(username, result.getUsername());
         assertEquals("mockedAvatarUrl", result.getAvatar());
-        assertEquals(new BigInteger(initialBankroll), result.getBankroll());
+        assertEquals(Long.parseLong(initialBankroll), result.getBankroll());
         verify(userExtraRepository, times(1)).findById(id);
         verify(avatarService, times(1)).getRandomAvatarUrl();
         verify(userExtraRepository, times(1)).save(result);
@@ -84,7 +83,7 @@ class UserServiceImplTest {
 
         UserExtra result = userExtraService.recharge(id);
 
-        assertEquals(new BigInteger(initialBankroll), result.getBankroll());
+        assertEquals(Long.parseLong(initialBankroll), result.getBankroll());
         verify(userExtraRepository, times(1)).findById(id);
         verify(userExtraRepository, times(1)).save(userExtra);
     }
@@ -0,0 +1,105 @@
+package de.thm.holdem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.thm.holdem.dto.PokerPlayerStateDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WebsocketServiceImplTest {
+
+    @Mock
+    private SimpMessagingTemplate template;
+
+    private ConnectionRegistry connectionRegistry;
+
+    private WebsocketServiceImpl websocketService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(template.getUserDestinationPrefix()).thenReturn("/user/");
+        connectionRegistry = new ConnectionRegistry();
+        websocketService = new WebsocketServiceImpl(connectionRegistry, template,
+                new JsonPayloadEncoder(new ObjectMapper()), new CompactPayloadEncoder());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Message<byte[]> captureMessage(String destination) {
+        ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+        verify(template).send(eq(destination), message.capture());
+        return (Message<byte[]>) message.getValue();
+    }
+
+    @Test
+    void Should_BroadcastEncodedPayload() {
+        websocketService.broadcast("/topic/lobby", Map.of("name", "table"));
+
+        Message<byte[]> message = captureMessage("/topic/lobby");
+        assertEquals("{\"name\":\"table\"}", new String(message.getPayload(), StandardCharsets.UTF_8));
+        assertEquals(MimeTypeUtils.APPLICATION_JSON,
+                message.getHeaders().get(MessageHeaders.CONTENT_TYPE));
+    }
+
+    @Test
+    void Should_SendEncodedPayloadToSession_If_UserIsConnected() {
+        connectionRegistry.connect("user", "session");
+
+        websocketService.sendPrivate("user", "game/private-info", Map.of("chips", 100));
+
+        Message<byte[]> message = captureMessage("/user/session/queue/game/private-info");
+        assertEquals("{\"chips\":100}", new String(message.getPayload(), StandardCharsets.UTF_8));
+        assertEquals("session", SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+    }
+
+    @Test
+    void Should_NotSendPayload_If_UserIsNotConnected() {
+        websocketService.sendPrivate("user", "game/private-info", Map.of("chips", 100));
+
+        verify(template, never()).send(anyString(), any());
+        assertFalse(websocketService.isConnected("user"));
+    }
+
+    @Test
+    void Should_SendCompactPayloadToSession_If_SessionChoseCompactEncoding() {
+        connectionRegistry.connect("user", "session", CompactPayloadEncoder.CONTENT_TYPE);
+
+        websocketService.sendPrivate("user", "game/private-info", new PokerPlayerStateDto());
+        websocketService.sendPrivate("user", "game/error", Map.of("message", "error"));
+
+        ArgumentCaptor<Message<?>> messages = ArgumentCaptor.forClass(Message.class);
+        verify(template, times(2)).send(anyString(), messages.capture());
+        assertEquals(CompactPayloadEncoder.CONTENT_TYPE,
+                messages.getAllValues().get(0).getHeaders().get(MessageHeaders.CONTENT_TYPE));
+        assertEquals(MimeTypeUtils.APPLICATION_JSON,
+                messages.getAllValues().get(1).getHeaders().get(MessageHeaders.CONTENT_TYPE));
+    }
+
+    @Test
+    void Should_BroadcastToCompactTopic_Only_If_SessionChoseCompactEncoding() {
+        websocketService.broadcast("/topic/game/1", new PokerPlayerStateDto());
+        verify(template, never()).send(eq("/topic/game/1/compact"), any());
+
+        connectionRegistry.connect("user", "session", CompactPayloadEncoder.CONTENT_TYPE);
+        websocketService.broadcast("/topic/game/1", new PokerPlayerStateDto());
+        websocketService.broadcast("/topic/lobby", Map.of("name", "table"));
+
+        Message<byte[]> message = captureMessage("/topic/game/1/compact");
+        assertEquals(CompactPayloadEncoder.CONTENT_TYPE, message.getHeaders().get(MessageHeaders.CONTENT_TYPE));
+        verify(template, never()).send(eq("/topic/lobby/compact"), any());
+    }
+}
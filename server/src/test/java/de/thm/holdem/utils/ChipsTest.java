@@ -0,0 +1,30 @@
+package de.thm.holdem.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChipsTest {
+
+    @Test
+    void Should_CalculateChipAmounts() {
+        assertEquals(150, Chips.add(100, 50));
+        assertEquals(50, Chips.subtract(100, 50));
+        assertEquals(200, Chips.multiply(100, 2));
+        assertEquals(100, Chips.toInt(100));
+    }
+
+    @Test
+    void Should_ThrowException_If_AmountOverflows() {
+        assertThrows(ArithmeticException.class, () -> Chips.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Chips.subtract(Long.MIN_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Chips.multiply(Long.MAX_VALUE, 2));
+        assertThrows(ArithmeticException.class, () -> Chips.toInt(Integer.MAX_VALUE + 1L));
+    }
+
+    @Test
+    void Should_ThrowException_If_AmountIsNegative() {
+        assertEquals(0, Chips.requireNonNegative(0));
+        assertThrows(IllegalArgumentException.class, () -> Chips.requireNonNegative(-1));
+    }
+}
@@ -0,0 +1,83 @@
+package de.thm.holdem.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private TimingWheel timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        timingWheel = new TimingWheel(5, TimeUnit.MILLISECONDS, 8, Runnable::run, "test-wheel");
+    }
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.stop();
+    }
+
+    @Test
+    void Should_RunTask_After_Delay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        TimingWheel.Timeout timeout = timingWheel.schedule(latch::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+        assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    void Should_RunTask_If_DelayIsLongerThanOneRotation() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        // the wheel rotates every 40 milliseconds
+        timingWheel.schedule(latch::countDown, 130, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(130));
+    }
+
+    @Test
+    void Should_NotRunTask_If_TimeoutIsCancelled() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        TimingWheel.Timeout timeout = timingWheel.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        timingWheel.schedule(latch::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void Should_RunManyTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(10000);
+
+        for (int i = 0; i < 10000; i++) {
+            timingWheel.schedule(latch::countDown, i % 100, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void Should_ThrowException_If_WheelIsStopped() {
+        timingWheel.stop();
+
+        assertThrows(IllegalStateException.class, () -> timingWheel.schedule(() -> { }, 1, TimeUnit.MILLISECONDS));
+    }
+}